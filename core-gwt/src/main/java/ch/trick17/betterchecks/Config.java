@@ -16,7 +16,11 @@ import ch.trick17.betterchecks.util.GwtCompatible;
  * <p>
  * The {@link #getConfig()} method provides read access to the config singleton.
  * For more information, refer to the documentation of the
- * {@link #isCleanStackTracesEnabled()}, {@link #getDefaultArgumentName()} and
+ * {@link #getStackTraceMode()}, {@link #getDefaultArgumentName()},
+ * {@link #getMaxValueLength()}, {@link #getMaxElements()},
+ * {@link #getStormThreshold()}, {@link #getStormCooldown()},
+ * {@link #isReuseChecksEnabled()}, {@link #isReuseGuardEnabled()},
+ * {@link #getPatternCacheSize()} and
  * {@link #getMessageFormat(MessageType, boolean)} methods.
  * 
  * @author Michael Faes
@@ -40,6 +44,62 @@ public final class Config {
      * @see #isCleanStackTracesEnabled()
      */
     public static final boolean DEFAULT_CLEAN_STRACK_TRACES_ENABLED = true;
+    /**
+     * The default setting for the stack trace mode, which is
+     * {@link StackTraceMode#CLEANED}.
+     * 
+     * @see #getStackTraceMode()
+     */
+    public static final StackTraceMode DEFAULT_STACK_TRACE_MODE =
+            StackTraceMode.CLEANED;
+    /**
+     * The default setting for the maximum length of argument values rendered
+     * in exception messages, which is {@value} .
+     * 
+     * @see #getMaxValueLength()
+     */
+    public static final int DEFAULT_MAX_VALUE_LENGTH = 1000;
+    /**
+     * The default setting for the maximum number of elements rendered per
+     * collection, map or array in exception messages, which is {@value} .
+     * 
+     * @see #getMaxElements()
+     */
+    public static final int DEFAULT_MAX_ELEMENTS = 100;
+    /**
+     * The default setting for the exception storm threshold, which is
+     * {@value} , meaning the protection is disabled.
+     * 
+     * @see #getStormThreshold()
+     */
+    public static final int DEFAULT_STORM_THRESHOLD = 0;
+    /**
+     * The default setting for the cooldown of the exception storm protection
+     * in milliseconds, which is {@value} .
+     * 
+     * @see #getStormCooldown()
+     */
+    public static final int DEFAULT_STORM_COOLDOWN = 1000;
+    /**
+     * The default setting for the reuse of check objects, which is {@value} .
+     * 
+     * @see #isReuseChecksEnabled()
+     */
+    public static final boolean DEFAULT_REUSE_CHECKS_ENABLED = false;
+    /**
+     * The default setting for the guard against misused reused check objects,
+     * which is {@value} .
+     * 
+     * @see #isReuseGuardEnabled()
+     */
+    public static final boolean DEFAULT_REUSE_GUARD_ENABLED = false;
+    /**
+     * The default setting for the maximum number of cached regular
+     * expressions, which is {@value} .
+     * 
+     * @see #getPatternCacheSize()
+     */
+    public static final int DEFAULT_PATTERN_CACHE_SIZE = 256;
     
     /* The config singleton */
     private static final Config config = defaultConfig();
@@ -48,7 +108,14 @@ public final class Config {
         final Config theConfig = new Config();
         theConfig.loadedFromConfigFile = false;
         theConfig.defaultArgumentName = DEFAULT_DEFAULT_ARG_NAME;
-        theConfig.cleanStackTracesEnabled = DEFAULT_CLEAN_STRACK_TRACES_ENABLED;
+        theConfig.stackTraceMode = DEFAULT_STACK_TRACE_MODE;
+        theConfig.maxValueLength = DEFAULT_MAX_VALUE_LENGTH;
+        theConfig.maxElements = DEFAULT_MAX_ELEMENTS;
+        theConfig.stormThreshold = DEFAULT_STORM_THRESHOLD;
+        theConfig.stormCooldown = DEFAULT_STORM_COOLDOWN;
+        theConfig.reuseChecks = DEFAULT_REUSE_CHECKS_ENABLED;
+        theConfig.reuseGuard = DEFAULT_REUSE_GUARD_ENABLED;
+        theConfig.patternCacheSize = DEFAULT_PATTERN_CACHE_SIZE;
         
         theConfig.messageFormats = new HashMap<MessageType, FormatPair>();
         for(final MessageType msgType : MessageType.values()) {
@@ -75,8 +142,15 @@ public final class Config {
     /* Note that a Config object is *effectively* immutable. The static config
      * is therefore thread-safe after publication in the static initializer. */
     private boolean loadedFromConfigFile;
-    private boolean cleanStackTracesEnabled;
+    private StackTraceMode stackTraceMode;
     private String defaultArgumentName;
+    private int maxValueLength;
+    private int maxElements;
+    private int stormThreshold;
+    private int stormCooldown;
+    private boolean reuseChecks;
+    private boolean reuseGuard;
+    private int patternCacheSize;
     private Map<MessageType, FormatPair> messageFormats;
     
     private Config() {}
@@ -102,7 +176,19 @@ public final class Config {
      * @return <code>true</code> if stack trace cleaning is enabled.
      */
     public boolean isCleanStackTracesEnabled() {
-        return cleanStackTracesEnabled;
+        return stackTraceMode == StackTraceMode.CLEANED;
+    }
+    
+    /**
+     * Returns the mode that defines how the stack traces of the exceptions
+     * thrown by failing checks are created.
+     * <p>
+     * The default value is {@link StackTraceMode#CLEANED}.
+     * 
+     * @return The stack trace mode
+     */
+    public StackTraceMode getStackTraceMode() {
+        return stackTraceMode;
     }
     
     /**
@@ -119,6 +205,101 @@ public final class Config {
         return defaultArgumentName;
     }
     
+    /**
+     * Returns the maximum length of a single argument value (like the
+     * collection in "the argument must not be empty (value: [])") rendered in
+     * an exception message. Longer values are cut off and a suffix like
+     * "(&hellip; 42 more)" is appended. Collections, maps and arrays are
+     * rendered element by element, so their complete string representation is
+     * never created.
+     * <p>
+     * The default value is {@value #DEFAULT_MAX_VALUE_LENGTH}.
+     * 
+     * @return The maximum length of a rendered argument value, or a negative
+     *         number for no limit
+     */
+    public int getMaxValueLength() {
+        return maxValueLength;
+    }
+    
+    /**
+     * Returns the maximum number of elements rendered per collection, map or
+     * array in an exception message. The remaining elements are omitted and
+     * indicated by a pseudo-element like "(&hellip; 42 more)".
+     * <p>
+     * The default value is {@value #DEFAULT_MAX_ELEMENTS}.
+     * 
+     * @return The maximum number of elements rendered per collection, map or
+     *         array, or a negative number for no limit
+     */
+    public int getMaxElements() {
+        return maxElements;
+    }
+    
+    /**
+     * Returns the threshold of the exception storm protection, in failures per
+     * second. With GWT, the protection is always disabled.
+     * <p>
+     * The default value is {@value #DEFAULT_STORM_THRESHOLD}.
+     * 
+     * @return The failure rate per call site and message type above which
+     *         cheap exceptions are thrown, or 0 or less if disabled
+     */
+    public int getStormThreshold() {
+        return stormThreshold;
+    }
+    
+    /**
+     * Returns the time, in milliseconds, for which cheap exceptions are thrown
+     * by a call site after its failure rate last exceeded the
+     * {@linkplain #getStormThreshold() exception storm threshold}.
+     * <p>
+     * The default value is {@value #DEFAULT_STORM_COOLDOWN}.
+     * 
+     * @return The cooldown of the exception storm protection in milliseconds
+     */
+    public int getStormCooldown() {
+        return stormCooldown;
+    }
+    
+    /**
+     * Indicates whether check objects are reused. With GWT, check objects are
+     * never reused.
+     * <p>
+     * The default value is {@value #DEFAULT_REUSE_CHECKS_ENABLED}.
+     * 
+     * @return <code>true</code> if check objects are reused
+     */
+    public boolean isReuseChecksEnabled() {
+        return reuseChecks;
+    }
+    
+    /**
+     * Indicates whether the guard against misused reused check objects is
+     * enabled. With GWT, check objects are never reused.
+     * <p>
+     * The default value is {@value #DEFAULT_REUSE_GUARD_ENABLED}.
+     * 
+     * @return <code>true</code> if the reuse guard is enabled
+     */
+    public boolean isReuseGuardEnabled() {
+        return reuseGuard;
+    }
+    
+    /**
+     * Returns the maximum number of compiled regular expressions that are
+     * cached for the <code>matches(String)</code> check of strings. With GWT,
+     * regular expressions are never cached.
+     * <p>
+     * The default value is {@value #DEFAULT_PATTERN_CACHE_SIZE}.
+     * 
+     * @return The maximum number of cached regular expressions, or 0 or less
+     *         if the cache is disabled
+     */
+    public int getPatternCacheSize() {
+        return patternCacheSize;
+    }
+    
     /**
      * Returns the exception message format for the given {@link MessageType}.
      * The formats are format strings defined by the {@link Formatter} class.
@@ -1,5 +1,7 @@
 package ch.trick17.betterchecks;
 
+import static ch.trick17.betterchecks.util.ValueRenderer.renderAll;
+
 import ch.trick17.betterchecks.util.GwtCompatible;
 
 import com.google.gwt.regexp.shared.RegExp;
@@ -115,6 +117,12 @@ public final class Exceptions {
      * Formats an exception message using the format corresponding to the given
      * message type and the given message arguments. If <code>inverted</code> is
      * <code>true</code>, the inverted message format will be used.
+     * <p>
+     * Message arguments that are collections, maps, arrays or long char
+     * sequences are rendered in a bounded way, according to
+     * {@link Config#getMaxValueLength()} and {@link Config#getMaxElements()}.
+     * As this happens only here, check methods can pass (potentially large)
+     * values without rendering them when the check passes.
      * 
      * @param msgType
      *            The message type indicating the message format to use
@@ -126,9 +134,10 @@ public final class Exceptions {
      */
     public static String formatMsg(final MessageType msgType,
             final boolean inverted, final Object... msgArgs) {
-        final String format = Config.getConfig().getMessageFormat(msgType,
-                inverted);
-        return format(format, msgArgs);
+        final Config config = Config.getConfig();
+        final String format = config.getMessageFormat(msgType, inverted);
+        return format(format, renderAll(msgArgs, config
+                .getMaxValueLength(), config.getMaxElements()));
     }
     
     /**
@@ -1,6 +1,5 @@
 package ch.trick17.betterchecks.fluent;
 
-import static ch.trick17.betterchecks.Exceptions.illegalArgumentException;
 import static ch.trick17.betterchecks.MessageType.*;
 
 import ch.trick17.betterchecks.MessageType;
@@ -27,9 +26,10 @@ public abstract class ObjectBaseCheck<T, C extends ObjectBaseCheck<T, C>>
         extends BaseCheck<C> {
     
     /**
-     * The argument that is checked.
+     * The argument that is checked. It is only changed if this check object is
+     * reused (see <code>CheckPool</code>).
      */
-    protected final T arg;
+    protected T arg;
     
     /**
      * This flag indicates that <code>null</code> is a valid value for the
@@ -47,6 +47,21 @@ public abstract class ObjectBaseCheck<T, C extends ObjectBaseCheck<T, C>>
         this.arg = arg;
     }
     
+    /**
+     * Resets this check object for the given argument, as if it was newly
+     * created. Used by the <code>CheckPool</code>.
+     * 
+     * @param newArg
+     *            The new argument
+     * @return This check
+     */
+    final C reset(final T newArg) {
+        reset();
+        arg = newArg;
+        nullAllowed = false;
+        return me();
+    }
+    
     /* Modifier methods */
     
     /**
@@ -59,6 +74,7 @@ public abstract class ObjectBaseCheck<T, C extends ObjectBaseCheck<T, C>>
      * @return This check
      */
     public final C isNullOr() {
+        checkNotReleased();
         nullAllowed = true;
         return me();
     }
@@ -80,9 +96,11 @@ public abstract class ObjectBaseCheck<T, C extends ObjectBaseCheck<T, C>>
      *             if the argument is <code>null</code>
      */
     public final C isNotNull() {
-        if(!nullAllowed && (inverted ? arg != null : arg == null))
-            throw illegalArgumentException(ARG_NULL, inverted, new Object[]{
-                    argName, arg});
+        checkNotReleased();
+        if(!nullAllowed && !skipped()
+                && (inverted ? arg != null : arg == null))
+            fail(ARG_NULL, inverted, new Object[]{
+                    ARG_NAME, arg});
         inverted = false;
         return me();
     }
@@ -100,7 +118,7 @@ public abstract class ObjectBaseCheck<T, C extends ObjectBaseCheck<T, C>>
      *             if the argument is not the same as the given object
      */
     public final C isSameAs(Object object) {
-        return check(arg == null || arg == object, ARG_SAME_AS, argName, object, arg);
+        return check(arg == null || arg == object, ARG_SAME_AS, ARG_NAME, object, arg);
     }
 
     /**
@@ -115,7 +133,7 @@ public abstract class ObjectBaseCheck<T, C extends ObjectBaseCheck<T, C>>
      *             if the argument is not equal to the given object
      */
     public final C isEqualTo(Object object) {
-        return check(arg == null || arg.equals(object), ARG_EQUAL_TO, argName, object, arg);
+        return check(arg == null || argEquals(object), ARG_EQUAL_TO, ARG_NAME, object, arg);
     }
     
     // IMPROVE: isOneOf, isEqualToOneOf
@@ -135,11 +153,30 @@ public abstract class ObjectBaseCheck<T, C extends ObjectBaseCheck<T, C>>
      */
     public final C hasClass(final Class<?> clazz) {
         return check(arg == null || arg.getClass() == clazz, ARG_CLASS,
-                argName, clazz, arg == null ? null : arg.getClass());
+                ARG_NAME, clazz, arg == null ? null : arg.getClass());
     }
     
     // IMPROVE: hasClassWhich
     
+    /* Value accessor */
+    
+    /**
+     * Returns the argument of this check, so that an argument can be checked
+     * and used in a single statement:
+     * <p>
+     * <code>this.name = Check.that(name).isNotEmpty().value();</code>
+     * <p>
+     * Note that the returned value is only meaningful if all previous checks
+     * have passed. In {@linkplain #inTestMode() test mode}, {@link #passes()}
+     * should be queried first.
+     * 
+     * @return The argument
+     */
+    public final T value() {
+        checkNotReleased();
+        return arg;
+    }
+    
     /* Implementation methods */
     
     /**
@@ -158,6 +195,14 @@ public abstract class ObjectBaseCheck<T, C extends ObjectBaseCheck<T, C>>
      * <li>Then, it resets the <code>inverted</code> flag.
      * <li>Finally, it returns this check.
      * </ul>
+     * In {@linkplain #inTestMode() test mode}, a failure is recorded instead
+     * of thrown (see {@link #fail(MessageType, boolean, Object[])}).
+     * <p>
+     * There are overloads of this method for the common numbers and types of
+     * message arguments. They should be preferred to this one, as they do not
+     * require an array (or boxing, in case of <code>int</code> and
+     * <code>long</code> arguments) if the check passes. This method remains
+     * for the rare cases that none of them fit.
      * 
      * @param condition
      *            The check condition
@@ -170,11 +215,172 @@ public abstract class ObjectBaseCheck<T, C extends ObjectBaseCheck<T, C>>
      */
     protected final C check(final boolean condition, final MessageType msgType,
             final Object... msgArgs) {
-        checkNull();
-        if(!(nullAllowed && arg == null) && (inverted ? condition : !condition))
-            throw illegalArgumentException(msgType, inverted, msgArgs);
-        inverted = false;
-        return me();
+        if(fails(condition))
+            fail(msgType, inverted, msgArgs);
+        return passed();
+    }
+    
+    /**
+     * The same as {@link #check(boolean, MessageType, Object...)}, for a
+     * single message argument.
+     */
+    @SuppressWarnings("javadoc")
+    protected final C check(final boolean condition, final MessageType msgType,
+            final Object msgArg) {
+        if(fails(condition))
+            fail(msgType, inverted,
+                    new Object[]{msgArg});
+        return passed();
+    }
+    
+    /**
+     * The same as {@link #check(boolean, MessageType, Object...)}, for two
+     * message arguments.
+     */
+    @SuppressWarnings("javadoc")
+    protected final C check(final boolean condition, final MessageType msgType,
+            final Object msgArg1, final Object msgArg2) {
+        if(fails(condition))
+            fail(msgType, inverted, new Object[]{
+                    msgArg1, msgArg2});
+        return passed();
+    }
+    
+    /**
+     * The same as {@link #check(boolean, MessageType, Object...)}, for three
+     * message arguments.
+     */
+    @SuppressWarnings("javadoc")
+    protected final C check(final boolean condition, final MessageType msgType,
+            final Object msgArg1, final Object msgArg2, final Object msgArg3) {
+        if(fails(condition))
+            fail(msgType, inverted, new Object[]{
+                    msgArg1, msgArg2, msgArg3});
+        return passed();
+    }
+    
+    /**
+     * The same as {@link #check(boolean, MessageType, Object...)}, for four
+     * message arguments.
+     */
+    @SuppressWarnings("javadoc")
+    protected final C check(final boolean condition, final MessageType msgType,
+            final Object msgArg1, final Object msgArg2, final Object msgArg3,
+            final Object msgArg4) {
+        if(fails(condition))
+            fail(msgType, inverted, new Object[]{
+                    msgArg1, msgArg2, msgArg3, msgArg4});
+        return passed();
+    }
+    
+    /**
+     * The same as {@link #check(boolean, MessageType, Object...)}, for three
+     * message arguments, the second of which is a number (typically a length
+     * or size). The number is only boxed if the check fails.
+     */
+    @SuppressWarnings("javadoc")
+    protected final C check(final boolean condition, final MessageType msgType,
+            final Object msgArg1, final long msgArg2, final Object msgArg3) {
+        if(fails(condition))
+            fail(msgType, inverted, new Object[]{
+                    msgArg1, msgArg2, msgArg3});
+        return passed();
+    }
+    
+    /**
+     * The same as {@link #check(boolean, MessageType, Object...)}, for four
+     * message arguments, the second and third of which are numbers (typically
+     * length or size bounds). The numbers are only boxed if the check fails.
+     */
+    @SuppressWarnings("javadoc")
+    protected final C check(final boolean condition, final MessageType msgType,
+            final Object msgArg1, final long msgArg2, final long msgArg3,
+            final Object msgArg4) {
+        if(fails(condition))
+            fail(msgType, inverted, new Object[]{
+                    msgArg1, msgArg2, msgArg3, msgArg4});
+        return passed();
+    }
+    
+    /**
+     * The same as {@link #check(boolean, MessageType, Object...)}, for four
+     * message arguments, the second and third of which are numbers (typically
+     * a value and an array index). The numbers are only boxed if the check
+     * fails.
+     */
+    @SuppressWarnings("javadoc")
+    protected final C check(final boolean condition, final MessageType msgType,
+            final Object msgArg1, final double msgArg2, final long msgArg3,
+            final Object msgArg4) {
+        if(fails(condition))
+            fail(msgType, inverted, new Object[]{
+                    msgArg1, msgArg2, msgArg3, msgArg4});
+        return passed();
+    }
+    
+    /**
+     * The same as {@link #check(boolean, MessageType, Object...)}, for five
+     * message arguments, the second to fourth of which are integers (typically
+     * two bounds and an array index). The numbers are only boxed if the check
+     * fails.
+     */
+    @SuppressWarnings("javadoc")
+    protected final C check(final boolean condition, final MessageType msgType,
+            final Object msgArg1, final long msgArg2, final long msgArg3,
+            final long msgArg4, final Object msgArg5) {
+        if(fails(condition))
+            fail(msgType, inverted, new Object[]{
+                    msgArg1, msgArg2, msgArg3, msgArg4, msgArg5});
+        return passed();
+    }
+    
+    /**
+     * The same as {@link #check(boolean, MessageType, Object...)}, for five
+     * message arguments, the second to fourth of which are numbers (typically
+     * two bounds and an array index). The numbers are only boxed if the check
+     * fails.
+     */
+    @SuppressWarnings("javadoc")
+    protected final C check(final boolean condition, final MessageType msgType,
+            final Object msgArg1, final double msgArg2, final double msgArg3,
+            final long msgArg4, final Object msgArg5) {
+        if(fails(condition))
+            fail(msgType, inverted, new Object[]{
+                    msgArg1, msgArg2, msgArg3, msgArg4, msgArg5});
+        return passed();
+    }
+    
+    /**
+     * The same as {@link #check(boolean, MessageType, Object...)}, for four
+     * message arguments, the second of which is a character and the third an
+     * integer (typically a value and an array index). The character is
+     * rendered as such, not as a number, and is only boxed if the check fails.
+     */
+    @SuppressWarnings("javadoc")
+    protected final C check(final boolean condition, final MessageType msgType,
+            final Object msgArg1, final char msgArg2, final long msgArg3,
+            final Object msgArg4) {
+        if(fails(condition))
+            fail(msgType, inverted, new Object[]{
+                    msgArg1, msgArg2, msgArg3, msgArg4});
+        return passed();
+    }
+    
+    /**
+     * The same as {@link #check(boolean, MessageType, Object...)}, for five
+     * message arguments, the second and third of which are characters and the
+     * fourth an integer (typically two bounds and an array index). The
+     * characters are rendered as such, not as numbers, and all of them are
+     * only boxed if the check fails.
+     */
+    @SuppressWarnings("javadoc")
+    protected final C check(final boolean condition, final MessageType msgType,
+            final Object msgArg1, final char msgArg2, final char msgArg3,
+            final long msgArg4, final Object msgArg5) {
+        if(fails(condition))
+            fail(msgType, inverted, new Object[]{
+                    msgArg1, msgArg2, msgArg3, msgArg4, msgArg5});
+        return passed();
     }
     
     /**
@@ -196,11 +402,39 @@ public abstract class ObjectBaseCheck<T, C extends ObjectBaseCheck<T, C>>
     protected final C checkWithCause(final boolean condition,
             final MessageType msgType, final Throwable cause,
             final Object... msgArgs) {
-        checkNull();
-        if(!(nullAllowed && arg == null) && (inverted ? condition : !condition))
-            throw illegalArgumentException(msgType, inverted, msgArgs, cause);
-        inverted = false;
-        return me();
+        if(fails(condition))
+            fail(msgType, inverted, msgArgs, cause);
+        return passed();
+    }
+    
+    /**
+     * The same as
+     * {@link #checkWithCause(boolean, MessageType, Throwable, Object...)}, for
+     * two message arguments.
+     */
+    @SuppressWarnings("javadoc")
+    protected final C checkWithCause(final boolean condition,
+            final MessageType msgType, final Throwable cause,
+            final Object msgArg1, final Object msgArg2) {
+        if(fails(condition))
+            fail(msgType, inverted, new Object[]{
+                    msgArg1, msgArg2}, cause);
+        return passed();
+    }
+    
+    /**
+     * Indicates whether the argument, which is not <code>null</code>, is equal
+     * to the given object, for the {@link #isEqualTo(Object)} check. By
+     * default, this is defined by {@link Object#equals(Object)}, but
+     * subclasses may override this method if <code>equals</code> is not
+     * suitable for checks.
+     * 
+     * @param object
+     *            The object to compare the argument to
+     * @return <code>true</code> if the argument is equal to the object
+     */
+    boolean argEquals(final Object object) {
+        return arg.equals(object);
     }
     
     /**
@@ -212,9 +446,9 @@ public abstract class ObjectBaseCheck<T, C extends ObjectBaseCheck<T, C>>
      * one-liner.
      */
     protected final void checkNull() {
-        if(!nullAllowed && arg == null)
-            throw illegalArgumentException(ARG_NULL, nullAllowed,
-                    new Object[]{argName});
+        checkNotReleased();
+        if(!nullAllowed && arg == null && !skipped())
+            fail(ARG_NULL, nullAllowed, new Object[]{ARG_NAME});
     }
     
     /**
@@ -235,9 +469,20 @@ public abstract class ObjectBaseCheck<T, C extends ObjectBaseCheck<T, C>>
     protected final IntCheck intPropertyCheck(final int property,
             final String propertyName) {
         checkNull();
-        final IntCheck check = new IntCheck(property);
+        final IntCheck check = derive(new IntCheck(property), propertyName);
         if(nullAllowed && arg == null)
             check.disable();
-        return check.named("the " + propertyName + " of " + argName);
+        return check;
+    }
+    
+    private boolean fails(final boolean condition) {
+        checkNull();
+        return !(nullAllowed && arg == null) && !skipped()
+                && (inverted ? condition : !condition);
+    }
+    
+    private C passed() {
+        inverted = false;
+        return me();
     }
 }
@@ -0,0 +1,9 @@
+package ch.trick17.betterchecks.util;
+
+@GwtCompatible
+final class Platform {
+    
+    private Platform() {}
+    
+    static final boolean HEX_DOUBLES = false;
+}
@@ -0,0 +1,34 @@
+package ch.trick17.betterchecks;
+
+/**
+ * Internal helper class that finds the call site of the library in the current
+ * stack, i.e., the topmost frame that does not belong to the library according
+ * to {@link StackTraces#isLibraryClass(String)}.
+ * <p>
+ * This is the Java 6 implementation, which captures the complete stack. The
+ * core JAR is a multi-release JAR and contains a second implementation for
+ * Java 9 and later (in <code>src/main/java9</code>), which uses the
+ * <code>StackWalker</code> API to walk only the top of the stack. This is the
+ * only part of the stack inspection that differs between the two versions;
+ * everything else is in {@link StackTraces}.
+ * 
+ * @author Michael Faes
+ */
+final class CallSites {
+    
+    private CallSites() {}
+    
+    /**
+     * Returns the topmost frame of the current stack that does not belong to
+     * the Better Checks library.
+     * 
+     * @return The call site, or <code>null</code> if the whole stack belongs to
+     *         the library
+     */
+    static StackTraceElement find() {
+        for(final StackTraceElement element : new Throwable().getStackTrace())
+            if(!StackTraces.isLibraryClass(element.getClassName()))
+                return element;
+        return null;
+    }
+}
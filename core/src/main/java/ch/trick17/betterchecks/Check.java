@@ -3,20 +3,36 @@ package ch.trick17.betterchecks;
 import static ch.trick17.betterchecks.Exceptions.illegalArgumentException;
 import static ch.trick17.betterchecks.Exceptions.illegalStateException;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
 import java.net.URL;
 import java.util.Collection;
 import java.util.Map;
 
+import ch.trick17.betterchecks.fluent.BaseCheck;
+import ch.trick17.betterchecks.fluent.BigDecimalCheck;
+import ch.trick17.betterchecks.fluent.BigIntegerCheck;
+import ch.trick17.betterchecks.fluent.BooleanArrayCheck;
+import ch.trick17.betterchecks.fluent.ByteArrayCheck;
+import ch.trick17.betterchecks.fluent.CharArrayCheck;
+import ch.trick17.betterchecks.fluent.CheckPool;
 import ch.trick17.betterchecks.fluent.CollectionCheck;
+import ch.trick17.betterchecks.fluent.ComparableCheck;
+import ch.trick17.betterchecks.fluent.DoubleArrayCheck;
 import ch.trick17.betterchecks.fluent.DoubleCheck;
+import ch.trick17.betterchecks.fluent.FloatArrayCheck;
+import ch.trick17.betterchecks.fluent.IntArrayCheck;
 import ch.trick17.betterchecks.fluent.IntCheck;
+import ch.trick17.betterchecks.fluent.LongArrayCheck;
 import ch.trick17.betterchecks.fluent.LongCheck;
 import ch.trick17.betterchecks.fluent.MapCheck;
 import ch.trick17.betterchecks.fluent.NumberCheck;
 import ch.trick17.betterchecks.fluent.ObjectArrayCheck;
 import ch.trick17.betterchecks.fluent.ObjectCheck;
-import ch.trick17.betterchecks.fluent.PrimitiveArrayCheck;
+import ch.trick17.betterchecks.fluent.ShortArrayCheck;
 import ch.trick17.betterchecks.fluent.StringCheck;
+import ch.trick17.betterchecks.fluent.UriCheck;
 import ch.trick17.betterchecks.fluent.UrlCheck;
 import ch.trick17.betterchecks.util.GwtCompatible;
 import ch.trick17.betterchecks.util.GwtIncompatible;
@@ -56,6 +72,17 @@ import ch.trick17.betterchecks.util.GwtIncompatible;
  * generic {@link ObjectCheck} is returned, providing basic checks like
  * {@link ObjectCheck#isNotNull()} or {@link ObjectCheck#hasClass(Class)} and
  * the state-modifying methods (see below).
+ * <p>
+ * Arguments that are {@link Comparable}, like dates, can also be checked
+ * using <code>Check.thatComparable(<em>argument</em>)</code>, which returns
+ * a {@link ComparableCheck} with additional checks like
+ * {@link ComparableCheck#isBetween(Comparable, Comparable)}.
+ * <p>
+ * Check objects are meant to be used in a single statement, like in the
+ * examples above, and should not be stored. If the reuse of check objects is
+ * enabled in the config, each thread reuses one check object per class, so a
+ * check object is only valid until the next one of the same class is
+ * requested. See {@link Config#isReuseChecksEnabled()} for more information.
  * <h3>Check Modification</h3>
  * <p>
  * In addition to the checking methods, the check objects provide a few modifier
@@ -92,7 +119,20 @@ import ch.trick17.betterchecks.util.GwtIncompatible;
  * respect to the methods of the Better Checks library.
  * <p>
  * If stack trace cleaning is undesired, it can be turned off in the config
- * file. See below for more information.
+ * file. If, on the other hand, stack traces are not needed at all (e.g.,
+ * because checks are used to reject lots of untrusted input), they can be
+ * turned off completely, which makes failing checks a lot cheaper. See below
+ * and {@link Config#getStackTraceMode()} for more information.
+ * <h3>Testing Without Exceptions</h3>
+ * <p>
+ * If failing checks are expected to be common, for example when filtering
+ * records in bulk, throwing (and catching) an exception for each failure is
+ * needlessly expensive. For these cases, all <code>that(...)</code> methods
+ * have a <code>test(...)</code> counterpart that returns a check in test mode.
+ * Such a check records the first failure instead of throwing an exception:
+ * <p>
+ * <code>StringCheck check = Check.test(name).isNotEmpty().hasLengthBetween(1, 20);</code><br>
+ * <code>if(!check.passes()) log(check.getFailure(), check.getFailureMessage());</code>
  * <h3>Compact and Simple Checks</h3>
  * <p>
  * Instead of the <code>Check.that(...)</code> syntax, you can use an even more
@@ -108,11 +148,14 @@ import ch.trick17.betterchecks.util.GwtIncompatible;
  * possibly breaking their specification.
  * <p>
  * The configuration possibilities of this library are rather limited. You can
- * customize the exception messages and disable stack trace cleaning. The only
- * way to configure those settings is via a properties file on the classpath.
- * This is also a design decision that makes it possible to safely use Better
- * Checks in libraries and, more generally, in all code that potentially runs
- * before the application's initialization, such as static initializers.
+ * customize the exception messages and disable stack trace cleaning (or stack
+ * traces altogether). Without stack traces, the thrown exceptions are
+ * subclasses of the usual types, so this does not change the specification of
+ * the checking methods either. The only way to configure those settings is via
+ * a properties file on the classpath. This is also a design decision that
+ * makes it possible to safely use Better Checks in libraries and, more
+ * generally, in all code that potentially runs before the application's
+ * initialization, such as static initializers.
  * <p>
  * See the documentation of the {@link Config} class for more information.
  * 
@@ -206,7 +249,7 @@ public final class Check {
      * @see ObjectCheck
      */
     public static ObjectCheck that(final Object argument) {
-        return new ObjectCheck(argument);
+        return CheckPool.objectCheck(argument);
     }
     
     /**
@@ -220,7 +263,7 @@ public final class Check {
      * @see StringCheck
      */
     public static StringCheck that(final String argument) {
-        return new StringCheck(argument);
+        return CheckPool.stringCheck(argument);
     }
     
     /**
@@ -240,135 +283,127 @@ public final class Check {
      * @see ObjectArrayCheck
      */
     public static ObjectArrayCheck that(final Object[] argument) {
-        return new ObjectArrayCheck(argument);
+        return CheckPool.objectArrayCheck(argument);
     }
     
     /**
-     * Returns a {@link PrimitiveArrayCheck} which can be use to check various
-     * properties of a primitive array (e.g. <code>int[]</code>), e.g.
-     * {@link PrimitiveArrayCheck#hasLength(int)} or
-     * {@link PrimitiveArrayCheck#isNotEmpty()}.
+     * Returns a {@link BooleanArrayCheck} which can be use to check various
+     * properties of a <code>boolean[]</code> array, e.g.
+     * {@link BooleanArrayCheck#hasLength(int)} or
+     * {@link BooleanArrayCheck#noElementIs(boolean)}.
      * 
      * @param argument
      *            The <code>boolean[]</code> array argument to check
      * @return A check object with the argument "imprinted"
-     * @see PrimitiveArrayCheck
+     * @see BooleanArrayCheck
      */
-    public static PrimitiveArrayCheck that(final boolean[] argument) {
-        return new PrimitiveArrayCheck(argument,
-                argument != null ? argument.length : -1);
+    public static BooleanArrayCheck that(final boolean[] argument) {
+        return CheckPool.booleanArrayCheck(argument);
     }
     
     /**
-     * Returns a {@link PrimitiveArrayCheck} which can be use to check various
-     * properties of a primitive array (e.g. <code>int[]</code>), e.g.
-     * {@link PrimitiveArrayCheck#hasLength(int)} or
-     * {@link PrimitiveArrayCheck#isNotEmpty()}.
+     * Returns a {@link ByteArrayCheck} which can be use to check various
+     * properties of a <code>byte[]</code> array, e.g.
+     * {@link ByteArrayCheck#hasLength(int)} or
+     * {@link ByteArrayCheck#allElementsBetween(int, int)}.
      * 
      * @param argument
      *            The <code>byte[]</code> array argument to check
      * @return A check object with the argument "imprinted"
-     * @see PrimitiveArrayCheck
+     * @see ByteArrayCheck
      */
-    public static PrimitiveArrayCheck that(final byte[] argument) {
-        return new PrimitiveArrayCheck(argument,
-                argument != null ? argument.length : -1);
+    public static ByteArrayCheck that(final byte[] argument) {
+        return CheckPool.byteArrayCheck(argument);
     }
     
     /**
-     * Returns a {@link PrimitiveArrayCheck} which can be use to check various
-     * properties of a primitive array (e.g. <code>int[]</code>), e.g.
-     * {@link PrimitiveArrayCheck#hasLength(int)} or
-     * {@link PrimitiveArrayCheck#isNotEmpty()}.
+     * Returns a {@link CharArrayCheck} which can be use to check various
+     * properties of a <code>char[]</code> array, e.g.
+     * {@link CharArrayCheck#hasLength(int)} or
+     * {@link CharArrayCheck#allElementsBetween(char, char)}.
      * 
      * @param argument
      *            The <code>char[]</code> array argument to check
      * @return A check object with the argument "imprinted"
-     * @see PrimitiveArrayCheck
+     * @see CharArrayCheck
      */
-    public static PrimitiveArrayCheck that(final char[] argument) {
-        return new PrimitiveArrayCheck(argument,
-                argument != null ? argument.length : -1);
+    public static CharArrayCheck that(final char[] argument) {
+        return CheckPool.charArrayCheck(argument);
     }
     
     /**
-     * Returns a {@link PrimitiveArrayCheck} which can be use to check various
-     * properties of a primitive array (e.g. <code>int[]</code>), e.g.
-     * {@link PrimitiveArrayCheck#hasLength(int)} or
-     * {@link PrimitiveArrayCheck#isNotEmpty()}.
+     * Returns a {@link DoubleArrayCheck} which can be use to check various
+     * properties of a <code>double[]</code> array, e.g.
+     * {@link DoubleArrayCheck#hasLength(int)} or
+     * {@link DoubleArrayCheck#allFinite()}.
      * 
      * @param argument
      *            The <code>double[]</code> array argument to check
      * @return A check object with the argument "imprinted"
-     * @see PrimitiveArrayCheck
+     * @see DoubleArrayCheck
      */
-    public static PrimitiveArrayCheck that(final double[] argument) {
-        return new PrimitiveArrayCheck(argument,
-                argument != null ? argument.length : -1);
+    public static DoubleArrayCheck that(final double[] argument) {
+        return CheckPool.doubleArrayCheck(argument);
     }
     
     /**
-     * Returns a {@link PrimitiveArrayCheck} which can be use to check various
-     * properties of a primitive array (e.g. <code>int[]</code>), e.g.
-     * {@link PrimitiveArrayCheck#hasLength(int)} or
-     * {@link PrimitiveArrayCheck#isNotEmpty()}.
+     * Returns a {@link FloatArrayCheck} which can be use to check various
+     * properties of a <code>float[]</code> array, e.g.
+     * {@link FloatArrayCheck#hasLength(int)} or
+     * {@link FloatArrayCheck#allFinite()}.
      * 
      * @param argument
      *            The <code>float[]</code> array argument to check
      * @return A check object with the argument "imprinted"
-     * @see PrimitiveArrayCheck
+     * @see FloatArrayCheck
      */
-    public static PrimitiveArrayCheck that(final float[] argument) {
-        return new PrimitiveArrayCheck(argument,
-                argument != null ? argument.length : -1);
+    public static FloatArrayCheck that(final float[] argument) {
+        return CheckPool.floatArrayCheck(argument);
     }
     
     /**
-     * Returns a {@link PrimitiveArrayCheck} which can be use to check various
-     * properties of a primitive array (e.g. <code>int[]</code>), e.g.
-     * {@link PrimitiveArrayCheck#hasLength(int)} or
-     * {@link PrimitiveArrayCheck#isNotEmpty()}.
+     * Returns an {@link IntArrayCheck} which can be use to check various
+     * properties of a <code>int[]</code> array, e.g.
+     * {@link IntArrayCheck#hasLength(int)} or
+     * {@link IntArrayCheck#allElementsBetween(int, int)}.
      * 
      * @param argument
      *            The <code>int[]</code> array argument to check
      * @return A check object with the argument "imprinted"
-     * @see PrimitiveArrayCheck
+     * @see IntArrayCheck
      */
-    public static PrimitiveArrayCheck that(final int[] argument) {
-        return new PrimitiveArrayCheck(argument,
-                argument != null ? argument.length : -1);
+    public static IntArrayCheck that(final int[] argument) {
+        return CheckPool.intArrayCheck(argument);
     }
     
     /**
-     * Returns a {@link PrimitiveArrayCheck} which can be use to check various
-     * properties of a primitive array (e.g. <code>int[]</code>), e.g.
-     * {@link PrimitiveArrayCheck#hasLength(int)} or
-     * {@link PrimitiveArrayCheck#isNotEmpty()}.
+     * Returns a {@link LongArrayCheck} which can be use to check various
+     * properties of a <code>long[]</code> array, e.g.
+     * {@link LongArrayCheck#hasLength(int)} or
+     * {@link LongArrayCheck#allElementsBetween(long, long)}.
      * 
      * @param argument
      *            The <code>long[]</code> array argument to check
      * @return A check object with the argument "imprinted"
-     * @see PrimitiveArrayCheck
+     * @see LongArrayCheck
      */
-    public static PrimitiveArrayCheck that(final long[] argument) {
-        return new PrimitiveArrayCheck(argument,
-                argument != null ? argument.length : -1);
+    public static LongArrayCheck that(final long[] argument) {
+        return CheckPool.longArrayCheck(argument);
     }
     
     /**
-     * Returns a {@link PrimitiveArrayCheck} which can be use to check various
-     * properties of a primitive array (e.g. <code>int[]</code>), e.g.
-     * {@link PrimitiveArrayCheck#hasLength(int)} or
-     * {@link PrimitiveArrayCheck#isNotEmpty()}.
+     * Returns a {@link ShortArrayCheck} which can be use to check various
+     * properties of a <code>short[]</code> array, e.g.
+     * {@link ShortArrayCheck#hasLength(int)} or
+     * {@link ShortArrayCheck#allElementsBetween(int, int)}.
      * 
      * @param argument
      *            The <code>short[]</code> array argument to check
      * @return A check object with the argument "imprinted"
-     * @see PrimitiveArrayCheck
+     * @see ShortArrayCheck
      */
-    public static PrimitiveArrayCheck that(final short[] argument) {
-        return new PrimitiveArrayCheck(argument,
-                argument != null ? argument.length : -1);
+    public static ShortArrayCheck that(final short[] argument) {
+        return CheckPool.shortArrayCheck(argument);
     }
     
     /**
@@ -383,7 +418,7 @@ public final class Check {
      * @see CollectionCheck
      */
     public static CollectionCheck that(final Collection<?> argument) {
-        return new CollectionCheck(argument);
+        return CheckPool.collectionCheck(argument);
     }
 
     /**
@@ -398,7 +433,7 @@ public final class Check {
      * @see MapCheck
      */
     public static MapCheck that(final Map<?, ?> argument) {
-        return new MapCheck(argument);
+        return CheckPool.mapCheck(argument);
     }
     
     /**
@@ -410,7 +445,8 @@ public final class Check {
      * ones corresponding to the primitive type numbers (
      * <code>byte, short, int, long, float, double</code>). Those types have
      * their own <code>that(...)</code> method and check classes with specific
-     * features. Also, they do not require any boxing or unboxing.
+     * features. Also, they do not require any boxing or unboxing. The same is
+     * true for {@link BigDecimal} and {@link BigInteger}.
      * 
      * @param argument
      *            The Number argument to check
@@ -418,7 +454,62 @@ public final class Check {
      * @see NumberCheck
      */
     public static NumberCheck that(final Number argument) {
-        return new NumberCheck(argument);
+        return CheckPool.numberCheck(argument);
+    }
+    
+    /**
+     * Returns a {@link BigDecimalCheck} which can be use to check various
+     * properties of a {@link BigDecimal}, e.g.
+     * {@link BigDecimalCheck#isPositive()} or
+     * {@link BigDecimalCheck#hasScaleAtMost(int)}.
+     * 
+     * @param argument
+     *            The BigDecimal argument to check
+     * @return A check object with the argument "imprinted"
+     * @see BigDecimalCheck
+     */
+    public static BigDecimalCheck that(final BigDecimal argument) {
+        return CheckPool.bigDecimalCheck(argument);
+    }
+    
+    /**
+     * Returns a {@link BigIntegerCheck} which can be use to check various
+     * properties of a {@link BigInteger}, e.g.
+     * {@link BigIntegerCheck#isPositive()} or
+     * {@link BigIntegerCheck#isBetween(Comparable, Comparable)}.
+     * 
+     * @param argument
+     *            The BigInteger argument to check
+     * @return A check object with the argument "imprinted"
+     * @see BigIntegerCheck
+     */
+    public static BigIntegerCheck that(final BigInteger argument) {
+        return CheckPool.bigIntegerCheck(argument);
+    }
+    
+    /**
+     * Returns a {@link ComparableCheck} which can be use to check a
+     * {@link Comparable} argument against other values of the same type, e.g.
+     * with {@link ComparableCheck#isGreaterThan(Comparable)} or
+     * {@link ComparableCheck#isBetween(Comparable, Comparable)}:
+     * <p>
+     * <code>Check.thatComparable(deadline).isGreaterThan(now);</code>
+     * <p>
+     * Unlike the other methods of this class, this is not an overload of
+     * <code>that(...)</code>, as many classes, like {@link Integer}, are both
+     * comparable and have their own <code>that(...)</code> method, which would
+     * make such an overload ambiguous.
+     * 
+     * @param <T>
+     *            The type of the argument
+     * @param argument
+     *            The Comparable argument to check
+     * @return A check object with the argument "imprinted"
+     * @see ComparableCheck
+     */
+    public static <T extends Comparable<? super T>> ComparableCheck<T>
+            thatComparable(final T argument) {
+        return CheckPool.comparableCheck(argument);
     }
     
     /**
@@ -436,7 +527,21 @@ public final class Check {
      */
     @GwtIncompatible("java.net.URL")
     public static UrlCheck that(final URL argument) {
-        return new UrlCheck(argument);
+        return CheckPool.urlCheck(argument);
+    }
+    
+    /**
+     * Returns an {@link UriCheck} which can be use to check various properties
+     * of an {@link URI}, e.g. {@link UriCheck#hasScheme(String)}.
+     * 
+     * @param argument
+     *            The URI argument to check
+     * @return A check object with the argument "imprinted"
+     * @see UriCheck
+     */
+    @GwtIncompatible("java.net.URI")
+    public static UriCheck that(final URI argument) {
+        return CheckPool.uriCheck(argument);
     }
     
     /**
@@ -455,7 +560,7 @@ public final class Check {
      * @see IntCheck
      */
     public static IntCheck that(final int argument) {
-        return new IntCheck(argument);
+        return CheckPool.intCheck(argument);
     }
     
     /**
@@ -469,7 +574,7 @@ public final class Check {
      * @see LongCheck
      */
     public static LongCheck that(final long argument) {
-        return new LongCheck(argument);
+        return CheckPool.longCheck(argument);
     }
     
     /**
@@ -489,6 +594,287 @@ public final class Check {
      * @see DoubleCheck
      */
     public static DoubleCheck that(final double argument) {
-        return new DoubleCheck(argument);
+        return CheckPool.doubleCheck(argument);
+    }
+    
+    /* Fluent argument checks in test mode */
+    
+    /**
+     * Returns the same check as {@link #that(Object)}, but in
+     * {@linkplain BaseCheck#inTestMode() test mode}: Failing checks do not
+     * throw an exception, but record the failure, which can be queried at the
+     * end of the chain:
+     * <p>
+     * <code>if(!Check.test(record).isNotNull().passes()) rejected++;</code>
+     * <p>
+     * There is a <code>test(...)</code> method for every <code>that(...)</code>
+     * method.
+     * 
+     * @param argument
+     *            The argument to check
+     * @return A check object in test mode with the argument "imprinted"
+     * @see BaseCheck#passes()
+     * @see BaseCheck#getFailure()
+     * @see BaseCheck#getFailureMessage()
+     */
+    public static ObjectCheck test(final Object argument) {
+        return that(argument).inTestMode();
+    }
+    
+    /**
+     * Returns the same check as {@link #that(String)}, but in
+     * {@linkplain BaseCheck#inTestMode() test mode}.
+     * 
+     * @param argument
+     *            The argument to check
+     * @return A check object in test mode with the argument "imprinted"
+     */
+    public static StringCheck test(final String argument) {
+        return that(argument).inTestMode();
+    }
+    
+    /**
+     * Returns the same check as {@link #that(Object[])}, but in
+     * {@linkplain BaseCheck#inTestMode() test mode}.
+     * 
+     * @param argument
+     *            The argument to check
+     * @return A check object in test mode with the argument "imprinted"
+     */
+    public static ObjectArrayCheck test(final Object[] argument) {
+        return that(argument).inTestMode();
+    }
+    
+    /**
+     * Returns the same check as {@link #that(boolean[])}, but in
+     * {@linkplain BaseCheck#inTestMode() test mode}.
+     * 
+     * @param argument
+     *            The argument to check
+     * @return A check object in test mode with the argument "imprinted"
+     */
+    public static BooleanArrayCheck test(final boolean[] argument) {
+        return that(argument).inTestMode();
+    }
+    
+    /**
+     * Returns the same check as {@link #that(byte[])}, but in
+     * {@linkplain BaseCheck#inTestMode() test mode}.
+     * 
+     * @param argument
+     *            The argument to check
+     * @return A check object in test mode with the argument "imprinted"
+     */
+    public static ByteArrayCheck test(final byte[] argument) {
+        return that(argument).inTestMode();
+    }
+    
+    /**
+     * Returns the same check as {@link #that(char[])}, but in
+     * {@linkplain BaseCheck#inTestMode() test mode}.
+     * 
+     * @param argument
+     *            The argument to check
+     * @return A check object in test mode with the argument "imprinted"
+     */
+    public static CharArrayCheck test(final char[] argument) {
+        return that(argument).inTestMode();
+    }
+    
+    /**
+     * Returns the same check as {@link #that(double[])}, but in
+     * {@linkplain BaseCheck#inTestMode() test mode}.
+     * 
+     * @param argument
+     *            The argument to check
+     * @return A check object in test mode with the argument "imprinted"
+     */
+    public static DoubleArrayCheck test(final double[] argument) {
+        return that(argument).inTestMode();
+    }
+    
+    /**
+     * Returns the same check as {@link #that(float[])}, but in
+     * {@linkplain BaseCheck#inTestMode() test mode}.
+     * 
+     * @param argument
+     *            The argument to check
+     * @return A check object in test mode with the argument "imprinted"
+     */
+    public static FloatArrayCheck test(final float[] argument) {
+        return that(argument).inTestMode();
+    }
+    
+    /**
+     * Returns the same check as {@link #that(int[])}, but in
+     * {@linkplain BaseCheck#inTestMode() test mode}.
+     * 
+     * @param argument
+     *            The argument to check
+     * @return A check object in test mode with the argument "imprinted"
+     */
+    public static IntArrayCheck test(final int[] argument) {
+        return that(argument).inTestMode();
+    }
+    
+    /**
+     * Returns the same check as {@link #that(long[])}, but in
+     * {@linkplain BaseCheck#inTestMode() test mode}.
+     * 
+     * @param argument
+     *            The argument to check
+     * @return A check object in test mode with the argument "imprinted"
+     */
+    public static LongArrayCheck test(final long[] argument) {
+        return that(argument).inTestMode();
+    }
+    
+    /**
+     * Returns the same check as {@link #that(short[])}, but in
+     * {@linkplain BaseCheck#inTestMode() test mode}.
+     * 
+     * @param argument
+     *            The argument to check
+     * @return A check object in test mode with the argument "imprinted"
+     */
+    public static ShortArrayCheck test(final short[] argument) {
+        return that(argument).inTestMode();
+    }
+    
+    /**
+     * Returns the same check as {@link #that(Collection)}, but in
+     * {@linkplain BaseCheck#inTestMode() test mode}.
+     * 
+     * @param argument
+     *            The argument to check
+     * @return A check object in test mode with the argument "imprinted"
+     */
+    public static CollectionCheck test(final Collection<?> argument) {
+        return that(argument).inTestMode();
+    }
+    
+    /**
+     * Returns the same check as {@link #that(Map)}, but in
+     * {@linkplain BaseCheck#inTestMode() test mode}.
+     * 
+     * @param argument
+     *            The argument to check
+     * @return A check object in test mode with the argument "imprinted"
+     */
+    public static MapCheck test(final Map<?, ?> argument) {
+        return that(argument).inTestMode();
+    }
+    
+    /**
+     * Returns the same check as {@link #that(Number)}, but in
+     * {@linkplain BaseCheck#inTestMode() test mode}.
+     * 
+     * @param argument
+     *            The argument to check
+     * @return A check object in test mode with the argument "imprinted"
+     */
+    public static NumberCheck test(final Number argument) {
+        return that(argument).inTestMode();
+    }
+    
+    /**
+     * Returns the same check as {@link #that(BigDecimal)}, but in
+     * {@linkplain BaseCheck#inTestMode() test mode}.
+     * 
+     * @param argument
+     *            The argument to check
+     * @return A check object in test mode with the argument "imprinted"
+     */
+    public static BigDecimalCheck test(final BigDecimal argument) {
+        return that(argument).inTestMode();
+    }
+    
+    /**
+     * Returns the same check as {@link #that(BigInteger)}, but in
+     * {@linkplain BaseCheck#inTestMode() test mode}.
+     * 
+     * @param argument
+     *            The argument to check
+     * @return A check object in test mode with the argument "imprinted"
+     */
+    public static BigIntegerCheck test(final BigInteger argument) {
+        return that(argument).inTestMode();
+    }
+    
+    /**
+     * Returns the same check as {@link #thatComparable(Comparable)}, but in
+     * {@linkplain BaseCheck#inTestMode() test mode}.
+     * 
+     * @param <T>
+     *            The type of the argument
+     * @param argument
+     *            The argument to check
+     * @return A check object in test mode with the argument "imprinted"
+     */
+    public static <T extends Comparable<? super T>> ComparableCheck<T>
+            testComparable(final T argument) {
+        return thatComparable(argument).inTestMode();
+    }
+    
+    /**
+     * Returns the same check as {@link #that(URL)}, but in
+     * {@linkplain BaseCheck#inTestMode() test mode}.
+     * 
+     * @param argument
+     *            The argument to check
+     * @return A check object in test mode with the argument "imprinted"
+     */
+    @GwtIncompatible("java.net.URL")
+    public static UrlCheck test(final URL argument) {
+        return that(argument).inTestMode();
+    }
+    
+    /**
+     * Returns the same check as {@link #that(URI)}, but in
+     * {@linkplain BaseCheck#inTestMode() test mode}.
+     * 
+     * @param argument
+     *            The argument to check
+     * @return A check object in test mode with the argument "imprinted"
+     */
+    @GwtIncompatible("java.net.URI")
+    public static UriCheck test(final URI argument) {
+        return that(argument).inTestMode();
+    }
+    
+    /**
+     * Returns the same check as {@link #that(int)}, but in
+     * {@linkplain BaseCheck#inTestMode() test mode}.
+     * 
+     * @param argument
+     *            The argument to check
+     * @return A check object in test mode with the argument "imprinted"
+     */
+    public static IntCheck test(final int argument) {
+        return that(argument).inTestMode();
+    }
+    
+    /**
+     * Returns the same check as {@link #that(long)}, but in
+     * {@linkplain BaseCheck#inTestMode() test mode}.
+     * 
+     * @param argument
+     *            The argument to check
+     * @return A check object in test mode with the argument "imprinted"
+     */
+    public static LongCheck test(final long argument) {
+        return that(argument).inTestMode();
+    }
+    
+    /**
+     * Returns the same check as {@link #that(double)}, but in
+     * {@linkplain BaseCheck#inTestMode() test mode}.
+     * 
+     * @param argument
+     *            The argument to check
+     * @return A check object in test mode with the argument "imprinted"
+     */
+    public static DoubleCheck test(final double argument) {
+        return that(argument).inTestMode();
     }
 }
@@ -1,19 +1,33 @@
 package ch.trick17.betterchecks;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
 import java.net.URL;
 import java.util.Collection;
 import java.util.Map;
 
+import ch.trick17.betterchecks.fluent.BigDecimalCheck;
+import ch.trick17.betterchecks.fluent.BigIntegerCheck;
+import ch.trick17.betterchecks.fluent.BooleanArrayCheck;
+import ch.trick17.betterchecks.fluent.ByteArrayCheck;
+import ch.trick17.betterchecks.fluent.CharArrayCheck;
 import ch.trick17.betterchecks.fluent.CollectionCheck;
+import ch.trick17.betterchecks.fluent.ComparableCheck;
+import ch.trick17.betterchecks.fluent.DoubleArrayCheck;
 import ch.trick17.betterchecks.fluent.DoubleCheck;
+import ch.trick17.betterchecks.fluent.FloatArrayCheck;
+import ch.trick17.betterchecks.fluent.IntArrayCheck;
 import ch.trick17.betterchecks.fluent.IntCheck;
+import ch.trick17.betterchecks.fluent.LongArrayCheck;
 import ch.trick17.betterchecks.fluent.LongCheck;
 import ch.trick17.betterchecks.fluent.MapCheck;
 import ch.trick17.betterchecks.fluent.NumberCheck;
 import ch.trick17.betterchecks.fluent.ObjectArrayCheck;
 import ch.trick17.betterchecks.fluent.ObjectCheck;
-import ch.trick17.betterchecks.fluent.PrimitiveArrayCheck;
+import ch.trick17.betterchecks.fluent.ShortArrayCheck;
 import ch.trick17.betterchecks.fluent.StringCheck;
+import ch.trick17.betterchecks.fluent.UriCheck;
 import ch.trick17.betterchecks.fluent.UrlCheck;
 import ch.trick17.betterchecks.util.GwtCompatible;
 import ch.trick17.betterchecks.util.GwtIncompatible;
@@ -71,7 +85,7 @@ public final class CompactChecks {
      * See {@link Check#that(boolean[])}
      */
     @SuppressWarnings("javadoc")
-    public static PrimitiveArrayCheck check(final boolean[] argument) {
+    public static BooleanArrayCheck check(final boolean[] argument) {
         return Check.that(argument);
     }
     
@@ -79,7 +93,7 @@ public final class CompactChecks {
      * See {@link Check#that(byte[])}
      */
     @SuppressWarnings("javadoc")
-    public static PrimitiveArrayCheck check(final byte[] argument) {
+    public static ByteArrayCheck check(final byte[] argument) {
         return Check.that(argument);
     }
     
@@ -87,7 +101,7 @@ public final class CompactChecks {
      * See {@link Check#that(char[])}
      */
     @SuppressWarnings("javadoc")
-    public static PrimitiveArrayCheck check(final char[] argument) {
+    public static CharArrayCheck check(final char[] argument) {
         return Check.that(argument);
     }
     
@@ -95,7 +109,7 @@ public final class CompactChecks {
      * See {@link Check#that(double[])}
      */
     @SuppressWarnings("javadoc")
-    public static PrimitiveArrayCheck check(final double[] argument) {
+    public static DoubleArrayCheck check(final double[] argument) {
         return Check.that(argument);
     }
     
@@ -103,7 +117,7 @@ public final class CompactChecks {
      * See {@link Check#that(float[])}
      */
     @SuppressWarnings("javadoc")
-    public static PrimitiveArrayCheck check(final float[] argument) {
+    public static FloatArrayCheck check(final float[] argument) {
         return Check.that(argument);
     }
     
@@ -111,7 +125,7 @@ public final class CompactChecks {
      * See {@link Check#that(int[])}
      */
     @SuppressWarnings("javadoc")
-    public static PrimitiveArrayCheck check(final int[] argument) {
+    public static IntArrayCheck check(final int[] argument) {
         return Check.that(argument);
     }
     
@@ -119,7 +133,7 @@ public final class CompactChecks {
      * See {@link Check#that(long[])}
      */
     @SuppressWarnings("javadoc")
-    public static PrimitiveArrayCheck check(final long[] argument) {
+    public static LongArrayCheck check(final long[] argument) {
         return Check.that(argument);
     }
     
@@ -127,7 +141,7 @@ public final class CompactChecks {
      * See {@link Check#that(short[])}
      */
     @SuppressWarnings("javadoc")
-    public static PrimitiveArrayCheck check(final short[] argument) {
+    public static ShortArrayCheck check(final short[] argument) {
         return Check.that(argument);
     }
     
@@ -155,6 +169,31 @@ public final class CompactChecks {
         return Check.that(argument);
     }
     
+    /**
+     * See {@link Check#that(BigDecimal)}
+     */
+    @SuppressWarnings("javadoc")
+    public static BigDecimalCheck check(final BigDecimal argument) {
+        return Check.that(argument);
+    }
+    
+    /**
+     * See {@link Check#that(BigInteger)}
+     */
+    @SuppressWarnings("javadoc")
+    public static BigIntegerCheck check(final BigInteger argument) {
+        return Check.that(argument);
+    }
+    
+    /**
+     * See {@link Check#thatComparable(Comparable)}
+     */
+    @SuppressWarnings("javadoc")
+    public static <T extends Comparable<? super T>> ComparableCheck<T>
+            checkComparable(final T argument) {
+        return Check.thatComparable(argument);
+    }
+    
     /**
      * See {@link Check#that(URL)}
      */
@@ -164,6 +203,15 @@ public final class CompactChecks {
         return Check.that(argument);
     }
     
+    /**
+     * See {@link Check#that(URI)}
+     */
+    @SuppressWarnings("javadoc")
+    @GwtIncompatible("java.net.URI")
+    public static UriCheck check(final URI argument) {
+        return Check.that(argument);
+    }
+    
     /**
      * See {@link Check#that(int)}
      */
@@ -2,14 +2,18 @@ package ch.trick17.betterchecks;
 
 import java.util.Formatter;
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
 import java.util.MissingResourceException;
 import java.util.ResourceBundle;
 
 import ch.trick17.betterchecks.fluent.ObjectCheck;
+import ch.trick17.betterchecks.util.ConfigFile;
 import ch.trick17.betterchecks.util.FormatPair;
 import ch.trick17.betterchecks.util.GwtCompatible;
 import ch.trick17.betterchecks.util.GwtIncompatible;
+import ch.trick17.betterchecks.util.MessageTemplate;
+import ch.trick17.betterchecks.util.PatternCache;
 
 /**
  * Provides access to the configuration of the Better Checks library.
@@ -25,8 +29,9 @@ import ch.trick17.betterchecks.util.GwtIncompatible;
  * Here is what a config file might look like:
  * 
  * <pre>
- * cleanStackTraces = false
+ * stackTraces = full
  * defaultArgumentName = le argument
+ * maxValueLength = 200
  * ARG_POSITIVE.format = %s should -(not )-be positive
  * ARG_NEGATIVE.format = %s should -(not )-be negative
  * </pre>
@@ -36,7 +41,11 @@ import ch.trick17.betterchecks.util.GwtIncompatible;
  * {@link #isLoadedFromConfigFile()} method.
  * <p>
  * For more information, refer to the documentation of the
- * {@link #isCleanStackTracesEnabled()}, {@link #getDefaultArgumentName()} and
+ * {@link #getStackTraceMode()}, {@link #getDefaultArgumentName()},
+ * {@link #getMaxValueLength()}, {@link #getMaxElements()},
+ * {@link #getStormThreshold()}, {@link #getStormCooldown()},
+ * {@link #isReuseChecksEnabled()}, {@link #isReuseGuardEnabled()},
+ * {@link #getPatternCacheSize()} and
  * {@link #getMessageFormat(MessageType, boolean)} methods.
  * 
  * @author Michael Faes
@@ -57,6 +66,14 @@ public final class Config {
      */
     @GwtIncompatible("Configuration not supported with GWT") public static final String CLEAN_STACK_TRACES_ENABLED_KEY = "cleanStackTraces";
     
+    /**
+     * The key for setting the stack trace mode in the config file:
+     * <code>{@value}</code> (without quotes).
+     * 
+     * @see #getStackTraceMode()
+     */
+    @GwtIncompatible("Configuration not supported with GWT") public static final String STACK_TRACE_MODE_KEY = "stackTraces";
+    
     /**
      * The key for setting the default argument name in the config file:
      * <code>{@value}</code> (without quotes).
@@ -65,6 +82,63 @@ public final class Config {
      */
     @GwtIncompatible("Configuration not supported with GWT") public static final String DEFAULT_ARG_NAME_KEY = "defaultArgumentName";
     
+    /**
+     * The key for setting the maximum length of argument values in exception
+     * messages in the config file: <code>{@value}</code> (without quotes).
+     * 
+     * @see #getMaxValueLength()
+     */
+    @GwtIncompatible("Configuration not supported with GWT") public static final String MAX_VALUE_LENGTH_KEY = "maxValueLength";
+    
+    /**
+     * The key for setting the maximum number of elements of collections, maps
+     * and arrays in exception messages in the config file:
+     * <code>{@value}</code> (without quotes).
+     * 
+     * @see #getMaxElements()
+     */
+    @GwtIncompatible("Configuration not supported with GWT") public static final String MAX_ELEMENTS_KEY = "maxElements";
+    
+    /**
+     * The key for enabling the exception storm protection in the config file:
+     * <code>{@value}</code> (without quotes).
+     * 
+     * @see #getStormThreshold()
+     */
+    @GwtIncompatible("Configuration not supported with GWT") public static final String STORM_THRESHOLD_KEY = "stormThreshold";
+    
+    /**
+     * The key for setting the cooldown of the exception storm protection in
+     * the config file: <code>{@value}</code> (without quotes).
+     * 
+     * @see #getStormCooldown()
+     */
+    @GwtIncompatible("Configuration not supported with GWT") public static final String STORM_COOLDOWN_KEY = "stormCooldown";
+    
+    /**
+     * The key for enabling the reuse of check objects in the config file:
+     * <code>{@value}</code> (without quotes).
+     * 
+     * @see #isReuseChecksEnabled()
+     */
+    @GwtIncompatible("Configuration not supported with GWT") public static final String REUSE_CHECKS_KEY = "reuseChecks";
+    
+    /**
+     * The key for enabling the guard against misused reused check objects in
+     * the config file: <code>{@value}</code> (without quotes).
+     * 
+     * @see #isReuseGuardEnabled()
+     */
+    @GwtIncompatible("Configuration not supported with GWT") public static final String REUSE_GUARD_KEY = "reuseGuard";
+    
+    /**
+     * The key for setting the maximum number of cached regular expressions in
+     * the config file: <code>{@value}</code> (without quotes).
+     * 
+     * @see #getPatternCacheSize()
+     */
+    @GwtIncompatible("Configuration not supported with GWT") public static final String PATTERN_CACHE_SIZE_KEY = "patternCacheSize";
+    
     private static final String MSG_FORMAT_SUFFIX = ".format";
     
     /**
@@ -80,6 +154,62 @@ public final class Config {
      * @see #isCleanStackTracesEnabled()
      */
     public static final boolean DEFAULT_CLEAN_STRACK_TRACES_ENABLED = true;
+    /**
+     * The default setting for the stack trace mode, which is
+     * {@link StackTraceMode#CLEANED}.
+     * 
+     * @see #getStackTraceMode()
+     */
+    public static final StackTraceMode DEFAULT_STACK_TRACE_MODE =
+            StackTraceMode.CLEANED;
+    /**
+     * The default setting for the maximum length of argument values rendered
+     * in exception messages, which is {@value} .
+     * 
+     * @see #getMaxValueLength()
+     */
+    public static final int DEFAULT_MAX_VALUE_LENGTH = 1000;
+    /**
+     * The default setting for the maximum number of elements rendered per
+     * collection, map or array in exception messages, which is {@value} .
+     * 
+     * @see #getMaxElements()
+     */
+    public static final int DEFAULT_MAX_ELEMENTS = 100;
+    /**
+     * The default setting for the exception storm threshold, which is
+     * {@value} , meaning the protection is disabled.
+     * 
+     * @see #getStormThreshold()
+     */
+    public static final int DEFAULT_STORM_THRESHOLD = 0;
+    /**
+     * The default setting for the cooldown of the exception storm protection
+     * in milliseconds, which is {@value} .
+     * 
+     * @see #getStormCooldown()
+     */
+    public static final int DEFAULT_STORM_COOLDOWN = 1000;
+    /**
+     * The default setting for the reuse of check objects, which is {@value} .
+     * 
+     * @see #isReuseChecksEnabled()
+     */
+    public static final boolean DEFAULT_REUSE_CHECKS_ENABLED = false;
+    /**
+     * The default setting for the guard against misused reused check objects,
+     * which is {@value} .
+     * 
+     * @see #isReuseGuardEnabled()
+     */
+    public static final boolean DEFAULT_REUSE_GUARD_ENABLED = false;
+    /**
+     * The default setting for the maximum number of cached regular
+     * expressions, which is {@value} .
+     * 
+     * @see #getPatternCacheSize()
+     */
+    public static final int DEFAULT_PATTERN_CACHE_SIZE = 256;
     
     /* The config singleton */
     private static final Config config = loadConfig();
@@ -95,19 +225,31 @@ public final class Config {
     static Config loadConfig() {
         final Config theConfig = new Config();
         
-        ResourceBundle bundle;
-        try {
-            bundle = ResourceBundle.getBundle(CONFIG_BASE_NAME);
-            theConfig.loadedFromConfigFile = true;
-        } catch(final MissingResourceException e) {
-            bundle = null;
-        }
+        final ResourceBundle bundle = ConfigFile.load();
+        theConfig.loadedFromConfigFile = bundle != null;
         
         theConfig.defaultArgumentName = getFromBundle(bundle,
                 DEFAULT_ARG_NAME_KEY, DEFAULT_DEFAULT_ARG_NAME);
-        theConfig.cleanStackTracesEnabled = getFromBundle(bundle,
+        final boolean cleanStackTraces = ConfigFile.getBoolean(bundle,
                 CLEAN_STACK_TRACES_ENABLED_KEY,
                 DEFAULT_CLEAN_STRACK_TRACES_ENABLED);
+        theConfig.stackTraceMode = getFromBundle(bundle, STACK_TRACE_MODE_KEY,
+                cleanStackTraces ? DEFAULT_STACK_TRACE_MODE
+                        : StackTraceMode.FULL);
+        theConfig.maxValueLength = ConfigFile.getInt(bundle,
+                MAX_VALUE_LENGTH_KEY, DEFAULT_MAX_VALUE_LENGTH);
+        theConfig.maxElements = ConfigFile.getInt(bundle, MAX_ELEMENTS_KEY,
+                DEFAULT_MAX_ELEMENTS);
+        theConfig.stormThreshold = ConfigFile.getInt(bundle,
+                STORM_THRESHOLD_KEY, DEFAULT_STORM_THRESHOLD);
+        theConfig.stormCooldown = ConfigFile.getInt(bundle, STORM_COOLDOWN_KEY,
+                DEFAULT_STORM_COOLDOWN);
+        theConfig.reuseChecks = ConfigFile.getBoolean(bundle, REUSE_CHECKS_KEY,
+                DEFAULT_REUSE_CHECKS_ENABLED);
+        theConfig.reuseGuard = ConfigFile.getBoolean(bundle, REUSE_GUARD_KEY,
+                DEFAULT_REUSE_GUARD_ENABLED);
+        theConfig.patternCacheSize = ConfigFile.getInt(bundle,
+                PATTERN_CACHE_SIZE_KEY, DEFAULT_PATTERN_CACHE_SIZE);
         
         theConfig.messageFormats = new HashMap<MessageType, FormatPair>();
         for(final MessageType msgType : MessageType.values()) {
@@ -132,15 +274,18 @@ public final class Config {
             }
     }
     
-    private static boolean getFromBundle(final ResourceBundle bundle,
-            final String key, final boolean defaultValue) {
+    private static StackTraceMode getFromBundle(final ResourceBundle bundle,
+            final String key, final StackTraceMode defaultValue) {
         if(bundle == null)
             return defaultValue;
         else
             try {
-                return Boolean.parseBoolean(bundle.getString(key));
+                return StackTraceMode.valueOf(bundle.getString(key).trim()
+                        .toUpperCase(Locale.ENGLISH));
             } catch(final MissingResourceException e) {
                 return defaultValue;
+            } catch(final IllegalArgumentException e) {
+                return defaultValue;
             }
     }
     
@@ -160,8 +305,15 @@ public final class Config {
     /* Note that a Config object is *effectively* immutable. The static config
      * is therefore thread-safe after publication in the static initializer. */
     private boolean loadedFromConfigFile;
-    private boolean cleanStackTracesEnabled;
+    private StackTraceMode stackTraceMode;
     private String defaultArgumentName;
+    private int maxValueLength;
+    private int maxElements;
+    private int stormThreshold;
+    private int stormCooldown;
+    private boolean reuseChecks;
+    private boolean reuseGuard;
+    private int patternCacheSize;
     private Map<MessageType, FormatPair> messageFormats;
     
     private Config() {}
@@ -180,17 +332,39 @@ public final class Config {
     
     /**
      * Indicates whether stack trace cleaning is enabled. See the documentation
-     * of {@link Check} for more information.
+     * of {@link Check} for more information. This is the case iff the
+     * {@linkplain #getStackTraceMode() stack trace mode} is
+     * {@link StackTraceMode#CLEANED}.
      * <p>
      * The default value is {@value #DEFAULT_CLEAN_STRACK_TRACES_ENABLED}. To
      * override this, set the
      * <code>{@value #CLEAN_STACK_TRACES_ENABLED_KEY}</code> property in the
-     * config file.
+     * config file, or the more general
+     * <code>{@value #STACK_TRACE_MODE_KEY}</code> property.
      * 
      * @return <code>true</code> if stack trace cleaning is enabled.
      */
     public boolean isCleanStackTracesEnabled() {
-        return cleanStackTracesEnabled;
+        return stackTraceMode == StackTraceMode.CLEANED;
+    }
+    
+    /**
+     * Returns the mode that defines how the stack traces of the exceptions
+     * thrown by failing checks are created: {@linkplain StackTraceMode#FULL
+     * full}, {@linkplain StackTraceMode#CLEANED cleaned} or
+     * {@linkplain StackTraceMode#NONE not at all}.
+     * <p>
+     * The default value is {@link StackTraceMode#CLEANED}. To override this,
+     * set the <code>{@value #STACK_TRACE_MODE_KEY}</code> property in the
+     * config file to <code>full</code>, <code>cleaned</code> or
+     * <code>none</code>. If the property is not set, setting the
+     * <code>{@value #CLEAN_STACK_TRACES_ENABLED_KEY}</code> property to
+     * <code>false</code> is equivalent to <code>full</code>.
+     * 
+     * @return The stack trace mode
+     */
+    public StackTraceMode getStackTraceMode() {
+        return stackTraceMode;
     }
     
     /**
@@ -208,6 +382,157 @@ public final class Config {
         return defaultArgumentName;
     }
     
+    /**
+     * Returns the maximum length of a single argument value (like the
+     * collection in "the argument must not be empty (value: [])") rendered in
+     * an exception message. Longer values are cut off and a suffix like
+     * "(&hellip; 42 more)" is appended. Collections, maps and arrays are
+     * rendered element by element, so their complete string representation is
+     * never created.
+     * <p>
+     * The default value is {@value #DEFAULT_MAX_VALUE_LENGTH}. To override
+     * this, set the <code>{@value #MAX_VALUE_LENGTH_KEY}</code> property in the
+     * config file. A negative value disables the limit.
+     * 
+     * @return The maximum length of a rendered argument value, or a negative
+     *         number for no limit
+     */
+    public int getMaxValueLength() {
+        return maxValueLength;
+    }
+    
+    /**
+     * Returns the maximum number of elements rendered per collection, map or
+     * array in an exception message. The remaining elements are omitted and
+     * indicated by a pseudo-element like "(&hellip; 42 more)".
+     * <p>
+     * The default value is {@value #DEFAULT_MAX_ELEMENTS}. To override this,
+     * set the <code>{@value #MAX_ELEMENTS_KEY}</code> property in the config
+     * file. A negative value disables the limit.
+     * 
+     * @return The maximum number of elements rendered per collection, map or
+     *         array, or a negative number for no limit
+     */
+    public int getMaxElements() {
+        return maxElements;
+    }
+    
+    /**
+     * Returns the threshold of the exception storm protection, in failures per
+     * second. If a single call site (i.e., the method calling into the
+     * library) fails with the same {@link MessageType} more often than this,
+     * the library temporarily throws cheap exceptions for it: exceptions with
+     * a precomputed message that does not include the argument values, and
+     * without a stack trace. This protects against clients flooding a service
+     * with invalid requests, as creating the usual exceptions would cost a lot
+     * of CPU time then. Once the failure rate drops below the threshold again,
+     * the normal exceptions are used after the
+     * {@linkplain #getStormCooldown() cooldown}.
+     * <p>
+     * Note that determining the call site of a failing check requires a look
+     * at the stack. On Java 9 and later, only the top of the stack is walked,
+     * which is cheap. On older versions, this is about as expensive as
+     * creating a stack trace.
+     * <p>
+     * The default value is {@value #DEFAULT_STORM_THRESHOLD}. To override this,
+     * set the <code>{@value #STORM_THRESHOLD_KEY}</code> property in the config
+     * file. A value of 0 or less disables the protection, which then does not
+     * cost anything.
+     * 
+     * @return The failure rate per call site and message type above which
+     *         cheap exceptions are thrown, or 0 or less if disabled
+     */
+    public int getStormThreshold() {
+        return stormThreshold;
+    }
+    
+    /**
+     * Returns the time, in milliseconds, for which cheap exceptions are thrown
+     * by a call site after its failure rate last exceeded the
+     * {@linkplain #getStormThreshold() exception storm threshold}.
+     * <p>
+     * The default value is {@value #DEFAULT_STORM_COOLDOWN}. To override this,
+     * set the <code>{@value #STORM_COOLDOWN_KEY}</code> property in the config
+     * file.
+     * 
+     * @return The cooldown of the exception storm protection in milliseconds
+     */
+    public int getStormCooldown() {
+        return stormCooldown;
+    }
+    
+    /**
+     * Indicates whether check objects are reused. If enabled, the
+     * <code>Check.that(...)</code> (and <code>CompactChecks.check(...)</code>)
+     * methods do not create a new check object for each call. Instead, each
+     * thread reuses one instance per check class, which is reset for every
+     * new argument. This avoids the allocation of check objects in code that
+     * performs checks at a very high rate and is not optimized well enough by
+     * the JIT compiler (which usually eliminates these allocations anyway).
+     * <p>
+     * When this is enabled, check objects must never be stored or passed
+     * around: A check object is only valid until the next check object of
+     * the same class is requested on the same thread. This includes checks in
+     * {@linkplain ObjectCheck#inTestMode() test mode}, whose outcome must be
+     * queried before the next check. Misuses can be detected by additionally
+     * enabling the {@linkplain #isReuseGuardEnabled() reuse guard}.
+     * <p>
+     * Note that with virtual threads, reusing check objects does not pay off,
+     * as each virtual thread then gets its own instances.
+     * <p>
+     * The default value is {@value #DEFAULT_REUSE_CHECKS_ENABLED}. To override
+     * this, set the <code>{@value #REUSE_CHECKS_KEY}</code> property in the
+     * config file. This setting is read once, when the first check object is
+     * requested.
+     * 
+     * @return <code>true</code> if check objects are reused
+     */
+    public boolean isReuseChecksEnabled() {
+        return reuseChecks;
+    }
+    
+    /**
+     * Indicates whether the guard against misused reused check objects is
+     * enabled. This is a debugging aid for the
+     * {@linkplain #isReuseChecksEnabled() reuse of check objects}: If enabled,
+     * a fresh check object is created for each call after all, and the
+     * previous object of the same class is marked as released. Any further
+     * use of a released check object, for example because it escaped the
+     * statement it was created in or because another check of the same class
+     * was requested in the middle of its chain, results in an
+     * {@link InvalidCheckException}.
+     * <p>
+     * The default value is {@value #DEFAULT_REUSE_GUARD_ENABLED}. To override
+     * this, set the <code>{@value #REUSE_GUARD_KEY}</code> property in the
+     * config file. The setting has no effect if check objects are not reused.
+     * 
+     * @return <code>true</code> if the reuse guard is enabled
+     */
+    public boolean isReuseGuardEnabled() {
+        return reuseGuard;
+    }
+    
+    /**
+     * Returns the maximum number of compiled regular expressions that are
+     * cached for the <code>matches(String)</code> check of strings (and,
+     * separately, for the <code>matchesSafely(String)</code> check). Without
+     * the cache, each such check would compile its regular expression again.
+     * If the cache is full, the least recently used expressions are evicted
+     * (approximately). The hits and misses of the cache can be queried using
+     * {@link PatternCache#getCache()}.
+     * <p>
+     * The default value is {@value #DEFAULT_PATTERN_CACHE_SIZE}. To override
+     * this, set the <code>{@value #PATTERN_CACHE_SIZE_KEY}</code> property in
+     * the config file. A value of 0 or less disables the cache. This setting
+     * is read once, when the first regular expression is checked.
+     * 
+     * @return The maximum number of cached regular expressions, or 0 or less
+     *         if the cache is disabled
+     */
+    public int getPatternCacheSize() {
+        return patternCacheSize;
+    }
+    
     /**
      * Returns the exception message format for the given {@link MessageType}.
      * The formats are format strings defined by the {@link Formatter} class.
@@ -251,4 +576,24 @@ public final class Config {
             final boolean inverted) {
         return messageFormats.get(type).getFormat(inverted);
     }
+    
+    /**
+     * Returns the exception message format for the given {@link MessageType}
+     * as a precompiled {@link MessageTemplate}. The templates are compiled when
+     * the config is loaded, so formatting a message does not need to parse the
+     * format string again.
+     * 
+     * @param type
+     *            The message type
+     * @param inverted
+     *            If <code>true</code>, the message template is inverted to
+     *            reflect an inverted check.
+     * @return The message template for the format returned by
+     *         {@link #getMessageFormat(MessageType, boolean)}
+     */
+    @GwtIncompatible("MessageTemplate")
+    public MessageTemplate getMessageTemplate(final MessageType type,
+            final boolean inverted) {
+        return messageFormats.get(type).getTemplate(inverted);
+    }
 }
@@ -0,0 +1,138 @@
+package ch.trick17.betterchecks;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Internal helper class that implements the exception storm protection
+ * described in {@link Config#getStormThreshold()}. The failure rate is tracked
+ * per call site and {@link MessageType}, using only atomic variables, so
+ * concurrent failures never block each other. Passing checks are not affected
+ * at all, as the tracking happens only when an exception is created.
+ * 
+ * @author Michael Faes
+ */
+final class ExceptionStorms {
+    
+    private ExceptionStorms() {}
+    
+    /* Bounds the memory used for tracking, e.g., in case of generated code
+     * with lots of failing call sites. Further call sites are not protected. */
+    static final int MAX_CALL_SITES = 10000;
+    
+    private static final ConcurrentMap<CallSite, FailureRate> rates =
+            new ConcurrentHashMap<CallSite, FailureRate>();
+    
+    /**
+     * Records a failure of a check with the given message type and returns the
+     * precomputed message to use for a cheap exception if the call site of the
+     * check currently experiences an exception storm. If the protection is
+     * disabled, this method returns immediately.
+     * 
+     * @param msgType
+     *            The message type of the failed check
+     * @return The message for the cheap exception, or <code>null</code> if a
+     *         normal exception should be created
+     */
+    static String stormMessage(final MessageType msgType) {
+        final Config config = Config.getConfig();
+        final int threshold = config.getStormThreshold();
+        if(threshold <= 0)
+            return null;
+        
+        final StackTraceElement element = StackTraces.callSite();
+        if(element == null)
+            return null;
+        final CallSite callSite = new CallSite(element, msgType);
+        FailureRate rate = rates.get(callSite);
+        if(rate == null) {
+            if(rates.size() >= MAX_CALL_SITES)
+                return null;
+            final FailureRate newRate = new FailureRate(callSite.message(),
+                    System.nanoTime());
+            rate = rates.putIfAbsent(callSite, newRate);
+            if(rate == null)
+                rate = newRate;
+        }
+        
+        final long cooldown = MILLISECONDS.toNanos(config.getStormCooldown());
+        if(rate.recordFailure(System.nanoTime(), threshold, cooldown))
+            return rate.message;
+        else
+            return null;
+    }
+    
+    /**
+     * The failure rate of a single call site and message type, counted in
+     * windows of one second.
+     */
+    static final class FailureRate {
+        
+        private static final long WINDOW = SECONDS.toNanos(1);
+        
+        final String message;
+        private final AtomicLong windowStart;
+        private final AtomicInteger failures = new AtomicInteger();
+        /* Races between updates of these two are benign: They can only happen
+         * while failures are coming in fast, and both values are close then */
+        private volatile boolean stormed;
+        private volatile long stormEnd;
+        
+        FailureRate(final String message, final long now) {
+            this.message = message;
+            this.windowStart = new AtomicLong(now);
+        }
+        
+        /**
+         * Records a failure at the given time and returns whether the call site
+         * is in a storm, i.e., whether the threshold was exceeded within the
+         * cooldown period before.
+         */
+        boolean recordFailure(final long now, final int threshold,
+                final long cooldown) {
+            final long start = windowStart.get();
+            if(now - start >= WINDOW && windowStart.compareAndSet(start, now))
+                failures.set(0);
+            
+            if(failures.incrementAndGet() > threshold) {
+                stormEnd = now + cooldown;
+                stormed = true;
+            }
+            return stormed && now - stormEnd < 0;
+        }
+    }
+    
+    private static final class CallSite {
+        
+        private final StackTraceElement element;
+        private final MessageType msgType;
+        
+        CallSite(final StackTraceElement element, final MessageType msgType) {
+            this.element = element;
+            this.msgType = msgType;
+        }
+        
+        String message() {
+            return msgType + " check failed too often at " + element
+                    + "; message details and stack trace omitted";
+        }
+        
+        @Override
+        public int hashCode() {
+            return 31 * element.hashCode() + msgType.hashCode();
+        }
+        
+        @Override
+        public boolean equals(final Object obj) {
+            if(!(obj instanceof CallSite))
+                return false;
+            final CallSite other = (CallSite) obj;
+            return element.equals(other.element) && msgType == other.msgType;
+        }
+    }
+}
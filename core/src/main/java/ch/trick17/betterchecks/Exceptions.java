@@ -1,6 +1,7 @@
 package ch.trick17.betterchecks;
 
-import java.util.Arrays;
+import static ch.trick17.betterchecks.util.ValueRenderer.renderAll;
+import static ch.trick17.betterchecks.util.ValueRenderer.snapshotAll;
 
 import ch.trick17.betterchecks.util.GwtCompatible;
 
@@ -14,7 +15,9 @@ import ch.trick17.betterchecks.util.GwtCompatible;
  * <p>
  * The <code>...Exception(...)</code> methods all return exceptions of the type
  * indicated by the method name with their stack traces cleaned up. This feature
- * is described in the documentation of the {@link Check} class.
+ * is described in the documentation of the {@link Check} class. If the
+ * {@linkplain Config#getStackTraceMode() stack trace mode} is
+ * {@link StackTraceMode#NONE}, the exceptions have no stack trace at all.
  * <p>
  * The stack trace cleaning is implemented by removing from the top of the stack
  * trace all stack frames belonging to methods that are part of the Better
@@ -31,9 +34,6 @@ public final class Exceptions {
     
     private Exceptions() {}
     
-    private static final String BASE_PACKAGE = Check.class.getPackage()
-            .getName();
-    
     /**
      * Returns an {@link IllegalArgumentException} with the given exception
      * message and a cleaned-up stack trace (if enabled).
@@ -44,9 +44,14 @@ public final class Exceptions {
      */
     public static IllegalArgumentException illegalArgumentException(
             final String message) {
+        final StackTraceMode mode = Config.getConfig().getStackTraceMode();
+        if(mode == StackTraceMode.NONE)
+            return new StacklessIllegalArgumentException(message);
+        
         final IllegalArgumentException exception = new IllegalArgumentException(
                 message);
-        cleanUpStackTrace(exception);
+        if(mode == StackTraceMode.CLEANED)
+            cleanUp(exception);
         return exception;
     }
     
@@ -57,6 +62,13 @@ public final class Exceptions {
      * inverted message format will be used. Also, the stack trace of the
      * exception will be cleaned (if enabled).
      * <p>
+     * The returned exception is a {@link LazyIllegalArgumentException}, which
+     * formats the message and cleans the stack trace only when they are first
+     * accessed. However, if the exception storm protection is enabled and the
+     * calling method currently fails too often, a cheap exception without
+     * stack trace and with a precomputed message is returned (see
+     * {@link Config#getStormThreshold()}).
+     * <p>
      * See {@link Config#getMessageFormat(MessageType, boolean)} for more
      * information about exception message formats.
      * 
@@ -71,10 +83,10 @@ public final class Exceptions {
     public static IllegalArgumentException illegalArgumentException(
             final MessageType msgType, final boolean inverted,
             final Object[] msgArgs) {
-        final IllegalArgumentException exception = new IllegalArgumentException(
-                formatMsg(msgType, inverted, msgArgs));
-        cleanUpStackTrace(exception);
-        return exception;
+        final String stormMessage = ExceptionStorms.stormMessage(msgType);
+        if(stormMessage != null)
+            return new StacklessIllegalArgumentException(stormMessage);
+        return new LazyIllegalArgumentException(msgType, inverted, msgArgs);
     }
     
     /**
@@ -85,6 +97,13 @@ public final class Exceptions {
      * set to the one given and the stack trace of the exception will be cleaned
      * (if enabled).
      * <p>
+     * The returned exception is a {@link LazyIllegalArgumentException}, which
+     * formats the message and cleans the stack trace only when they are first
+     * accessed. However, if the exception storm protection is enabled and the
+     * calling method currently fails too often, a cheap exception without
+     * stack trace and with a precomputed message is returned (see
+     * {@link Config#getStormThreshold()}).
+     * <p>
      * See {@link Config#getMessageFormat(MessageType, boolean)} for more
      * information about exception message formats.
      * 
@@ -101,10 +120,11 @@ public final class Exceptions {
     public static IllegalArgumentException illegalArgumentException(
             final MessageType msgType, final boolean inverted,
             final Object[] msgArgs, final Throwable cause) {
-        final IllegalArgumentException exception = new IllegalArgumentException(
-                formatMsg(msgType, inverted, msgArgs), cause);
-        cleanUpStackTrace(exception);
-        return exception;
+        final String stormMessage = ExceptionStorms.stormMessage(msgType);
+        if(stormMessage != null)
+            return new StacklessIllegalArgumentException(stormMessage, cause);
+        return new LazyIllegalArgumentException(msgType, inverted, msgArgs,
+                cause);
     }
     
     /**
@@ -117,9 +137,14 @@ public final class Exceptions {
      */
     public static IllegalStateException illegalStateException(
             final String message) {
+        final StackTraceMode mode = Config.getConfig().getStackTraceMode();
+        if(mode == StackTraceMode.NONE)
+            return new StacklessIllegalStateException(message);
+        
         final IllegalStateException exception = new IllegalStateException(
                 message);
-        cleanUpStackTrace(exception);
+        if(mode == StackTraceMode.CLEANED)
+            cleanUp(exception);
         return exception;
     }
     
@@ -127,6 +152,12 @@ public final class Exceptions {
      * Formats an exception message using the format corresponding to the given
      * message type and the given message arguments. If <code>inverted</code> is
      * <code>true</code>, the inverted message format will be used.
+     * <p>
+     * Message arguments that are collections, maps, arrays or long char
+     * sequences are rendered in a bounded way, according to
+     * {@link Config#getMaxValueLength()} and {@link Config#getMaxElements()}.
+     * As this happens only here, check methods can pass (potentially large)
+     * values without rendering them when the check passes.
      * 
      * @param msgType
      *            The message type indicating the message format to use
@@ -138,9 +169,9 @@ public final class Exceptions {
      */
     public static String formatMsg(final MessageType msgType,
             final boolean inverted, final Object... msgArgs) {
-        final String format = Config.getConfig().getMessageFormat(msgType,
-                inverted);
-        return String.format(format, msgArgs);
+        final Config config = Config.getConfig();
+        return config.getMessageTemplate(msgType, inverted).format(renderAll(
+                msgArgs, config.getMaxValueLength(), config.getMaxElements()));
     }
     
     /**
@@ -155,20 +186,24 @@ public final class Exceptions {
     
     /* Implementation methods */
     
-    private static void cleanUpStackTrace(final Exception exception) {
-        if(Config.getConfig().isCleanStackTracesEnabled()) {
-            StackTraceElement[] trace = exception.getStackTrace();
-            int index = 0;
-            while(isBetterChecksElement(trace[index]))
-                index++;
-            trace = Arrays.copyOfRange(trace, index, trace.length);
-            exception.setStackTrace(trace);
-        }
+    /* Renders the message arguments of a lazily formatted message right away,
+     * so that the message does not depend on the later state of mutable
+     * arguments. See formatSnapshotMsg(). */
+    static Object[] snapshotMsgArgs(final Object[] msgArgs) {
+        final Config config = Config.getConfig();
+        return snapshotAll(msgArgs, config.getMaxValueLength(), config
+                .getMaxElements());
+    }
+    
+    /* Like formatMsg(), for arguments returned by snapshotMsgArgs(), which
+     * must not be rendered again */
+    static String formatSnapshotMsg(final MessageType msgType,
+            final boolean inverted, final Object[] snapshot) {
+        return Config.getConfig().getMessageTemplate(msgType, inverted).format(
+                snapshot);
     }
     
-    private static boolean isBetterChecksElement(final StackTraceElement element) {
-        final String className = element.getClassName();
-        return className.startsWith(BASE_PACKAGE)
-                && !className.endsWith("Test");
+    private static void cleanUp(final Exception exception) {
+        exception.setStackTrace(StackTraces.clean(exception.getStackTrace()));
     }
 }
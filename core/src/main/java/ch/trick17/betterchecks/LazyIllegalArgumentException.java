@@ -0,0 +1,188 @@
+package ch.trick17.betterchecks;
+
+import java.io.PrintStream;
+import java.io.PrintWriter;
+
+/**
+ * The {@link IllegalArgumentException} thrown by failing fluent checks. It
+ * behaves exactly like a plain {@link IllegalArgumentException}, but defers the
+ * two expensive parts of creating such an exception until they are actually
+ * needed: The exception message is only formatted when {@link #getMessage()} is
+ * called for the first time and the stack trace is only cleaned (see
+ * {@link Check}) when it is first accessed, e.g., via {@link #getStackTrace()}
+ * or {@link #printStackTrace()}. Both results are cached. Thus, a failed check
+ * whose exception is caught and mapped to some error code without looking at
+ * its message or stack trace is considerably cheaper. If the
+ * {@linkplain Config#getStackTraceMode() stack trace mode} is
+ * {@link StackTraceMode#NONE}, the stack trace is not even filled in.
+ * <p>
+ * In addition, the exception provides access to the {@link MessageType} of
+ * the failed check and whether the check was inverted, which allows to react
+ * to specific failures without parsing the message.
+ * <p>
+ * Message arguments that are collections, maps, arrays or mutable char
+ * sequences are rendered (in the bounded way described in
+ * {@link Exceptions#formatMsg(MessageType, boolean, Object...)}) when the
+ * exception is created, so the message shows the state of the argument that
+ * failed the check, even if it is modified later on. Only other arguments are
+ * converted to strings when the message is formatted.
+ * <p>
+ * Also note that {@link Throwable#printStackTrace()} of an <em>enclosing</em>
+ * exception accesses the stack trace of its cause directly. If this exception
+ * is wrapped before its stack trace has been accessed, it is printed without
+ * cleaning in that case.
+ * 
+ * @author Michael Faes
+ */
+public class LazyIllegalArgumentException extends IllegalArgumentException {
+    
+    private static final long serialVersionUID = -1981537733164124406L;
+    
+    private final MessageType messageType;
+    private final boolean inverted;
+    private transient Object[] msgArgs;
+    private String message;
+    private boolean stackTraceCleaned;
+    
+    /**
+     * Constructs a new exception for the given message type, inversion flag
+     * and message arguments. The cause is not initialized, and may
+     * subsequently be initialized by a call to {@link #initCause(Throwable)}.
+     * 
+     * @param messageType
+     *            The message type of the failed check
+     * @param inverted
+     *            Whether the failed check was inverted
+     * @param msgArgs
+     *            The message arguments, which are used to format the message
+     *            later on. The array is not modified.
+     */
+    public LazyIllegalArgumentException(final MessageType messageType,
+            final boolean inverted, final Object[] msgArgs) {
+        this.messageType = messageType;
+        this.inverted = inverted;
+        this.msgArgs = Exceptions.snapshotMsgArgs(msgArgs);
+    }
+    
+    /**
+     * Constructs a new exception for the given message type, inversion flag,
+     * message arguments and cause.
+     * 
+     * @param messageType
+     *            The message type of the failed check
+     * @param inverted
+     *            Whether the failed check was inverted
+     * @param msgArgs
+     *            The message arguments, which are used to format the message
+     *            later on. The array is not modified.
+     * @param cause
+     *            The cause of the exception
+     */
+    public LazyIllegalArgumentException(final MessageType messageType,
+            final boolean inverted, final Object[] msgArgs,
+            final Throwable cause) {
+        super(null, cause);
+        this.messageType = messageType;
+        this.inverted = inverted;
+        this.msgArgs = Exceptions.snapshotMsgArgs(msgArgs);
+    }
+    
+    /**
+     * Returns the message type of the failed check.
+     * 
+     * @return The message type
+     */
+    public MessageType getMessageType() {
+        return messageType;
+    }
+    
+    /**
+     * Indicates whether the failed check was inverted (using
+     * <code>not()</code>).
+     * 
+     * @return <code>true</code> if the check was inverted
+     */
+    public boolean isInverted() {
+        return inverted;
+    }
+    
+    /**
+     * Returns the exception message, formatting it on the first call.
+     * 
+     * @return The exception message
+     * @see Exceptions#formatMsg(MessageType, boolean, Object...)
+     */
+    @Override
+    public synchronized String getMessage() {
+        if(message == null) {
+            message = Exceptions.formatSnapshotMsg(messageType, inverted,
+                    msgArgs);
+            msgArgs = null;
+        }
+        return message;
+    }
+    
+    /**
+     * Fills in the stack trace, unless the
+     * {@linkplain Config#getStackTraceMode() stack trace mode} is
+     * {@link StackTraceMode#NONE}.
+     * 
+     * @return This exception
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        if(Config.getConfig().getStackTraceMode() == StackTraceMode.NONE)
+            return this;
+        return super.fillInStackTrace();
+    }
+    
+    @Override
+    public StackTraceElement[] getStackTrace() {
+        cleanUpStackTrace();
+        return super.getStackTrace();
+    }
+    
+    @Override
+    public synchronized void setStackTrace(final StackTraceElement[] stackTrace) {
+        super.setStackTrace(stackTrace);
+        stackTraceCleaned = true;
+    }
+    
+    /* The printStackTrace methods do not use getStackTrace(), so they need to
+     * make sure the stack trace has been cleaned before */
+    
+    @Override
+    public void printStackTrace(final PrintStream s) {
+        cleanUpStackTrace();
+        super.printStackTrace(s);
+    }
+    
+    @Override
+    public void printStackTrace(final PrintWriter s) {
+        cleanUpStackTrace();
+        super.printStackTrace(s);
+    }
+    
+    /**
+     * Formats the message and cleans the stack trace before serialization, so
+     * that the serialized form contains the same information as the one of an
+     * eagerly created exception.
+     * 
+     * @return This exception
+     */
+    protected Object writeReplace() {
+        getMessage();
+        cleanUpStackTrace();
+        return this;
+    }
+    
+    /* Implementation methods */
+    
+    private synchronized void cleanUpStackTrace() {
+        if(!stackTraceCleaned) {
+            if(Config.getConfig().isCleanStackTracesEnabled())
+                super.setStackTrace(StackTraces.clean(super.getStackTrace()));
+            stackTraceCleaned = true;
+        }
+    }
+}
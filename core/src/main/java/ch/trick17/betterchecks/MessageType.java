@@ -43,21 +43,48 @@ public enum MessageType {
     ARG_CONTAINS_NULL_VALUES("%s must +(not )+contain any null values (value: %s)"),
     ARG_MATCHES("%s must -(not )-match the regex pattern \"%s\" (value: %s)"),
     ARG_URL("%s must -(not )-be a valid url (value: %s)"),
+    ARG_URL_PROTOCOL(
+            "%s must -(not )-be a valid url with one of the following protocols: %s (value: %s)"),
+    ARG_HOST_IN("%s must -(not )-be a host in %s (value: %s)"),
+    ARG_IP_ADDRESS("%s must -(not )-be a valid IP address (value: %s)"),
+    ARG_IN_CIDR_RANGES("%s must -(not )-be an IP address in %s (value: %s)"),
     ARG_INT("%s must -(not )-be a valid integer between " + Integer.MIN_VALUE
             + " and " + Integer.MAX_VALUE + " (value: %s)"),
+    ARG_LONG("%s must -(not )-be a valid integer between " + Long.MIN_VALUE
+            + " and " + Long.MAX_VALUE + " (value: %s)"),
+    ARG_DOUBLE("%s must -(not )-be a valid floating-point number (value: %s)"),
     ARG_POSITIVE("%s must -(not )-be positive (value: %s)"),
     ARG_NEGATIVE("%s must -(not )-be negative (value: %s)"),
     ARG_IS("%s must -(not )-be equal to %s (value: %s)"),
     ARG_GREATER("%s must -(not )-be greater than %s (value: %s)"),
     ARG_LESS("%s must -(not )-be less than %s (value: %s)"),
     ARG_BETWEEN("%s must -(not )-be between %s and %s (value: %s)"),
+    ARG_IN_RANGE("%s must -(not )-be in the range %s (value: %s)"),
     ARG_INDEX(
             "%s must -(not )-be a valid index for a list or array of size %s (value: %s)"),
     ARG_NAN("%s must +(not )+be NaN"),
     ARG_NUMBER("%s must -(not )-be a number (+(not )+NaN)"),
     ARG_FINITE("%s must -(not )-be finite (value: %s)"),
     ARG_INFINITE("%s must +(not )+be infinite (value: %s)"),
-    ARG_PROTOCOL("%s must -(not )-have the protocol %s (value: %s)");
+    ARG_SCALE_AT_MOST(
+            "%s must -(not )-have a scale of at most %d (value: %s)"),
+    ARG_PRECISION_AT_MOST(
+            "%s must -(not )-have a precision of at most %d (value: %s)"),
+    ARG_ALL_BETWEEN(
+            "%s must -(not )-contain only elements between %s and %s+( (element %d: %s))+"),
+    ARG_ALL_FINITE(
+            "%s must -(not )-contain only finite elements+( (element %d: %s))+"),
+    ARG_ALL_POSITIVE(
+            "%s must -(not )-contain only positive elements+( (element %d: %s))+"),
+    ARG_ALL_OTHER_THAN(
+            "%s must -(not )-contain only elements other than %s+( (element %d: %s))+"),
+    ARG_PROTOCOL("%s must -(not )-have the protocol %s (value: %s)"),
+    ARG_SCHEME("%s must -(not )-have the scheme %s (value: %s)"),
+    ARG_HAS_HOST_IN("%s must -(not )-have a host in %s (value: %s)"),
+    ARG_IP_ADDRESS_HOST(
+            "%s must -(not )-have an IP address as host (value: %s)"),
+    ARG_HAS_HOST_IN_CIDR_RANGES(
+            "%s must -(not )-have an IP address host in %s (value: %s)");
     
     private final String defaultFormat;
     
@@ -0,0 +1,41 @@
+package ch.trick17.betterchecks;
+
+import ch.trick17.betterchecks.util.GwtCompatible;
+
+/**
+ * The StackTraceMode enum defines how the stack traces of the exceptions thrown
+ * by failing checks are created. The mode can be set in the config file. See
+ * {@link Config#getStackTraceMode()} for more information.
+ * 
+ * @author Michael Faes
+ */
+@GwtCompatible
+public enum StackTraceMode {
+    
+    /**
+     * Exceptions have their full stack trace, including the frames of the
+     * Better Checks library.
+     */
+    FULL,
+    
+    /**
+     * Exceptions have a stack trace without the frames of the Better Checks
+     * library on top, so they look as if they were thrown by the method using
+     * the checks itself. See the documentation of {@link Check} for more
+     * information. This is the default.
+     */
+    CLEANED,
+    
+    /**
+     * Exceptions have no stack trace at all. The stack is not even walked when
+     * the exceptions are created, which makes failing checks considerably
+     * cheaper, in particular when they are called from deep stacks. Use this
+     * mode if checks are expected to fail frequently (e.g., when validating
+     * untrusted input) and the stack traces are never needed.
+     * <p>
+     * Note that the thrown exceptions are (non-public) subclasses of the usual
+     * exception types, e.g., {@link IllegalArgumentException}, so they can
+     * still be caught in the same way.
+     */
+    NONE;
+}
@@ -0,0 +1,67 @@
+package ch.trick17.betterchecks;
+
+import java.util.Arrays;
+
+/**
+ * Internal helper class that inspects stack traces with respect to the frames
+ * that belong to the Better Checks library, as defined in the documentation of
+ * the {@link Exceptions} class.
+ * <p>
+ * Finding the call site in the current stack is delegated to
+ * {@link CallSites}, which has a separate implementation for Java 9 and later.
+ * Cleaning an already captured stack trace is the same on all versions:
+ * Capturing the full stack using a <code>StackWalker</code> instead of
+ * {@link Throwable#getStackTrace()} is about twice as slow, since
+ * materializing the {@link StackTraceElement}s is what dominates the cost in
+ * both cases.
+ * 
+ * @author Michael Faes
+ */
+final class StackTraces {
+    
+    private StackTraces() {}
+    
+    private static final String BASE_PACKAGE = Check.class.getPackage()
+            .getName();
+    
+    /**
+     * Returns the given stack trace without the stack frames on top that belong
+     * to the Better Checks library.
+     * 
+     * @param trace
+     *            The stack trace to clean
+     * @return The cleaned stack trace
+     */
+    static StackTraceElement[] clean(final StackTraceElement[] trace) {
+        int index = 0;
+        while(index < trace.length
+                && isLibraryClass(trace[index].getClassName()))
+            index++;
+        return Arrays.copyOfRange(trace, index, trace.length);
+    }
+    
+    /**
+     * Returns the topmost frame of the current stack that does not belong to
+     * the Better Checks library, i.e., the frame of the method that called into
+     * the library.
+     * 
+     * @return The call site, or <code>null</code> if the whole stack belongs to
+     *         the library
+     */
+    static StackTraceElement callSite() {
+        return CallSites.find();
+    }
+    
+    /**
+     * Indicates whether the class with the given name is part of the Better
+     * Checks library.
+     * 
+     * @param className
+     *            The fully qualified name of the class
+     * @return <code>true</code> if the class is part of the library
+     */
+    static boolean isLibraryClass(final String className) {
+        return className.startsWith(BASE_PACKAGE)
+                && !className.endsWith("Test");
+    }
+}
@@ -0,0 +1,28 @@
+package ch.trick17.betterchecks;
+
+/**
+ * An {@link IllegalArgumentException} without a stack trace, used if the
+ * {@link StackTraceMode} is {@link StackTraceMode#NONE} and by the exception
+ * storm protection (see {@link Config#getStormThreshold()}). Filling in the
+ * stack trace is skipped, which is what makes creating an exception expensive.
+ * 
+ * @author Michael Faes
+ */
+final class StacklessIllegalArgumentException extends IllegalArgumentException {
+    
+    private static final long serialVersionUID = 2931045812957034178L;
+    
+    StacklessIllegalArgumentException(final String message) {
+        super(message);
+    }
+    
+    StacklessIllegalArgumentException(final String message,
+            final Throwable cause) {
+        super(message, cause);
+    }
+    
+    @Override
+    public Throwable fillInStackTrace() {
+        return this;
+    }
+}
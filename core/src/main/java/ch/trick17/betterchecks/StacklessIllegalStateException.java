@@ -0,0 +1,22 @@
+package ch.trick17.betterchecks;
+
+/**
+ * An {@link IllegalStateException} without a stack trace, used if the
+ * {@link StackTraceMode} is {@link StackTraceMode#NONE}. Filling in the stack
+ * trace is skipped, which is what makes creating an exception expensive.
+ * 
+ * @author Michael Faes
+ */
+final class StacklessIllegalStateException extends IllegalStateException {
+    
+    private static final long serialVersionUID = -6270434918360517823L;
+    
+    StacklessIllegalStateException(final String message) {
+        super(message);
+    }
+    
+    @Override
+    public Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -1,16 +1,19 @@
 package ch.trick17.betterchecks.fluent;
 
 import static ch.trick17.betterchecks.Exceptions.defaultArgName;
+import static ch.trick17.betterchecks.Exceptions.illegalArgumentException;
 
+import ch.trick17.betterchecks.Check;
 import ch.trick17.betterchecks.Exceptions;
 import ch.trick17.betterchecks.InvalidCheckException;
+import ch.trick17.betterchecks.MessageType;
 import ch.trick17.betterchecks.util.GwtCompatible;
 
 /**
  * The base class for <em>all</em> checks. It manages the state common to all
- * checks: the argument name and the inverted flag. This class has two abstract
- * subclasses which all concrete checks inherit from: {@link ObjectBaseCheck}
- * and {@link PrimitiveBaseCheck}.
+ * checks: the argument name, the inverted flag and, for checks in test mode,
+ * the test outcome. This class has two abstract subclasses which all concrete
+ * checks inherit from: {@link ObjectBaseCheck} and {@link PrimitiveBaseCheck}.
  * 
  * @author Michael Faes
  * @param <C>
@@ -23,11 +26,27 @@ import ch.trick17.betterchecks.util.GwtCompatible;
 public abstract class BaseCheck<C extends BaseCheck<C>> {
     
     /**
-     * The argument name. It is initialized as
-     * {@link Exceptions#defaultArgName()} and can be changed using the
-     * {@link #named(String)} modifier method.
+     * A placeholder for the argument name in the message arguments of a check.
+     * Check methods must always pass it as the <em>first</em> message
+     * argument. When the check fails, it is replaced by the name returned by
+     * {@link #argName()}. Like this, the default argument name is only
+     * determined when a check actually fails, so passing checks never access
+     * the configuration.
      */
-    protected String argName = defaultArgName();
+    protected static final Object ARG_NAME = new Object() {
+        @Override
+        public String toString() {
+            return "(argument name)";
+        }
+    };
+    
+    /* The argument name, as set using named(), or null if the argument has not
+     * been named. Check methods use ARG_NAME or argName() instead. */
+    String argName;
+    
+    /* The prefix of the default argument name for property checks of unnamed
+     * arguments, e.g., "the length of ", or null */
+    String defaultArgNamePrefix;
     
     /**
      * The inverted flag. If it is <code>true</code>, the condition of the next
@@ -38,19 +57,40 @@ public abstract class BaseCheck<C extends BaseCheck<C>> {
      */
     protected boolean inverted = false;
     
+    /**
+     * The outcome of the checks if this check is in test mode, or
+     * <code>null</code> in the normal mode, in which failing checks throw
+     * exceptions. The outcome is shared with all checks derived from this one,
+     * like property checks or conversions.
+     * 
+     * @see #inTestMode()
+     */
+    TestOutcome outcome;
+    
+    /**
+     * Indicates that this check object has been released by the
+     * <code>CheckPool</code> because another check of the same class was
+     * requested on the same thread. This is only ever set if the reuse guard
+     * is enabled (see
+     * {@link ch.trick17.betterchecks.Config#isReuseGuardEnabled()}).
+     */
+    boolean released;
+    
     /* Modifier methods */
     
     /**
      * Gives the argument to be checked a name. This name is used to provide
      * more meaningful exception messages in case a check fails. This modifier
-     * should be called before any of the checks. Otherwise, the default
-     * argument name (given by {@link Exceptions#defaultArgName()}) is used.
+     * should be called before any of the checks. Otherwise (or if the given
+     * name is <code>null</code>), the default argument name (given by
+     * {@link Exceptions#defaultArgName()}) is used.
      * 
      * @param argumentName
      *            The name of the argument to be checked
      * @return This check
      */
     public final C named(final String argumentName) {
+        checkNotReleased();
         this.argName = argumentName;
         return me();
     }
@@ -69,10 +109,78 @@ public abstract class BaseCheck<C extends BaseCheck<C>> {
      * @return This check
      */
     public final C not() {
+        checkNotReleased();
         inverted = !inverted;
         return me();
     }
     
+    /**
+     * Switches this check into test mode. In test mode, failing checks do not
+     * throw exceptions. Instead, the first failure is recorded and all
+     * subsequent checks are skipped. Whether the checks passed can be queried
+     * at the end of the chain, using {@link #passes()}, {@link #getFailure()}
+     * and {@link #getFailureMessage()}:
+     * <p>
+     * <code>if(Check.test(name).isNotEmpty().hasLengthBetween(1, 20)
+     * .passes())</code>
+     * <p>
+     * A failing check costs about the same as a passing one in this mode: No
+     * exception is created, and the message is only formatted if it is
+     * explicitly requested. Instead of calling this modifier, the
+     * <code>Check.test(...)</code> methods may be used, for example
+     * {@link Check#test(String)}.
+     * 
+     * @return This check
+     */
+    public final C inTestMode() {
+        checkNotReleased();
+        if(outcome == null)
+            outcome = new TestOutcome();
+        return me();
+    }
+    
+    /* Test mode queries */
+    
+    /**
+     * Indicates whether all checks performed so far have passed. This is only
+     * useful for checks in {@linkplain #inTestMode() test mode}. For checks in
+     * the normal mode, it always returns <code>true</code>, as a failure would
+     * have resulted in an exception.
+     * 
+     * @return <code>true</code> if no check has failed
+     */
+    public final boolean passes() {
+        checkNotReleased();
+        return outcome == null || outcome.msgType == null;
+    }
+    
+    /**
+     * Returns the message type of the first failed check, if this check is in
+     * {@linkplain #inTestMode() test mode}.
+     * 
+     * @return The message type of the failure, or <code>null</code> if no
+     *         check has failed
+     */
+    public final MessageType getFailure() {
+        checkNotReleased();
+        return outcome == null ? null : outcome.msgType;
+    }
+    
+    /**
+     * Returns the message of the exception that the first failed check would
+     * have thrown in the normal mode, if this check is in
+     * {@linkplain #inTestMode() test mode}. The message is formatted only when
+     * this method is called.
+     * 
+     * @return The failure message, or <code>null</code> if no check has failed
+     */
+    public final String getFailureMessage() {
+        if(passes())
+            return null;
+        return Exceptions.formatMsg(outcome.msgType, outcome.inverted,
+                outcome.msgArgs);
+    }
+    
     /**
      * Asserts that the check is not inverted, throwing an
      * {@link InvalidCheckException} otherwise. This should be done before each
@@ -86,6 +194,149 @@ public abstract class BaseCheck<C extends BaseCheck<C>> {
     
     /* Implementation methods */
     
+    /**
+     * Returns the argument name to be used in exception messages. This is the
+     * name set with {@link #named(String)} or, if there is none, the default
+     * argument name given by {@link Exceptions#defaultArgName()} (possibly
+     * prefixed, for property checks). Note that determining the default name
+     * requires the configuration to be loaded, so check methods should pass
+     * {@link #ARG_NAME} as message argument instead of calling this method.
+     * 
+     * @return The argument name
+     */
+    protected final String argName() {
+        if(argName != null)
+            return argName;
+        final String defaultName = defaultArgName();
+        return defaultArgNamePrefix == null ? defaultName
+                : defaultArgNamePrefix + defaultName;
+    }
+    
+    /**
+     * Throws an {@link InvalidCheckException} if this check object has been
+     * {@linkplain #released released}. This must be done at the start of all
+     * public methods, which is usually taken care of by the helper methods.
+     */
+    final void checkNotReleased() {
+        if(released)
+            throw new InvalidCheckException(
+                    "This check object has been reused for another argument. With check reuse enabled, check objects must not be used after another check of the same class has been requested.");
+    }
+    
+    /**
+     * Resets the state of this check object to that of a newly created one,
+     * so that the <code>CheckPool</code> can reuse it. Subclasses with
+     * additional state must override this method (and call it).
+     */
+    void reset() {
+        argName = null;
+        defaultArgNamePrefix = null;
+        inverted = false;
+        outcome = null;
+    }
+    
+    /**
+     * Indicates whether a check is to be skipped, which is the case if this
+     * check is in test mode and a previous check has already failed.
+     * 
+     * @return <code>true</code> if checks should not be performed anymore
+     */
+    protected final boolean skipped() {
+        return outcome != null && outcome.msgType != null;
+    }
+    
+    /**
+     * Handles the failure of a check. In the normal mode, an
+     * {@link IllegalArgumentException} is thrown, with a message formatted
+     * using the format belonging to the given message type and the given
+     * message arguments. In test mode, the failure is recorded instead.
+     * 
+     * @param msgType
+     *            The message type of the failed check
+     * @param invertedMsg
+     *            Whether the inverted message format is to be used
+     * @param msgArgs
+     *            The arguments for the exception message, starting with
+     *            {@link #ARG_NAME}
+     */
+    protected final void fail(final MessageType msgType,
+            final boolean invertedMsg, final Object[] msgArgs) {
+        resolveArgName(msgArgs);
+        if(outcome == null)
+            throw illegalArgumentException(msgType, invertedMsg, msgArgs);
+        outcome.record(msgType, invertedMsg, msgArgs);
+    }
+    
+    /**
+     * The same as {@link #fail(MessageType, boolean, Object[])}, but with the
+     * possibility to define a cause for the exception that is thrown in the
+     * normal mode.
+     * 
+     * @param msgType
+     *            The message type of the failed check
+     * @param invertedMsg
+     *            Whether the inverted message format is to be used
+     * @param msgArgs
+     *            The arguments for the exception message, starting with
+     *            {@link #ARG_NAME}
+     * @param cause
+     *            The cause for the exception
+     */
+    protected final void fail(final MessageType msgType,
+            final boolean invertedMsg, final Object[] msgArgs,
+            final Throwable cause) {
+        resolveArgName(msgArgs);
+        if(outcome == null)
+            throw illegalArgumentException(msgType, invertedMsg, msgArgs,
+                    cause);
+        outcome.record(msgType, invertedMsg, msgArgs);
+    }
+    
+    private void resolveArgName(final Object[] msgArgs) {
+        if(msgArgs.length > 0 && msgArgs[0] == ARG_NAME)
+            msgArgs[0] = argName();
+    }
+    
+    /**
+     * Lets the given check, which is a conversion of this one (like
+     * {@link StringCheck#isIntWhich()}), share the argument name and the test
+     * outcome of this check. This must be done for all conversions, so that
+     * checks in test mode stay in test mode.
+     * 
+     * @param check
+     *            The converted check
+     * @return The given check
+     */
+    protected final <D extends BaseCheck<D>> D derive(final D check) {
+        check.outcome = outcome;
+        check.argName = argName;
+        check.defaultArgNamePrefix = defaultArgNamePrefix;
+        return check;
+    }
+    
+    /**
+     * Lets the given check, which is a property check of this one (like
+     * {@link StringCheck#hasLengthWhich()}), share the test outcome of this
+     * check and gives it an argument name like "the length of the argument".
+     * 
+     * @param check
+     *            The property check
+     * @param propertyName
+     *            The name of the property
+     * @return The given check
+     */
+    protected final <D extends BaseCheck<D>> D derive(final D check,
+            final String propertyName) {
+        check.outcome = outcome;
+        final String prefix = "the " + propertyName + " of ";
+        if(argName != null)
+            check.argName = prefix + argName;
+        else
+            check.defaultArgNamePrefix = defaultArgNamePrefix == null ? prefix
+                    : prefix + defaultArgNamePrefix;
+        return check;
+    }
+    
     /**
      * Simply casts this check to the <code>C</code> type parameter (which
      * should always be equal to the class of the concrete check).
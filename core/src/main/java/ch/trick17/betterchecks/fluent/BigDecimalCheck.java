@@ -0,0 +1,190 @@
+package ch.trick17.betterchecks.fluent;
+
+import static ch.trick17.betterchecks.MessageType.*;
+
+import java.math.BigDecimal;
+
+import ch.trick17.betterchecks.MessageType;
+import ch.trick17.betterchecks.util.GwtCompatible;
+import ch.trick17.betterchecks.util.Range;
+
+/**
+ * The check class for {@link BigDecimal} arguments. Unlike the more general
+ * {@link NumberCheck}, this class compares the argument directly to other
+ * BigDecimals, using {@link BigDecimal#compareTo(BigDecimal) compareTo}, so
+ * the checks do not need to find out what kind of numbers they are dealing
+ * with and never convert the argument. This makes this class well-suited for
+ * the validation of amounts of money, for example:
+ * <p>
+ * <code>Check.that(amount).isGreaterThan(BigDecimal.ZERO).hasScaleAtMost(2);</code>
+ * <p>
+ * Like all checks that use <code>compareTo</code>, the checks of this class
+ * consider two BigDecimals with the same value but a different scale (like
+ * <code>2.0</code> and <code>2.00</code>) to be equal.
+ * <p>
+ * For compatibility with {@link NumberCheck}, there are also versions of the
+ * comparison checks that take an arbitrary {@link Number}, like
+ * {@link #isBetween(Number, Number)}. These compare the argument as
+ * described in the {@link NumberCheck} documentation.
+ * 
+ * @author Michael Faes
+ */
+@GwtCompatible
+public final class BigDecimalCheck extends
+        ComparableBaseCheck<BigDecimal, BigDecimalCheck> {
+    
+    /**
+     * For internal use only.
+     */
+    public BigDecimalCheck(BigDecimal arg) {
+        super(arg);
+    }
+    
+    /**
+     * Checks that the argument is positive, throwing an exception otherwise.
+     * Note that zero is not a valid number. Often, you want to check that a
+     * number is non-negative. Use the inverted {@link #isNegative()} check for
+     * that:
+     * <p>
+     * <code>Check.that(amount).not().isNegative();</code>
+     * <p>
+     * The message type used for exceptions thrown by this method is
+     * {@link MessageType#ARG_POSITIVE}.
+     * 
+     * @return This check
+     * @throws IllegalArgumentException
+     *             if argument is not positive
+     * @see #isNegative()
+     */
+    public BigDecimalCheck isPositive() {
+        return check(arg == null || arg.signum() == 1, ARG_POSITIVE, ARG_NAME,
+                arg);
+    }
+    
+    /**
+     * Checks that the argument is negative, throwing an exception otherwise.
+     * <p>
+     * The message type used for exceptions thrown by this method is
+     * {@link MessageType#ARG_NEGATIVE}.
+     * 
+     * @return This check
+     * @throws IllegalArgumentException
+     *             if argument is not negative
+     * @see #isPositive()
+     */
+    public BigDecimalCheck isNegative() {
+        return check(arg == null || arg.signum() == -1, ARG_NEGATIVE, ARG_NAME,
+                arg);
+    }
+    
+    /**
+     * Checks that the {@linkplain BigDecimal#scale() scale} of the argument
+     * (the number of digits to the right of the decimal point) is less than or
+     * equal to the given value, throwing an exception otherwise. For example,
+     * an amount of money in a currency with cents should have a scale of at
+     * most 2:
+     * <p>
+     * <code>Check.that(amount).hasScaleAtMost(2);</code>
+     * <p>
+     * Note that the scale is a property of the representation of the number,
+     * not of its value. For example, <code>1.50</code> has a scale of 2, while
+     * <code>1.5</code> has a scale of 1. This check does not strip any
+     * trailing zeros; if this is desired, use
+     * {@link BigDecimal#stripTrailingZeros() stripTrailingZeros} first.
+     * <p>
+     * The message type used for exceptions thrown by this method is
+     * {@link MessageType#ARG_SCALE_AT_MOST}.
+     * 
+     * @param maxScale
+     *            The maximum scale
+     * @return This check
+     * @throws IllegalArgumentException
+     *             if the scale of the argument is greater than the given value
+     */
+    public BigDecimalCheck hasScaleAtMost(final int maxScale) {
+        return check(arg == null || arg.scale() <= maxScale,
+                ARG_SCALE_AT_MOST, ARG_NAME, maxScale, arg);
+    }
+    
+    /**
+     * Checks that the {@linkplain BigDecimal#precision() precision} of the
+     * argument (the number of digits in its unscaled value) is less than or
+     * equal to the given value, throwing an exception otherwise. This is
+     * useful to check whether a number fits into a database column of type
+     * <code>DECIMAL(p, s)</code>, together with {@link #hasScaleAtMost(int)}.
+     * <p>
+     * The message type used for exceptions thrown by this method is
+     * {@link MessageType#ARG_PRECISION_AT_MOST}.
+     * <p>
+     * <strong>Implementation note:</strong> The precision is computed (and
+     * cached) by the BigDecimal itself, which does not convert the number to a
+     * string.
+     * 
+     * @param maxPrecision
+     *            The maximum precision
+     * @return This check
+     * @throws IllegalArgumentException
+     *             if the precision of the argument is greater than the given
+     *             value
+     */
+    public BigDecimalCheck hasPrecisionAtMost(final int maxPrecision) {
+        return check(arg == null || arg.precision() <= maxPrecision,
+                ARG_PRECISION_AT_MOST, ARG_NAME, maxPrecision, arg);
+    }
+    
+    /**
+     * Checks that the argument is in the given {@link Range}, throwing an
+     * exception otherwise. The bounds of the range are converted to
+     * BigDecimals only once, when the range is created.
+     * <p>
+     * The message type used for exceptions thrown by this method is
+     * {@link MessageType#ARG_IN_RANGE}.
+     * 
+     * @param range
+     *            The range
+     * @return This check
+     * @throws IllegalArgumentException
+     *             if argument is not in the given range
+     */
+    public BigDecimalCheck isIn(final Range range) {
+        return check(arg == null || range.contains(arg), ARG_IN_RANGE,
+                ARG_NAME, range, arg);
+    }
+    
+    /**
+     * The same as {@link NumberCheck#is(Number)}.
+     */
+    @SuppressWarnings("javadoc")
+    public BigDecimalCheck is(final Number number) {
+        return check(arg == null || NumberCheck.compare(arg, number) == 0,
+                ARG_IS, ARG_NAME, number, arg);
+    }
+    
+    /**
+     * The same as {@link NumberCheck#isGreaterThan(Number)}.
+     */
+    @SuppressWarnings("javadoc")
+    public BigDecimalCheck isGreaterThan(final Number number) {
+        return check(arg == null || NumberCheck.compare(arg, number) > 0,
+                ARG_GREATER, ARG_NAME, number, arg);
+    }
+    
+    /**
+     * The same as {@link NumberCheck#isLessThan(Number)}.
+     */
+    @SuppressWarnings("javadoc")
+    public BigDecimalCheck isLessThan(final Number number) {
+        return check(arg == null || NumberCheck.compare(arg, number) < 0,
+                ARG_LESS, ARG_NAME, number, arg);
+    }
+    
+    /**
+     * The same as {@link NumberCheck#isBetween(Number, Number)}.
+     */
+    @SuppressWarnings("javadoc")
+    public BigDecimalCheck isBetween(final Number min, final Number max) {
+        return check(arg == null || (NumberCheck.compare(arg, min) >= 0
+                && NumberCheck.compare(arg, max) <= 0), ARG_BETWEEN, ARG_NAME,
+                min, max, arg);
+    }
+}
@@ -0,0 +1,127 @@
+package ch.trick17.betterchecks.fluent;
+
+import static ch.trick17.betterchecks.MessageType.*;
+
+import java.math.BigInteger;
+
+import ch.trick17.betterchecks.MessageType;
+import ch.trick17.betterchecks.util.GwtCompatible;
+import ch.trick17.betterchecks.util.Range;
+
+/**
+ * The check class for {@link BigInteger} arguments. Unlike the more general
+ * {@link NumberCheck}, this class compares the argument directly to other
+ * BigIntegers, using {@link BigInteger#compareTo(BigInteger) compareTo}, so
+ * the checks do not need to find out what kind of numbers they are dealing
+ * with and never convert the argument.
+ * <p>
+ * For compatibility with {@link NumberCheck}, there are also versions of the
+ * comparison checks that take an arbitrary {@link Number}, like
+ * {@link #isBetween(Number, Number)}. These compare the argument as
+ * described in the {@link NumberCheck} documentation.
+ * 
+ * @author Michael Faes
+ */
+@GwtCompatible
+public final class BigIntegerCheck extends
+        ComparableBaseCheck<BigInteger, BigIntegerCheck> {
+    
+    /**
+     * For internal use only.
+     */
+    public BigIntegerCheck(BigInteger arg) {
+        super(arg);
+    }
+    
+    /**
+     * Checks that the argument is positive, throwing an exception otherwise.
+     * Note that zero is not a valid number. Often, you want to check that a
+     * number is non-negative. Use the inverted {@link #isNegative()} check for
+     * that:
+     * <p>
+     * <code>Check.that(number).not().isNegative();</code>
+     * <p>
+     * The message type used for exceptions thrown by this method is
+     * {@link MessageType#ARG_POSITIVE}.
+     * 
+     * @return This check
+     * @throws IllegalArgumentException
+     *             if argument is not positive
+     * @see #isNegative()
+     */
+    public BigIntegerCheck isPositive() {
+        return check(arg == null || arg.signum() == 1, ARG_POSITIVE, ARG_NAME,
+                arg);
+    }
+    
+    /**
+     * Checks that the argument is negative, throwing an exception otherwise.
+     * <p>
+     * The message type used for exceptions thrown by this method is
+     * {@link MessageType#ARG_NEGATIVE}.
+     * 
+     * @return This check
+     * @throws IllegalArgumentException
+     *             if argument is not negative
+     * @see #isPositive()
+     */
+    public BigIntegerCheck isNegative() {
+        return check(arg == null || arg.signum() == -1, ARG_NEGATIVE, ARG_NAME,
+                arg);
+    }
+    
+    /**
+     * Checks that the argument is in the given {@link Range}, throwing an
+     * exception otherwise.
+     * <p>
+     * The message type used for exceptions thrown by this method is
+     * {@link MessageType#ARG_IN_RANGE}.
+     * 
+     * @param range
+     *            The range
+     * @return This check
+     * @throws IllegalArgumentException
+     *             if argument is not in the given range
+     */
+    public BigIntegerCheck isIn(final Range range) {
+        return check(arg == null || range.contains(arg), ARG_IN_RANGE,
+                ARG_NAME, range, arg);
+    }
+    
+    /**
+     * The same as {@link NumberCheck#is(Number)}.
+     */
+    @SuppressWarnings("javadoc")
+    public BigIntegerCheck is(final Number number) {
+        return check(arg == null || NumberCheck.compare(arg, number) == 0,
+                ARG_IS, ARG_NAME, number, arg);
+    }
+    
+    /**
+     * The same as {@link NumberCheck#isGreaterThan(Number)}.
+     */
+    @SuppressWarnings("javadoc")
+    public BigIntegerCheck isGreaterThan(final Number number) {
+        return check(arg == null || NumberCheck.compare(arg, number) > 0,
+                ARG_GREATER, ARG_NAME, number, arg);
+    }
+    
+    /**
+     * The same as {@link NumberCheck#isLessThan(Number)}.
+     */
+    @SuppressWarnings("javadoc")
+    public BigIntegerCheck isLessThan(final Number number) {
+        return check(arg == null || NumberCheck.compare(arg, number) < 0,
+                ARG_LESS, ARG_NAME, number, arg);
+    }
+    
+    /**
+     * The same as {@link NumberCheck#isBetween(Number, Number)}.
+     */
+    @SuppressWarnings("javadoc")
+    public BigIntegerCheck isBetween(final Number min, final Number max) {
+        return check(arg == null || (NumberCheck.compare(arg, min) >= 0
+                && NumberCheck.compare(arg, max) <= 0), ARG_BETWEEN, ARG_NAME,
+                min, max, arg);
+    }
+}
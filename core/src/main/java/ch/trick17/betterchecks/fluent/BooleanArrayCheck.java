@@ -0,0 +1,49 @@
+package ch.trick17.betterchecks.fluent;
+
+import static ch.trick17.betterchecks.MessageType.ARG_ALL_OTHER_THAN;
+
+import ch.trick17.betterchecks.MessageType;
+import ch.trick17.betterchecks.util.ArrayScans;
+import ch.trick17.betterchecks.util.GwtCompatible;
+
+/**
+ * The check class for <code>boolean[]</code> arguments. In addition to the
+ * length checks of {@link PrimitiveArrayBaseCheck}, it provides checks for the
+ * elements of the array.
+ * 
+ * @author Michael Faes
+ */
+@GwtCompatible
+public final class BooleanArrayCheck extends
+        PrimitiveArrayBaseCheck<boolean[], BooleanArrayCheck> {
+    
+    /**
+     * For internal use only.
+     */
+    public BooleanArrayCheck(boolean[] arg) {
+        super(arg, arg == null ? -1 : arg.length);
+    }
+    
+    /**
+     * Checks that no element of the array argument is equal to the given
+     * value, throwing an exception otherwise. For example, the following
+     * checks that all elements are <code>true</code>:
+     * <p>
+     * <code>Check.that(flags).noElementIs(false);</code>
+     * <p>
+     * The message type used for exceptions thrown by this method is
+     * {@link MessageType#ARG_ALL_OTHER_THAN}.
+     * 
+     * @param value
+     *            The value no element should be equal to
+     * @return This check
+     * @throws IllegalArgumentException
+     *             if an element of the array argument is equal to the given
+     *             value
+     */
+    public BooleanArrayCheck noElementIs(final boolean value) {
+        final int index = arg == null ? -1 : ArrayScans.indexOf(arg, value);
+        return check(index < 0, ARG_ALL_OTHER_THAN, ARG_NAME, value, index,
+                index < 0 ? null : arg[index]);
+    }
+}
@@ -0,0 +1,77 @@
+package ch.trick17.betterchecks.fluent;
+
+import static ch.trick17.betterchecks.MessageType.ARG_ALL_BETWEEN;
+import static ch.trick17.betterchecks.MessageType.ARG_ALL_OTHER_THAN;
+
+import ch.trick17.betterchecks.MessageType;
+import ch.trick17.betterchecks.util.ArrayScans;
+import ch.trick17.betterchecks.util.GwtCompatible;
+
+/**
+ * The check class for <code>char[]</code> arguments. In addition to the
+ * length checks of {@link PrimitiveArrayBaseCheck}, it provides checks for the
+ * elements of the array.
+ * 
+ * @author Michael Faes
+ */
+@GwtCompatible
+public final class CharArrayCheck extends
+        PrimitiveArrayBaseCheck<char[], CharArrayCheck> {
+    
+    /**
+     * For internal use only.
+     */
+    public CharArrayCheck(char[] arg) {
+        super(arg, arg == null ? -1 : arg.length);
+    }
+    
+    /**
+     * Checks that all elements of the array argument are between the two given
+     * characters (inclusive), throwing an exception otherwise. For example:
+     * <p>
+     * <code>Check.that(digits).allElementsBetween('0', '9');</code>
+     * <p>
+     * The characters are compared by their numeric values (UTF-16 code
+     * units).
+     * <p>
+     * Empty arrays always pass this check.
+     * <p>
+     * The message type used for exceptions thrown by this method is
+     * {@link MessageType#ARG_ALL_BETWEEN}.
+     * 
+     * @param min
+     *            The minimum value of the elements
+     * @param max
+     *            The maximum value
+     * @return This check
+     * @throws IllegalArgumentException
+     *             if an element of the array argument is strictly less than
+     *             <code>min</code> or strictly greater than <code>max</code>
+     */
+    public CharArrayCheck allElementsBetween(final char min, final char max) {
+        final int index = arg == null ? -1 : ArrayScans.firstNotBetween(arg,
+                min, max);
+        return check(index < 0, ARG_ALL_BETWEEN, ARG_NAME, min, max, index,
+                index < 0 ? null : arg[index]);
+    }
+    
+    /**
+     * Checks that no element of the array argument is equal to the given
+     * value, throwing an exception otherwise.
+     * <p>
+     * The message type used for exceptions thrown by this method is
+     * {@link MessageType#ARG_ALL_OTHER_THAN}.
+     * 
+     * @param value
+     *            The value no element should be equal to
+     * @return This check
+     * @throws IllegalArgumentException
+     *             if an element of the array argument is equal to the given
+     *             value
+     */
+    public CharArrayCheck noElementIs(final char value) {
+        final int index = arg == null ? -1 : ArrayScans.indexOf(arg, value);
+        return check(index < 0, ARG_ALL_OTHER_THAN, ARG_NAME, value, index,
+                index < 0 ? null : arg[index]);
+    }
+}
@@ -0,0 +1,573 @@
+package ch.trick17.betterchecks.fluent;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.URL;
+import java.util.Collection;
+import java.util.Map;
+import java.util.ResourceBundle;
+
+import ch.trick17.betterchecks.Check;
+import ch.trick17.betterchecks.Config;
+import ch.trick17.betterchecks.util.ConfigFile;
+
+/**
+ * Hands out the check objects for the <code>Check.that(...)</code> methods.
+ * Normally, a new check object is created for each call. If the reuse of check
+ * objects is enabled in the config (see {@link Config#isReuseChecksEnabled()}
+ * ), each thread gets one instance per check class instead, which is reset for
+ * each new argument.
+ * <p>
+ * If the reuse guard is enabled too (see {@link Config#isReuseGuardEnabled()}
+ * ), new check objects are created after all, but the previous object of the
+ * same class is {@linkplain BaseCheck#released released}, so that any further
+ * use of it fails.
+ * <p>
+ * For internal use only. Use the {@link Check} class instead.
+ * 
+ * @author Michael Faes
+ */
+public final class CheckPool {
+    
+    private CheckPool() {}
+    
+    /* The flags are read only once, so that the JIT compiler can eliminate the
+     * pool completely if reuse is disabled (and vice versa). They are read
+     * directly from the config file, since passing checks should not load the
+     * complete config. */
+    private static final boolean REUSE;
+    private static final boolean GUARD;
+    static {
+        final ResourceBundle bundle = ConfigFile.load();
+        REUSE = ConfigFile.getBoolean(bundle, Config.REUSE_CHECKS_KEY,
+                Config.DEFAULT_REUSE_CHECKS_ENABLED);
+        GUARD = ConfigFile.getBoolean(bundle, Config.REUSE_GUARD_KEY,
+                Config.DEFAULT_REUSE_GUARD_ENABLED);
+    }
+    
+    /**
+     * Returns a check object for the given argument.
+     * 
+     * @param arg
+     *            The argument to check
+     * @return A check object with the argument "imprinted"
+     */
+    public static ObjectCheck objectCheck(final Object arg) {
+        if(!REUSE)
+            return new ObjectCheck(arg);
+        return ObjectChecks.POOL.acquire(GUARD).reset(arg);
+    }
+    
+    /**
+     * Returns a check object for the given argument.
+     * 
+     * @param arg
+     *            The argument to check
+     * @return A check object with the argument "imprinted"
+     */
+    public static StringCheck stringCheck(final String arg) {
+        if(!REUSE)
+            return new StringCheck(arg);
+        return StringChecks.POOL.acquire(GUARD).reset(arg);
+    }
+    
+    /**
+     * Returns a check object for the given argument.
+     * 
+     * @param arg
+     *            The argument to check
+     * @return A check object with the argument "imprinted"
+     */
+    public static ObjectArrayCheck objectArrayCheck(final Object[] arg) {
+        if(!REUSE)
+            return new ObjectArrayCheck(arg);
+        return ObjectArrayChecks.POOL.acquire(GUARD).reset(arg);
+    }
+    
+    /**
+     * Returns a check object for the given argument.
+     * 
+     * @param arg
+     *            The argument to check
+     * @return A check object with the argument "imprinted"
+     */
+    public static BooleanArrayCheck booleanArrayCheck(final boolean[] arg) {
+        if(!REUSE)
+            return new BooleanArrayCheck(arg);
+        return BooleanArrayChecks.POOL.acquire(GUARD).reset(arg,
+                arg == null ? -1 : arg.length);
+    }
+    
+    /**
+     * Returns a check object for the given argument.
+     * 
+     * @param arg
+     *            The argument to check
+     * @return A check object with the argument "imprinted"
+     */
+    public static ByteArrayCheck byteArrayCheck(final byte[] arg) {
+        if(!REUSE)
+            return new ByteArrayCheck(arg);
+        return ByteArrayChecks.POOL.acquire(GUARD).reset(arg,
+                arg == null ? -1 : arg.length);
+    }
+    
+    /**
+     * Returns a check object for the given argument.
+     * 
+     * @param arg
+     *            The argument to check
+     * @return A check object with the argument "imprinted"
+     */
+    public static CharArrayCheck charArrayCheck(final char[] arg) {
+        if(!REUSE)
+            return new CharArrayCheck(arg);
+        return CharArrayChecks.POOL.acquire(GUARD).reset(arg,
+                arg == null ? -1 : arg.length);
+    }
+    
+    /**
+     * Returns a check object for the given argument.
+     * 
+     * @param arg
+     *            The argument to check
+     * @return A check object with the argument "imprinted"
+     */
+    public static DoubleArrayCheck doubleArrayCheck(final double[] arg) {
+        if(!REUSE)
+            return new DoubleArrayCheck(arg);
+        return DoubleArrayChecks.POOL.acquire(GUARD).reset(arg,
+                arg == null ? -1 : arg.length);
+    }
+    
+    /**
+     * Returns a check object for the given argument.
+     * 
+     * @param arg
+     *            The argument to check
+     * @return A check object with the argument "imprinted"
+     */
+    public static FloatArrayCheck floatArrayCheck(final float[] arg) {
+        if(!REUSE)
+            return new FloatArrayCheck(arg);
+        return FloatArrayChecks.POOL.acquire(GUARD).reset(arg,
+                arg == null ? -1 : arg.length);
+    }
+    
+    /**
+     * Returns a check object for the given argument.
+     * 
+     * @param arg
+     *            The argument to check
+     * @return A check object with the argument "imprinted"
+     */
+    public static IntArrayCheck intArrayCheck(final int[] arg) {
+        if(!REUSE)
+            return new IntArrayCheck(arg);
+        return IntArrayChecks.POOL.acquire(GUARD).reset(arg,
+                arg == null ? -1 : arg.length);
+    }
+    
+    /**
+     * Returns a check object for the given argument.
+     * 
+     * @param arg
+     *            The argument to check
+     * @return A check object with the argument "imprinted"
+     */
+    public static LongArrayCheck longArrayCheck(final long[] arg) {
+        if(!REUSE)
+            return new LongArrayCheck(arg);
+        return LongArrayChecks.POOL.acquire(GUARD).reset(arg,
+                arg == null ? -1 : arg.length);
+    }
+    
+    /**
+     * Returns a check object for the given argument.
+     * 
+     * @param arg
+     *            The argument to check
+     * @return A check object with the argument "imprinted"
+     */
+    public static ShortArrayCheck shortArrayCheck(final short[] arg) {
+        if(!REUSE)
+            return new ShortArrayCheck(arg);
+        return ShortArrayChecks.POOL.acquire(GUARD).reset(arg,
+                arg == null ? -1 : arg.length);
+    }
+    
+    /**
+     * Returns a check object for the given argument.
+     * 
+     * @param arg
+     *            The argument to check
+     * @return A check object with the argument "imprinted"
+     */
+    public static CollectionCheck collectionCheck(final Collection<?> arg) {
+        if(!REUSE)
+            return new CollectionCheck(arg);
+        return CollectionChecks.POOL.acquire(GUARD).reset(arg);
+    }
+    
+    /**
+     * Returns a check object for the given argument.
+     * 
+     * @param arg
+     *            The argument to check
+     * @return A check object with the argument "imprinted"
+     */
+    public static MapCheck mapCheck(final Map<?, ?> arg) {
+        if(!REUSE)
+            return new MapCheck(arg);
+        return MapChecks.POOL.acquire(GUARD).reset(arg);
+    }
+    
+    /**
+     * Returns a check object for the given argument.
+     * 
+     * @param arg
+     *            The argument to check
+     * @return A check object with the argument "imprinted"
+     */
+    public static NumberCheck numberCheck(final Number arg) {
+        if(!REUSE)
+            return new NumberCheck(arg);
+        return NumberChecks.POOL.acquire(GUARD).reset(arg);
+    }
+    
+    /**
+     * Returns a check object for the given argument.
+     * 
+     * @param arg
+     *            The argument to check
+     * @return A check object with the argument "imprinted"
+     */
+    public static BigDecimalCheck bigDecimalCheck(final BigDecimal arg) {
+        if(!REUSE)
+            return new BigDecimalCheck(arg);
+        return BigDecimalChecks.POOL.acquire(GUARD).reset(arg);
+    }
+    
+    /**
+     * Returns a check object for the given argument.
+     * 
+     * @param arg
+     *            The argument to check
+     * @return A check object with the argument "imprinted"
+     */
+    public static BigIntegerCheck bigIntegerCheck(final BigInteger arg) {
+        if(!REUSE)
+            return new BigIntegerCheck(arg);
+        return BigIntegerChecks.POOL.acquire(GUARD).reset(arg);
+    }
+    
+    /**
+     * Returns a check object for the given argument.
+     * 
+     * @param <T>
+     *            The type of the argument
+     * @param arg
+     *            The argument to check
+     * @return A check object with the argument "imprinted"
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Comparable<? super T>> ComparableCheck<T>
+            comparableCheck(final T arg) {
+        if(!REUSE)
+            return new ComparableCheck<T>(arg);
+        return ((ComparableCheck<T>) (ComparableCheck<?>)
+                ComparableChecks.POOL.acquire(GUARD)).reset(arg);
+    }
+    
+    /**
+     * Returns a check object for the given argument.
+     * 
+     * @param arg
+     *            The argument to check
+     * @return A check object with the argument "imprinted"
+     */
+    public static UrlCheck urlCheck(final URL arg) {
+        if(!REUSE)
+            return new UrlCheck(arg);
+        return UrlChecks.POOL.acquire(GUARD).reset(arg);
+    }
+    
+    /**
+     * Returns a check object for the given argument.
+     * 
+     * @param arg
+     *            The argument to check
+     * @return A check object with the argument "imprinted"
+     */
+    public static UriCheck uriCheck(final URI arg) {
+        if(!REUSE)
+            return new UriCheck(arg);
+        return UriChecks.POOL.acquire(GUARD).reset(arg);
+    }
+    
+    /**
+     * Returns a check object for the given argument.
+     * 
+     * @param arg
+     *            The argument to check
+     * @return A check object with the argument "imprinted"
+     */
+    public static IntCheck intCheck(final int arg) {
+        if(!REUSE)
+            return new IntCheck(arg);
+        return IntChecks.POOL.acquire(GUARD).reset(arg);
+    }
+    
+    /**
+     * Returns a check object for the given argument.
+     * 
+     * @param arg
+     *            The argument to check
+     * @return A check object with the argument "imprinted"
+     */
+    public static LongCheck longCheck(final long arg) {
+        if(!REUSE)
+            return new LongCheck(arg);
+        return LongChecks.POOL.acquire(GUARD).reset(arg);
+    }
+    
+    /**
+     * Returns a check object for the given argument.
+     * 
+     * @param arg
+     *            The argument to check
+     * @return A check object with the argument "imprinted"
+     */
+    public static DoubleCheck doubleCheck(final double arg) {
+        if(!REUSE)
+            return new DoubleCheck(arg);
+        return DoubleChecks.POOL.acquire(GUARD).reset(arg);
+    }
+    
+    /**
+     * The per-thread instances of a single check class.
+     */
+    static abstract class Pool<C extends BaseCheck<C>> extends ThreadLocal<C> {
+        
+        /**
+         * Returns the check object of the current thread. If guarded, a fresh
+         * check object replaces the current one, which is released.
+         */
+        final C acquire(final boolean guarded) {
+            if(!guarded)
+                return get();
+            
+            get().released = true;
+            final C check = initialValue();
+            set(check);
+            return check;
+        }
+    }
+    
+    /* Each pool is held by its own class, so that it is only created when the
+     * first check of its kind is requested (and never if reuse is disabled) */
+    private static final class ObjectChecks extends Pool<ObjectCheck> {
+        static final ObjectChecks POOL = new ObjectChecks();
+        
+        @Override
+        protected ObjectCheck initialValue() {
+            return new ObjectCheck(null);
+        }
+    }
+    
+    private static final class StringChecks extends Pool<StringCheck> {
+        static final StringChecks POOL = new StringChecks();
+        
+        @Override
+        protected StringCheck initialValue() {
+            return new StringCheck(null);
+        }
+    }
+    
+    private static final class ObjectArrayChecks
+            extends Pool<ObjectArrayCheck> {
+        static final ObjectArrayChecks POOL = new ObjectArrayChecks();
+        
+        @Override
+        protected ObjectArrayCheck initialValue() {
+            return new ObjectArrayCheck(null);
+        }
+    }
+    
+    private static final class BooleanArrayChecks
+            extends Pool<BooleanArrayCheck> {
+        static final BooleanArrayChecks POOL = new BooleanArrayChecks();
+        
+        @Override
+        protected BooleanArrayCheck initialValue() {
+            return new BooleanArrayCheck(null);
+        }
+    }
+    
+    private static final class ByteArrayChecks extends Pool<ByteArrayCheck> {
+        static final ByteArrayChecks POOL = new ByteArrayChecks();
+        
+        @Override
+        protected ByteArrayCheck initialValue() {
+            return new ByteArrayCheck(null);
+        }
+    }
+    
+    private static final class CharArrayChecks extends Pool<CharArrayCheck> {
+        static final CharArrayChecks POOL = new CharArrayChecks();
+        
+        @Override
+        protected CharArrayCheck initialValue() {
+            return new CharArrayCheck(null);
+        }
+    }
+    
+    private static final class DoubleArrayChecks
+            extends Pool<DoubleArrayCheck> {
+        static final DoubleArrayChecks POOL = new DoubleArrayChecks();
+        
+        @Override
+        protected DoubleArrayCheck initialValue() {
+            return new DoubleArrayCheck(null);
+        }
+    }
+    
+    private static final class FloatArrayChecks extends Pool<FloatArrayCheck> {
+        static final FloatArrayChecks POOL = new FloatArrayChecks();
+        
+        @Override
+        protected FloatArrayCheck initialValue() {
+            return new FloatArrayCheck(null);
+        }
+    }
+    
+    private static final class IntArrayChecks extends Pool<IntArrayCheck> {
+        static final IntArrayChecks POOL = new IntArrayChecks();
+        
+        @Override
+        protected IntArrayCheck initialValue() {
+            return new IntArrayCheck(null);
+        }
+    }
+    
+    private static final class LongArrayChecks extends Pool<LongArrayCheck> {
+        static final LongArrayChecks POOL = new LongArrayChecks();
+        
+        @Override
+        protected LongArrayCheck initialValue() {
+            return new LongArrayCheck(null);
+        }
+    }
+    
+    private static final class ShortArrayChecks extends Pool<ShortArrayCheck> {
+        static final ShortArrayChecks POOL = new ShortArrayChecks();
+        
+        @Override
+        protected ShortArrayCheck initialValue() {
+            return new ShortArrayCheck(null);
+        }
+    }
+    
+    private static final class CollectionChecks extends Pool<CollectionCheck> {
+        static final CollectionChecks POOL = new CollectionChecks();
+        
+        @Override
+        protected CollectionCheck initialValue() {
+            return new CollectionCheck(null);
+        }
+    }
+    
+    private static final class MapChecks extends Pool<MapCheck> {
+        static final MapChecks POOL = new MapChecks();
+        
+        @Override
+        protected MapCheck initialValue() {
+            return new MapCheck(null);
+        }
+    }
+    
+    private static final class NumberChecks extends Pool<NumberCheck> {
+        static final NumberChecks POOL = new NumberChecks();
+        
+        @Override
+        protected NumberCheck initialValue() {
+            return new NumberCheck(null);
+        }
+    }
+    
+    private static final class BigDecimalChecks extends Pool<BigDecimalCheck> {
+        static final BigDecimalChecks POOL = new BigDecimalChecks();
+        
+        @Override
+        protected BigDecimalCheck initialValue() {
+            return new BigDecimalCheck(null);
+        }
+    }
+    
+    private static final class BigIntegerChecks extends Pool<BigIntegerCheck> {
+        static final BigIntegerChecks POOL = new BigIntegerChecks();
+        
+        @Override
+        protected BigIntegerCheck initialValue() {
+            return new BigIntegerCheck(null);
+        }
+    }
+    
+    /* The argument type of comparable checks only exists at compile time, so
+     * a single instance (with an arbitrary type argument) serves all types */
+    private static final class ComparableChecks
+            extends Pool<ComparableCheck<String>> {
+        static final ComparableChecks POOL = new ComparableChecks();
+        
+        @Override
+        protected ComparableCheck<String> initialValue() {
+            return new ComparableCheck<String>(null);
+        }
+    }
+    
+    private static final class UrlChecks extends Pool<UrlCheck> {
+        static final UrlChecks POOL = new UrlChecks();
+        
+        @Override
+        protected UrlCheck initialValue() {
+            return new UrlCheck(null);
+        }
+    }
+    
+    private static final class UriChecks extends Pool<UriCheck> {
+        static final UriChecks POOL = new UriChecks();
+        
+        @Override
+        protected UriCheck initialValue() {
+            return new UriCheck(null);
+        }
+    }
+    
+    private static final class IntChecks extends Pool<IntCheck> {
+        static final IntChecks POOL = new IntChecks();
+        
+        @Override
+        protected IntCheck initialValue() {
+            return new IntCheck(0);
+        }
+    }
+    
+    private static final class LongChecks extends Pool<LongCheck> {
+        static final LongChecks POOL = new LongChecks();
+        
+        @Override
+        protected LongCheck initialValue() {
+            return new LongCheck(0);
+        }
+    }
+    
+    private static final class DoubleChecks extends Pool<DoubleCheck> {
+        static final DoubleChecks POOL = new DoubleChecks();
+        
+        @Override
+        protected DoubleCheck initialValue() {
+            return new DoubleCheck(0);
+        }
+    }
+}
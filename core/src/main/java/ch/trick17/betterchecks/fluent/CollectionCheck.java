@@ -41,7 +41,7 @@ public final class CollectionCheck extends
      * @see #containsNoNull()
      */
     public CollectionCheck isNotEmpty() {
-        return check(arg == null || !arg.isEmpty(), ARG_EMPTY, argName, arg);
+        return check(arg == null || !arg.isEmpty(), ARG_EMPTY, ARG_NAME, arg);
     }
     
     /**
@@ -63,7 +63,7 @@ public final class CollectionCheck extends
      * @see #hasSizeBetween(int, int)
      */
     public CollectionCheck hasSize(final int size) {
-        return check(arg == null || arg.size() == size, ARG_SIZE, argName,
+        return check(arg == null || arg.size() == size, ARG_SIZE, ARG_NAME,
                 size, arg);
     }
     
@@ -89,7 +89,7 @@ public final class CollectionCheck extends
      */
     public CollectionCheck hasSizeBetween(final int min, final int max) {
         return check(arg == null || (arg.size() >= min && arg.size() <= max),
-                ARG_SIZE_BETWEEN, argName, min, max, arg);
+                ARG_SIZE_BETWEEN, ARG_NAME, min, max, arg);
     }
     
     /**
@@ -131,7 +131,7 @@ public final class CollectionCheck extends
      */
     public CollectionCheck containsNoNull() {
         return check(arg == null || !arg.contains(null), ARG_CONTAINS_NULL,
-                argName, arg);
+                ARG_NAME, arg);
     }
     
     // IMPROVE: allElementsOfType
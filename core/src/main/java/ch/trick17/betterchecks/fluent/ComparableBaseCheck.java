@@ -0,0 +1,129 @@
+package ch.trick17.betterchecks.fluent;
+
+import static ch.trick17.betterchecks.MessageType.*;
+
+import java.math.BigDecimal;
+
+import ch.trick17.betterchecks.MessageType;
+import ch.trick17.betterchecks.util.GwtCompatible;
+
+/**
+ * The base class for checks of {@link Comparable} arguments. It provides the
+ * checks that compare the argument to values of the same type, like
+ * {@link #isGreaterThan(Comparable)} or
+ * {@link #isBetween(Comparable, Comparable)}. These use the argument's
+ * {@link Comparable#compareTo(Object) compareTo} method, which means that the
+ * values are compared according to the natural ordering of their class. For
+ * example, the {@link BigDecimal} values <code>2.0</code> and
+ * <code>2.00</code> are equal according to these checks (even though they are
+ * not {@linkplain Object#equals(Object) equal} in the sense of
+ * {@link #isEqualTo(Object)}).
+ * 
+ * @author Michael Faes
+ * @param <T>
+ *            The argument type, defined by the concrete check classes
+ * @param <C>
+ *            The type of the concrete check class. This parameter is necessary
+ *            for this base class to define methods that return the check object
+ *            itself (with the correct static type), which is necessary for the
+ *            fluent interface of all checks.
+ * @see ComparableCheck
+ * @see BigDecimalCheck
+ * @see BigIntegerCheck
+ */
+@GwtCompatible
+public abstract class ComparableBaseCheck<T extends Comparable<? super T>,
+        C extends ComparableBaseCheck<T, C>> extends ObjectBaseCheck<T, C> {
+    
+    protected ComparableBaseCheck(final T arg) {
+        super(arg);
+    }
+    
+    /**
+     * Checks that the argument is equal to the given value according to the
+     * natural ordering (meaning that <code>compareTo</code> returns zero),
+     * throwing an exception otherwise.
+     * <p>
+     * The message type used for exceptions thrown by this method is
+     * {@link MessageType#ARG_IS}.
+     * 
+     * @param value
+     *            The value this argument must be equal to
+     * @return This check
+     * @throws IllegalArgumentException
+     *             if argument is not equal to the given value
+     */
+    public C is(final T value) {
+        return check(arg == null || arg.compareTo(value) == 0, ARG_IS,
+                ARG_NAME, value, arg);
+    }
+    
+    /**
+     * Checks that the argument is (strictly) greater than the given value,
+     * throwing an exception otherwise. To create a greater-than-or-equals
+     * check, you may use an inverted {@link #isLessThan(Comparable)} check:
+     * <p>
+     * <code>Check.that(amount).not().isLessThan(MIN_AMOUNT);</code>
+     * <p>
+     * The message type used for exceptions thrown by this method is
+     * {@link MessageType#ARG_GREATER}.
+     * 
+     * @param value
+     *            The value this argument must be greater than
+     * @return This check
+     * @throws IllegalArgumentException
+     *             if argument is not greater than the given value
+     */
+    public C isGreaterThan(final T value) {
+        return check(arg == null || arg.compareTo(value) > 0, ARG_GREATER,
+                ARG_NAME, value, arg);
+    }
+    
+    /**
+     * Checks that the argument is (strictly) less than the given value,
+     * throwing an exception otherwise. To create a less-than-or-equals check,
+     * you may use an inverted {@link #isGreaterThan(Comparable)} check:
+     * <p>
+     * <code>Check.that(amount).not().isGreaterThan(MAX_AMOUNT);</code>
+     * <p>
+     * The message type used for exceptions thrown by this method is
+     * {@link MessageType#ARG_LESS}.
+     * 
+     * @param value
+     *            The value this argument must be less than
+     * @return This check
+     * @throws IllegalArgumentException
+     *             if argument is not less than the given value
+     */
+    public C isLessThan(final T value) {
+        return check(arg == null || arg.compareTo(value) < 0, ARG_LESS,
+                ARG_NAME, value, arg);
+    }
+    
+    /**
+     * Checks that the argument is greater than or equal to <code>min</code>
+     * and less than or equal to <code>max</code>, throwing an exception
+     * otherwise.
+     * <p>
+     * To create a strict or one-sided-strict between test, you may use the
+     * {@link #isGreaterThan(Comparable)} and {@link #isLessThan(Comparable)}
+     * checks, possibly in conjunction with {@link #not()}.
+     * <p>
+     * The message type used for exceptions thrown by this method is
+     * {@link MessageType#ARG_BETWEEN}.
+     * 
+     * @param min
+     *            The minimum value
+     * @param max
+     *            The maximum value
+     * @return This check
+     * @throws IllegalArgumentException
+     *             if argument is not between the two given values as defined
+     *             above
+     */
+    public C isBetween(final T min, final T max) {
+        return check(arg == null
+                || (arg.compareTo(min) >= 0 && arg.compareTo(max) <= 0),
+                ARG_BETWEEN, ARG_NAME, min, max, arg);
+    }
+}
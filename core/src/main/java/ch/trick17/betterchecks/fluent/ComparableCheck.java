@@ -0,0 +1,34 @@
+package ch.trick17.betterchecks.fluent;
+
+import java.util.Date;
+
+import ch.trick17.betterchecks.Check;
+import ch.trick17.betterchecks.util.GwtCompatible;
+
+/**
+ * The check class for {@link Comparable} arguments that do not have their own,
+ * more specific check class, like {@link Date}s, enums or, with Java 8,
+ * <code>Instant</code>s and <code>LocalDate</code>s. Use
+ * {@link Check#thatComparable(Comparable)} to get an instance.
+ * <p>
+ * In addition to the checks common to all objects, this class provides the
+ * comparison checks of {@link ComparableBaseCheck}, like
+ * {@link #isBetween(Comparable, Comparable)}:
+ * <p>
+ * <code>Check.thatComparable(deadline).isGreaterThan(now);</code>
+ * 
+ * @author Michael Faes
+ * @param <T>
+ *            The type of the argument
+ */
+@GwtCompatible
+public final class ComparableCheck<T extends Comparable<? super T>> extends
+        ComparableBaseCheck<T, ComparableCheck<T>> {
+    
+    /**
+     * For internal use only.
+     */
+    public ComparableCheck(T arg) {
+        super(arg);
+    }
+}
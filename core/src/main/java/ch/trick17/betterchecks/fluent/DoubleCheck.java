@@ -5,6 +5,7 @@ import static ch.trick17.betterchecks.MessageType.*;
 import ch.trick17.betterchecks.Check;
 import ch.trick17.betterchecks.MessageType;
 import ch.trick17.betterchecks.util.GwtCompatible;
+import ch.trick17.betterchecks.util.Range;
 
 /**
  * The check class for <code>double</code> arguments. It can also be (and
@@ -20,7 +21,7 @@ import ch.trick17.betterchecks.util.GwtCompatible;
 @GwtCompatible
 public final class DoubleCheck extends PrimitiveBaseCheck<DoubleCheck> {
     
-    private final double arg;
+    private double arg;
     
     /**
      * For internal use only.
@@ -29,6 +30,12 @@ public final class DoubleCheck extends PrimitiveBaseCheck<DoubleCheck> {
         this.arg = arg;
     }
     
+    DoubleCheck reset(final double newArg) {
+        reset();
+        arg = newArg;
+        return this;
+    }
+    
     /**
      * Checks that the <code>double</code> argument is positive, throwing an
      * exception otherwise. Note that zero is not a valid number. Often, you
@@ -46,7 +53,7 @@ public final class DoubleCheck extends PrimitiveBaseCheck<DoubleCheck> {
      * @see #isNegative()
      */
     public DoubleCheck isPositive() {
-        return check(arg > 0, ARG_POSITIVE, argName, arg);
+        return check(arg > 0, ARG_POSITIVE, ARG_NAME, arg);
     }
     
     /**
@@ -62,7 +69,7 @@ public final class DoubleCheck extends PrimitiveBaseCheck<DoubleCheck> {
      * @see #isPositive()
      */
     public DoubleCheck isNegative() {
-        return check(arg < 0, ARG_NEGATIVE, argName, arg);
+        return check(arg < 0, ARG_NEGATIVE, ARG_NAME, arg);
     }
     
     /**
@@ -83,7 +90,7 @@ public final class DoubleCheck extends PrimitiveBaseCheck<DoubleCheck> {
      *             if argument is not equal to the given number
      */
     public DoubleCheck is(final double number) {
-        return check(arg == number, ARG_IS, argName, number, arg);
+        return check(arg == number, ARG_IS, ARG_NAME, number, arg);
     }
     
     /**
@@ -104,7 +111,7 @@ public final class DoubleCheck extends PrimitiveBaseCheck<DoubleCheck> {
      *             if argument is not greater than the given number
      */
     public DoubleCheck isGreaterThan(final double number) {
-        return check(arg > number, ARG_GREATER, argName, number, arg);
+        return check(arg > number, ARG_GREATER, ARG_NAME, number, arg);
     }
     
     /**
@@ -125,7 +132,7 @@ public final class DoubleCheck extends PrimitiveBaseCheck<DoubleCheck> {
      *             if argument is not less than the given number
      */
     public DoubleCheck isLessThan(final double number) {
-        return check(arg < number, ARG_LESS, argName, number, arg);
+        return check(arg < number, ARG_LESS, ARG_NAME, number, arg);
     }
     
     /**
@@ -150,10 +157,32 @@ public final class DoubleCheck extends PrimitiveBaseCheck<DoubleCheck> {
      *             above
      */
     public DoubleCheck isBetween(final double min, final double max) {
-        return check(arg >= min && arg <= max, ARG_BETWEEN, argName, min, max,
+        return check(arg >= min && arg <= max, ARG_BETWEEN, ARG_NAME, min, max,
                 arg);
     }
     
+    /**
+     * Checks that the <code>double</code> argument is in the given
+     * {@link Range}, throwing an exception otherwise. The bounds of the range
+     * are converted only once, when the range is created, so this check is
+     * preferable to {@link #isBetween(double, double)} for constant bounds
+     * that are not of type <code>double</code> or that are open. For example:
+     * <p>
+     * <code>Check.that(ratio).isIn(RATIOS);</code>
+     * <p>
+     * The message type used for exceptions thrown by this method is
+     * {@link MessageType#ARG_IN_RANGE}.
+     * 
+     * @param range
+     *            The range
+     * @return This check
+     * @throws IllegalArgumentException
+     *             if argument is not in the given range
+     */
+    public DoubleCheck isIn(final Range range) {
+        return check(range.contains(arg), ARG_IN_RANGE, ARG_NAME, range, arg);
+    }
+    
     /**
      * Checks that the <code>double</code> argument is not {@linkplain Double#NaN NaN},
      * throwing an exception otherwise.
@@ -168,7 +197,7 @@ public final class DoubleCheck extends PrimitiveBaseCheck<DoubleCheck> {
      */
     @Deprecated
     public DoubleCheck isNotNaN() {
-        return check(!Double.isNaN(arg), ARG_NAN, argName);
+        return check(!Double.isNaN(arg), ARG_NAN, ARG_NAME);
     }
     
     /**
@@ -183,7 +212,7 @@ public final class DoubleCheck extends PrimitiveBaseCheck<DoubleCheck> {
      *             if argument is NaN
      */
     public DoubleCheck isNumber() {
-        return check(!Double.isNaN(arg), ARG_NUMBER, argName);
+        return check(!Double.isNaN(arg), ARG_NUMBER, ARG_NAME);
     }
     
     /**
@@ -201,7 +230,7 @@ public final class DoubleCheck extends PrimitiveBaseCheck<DoubleCheck> {
      */
     public DoubleCheck isFinite() {
         return check(!Double.isNaN(arg) && !Double.isInfinite(arg), ARG_FINITE,
-                argName, arg);
+                ARG_NAME, arg);
     }
     
     /**
@@ -219,6 +248,25 @@ public final class DoubleCheck extends PrimitiveBaseCheck<DoubleCheck> {
      *             if argument is infinite
      */
     public DoubleCheck isNotInfinite() {
-        return check(!Double.isInfinite(arg), ARG_INFINITE, argName, arg);
+        return check(!Double.isInfinite(arg), ARG_INFINITE, ARG_NAME, arg);
+    }
+    
+    /**
+     * Returns the <code>double</code> argument of this check. This is mainly
+     * useful at the end of a conversion check, where the argument is the
+     * converted value, which then does not need to be parsed again:
+     * <p>
+     * <code>double ratio = Check.that(string).isDoubleWhich().isFinite().value();</code>
+     * <p>
+     * Note that the returned value is only meaningful if all previous checks
+     * have passed. In {@linkplain #inTestMode() test mode}, {@link #passes()}
+     * should be queried first.
+     * 
+     * @return The argument
+     * @see StringCheck#isDoubleWhich()
+     */
+    public double value() {
+        checkNotReleased();
+        return arg;
     }
 }
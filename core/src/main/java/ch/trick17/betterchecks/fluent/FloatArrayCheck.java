@@ -0,0 +1,121 @@
+package ch.trick17.betterchecks.fluent;
+
+import static ch.trick17.betterchecks.MessageType.ARG_ALL_BETWEEN;
+import static ch.trick17.betterchecks.MessageType.ARG_ALL_FINITE;
+import static ch.trick17.betterchecks.MessageType.ARG_ALL_OTHER_THAN;
+import static ch.trick17.betterchecks.MessageType.ARG_ALL_POSITIVE;
+
+import ch.trick17.betterchecks.MessageType;
+import ch.trick17.betterchecks.util.ArrayScans;
+import ch.trick17.betterchecks.util.GwtCompatible;
+
+/**
+ * The check class for <code>float[]</code> arguments. In addition to the
+ * length checks of {@link PrimitiveArrayBaseCheck}, it provides checks for the
+ * elements of the array.
+ * 
+ * @author Michael Faes
+ */
+@GwtCompatible
+public final class FloatArrayCheck extends
+        PrimitiveArrayBaseCheck<float[], FloatArrayCheck> {
+    
+    /**
+     * For internal use only.
+     */
+    public FloatArrayCheck(float[] arg) {
+        super(arg, arg == null ? -1 : arg.length);
+    }
+    
+    /**
+     * Checks that all elements of the array argument are between the two given
+     * numbers (inclusive), throwing an exception otherwise. For example:
+     * <p>
+     * <code>Check.that(weights).allElementsBetween(0, 1);</code>
+     * <p>
+     * The elements are converted to <code>double</code> (exactly) for the
+     * comparisons. Elements that are NaN are not between any bounds.
+     * <p>
+     * Empty arrays always pass this check.
+     * <p>
+     * The message type used for exceptions thrown by this method is
+     * {@link MessageType#ARG_ALL_BETWEEN}.
+     * 
+     * @param min
+     *            The minimum value of the elements
+     * @param max
+     *            The maximum value
+     * @return This check
+     * @throws IllegalArgumentException
+     *             if an element of the array argument is strictly less than
+     *             <code>min</code> or strictly greater than <code>max</code>
+     */
+    public FloatArrayCheck allElementsBetween(final double min,
+            final double max) {
+        final int index = arg == null ? -1 : ArrayScans.firstNotBetween(arg,
+                min, max);
+        return check(index < 0, ARG_ALL_BETWEEN, ARG_NAME, min, max, index,
+                index < 0 ? null : arg[index]);
+    }
+    
+    /**
+     * Checks that all elements of the array argument are finite, i.e., neither
+     * infinite nor NaN, throwing an exception otherwise.
+     * <p>
+     * The message type used for exceptions thrown by this method is
+     * {@link MessageType#ARG_ALL_FINITE}.
+     * 
+     * @return This check
+     * @throws IllegalArgumentException
+     *             if an element of the array argument is infinite or NaN
+     */
+    public FloatArrayCheck allFinite() {
+        final int index = arg == null ? -1 : ArrayScans.firstNotBetween(arg,
+                -Double.MAX_VALUE, Double.MAX_VALUE);
+        return check(index < 0, ARG_ALL_FINITE, ARG_NAME, index,
+                index < 0 ? null : arg[index]);
+    }
+    
+    /**
+     * Checks that all elements of the array argument are positive, throwing an
+     * exception otherwise. Note that zero is not positive, neither is NaN.
+     * <p>
+     * The message type used for exceptions thrown by this method is
+     * {@link MessageType#ARG_ALL_POSITIVE}.
+     * 
+     * @return This check
+     * @throws IllegalArgumentException
+     *             if an element of the array argument is not positive
+     */
+    public FloatArrayCheck allPositive() {
+        final int index = arg == null ? -1 : ArrayScans.firstNotBetween(arg,
+                Double.MIN_VALUE, Double.POSITIVE_INFINITY);
+        return check(index < 0, ARG_ALL_POSITIVE, ARG_NAME, index,
+                index < 0 ? null : arg[index]);
+    }
+    
+    /**
+     * Checks that no element of the array argument is equal to the given
+     * value, throwing an exception otherwise. The elements are compared using
+     * <code>==</code>, so <code>0.0</code> and <code>-0.0</code> are equal,
+     * except that NaN is considered equal to NaN elements. This makes it
+     * possible to check that an array contains no NaN:
+     * <p>
+     * <code>Check.that(weights).noElementIs(Double.NaN);</code>
+     * <p>
+     * The message type used for exceptions thrown by this method is
+     * {@link MessageType#ARG_ALL_OTHER_THAN}.
+     * 
+     * @param value
+     *            The value no element should be equal to
+     * @return This check
+     * @throws IllegalArgumentException
+     *             if an element of the array argument is equal to the given
+     *             value
+     */
+    public FloatArrayCheck noElementIs(final double value) {
+        final int index = arg == null ? -1 : ArrayScans.indexOf(arg, value);
+        return check(index < 0, ARG_ALL_OTHER_THAN, ARG_NAME, value, index,
+                index < 0 ? null : arg[index]);
+    }
+}
@@ -7,6 +7,7 @@ import java.util.Collection;
 import ch.trick17.betterchecks.Check;
 import ch.trick17.betterchecks.MessageType;
 import ch.trick17.betterchecks.util.GwtCompatible;
+import ch.trick17.betterchecks.util.Range;
 
 /**
  * The check class for <code>int</code> arguments. It can also be (and
@@ -22,7 +23,7 @@ import ch.trick17.betterchecks.util.GwtCompatible;
 @GwtCompatible
 public final class IntCheck extends PrimitiveBaseCheck<IntCheck> {
     
-    private final int arg;
+    private int arg;
     
     /**
      * For internal use only.
@@ -31,6 +32,12 @@ public final class IntCheck extends PrimitiveBaseCheck<IntCheck> {
         this.arg = arg;
     }
     
+    IntCheck reset(final int newArg) {
+        reset();
+        arg = newArg;
+        return this;
+    }
+    
     /**
      * Checks that the <code>int</code> argument is positive, throwing an
      * exception otherwise. Note that zero is not a valid number. Often, you
@@ -48,7 +55,7 @@ public final class IntCheck extends PrimitiveBaseCheck<IntCheck> {
      * @see #isNegative()
      */
     public IntCheck isPositive() {
-        return check(arg > 0, ARG_POSITIVE, argName, arg);
+        return check(arg > 0, ARG_POSITIVE, ARG_NAME, arg);
     }
     
     /**
@@ -64,7 +71,7 @@ public final class IntCheck extends PrimitiveBaseCheck<IntCheck> {
      * @see #isPositive()
      */
     public IntCheck isNegative() {
-        return check(arg < 0, ARG_NEGATIVE, argName, arg);
+        return check(arg < 0, ARG_NEGATIVE, ARG_NAME, arg);
     }
     
     /**
@@ -84,7 +91,7 @@ public final class IntCheck extends PrimitiveBaseCheck<IntCheck> {
      *             if argument is not equal to the given number
      */
     public IntCheck is(final int number) {
-        return check(arg == number, ARG_IS, argName, number, arg);
+        return check(arg == number, ARG_IS, ARG_NAME, number, arg);
     }
     
     /**
@@ -106,7 +113,7 @@ public final class IntCheck extends PrimitiveBaseCheck<IntCheck> {
      *             if argument is not greater than the given number
      */
     public IntCheck isGreaterThan(final int number) {
-        return check(arg > number, ARG_GREATER, argName, number, arg);
+        return check(arg > number, ARG_GREATER, ARG_NAME, number, arg);
     }
     
     /**
@@ -128,7 +135,7 @@ public final class IntCheck extends PrimitiveBaseCheck<IntCheck> {
      *             if argument is not less than the given number
      */
     public IntCheck isLessThan(final int number) {
-        return check(arg < number, ARG_LESS, argName, number, arg);
+        return check(arg < number, ARG_LESS, ARG_NAME, number, arg);
     }
     
     /**
@@ -154,10 +161,32 @@ public final class IntCheck extends PrimitiveBaseCheck<IntCheck> {
      *             above
      */
     public IntCheck isBetween(final int min, final int max) {
-        return check(arg >= min && arg <= max, ARG_BETWEEN, argName, min, max,
+        return check(arg >= min && arg <= max, ARG_BETWEEN, ARG_NAME, min, max,
                 arg);
     }
     
+    /**
+     * Checks that the <code>int</code> argument is in the given {@link Range},
+     * throwing an exception otherwise. The bounds of the range are converted
+     * only once, when the range is created, so this check is preferable to
+     * {@link #isBetween(int, int)} for constant bounds that are not of
+     * type <code>int</code> or that are open. For example:
+     * <p>
+     * <code>Check.that(count).isIn(VALID_COUNTS);</code>
+     * <p>
+     * The message type used for exceptions thrown by this method is
+     * {@link MessageType#ARG_IN_RANGE}.
+     * 
+     * @param range
+     *            The range
+     * @return This check
+     * @throws IllegalArgumentException
+     *             if argument is not in the given range
+     */
+    public IntCheck isIn(final Range range) {
+        return check(range.contains(arg), ARG_IN_RANGE, ARG_NAME, range, arg);
+    }
+    
     /**
      * Checks that the <code>int</code> argument is a valid index in a
      * {@link Collection} or array with the given size or length, throwing an
@@ -178,7 +207,7 @@ public final class IntCheck extends PrimitiveBaseCheck<IntCheck> {
      *             if argument is not a valid index as defined above
      */
     public IntCheck isValidIndex(final int size) {
-        return check(arg >= 0 && arg < size, ARG_INDEX, argName, size, arg);
+        return check(arg >= 0 && arg < size, ARG_INDEX, ARG_NAME, size, arg);
     }
     
     /**
@@ -219,4 +248,23 @@ public final class IntCheck extends PrimitiveBaseCheck<IntCheck> {
     public IntCheck isValidIndex(final Object[] array) {
         return isValidIndex(array.length);
     }
+    
+    /**
+     * Returns the <code>int</code> argument of this check. This is mainly
+     * useful at the end of a conversion check, where the argument is the
+     * converted value, which then does not need to be parsed again:
+     * <p>
+     * <code>int port = Check.that(string).isIntWhich().isBetween(1, 65535).value();</code>
+     * <p>
+     * Note that the returned value is only meaningful if all previous checks
+     * have passed. In {@linkplain #inTestMode() test mode}, {@link #passes()}
+     * should be queried first.
+     * 
+     * @return The argument
+     * @see StringCheck#isIntWhich()
+     */
+    public int value() {
+        checkNotReleased();
+        return arg;
+    }
 }
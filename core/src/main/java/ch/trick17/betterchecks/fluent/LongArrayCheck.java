@@ -0,0 +1,86 @@
+package ch.trick17.betterchecks.fluent;
+
+import ch.trick17.betterchecks.MessageType;
+import ch.trick17.betterchecks.util.ArrayScans;
+import ch.trick17.betterchecks.util.GwtCompatible;
+
+/**
+ * The check class for <code>long[]</code> arguments. In addition to the
+ * length checks of {@link PrimitiveArrayBaseCheck}, it provides checks for the
+ * elements of the array.
+ * 
+ * @author Michael Faes
+ */
+@GwtCompatible
+public final class LongArrayCheck extends
+        PrimitiveArrayBaseCheck<long[], LongArrayCheck> {
+    
+    /**
+     * For internal use only.
+     */
+    public LongArrayCheck(long[] arg) {
+        super(arg, arg == null ? -1 : arg.length);
+    }
+    
+    /**
+     * Checks that all elements of the array argument are between the two given
+     * numbers (inclusive), throwing an exception otherwise. For example:
+     * <p>
+     * <code>Check.that(timestamps).allElementsBetween(0, now);</code>
+     * <p>
+     * Empty arrays always pass this check.
+     * <p>
+     * The message type used for exceptions thrown by this method is
+     * {@link MessageType#ARG_ALL_BETWEEN}.
+     * 
+     * @param min
+     *            The minimum value of the elements
+     * @param max
+     *            The maximum value
+     * @return This check
+     * @throws IllegalArgumentException
+     *             if an element of the array argument is strictly less than
+     *             <code>min</code> or strictly greater than <code>max</code>
+     */
+    public LongArrayCheck allElementsBetween(final long min, final long max) {
+        final int index = arg == null ? -1 : ArrayScans.firstNotBetween(arg,
+                min, max);
+        return checkAllBetween(min, max, index, index < 0 ? 0 : arg[index]);
+    }
+    
+    /**
+     * Checks that all elements of the array argument are positive, throwing an
+     * exception otherwise. Note that zero is not positive.
+     * <p>
+     * The message type used for exceptions thrown by this method is
+     * {@link MessageType#ARG_ALL_POSITIVE}.
+     * 
+     * @return This check
+     * @throws IllegalArgumentException
+     *             if an element of the array argument is not positive
+     */
+    public LongArrayCheck allPositive() {
+        final int index = arg == null ? -1 : ArrayScans.firstNotBetween(arg,
+                1, Long.MAX_VALUE);
+        return checkAllPositive(index, index < 0 ? 0 : arg[index]);
+    }
+    
+    /**
+     * Checks that no element of the array argument is equal to the given
+     * value, throwing an exception otherwise.
+     * <p>
+     * The message type used for exceptions thrown by this method is
+     * {@link MessageType#ARG_ALL_OTHER_THAN}.
+     * 
+     * @param value
+     *            The value no element should be equal to
+     * @return This check
+     * @throws IllegalArgumentException
+     *             if an element of the array argument is equal to the given
+     *             value
+     */
+    public LongArrayCheck noElementIs(final long value) {
+        final int index = arg == null ? -1 : ArrayScans.indexOf(arg, value);
+        return checkNoElementIs(value, index, index < 0 ? 0 : arg[index]);
+    }
+}
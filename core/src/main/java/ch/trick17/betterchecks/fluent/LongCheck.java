@@ -4,6 +4,7 @@ import static ch.trick17.betterchecks.MessageType.*;
 
 import ch.trick17.betterchecks.MessageType;
 import ch.trick17.betterchecks.util.GwtCompatible;
+import ch.trick17.betterchecks.util.Range;
 
 /**
  * The check class for <code>long</code> arguments.
@@ -16,7 +17,7 @@ import ch.trick17.betterchecks.util.GwtCompatible;
 @GwtCompatible
 public final class LongCheck extends PrimitiveBaseCheck<LongCheck> {
     
-    private final long arg;
+    private long arg;
     
     /**
      * For internal use only.
@@ -25,6 +26,12 @@ public final class LongCheck extends PrimitiveBaseCheck<LongCheck> {
         this.arg = arg;
     }
     
+    LongCheck reset(final long newArg) {
+        reset();
+        arg = newArg;
+        return this;
+    }
+    
     /**
      * Checks that the <code>long</code> argument is positive, throwing an
      * exception otherwise. Note that zero is not a valid number. Often, you
@@ -42,7 +49,7 @@ public final class LongCheck extends PrimitiveBaseCheck<LongCheck> {
      * @see #isNegative()
      */
     public LongCheck isPositive() {
-        return check(arg > 0, ARG_POSITIVE, argName, arg);
+        return check(arg > 0, ARG_POSITIVE, ARG_NAME, arg);
     }
     
     /**
@@ -58,7 +65,7 @@ public final class LongCheck extends PrimitiveBaseCheck<LongCheck> {
      * @see #isPositive()
      */
     public LongCheck isNegative() {
-        return check(arg < 0, ARG_NEGATIVE, argName, arg);
+        return check(arg < 0, ARG_NEGATIVE, ARG_NAME, arg);
     }
     
     /**
@@ -79,7 +86,7 @@ public final class LongCheck extends PrimitiveBaseCheck<LongCheck> {
      *             if argument is not equal to the given number
      */
     public LongCheck is(final long number) {
-        return check(arg == number, ARG_IS, argName, number, arg);
+        return check(arg == number, ARG_IS, ARG_NAME, number, arg);
     }
     
     /**
@@ -101,7 +108,7 @@ public final class LongCheck extends PrimitiveBaseCheck<LongCheck> {
      *             if argument is not greater than the given number
      */
     public LongCheck isGreaterThan(final long number) {
-        return check(arg > number, ARG_GREATER, argName, number, arg);
+        return check(arg > number, ARG_GREATER, ARG_NAME, number, arg);
     }
     
     /**
@@ -123,7 +130,7 @@ public final class LongCheck extends PrimitiveBaseCheck<LongCheck> {
      *             if argument is not less than the given number
      */
     public LongCheck isLessThan(final long number) {
-        return check(arg < number, ARG_LESS, argName, number, arg);
+        return check(arg < number, ARG_LESS, ARG_NAME, number, arg);
     }
     
     /**
@@ -149,7 +156,48 @@ public final class LongCheck extends PrimitiveBaseCheck<LongCheck> {
      *             above
      */
     public LongCheck isBetween(final long min, final long max) {
-        return check(arg >= min && arg <= max, ARG_BETWEEN, argName, min, max,
+        return check(arg >= min && arg <= max, ARG_BETWEEN, ARG_NAME, min, max,
                 arg);
     }
+    
+    /**
+     * Checks that the <code>long</code> argument is in the given {@link Range},
+     * throwing an exception otherwise. The bounds of the range are converted
+     * only once, when the range is created, so this check is preferable to
+     * {@link #isBetween(long, long)} for constant bounds that are not of
+     * type <code>long</code> or that are open. For example:
+     * <p>
+     * <code>Check.that(timestamp).isIn(VALID_TIMESTAMPS);</code>
+     * <p>
+     * The message type used for exceptions thrown by this method is
+     * {@link MessageType#ARG_IN_RANGE}.
+     * 
+     * @param range
+     *            The range
+     * @return This check
+     * @throws IllegalArgumentException
+     *             if argument is not in the given range
+     */
+    public LongCheck isIn(final Range range) {
+        return check(range.contains(arg), ARG_IN_RANGE, ARG_NAME, range, arg);
+    }
+    
+    /**
+     * Returns the <code>long</code> argument of this check. This is mainly
+     * useful at the end of a conversion check, where the argument is the
+     * converted value, which then does not need to be parsed again:
+     * <p>
+     * <code>long id = Check.that(string).isLongWhich().isPositive().value();</code>
+     * <p>
+     * Note that the returned value is only meaningful if all previous checks
+     * have passed. In {@linkplain #inTestMode() test mode}, {@link #passes()}
+     * should be queried first.
+     * 
+     * @return The argument
+     * @see StringCheck#isLongWhich()
+     */
+    public long value() {
+        checkNotReleased();
+        return arg;
+    }
 }
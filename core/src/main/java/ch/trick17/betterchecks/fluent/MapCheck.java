@@ -36,7 +36,7 @@ public final class MapCheck extends ObjectBaseCheck<Map<?, ?>, MapCheck> {
      *             if the map argument is empty
      */
     public MapCheck isNotEmpty() {
-        return check(arg == null || !arg.isEmpty(), ARG_EMPTY, argName, arg);
+        return check(arg == null || !arg.isEmpty(), ARG_EMPTY, ARG_NAME, arg);
     }
     
     /**
@@ -55,7 +55,7 @@ public final class MapCheck extends ObjectBaseCheck<Map<?, ?>, MapCheck> {
      * @see #hasSizeBetween(int, int)
      */
     public MapCheck hasSize(final int size) {
-        return check(arg == null || arg.size() == size, ARG_SIZE, argName,
+        return check(arg == null || arg.size() == size, ARG_SIZE, ARG_NAME,
                 size, arg);
     }
     
@@ -80,7 +80,7 @@ public final class MapCheck extends ObjectBaseCheck<Map<?, ?>, MapCheck> {
      */
     public MapCheck hasSizeBetween(final int min, final int max) {
         return check(arg == null || (arg.size() >= min && arg.size() <= max),
-                ARG_SIZE_BETWEEN, argName, min, max, arg);
+                ARG_SIZE_BETWEEN, ARG_NAME, min, max, arg);
     }
     
     /**
@@ -117,7 +117,7 @@ public final class MapCheck extends ObjectBaseCheck<Map<?, ?>, MapCheck> {
      *             If the map contains the <code>null</code> key
      */
     public MapCheck containsNoNullKey() {
-        return check(arg == null || !arg.keySet().contains(null), ARG_CONTAINS_NULL_KEY, argName,
+        return check(arg == null || !arg.keySet().contains(null), ARG_CONTAINS_NULL_KEY, ARG_NAME,
                 arg);
     }
     
@@ -133,7 +133,7 @@ public final class MapCheck extends ObjectBaseCheck<Map<?, ?>, MapCheck> {
      *             If the map contains one or more <code>null</code> values
      */
     public MapCheck containsNoNullValues() {
-        return check(arg == null || !arg.values().contains(null), ARG_CONTAINS_NULL_VALUES, argName,
+        return check(arg == null || !arg.values().contains(null), ARG_CONTAINS_NULL_VALUES, ARG_NAME,
                 arg);
     }
     
@@ -150,7 +150,7 @@ public final class MapCheck extends ObjectBaseCheck<Map<?, ?>, MapCheck> {
      */
     public MapCheck containsNoNull() {
         return check(arg == null || (!arg.keySet().contains(null) && !arg.values().contains(null)),
-                ARG_CONTAINS_NULL, argName, arg);
+                ARG_CONTAINS_NULL, ARG_NAME, arg);
     }
     
     // IMPROVE: allKeysOfType, allValuesOfType
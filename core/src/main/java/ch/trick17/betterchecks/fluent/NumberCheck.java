@@ -8,6 +8,7 @@ import java.math.BigInteger;
 import ch.trick17.betterchecks.Check;
 import ch.trick17.betterchecks.MessageType;
 import ch.trick17.betterchecks.util.GwtCompatible;
+import ch.trick17.betterchecks.util.Range;
 
 /**
  * The check class for {@link Number} arguments. It should be (and <em>is</em> -
@@ -26,9 +27,14 @@ import ch.trick17.betterchecks.util.GwtCompatible;
  * by the JDK (including {@link BigInteger} and {@link BigDecimal}) correctly.
  * For custom subclasses, read the following implementation notes.
  * <p>
- * Checks involving a comparison between two arbitrary Number instances first
- * convert both numbers to {@link BigDecimal} and then compare the two objects
- * using {@link BigDecimal#compareTo(BigDecimal) compareTo}. The conversion has
+ * Checks involving a comparison between two arbitrary Number instances
+ * compare instances of the primitive wrapper classes ({@link Byte},
+ * {@link Short}, {@link Integer}, {@link Long}, {@link Float} and
+ * {@link Double}) directly and exactly, in any combination. For example, a
+ * {@link Long} is compared to a {@link Double} without rounding the long value
+ * to a double first. If one of the numbers is of any other class, both
+ * numbers are converted to {@link BigDecimal} and then compared using
+ * {@link BigDecimal#compareTo(BigDecimal) compareTo}. The conversion has
  * special cases for most of the JDK classes and a default implementation
  * covering the rest. This implementation uses the number's
  * {@link Number#toString() toString} method to construct a BigDecimal. So to
@@ -77,9 +83,10 @@ public final class NumberCheck extends ObjectBaseCheck<Number, NumberCheck> {
         checkNull();
         if(arg instanceof BigDecimal)
             return check(((BigDecimal) arg).signum() == 1, ARG_POSITIVE,
-                    argName, arg);
+                    ARG_NAME, arg);
         else
-            return check(arg.doubleValue() > 0, ARG_POSITIVE, argName, arg);
+            return check(arg == null || arg.doubleValue() > 0, ARG_POSITIVE,
+                    ARG_NAME, arg);
     }
     
     /**
@@ -102,9 +109,10 @@ public final class NumberCheck extends ObjectBaseCheck<Number, NumberCheck> {
         checkNull();
         if(arg instanceof BigDecimal)
             return check(((BigDecimal) arg).signum() == -1, ARG_NEGATIVE,
-                    argName, arg);
+                    ARG_NAME, arg);
         else
-            return check(arg.doubleValue() < 0, ARG_NEGATIVE, argName, arg);
+            return check(arg == null || arg.doubleValue() < 0, ARG_NEGATIVE,
+                    ARG_NAME, arg);
     }
     
     /**
@@ -132,7 +140,7 @@ public final class NumberCheck extends ObjectBaseCheck<Number, NumberCheck> {
      *             if argument is not equal to the given number
      */
     public NumberCheck is(final Number number) {
-        return check(arg == null || compare(arg, number) == 0, ARG_IS, argName,
+        return check(arg == null || compare(arg, number) == 0, ARG_IS, ARG_NAME,
                 number, arg);
     }
     
@@ -159,7 +167,7 @@ public final class NumberCheck extends ObjectBaseCheck<Number, NumberCheck> {
      */
     public NumberCheck isGreaterThan(final Number number) {
         return check(arg == null || compare(arg, number) > 0, ARG_GREATER,
-                argName, number, arg);
+                ARG_NAME, number, arg);
     }
     
     /**
@@ -184,7 +192,7 @@ public final class NumberCheck extends ObjectBaseCheck<Number, NumberCheck> {
      */
     public NumberCheck isLessThan(final Number number) {
         return check(arg == null || compare(arg, number) < 0, ARG_LESS,
-                argName, number, arg);
+                ARG_NAME, number, arg);
     }
     
     /**
@@ -215,16 +223,115 @@ public final class NumberCheck extends ObjectBaseCheck<Number, NumberCheck> {
     public NumberCheck isBetween(final Number min, final Number max) {
         return check(arg == null
                 || (compare(arg, min) >= 0 && compare(arg, max) <= 0),
-                ARG_BETWEEN, argName, min, max, arg);
+                ARG_BETWEEN, ARG_NAME, min, max, arg);
+    }
+    
+    /**
+     * Checks that the {@link Number} argument is in the given {@link Range},
+     * throwing an exception otherwise. Unlike
+     * {@link #isBetween(Number, Number)}, this check does not convert the
+     * bounds each time, as this is done only once, when the range is created.
+     * Prefer it for constant bounds, for example:
+     * <p>
+     * <code>Check.that(amount).isIn(VALID_AMOUNTS);</code>
+     * <p>
+     * The message type used for exceptions thrown by this method is
+     * {@link MessageType#ARG_IN_RANGE}.
+     * <p>
+     * <strong>Implementation note:</strong> The argument is converted as
+     * described in the {@link NumberCheck} documentation, unless it is an
+     * instance of one of the primitive wrapper classes. Read this before
+     * using this check with custom Number subclasses.
+     * 
+     * @param range
+     *            The range
+     * @return This check
+     * @throws IllegalArgumentException
+     *             if argument is not in the given range
+     */
+    public NumberCheck isIn(final Range range) {
+        return check(arg == null || range.contains(arg), ARG_IN_RANGE,
+                ARG_NAME, range, arg);
     }
     
     /* Implementation methods */
     
-    private static int compare(final Number x, final Number y) {
-        if(isSpecial(x) || isSpecial(y))
-            return Double.compare(x.doubleValue(), y.doubleValue());
-        else
-            return toBigDecimal(x).compareTo(toBigDecimal(y));
+    /* Kinds of numbers, which determine how a pair of numbers is compared */
+    private static final int INTEGRAL = 0;
+    private static final int FLOATING_POINT = 1;
+    private static final int OTHER = 2;
+    
+    private static final double TWO_POW_63 = 0x1p63;
+    
+    /**
+     * Compares two arbitrary numbers, as described in the class
+     * documentation. Also used by the {@link BigDecimalCheck} and
+     * {@link BigIntegerCheck} checks that take {@link Number} arguments.
+     */
+    static int compare(final Number x, final Number y) {
+        switch(3 * kind(x) + kind(y)) {
+        case 3 * INTEGRAL + INTEGRAL:
+            return compare(x.longValue(), y.longValue());
+        case 3 * INTEGRAL + FLOATING_POINT:
+            return compare(x.longValue(), y.doubleValue());
+        case 3 * FLOATING_POINT + INTEGRAL:
+            return -compare(y.longValue(), x.doubleValue());
+        case 3 * FLOATING_POINT + FLOATING_POINT:
+            return compare(x.doubleValue(), y.doubleValue());
+        default:
+            if(isSpecial(x) || isSpecial(y))
+                return Double.compare(x.doubleValue(), y.doubleValue());
+            else
+                return toBigDecimal(x).compareTo(toBigDecimal(y));
+        }
+    }
+    
+    private static int kind(final Number number) {
+        if(number instanceof Integer || number instanceof Long
+                || number instanceof Short || number instanceof Byte)
+            return INTEGRAL;
+        if(number instanceof Double || number instanceof Float)
+            return FLOATING_POINT;
+        return OTHER;
+    }
+    
+    private static int compare(final long x, final long y) {
+        return x < y ? -1 : (x == y ? 0 : 1);
+    }
+    
+    /**
+     * Compares two doubles like {@link BigDecimal} would (so <code>-0.0</code>
+     * and <code>0.0</code> are equal), except for NaN, which is compared like
+     * {@link Double#compare(double, double)} does.
+     */
+    private static int compare(final double x, final double y) {
+        if(x < y)
+            return -1;
+        if(x > y)
+            return 1;
+        if(x == y)
+            return 0;
+        return Double.compare(x, y);
+    }
+    
+    /**
+     * Compares a long to a double exactly, without converting the long to a
+     * double, which may round it.
+     */
+    private static int compare(final long x, final double y) {
+        if(Double.isNaN(y))
+            return -1;
+        if(y >= TWO_POW_63)
+            return -1;
+        if(y < -TWO_POW_63)
+            return 1;
+        /* Now y is in the range of long, so truncating it is exact up to the
+         * fraction, and subtracting the truncated value is exact too */
+        final long truncated = (long) y;
+        if(x != truncated)
+            return x < truncated ? -1 : 1;
+        final double fraction = y - truncated;
+        return fraction > 0 ? -1 : (fraction < 0 ? 1 : 0);
     }
     
     private static boolean isSpecial(final Number x) {
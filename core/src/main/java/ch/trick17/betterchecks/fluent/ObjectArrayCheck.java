@@ -2,8 +2,6 @@ package ch.trick17.betterchecks.fluent;
 
 import static ch.trick17.betterchecks.MessageType.*;
 
-import java.util.Arrays;
-
 import ch.trick17.betterchecks.MessageType;
 import ch.trick17.betterchecks.util.GwtCompatible;
 
@@ -41,8 +39,7 @@ public final class ObjectArrayCheck extends
      * @see #containsNoNull()
      */
     public ObjectArrayCheck isNotEmpty() {
-        return check(arg == null || arg.length != 0, ARG_EMPTY, argName, Arrays
-                .toString(arg));
+        return check(arg == null || arg.length != 0, ARG_EMPTY, ARG_NAME, arg);
     }
     
     /**
@@ -64,8 +61,8 @@ public final class ObjectArrayCheck extends
      * @see #hasLengthBetween(int, int)
      */
     public ObjectArrayCheck hasLength(final int length) {
-        return check(arg == null || arg.length == length, ARG_LENGTH, argName,
-                length, Arrays.toString(arg));
+        return check(arg == null || arg.length == length, ARG_LENGTH, ARG_NAME,
+                length, arg);
     }
     
     /**
@@ -90,7 +87,7 @@ public final class ObjectArrayCheck extends
      */
     public ObjectArrayCheck hasLengthBetween(final int min, final int max) {
         return check(arg == null || (arg.length >= min && arg.length <= max),
-                ARG_LENGTH_BETWEEN, argName, min, max, Arrays.toString(arg));
+                ARG_LENGTH_BETWEEN, ARG_NAME, min, max, arg);
     }
     
     /**
@@ -131,7 +128,7 @@ public final class ObjectArrayCheck extends
      */
     public ObjectArrayCheck containsNoNull() {
         return check(arg == null || testContainsNoNull(), ARG_CONTAINS_NULL,
-                argName, Arrays.toString(arg));
+                ARG_NAME, arg);
     }
     
     // IMPROVE: allElementsOfType
@@ -1,36 +1,57 @@
 package ch.trick17.betterchecks.fluent;
 
+import static ch.trick17.betterchecks.MessageType.ARG_ALL_BETWEEN;
+import static ch.trick17.betterchecks.MessageType.ARG_ALL_OTHER_THAN;
+import static ch.trick17.betterchecks.MessageType.ARG_ALL_POSITIVE;
 import static ch.trick17.betterchecks.MessageType.ARG_EMPTY;
 import static ch.trick17.betterchecks.MessageType.ARG_LENGTH;
 import static ch.trick17.betterchecks.MessageType.ARG_LENGTH_BETWEEN;
 
-import java.util.Arrays;
-
 import ch.trick17.betterchecks.MessageType;
+import ch.trick17.betterchecks.util.ArrayScans;
 import ch.trick17.betterchecks.util.GwtCompatible;
 
 /**
- * The check class for all types of primitive arrays. There is no separate class
- * for each primitive type of array. In addition to the array argument itself, a
- * check of this class stores the length of the array, which is the only thing
- * needed for the checks this class provides.
+ * The base class for the checks of primitive arrays, like {@link IntArrayCheck}
+ * or {@link DoubleArrayCheck}. It provides the checks that concern the length
+ * of the array. In addition to the array argument itself, a check of this
+ * class stores the length of the array, so these checks do not need to know
+ * the type of the array.
+ * <p>
+ * The element checks, like {@link IntArrayCheck#allElementsBetween(int, int)},
+ * are defined by the concrete check classes, with parameters of the element
+ * type. They scan the elements using the specialized loops of
+ * {@link ArrayScans}, without boxing any of them. If such a check fails, the
+ * exception message contains the index and the value of the first offending
+ * element. For the integral types, the messages are assembled by this class,
+ * so the concrete classes only scan the array and pass the offending
+ * element.
  * 
  * @author Michael Faes
+ * @param <T>
+ *            The array type, defined by the concrete check classes
+ * @param <C>
+ *            The type of the concrete check class. This parameter is necessary
+ *            for this base class to define methods that return the check object
+ *            itself (with the correct static type), which is necessary for the
+ *            fluent interface of all checks.
  */
 @GwtCompatible
-public final class PrimitiveArrayCheck extends
-        ObjectBaseCheck<Object, PrimitiveArrayCheck> {
+public abstract class PrimitiveArrayBaseCheck<T,
+        C extends PrimitiveArrayBaseCheck<T, C>> extends ObjectBaseCheck<T, C> {
     
-    private final int argLength;
+    private int argLength;
     
-    /**
-     * For internal use only.
-     */
-    public PrimitiveArrayCheck(Object arg, int argLength) {
+    protected PrimitiveArrayBaseCheck(final T arg, final int argLength) {
         super(arg);
         this.argLength = argLength;
     }
     
+    final C reset(final T newArg, final int newArgLength) {
+        argLength = newArgLength;
+        return reset(newArg);
+    }
+    
     /* Checks */
     
     /**
@@ -44,9 +65,8 @@ public final class PrimitiveArrayCheck extends
      * @throws IllegalArgumentException
      *             if the array argument is empty
      */
-    public PrimitiveArrayCheck isNotEmpty() {
-        return check(arg == null || argLength != 0, ARG_EMPTY, argName,
-                arrayToString(arg));
+    public final C isNotEmpty() {
+        return check(arg == null || argLength != 0, ARG_EMPTY, ARG_NAME, arg);
     }
     
     /**
@@ -67,9 +87,9 @@ public final class PrimitiveArrayCheck extends
      *             one.
      * @see #hasLengthBetween(int, int)
      */
-    public PrimitiveArrayCheck hasLength(final int length) {
-        return check(arg == null || argLength == length, ARG_LENGTH, argName,
-                length, arrayToString(arg));
+    public final C hasLength(final int length) {
+        return check(arg == null || argLength == length, ARG_LENGTH, ARG_NAME,
+                length, arg);
     }
     
     /**
@@ -91,9 +111,9 @@ public final class PrimitiveArrayCheck extends
      *             If the length of the array is strictly less than
      *             <code>min</code> or strictly greater than <code>max</code>.
      */
-    public PrimitiveArrayCheck hasLengthBetween(final int min, final int max) {
+    public final C hasLengthBetween(final int min, final int max) {
         return check(arg == null || (argLength >= min && argLength <= max),
-                ARG_LENGTH_BETWEEN, argName, min, max, arrayToString(arg));
+                ARG_LENGTH_BETWEEN, ARG_NAME, min, max, arg);
     }
     
     /**
@@ -116,31 +136,29 @@ public final class PrimitiveArrayCheck extends
      * 
      * @return A property check for the length of the array argument
      */
-    public IntCheck hasLengthWhich() {
+    public final IntCheck hasLengthWhich() {
         return intPropertyCheck(arg == null ? -1 : argLength, "length");
     }
     
-    /* Implementation methods */
+    /* Element checks of the integral array types. The concrete classes scan
+     * the array and pass the index of the first offending element (or -1 if
+     * there is none or if the array is null) and the element itself (or 0).
+     * The element is only boxed if there is one. */
+    
+    final C checkAllBetween(final long min, final long max, final int index,
+            final long element) {
+        return check(index < 0, ARG_ALL_BETWEEN, ARG_NAME, min, max, index,
+                index < 0 ? null : (Object) element);
+    }
+    
+    final C checkAllPositive(final int index, final long element) {
+        return check(index < 0, ARG_ALL_POSITIVE, ARG_NAME, index,
+                index < 0 ? null : (Object) element);
+    }
     
-    private static String arrayToString(final Object arg) {
-        if(arg == null)
-            return String.valueOf((Object) null);
-        if(arg instanceof boolean[])
-            return Arrays.toString((boolean[]) arg);
-        if(arg instanceof byte[])
-            return Arrays.toString((byte[]) arg);
-        if(arg instanceof char[])
-            return Arrays.toString((char[]) arg);
-        if(arg instanceof double[])
-            return Arrays.toString((double[]) arg);
-        if(arg instanceof float[])
-            return Arrays.toString((float[]) arg);
-        if(arg instanceof int[])
-            return Arrays.toString((int[]) arg);
-        if(arg instanceof long[])
-            return Arrays.toString((long[]) arg);
-        else
-            // arg instanceof short[]
-            return Arrays.toString((short[]) arg);
+    final C checkNoElementIs(final long value, final int index,
+            final long element) {
+        return check(index < 0, ARG_ALL_OTHER_THAN, ARG_NAME, value, index,
+                index < 0 ? null : (Object) element);
     }
 }
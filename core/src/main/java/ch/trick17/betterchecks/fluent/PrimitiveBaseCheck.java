@@ -1,7 +1,5 @@
 package ch.trick17.betterchecks.fluent;
 
-import static ch.trick17.betterchecks.Exceptions.illegalArgumentException;
-
 import ch.trick17.betterchecks.MessageType;
 import ch.trick17.betterchecks.util.GwtCompatible;
 
@@ -42,6 +40,12 @@ public class PrimitiveBaseCheck<C extends PrimitiveBaseCheck<C>> extends
         return me();
     }
     
+    @Override
+    void reset() {
+        super.reset();
+        disabled = false;
+    }
+    
     /**
      * A helper method that allows subclasses to perform simple checks
      * conveniently with a one-liner. It checks the given condition in the
@@ -57,6 +61,13 @@ public class PrimitiveBaseCheck<C extends PrimitiveBaseCheck<C>> extends
      * <li>Then, it resets the <code>inverted</code> flag.
      * <li>Finally, it returns this check.
      * </ul>
+     * In {@linkplain #inTestMode() test mode}, a failure is recorded instead
+     * of thrown (see {@link #fail(MessageType, boolean, Object[])}).
+     * <p>
+     * There are overloads of this method that take the argument name and up
+     * to three <code>long</code> or <code>double</code> message arguments.
+     * They should be preferred to this one, as they neither require an array
+     * nor boxing if the check passes.
      * 
      * @param condition
      *            The check condition
@@ -69,8 +80,148 @@ public class PrimitiveBaseCheck<C extends PrimitiveBaseCheck<C>> extends
      */
     protected final C check(final boolean condition, final MessageType msgType,
             final Object... msgArgs) {
-        if(!disabled && (inverted ? condition : !condition))
-            throw illegalArgumentException(msgType, inverted, msgArgs);
+        if(fails(condition))
+            fail(msgType, inverted, msgArgs);
+        return passed();
+    }
+    
+    /**
+     * The same as {@link #check(boolean, MessageType, Object...)}, for a
+     * single message argument.
+     */
+    @SuppressWarnings("javadoc")
+    protected final C check(final boolean condition, final MessageType msgType,
+            final Object msgArg) {
+        if(fails(condition))
+            fail(msgType, inverted,
+                    new Object[]{msgArg});
+        return passed();
+    }
+    
+    /**
+     * The same as {@link #check(boolean, MessageType, Object...)}, for an
+     * object (typically the argument name) and a <code>long</code> message
+     * argument, which is only boxed if the check fails.
+     */
+    @SuppressWarnings("javadoc")
+    protected final C check(final boolean condition, final MessageType msgType,
+            final Object msgArg1, final long msgArg2) {
+        if(fails(condition))
+            fail(msgType, inverted, new Object[]{
+                    msgArg1, msgArg2});
+        return passed();
+    }
+    
+    /**
+     * The same as {@link #check(boolean, MessageType, Object...)}, for an
+     * object (typically the argument name) and two <code>long</code> message
+     * arguments, which are only boxed if the check fails.
+     */
+    @SuppressWarnings("javadoc")
+    protected final C check(final boolean condition, final MessageType msgType,
+            final Object msgArg1, final long msgArg2, final long msgArg3) {
+        if(fails(condition))
+            fail(msgType, inverted, new Object[]{
+                    msgArg1, msgArg2, msgArg3});
+        return passed();
+    }
+    
+    /**
+     * The same as {@link #check(boolean, MessageType, Object...)}, for an
+     * object (typically the argument name) and three <code>long</code> message
+     * arguments, which are only boxed if the check fails.
+     */
+    @SuppressWarnings("javadoc")
+    protected final C check(final boolean condition, final MessageType msgType,
+            final Object msgArg1, final long msgArg2, final long msgArg3,
+            final long msgArg4) {
+        if(fails(condition))
+            fail(msgType, inverted, new Object[]{
+                    msgArg1, msgArg2, msgArg3, msgArg4});
+        return passed();
+    }
+    
+    /**
+     * The same as {@link #check(boolean, MessageType, Object...)}, for two
+     * objects (typically the argument name and an object describing the
+     * expected value) and a <code>long</code> message argument, which is only
+     * boxed if the check fails.
+     */
+    @SuppressWarnings("javadoc")
+    protected final C check(final boolean condition, final MessageType msgType,
+            final Object msgArg1, final Object msgArg2, final long msgArg3) {
+        if(fails(condition))
+            fail(msgType, inverted, new Object[]{
+                    msgArg1, msgArg2, msgArg3});
+        return passed();
+    }
+    
+    /**
+     * The same as {@link #check(boolean, MessageType, Object...)}, for an
+     * object (typically the argument name) and a <code>double</code> message
+     * argument, which is only boxed if the check fails.
+     */
+    @SuppressWarnings("javadoc")
+    protected final C check(final boolean condition, final MessageType msgType,
+            final Object msgArg1, final double msgArg2) {
+        if(fails(condition))
+            fail(msgType, inverted, new Object[]{
+                    msgArg1, msgArg2});
+        return passed();
+    }
+    
+    /**
+     * The same as {@link #check(boolean, MessageType, Object...)}, for an
+     * object (typically the argument name) and two <code>double</code> message
+     * arguments, which are only boxed if the check fails.
+     */
+    @SuppressWarnings("javadoc")
+    protected final C check(final boolean condition, final MessageType msgType,
+            final Object msgArg1, final double msgArg2, final double msgArg3) {
+        if(fails(condition))
+            fail(msgType, inverted, new Object[]{
+                    msgArg1, msgArg2, msgArg3});
+        return passed();
+    }
+    
+    /**
+     * The same as {@link #check(boolean, MessageType, Object...)}, for an
+     * object (typically the argument name) and three <code>double</code>
+     * message arguments, which are only boxed if the check fails.
+     */
+    @SuppressWarnings("javadoc")
+    protected final C check(final boolean condition, final MessageType msgType,
+            final Object msgArg1, final double msgArg2, final double msgArg3,
+            final double msgArg4) {
+        if(fails(condition))
+            fail(msgType, inverted, new Object[]{
+                    msgArg1, msgArg2, msgArg3, msgArg4});
+        return passed();
+    }
+    
+    /**
+     * The same as {@link #check(boolean, MessageType, Object...)}, for two
+     * objects (typically the argument name and an object describing the
+     * expected value) and a <code>double</code> message argument, which is
+     * only boxed if the check fails.
+     */
+    @SuppressWarnings("javadoc")
+    protected final C check(final boolean condition, final MessageType msgType,
+            final Object msgArg1, final Object msgArg2, final double msgArg3) {
+        if(fails(condition))
+            fail(msgType, inverted, new Object[]{
+                    msgArg1, msgArg2, msgArg3});
+        return passed();
+    }
+    
+    /* Implementation methods */
+    
+    private boolean fails(final boolean condition) {
+        checkNotReleased();
+        return !disabled && !skipped() && (inverted ? condition : !condition);
+    }
+    
+    private C passed() {
         inverted = false;
         return me();
     }
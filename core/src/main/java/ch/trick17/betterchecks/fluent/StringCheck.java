@@ -2,15 +2,27 @@ package ch.trick17.betterchecks.fluent;
 
 import static ch.trick17.betterchecks.MessageType.*;
 
+import java.net.MalformedURLException;
 import java.net.URL;
-import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Pattern;
 
 import ch.trick17.betterchecks.Check;
+import ch.trick17.betterchecks.Config;
 import ch.trick17.betterchecks.InvalidCheckException;
 import ch.trick17.betterchecks.MessageType;
+import ch.trick17.betterchecks.util.CompiledCidrSet;
+import ch.trick17.betterchecks.util.CompiledSequences;
 import ch.trick17.betterchecks.util.GwtCompatible;
 import ch.trick17.betterchecks.util.GwtIncompatible;
+import ch.trick17.betterchecks.util.HostSuffixSet;
+import ch.trick17.betterchecks.util.IpSyntax;
+import ch.trick17.betterchecks.util.NumberSyntax;
+import ch.trick17.betterchecks.util.PatternCache;
+import ch.trick17.betterchecks.util.SafePattern;
+import ch.trick17.betterchecks.util.UriSyntax;
 
 /**
  * The check class for {@link String} arguments.
@@ -30,6 +42,18 @@ import ch.trick17.betterchecks.util.GwtIncompatible;
 @GwtCompatible
 public final class StringCheck extends ObjectBaseCheck<String, StringCheck> {
     
+    /* Protocols for which java.net.URL accepts every syntactically valid URL
+     * (see UriSyntax), so the URL does not need to be created for checking */
+    private static final String[] FAST_URL_PROTOCOLS = {"http", "https",
+            "ftp", "file"};
+    
+    /* Whether there is a handler for other protocols, so that unknown ones
+     * can be rejected without an exception. Bounded, as the protocols may
+     * come from untrusted input. */
+    private static final ConcurrentMap<String, Boolean> URL_HANDLERS =
+            new ConcurrentHashMap<String, Boolean>();
+    private static final int MAX_URL_HANDLERS = 64;
+    
     /**
      * For internal use only.
      */
@@ -49,7 +73,7 @@ public final class StringCheck extends ObjectBaseCheck<String, StringCheck> {
      *             if the string argument is empty
      */
     public StringCheck isNotEmpty() {
-        return check(arg == null || !arg.isEmpty(), ARG_EMPTY, argName, arg);
+        return check(arg == null || !arg.isEmpty(), ARG_EMPTY, ARG_NAME, arg);
     }
     
     /**
@@ -66,7 +90,7 @@ public final class StringCheck extends ObjectBaseCheck<String, StringCheck> {
      */
     public StringCheck isNotWhitespace() {
         return check(arg == null || !arg.trim().isEmpty(), ARG_WHITESPACE,
-                argName);
+                ARG_NAME);
     }
     
     /**
@@ -89,7 +113,7 @@ public final class StringCheck extends ObjectBaseCheck<String, StringCheck> {
      */
     public StringCheck hasLength(final int length) {
         return check(arg == null || arg.length() == length, ARG_LENGTH,
-                argName, length, arg);
+                ARG_NAME, length, arg);
     }
     
     /**
@@ -115,7 +139,7 @@ public final class StringCheck extends ObjectBaseCheck<String, StringCheck> {
     public StringCheck hasLengthBetween(final int min, final int max) {
         return check(arg == null
                 || (arg.length() >= min && arg.length() <= max),
-                ARG_LENGTH_BETWEEN, argName, min, max, arg);
+                ARG_LENGTH_BETWEEN, ARG_NAME, min, max, arg);
     }
     
     /**
@@ -158,7 +182,7 @@ public final class StringCheck extends ObjectBaseCheck<String, StringCheck> {
      */
     public StringCheck startsWith(final String prefix) {
         return check(arg == null || arg.startsWith(prefix), ARG_STARTS,
-                argName, prefix, arg);
+                ARG_NAME, prefix, arg);
     }
     
     /**
@@ -176,7 +200,7 @@ public final class StringCheck extends ObjectBaseCheck<String, StringCheck> {
      * @see #startsWith(String)
      */
     public StringCheck endsWith(final String suffix) {
-        return check(arg == null || arg.endsWith(suffix), ARG_ENDS, argName,
+        return check(arg == null || arg.endsWith(suffix), ARG_ENDS, ARG_NAME,
                 suffix, arg);
     }
     
@@ -201,7 +225,7 @@ public final class StringCheck extends ObjectBaseCheck<String, StringCheck> {
      */
     public StringCheck contains(final CharSequence sequence) {
         return check(arg == null || arg.contains(sequence), ARG_CONTAINS,
-                argName, sequence, arg);
+                ARG_NAME, sequence, arg);
     }
     
     /**
@@ -225,7 +249,7 @@ public final class StringCheck extends ObjectBaseCheck<String, StringCheck> {
      */
     public StringCheck containsAny(final CharSequence... sequences) {
         return check(arg == null || testContainsAny(sequences),
-                ARG_CONTAINS_ANY, argName, Arrays.toString(sequences), arg);
+                ARG_CONTAINS_ANY, ARG_NAME, sequences, arg);
     }
     
     /**
@@ -246,15 +270,165 @@ public final class StringCheck extends ObjectBaseCheck<String, StringCheck> {
      */
     public StringCheck containsAll(final CharSequence... sequences) {
         return check(arg == null || testContainsAll(sequences),
-                ARG_CONTAINS_ALL, argName, Arrays.toString(sequences), arg);
+                ARG_CONTAINS_ALL, ARG_NAME, sequences, arg);
+    }
+    
+    /**
+     * Checks that the string argument contains at least one of the given
+     * compiled sequences, throwing an exception otherwise. This check is
+     * equivalent to {@link #containsAny(CharSequence...)}, but the argument is
+     * scanned only once, no matter how many sequences there are. This makes
+     * a big difference for large sets of sequences, which should be compiled
+     * once and then reused:
+     * <p>
+     * <code>Check.that(message).not().containsAny(BAD_WORDS);</code>
+     * <p>
+     * If the inverted form of this check fails, the exception message names
+     * the sequence that was found, using the {@link MessageType#ARG_CONTAINS}
+     * message type. Otherwise, the message type is
+     * {@link MessageType#ARG_CONTAINS_ANY}.
+     * 
+     * @param sequences
+     *            The compiled sequences of which the string argument should
+     *            contain at least one
+     * @return This check
+     * @throws IllegalArgumentException
+     *             if the string argument contains none of the given sequences
+     * @see CompiledSequences
+     */
+    public StringCheck containsAny(final CompiledSequences sequences) {
+        final String found = arg == null ? null : sequences.findFirst(arg);
+        if(found != null)
+            return check(true, ARG_CONTAINS, ARG_NAME, found, arg);
+        else
+            return check(arg == null, ARG_CONTAINS_ANY, ARG_NAME, sequences,
+                    arg);
+    }
+    
+    /**
+     * Checks that the string argument contains all of the given compiled
+     * sequences, throwing an exception otherwise. This check is equivalent to
+     * {@link #containsAll(CharSequence...)}, but the argument is scanned only
+     * once, no matter how many sequences there are.
+     * <p>
+     * If this check fails, the exception message names the first sequence
+     * that is missing, using the {@link MessageType#ARG_CONTAINS} message
+     * type. If the inverted form fails, the message type is
+     * {@link MessageType#ARG_CONTAINS_ALL}.
+     * 
+     * @param sequences
+     *            The compiled sequences the string argument must contain
+     * @return This check
+     * @throws IllegalArgumentException
+     *             if the string argument does not contain all the given
+     *             sequences
+     * @see CompiledSequences
+     */
+    public StringCheck containsAll(final CompiledSequences sequences) {
+        final String missing = arg == null ? null : sequences
+                .findMissing(arg);
+        if(missing != null)
+            return check(false, ARG_CONTAINS, ARG_NAME, missing, arg);
+        else
+            return check(true, ARG_CONTAINS_ALL, ARG_NAME, sequences, arg);
+    }
+    
+    /**
+     * Checks that the string argument is a host name that is equal to or a
+     * subdomain of one of the given domains, throwing an exception otherwise.
+     * For example, if the domains contain <code>example.com</code>, the hosts
+     * <code>example.com</code> and <code>www.example.com</code> are accepted,
+     * but not <code>notexample.com</code>. The host is matched in time
+     * proportional to its number of labels, no matter how many domains there
+     * are, so this check is suitable for large allow and deny lists:
+     * <p>
+     * <code>Check.that(host).not().isHostIn(BLOCKED_DOMAINS);</code>
+     * <p>
+     * If the inverted form of this check fails, the exception message names
+     * the matching domain. The message type used for exceptions thrown by
+     * this method is {@link MessageType#ARG_HOST_IN}.
+     * 
+     * @param domains
+     *            The compiled domains
+     * @return This check
+     * @throws IllegalArgumentException
+     *             if the string argument is not a host in one of the domains
+     * @see HostSuffixSet
+     */
+    public StringCheck isHostIn(final HostSuffixSet domains) {
+        final String match = arg == null ? null : domains.findMatch(arg);
+        if(match != null)
+            return check(true, ARG_HOST_IN, ARG_NAME, match, arg);
+        else
+            return check(arg == null, ARG_HOST_IN, ARG_NAME, domains, arg);
+    }
+    
+    /**
+     * Checks that the string argument is a valid IPv4 or IPv6 address,
+     * throwing an exception otherwise. IPv4 addresses must be in the
+     * dotted-decimal form with four octets, like <code>192.168.0.1</code>.
+     * Ambiguous forms like <code>0177.0.0.1</code> or <code>127.1</code> are
+     * not accepted. The address is never resolved.
+     * <p>
+     * The message type used for exceptions thrown by this method is
+     * {@link MessageType#ARG_IP_ADDRESS}.
+     * 
+     * @return This check
+     * @throws IllegalArgumentException
+     *             if the string argument is not a valid IP address
+     * @see IpSyntax
+     */
+    public StringCheck isIpAddress() {
+        return check(arg == null || IpSyntax.isIpAddress(arg), ARG_IP_ADDRESS,
+                ARG_NAME, arg);
+    }
+    
+    /**
+     * Checks that the string argument is an IP address in one of the given
+     * ranges, throwing an exception otherwise. The address is matched in
+     * time proportional to its number of bits, no matter how many ranges
+     * there are, so this check is suitable for large allow and deny lists:
+     * <p>
+     * <code>Check.that(address).not().isInCidrRanges(INTERNAL_RANGES);</code>
+     * <p>
+     * Note that strings that are not IP addresses are in none of the ranges,
+     * so they pass the inverted form of this check. Combine it with
+     * {@link #isIpAddress()} if necessary. If the inverted form of this check
+     * fails, the exception message names the matching range. The message
+     * type used for exceptions thrown by this method is
+     * {@link MessageType#ARG_IN_CIDR_RANGES}.
+     * 
+     * @param ranges
+     *            The compiled ranges
+     * @return This check
+     * @throws IllegalArgumentException
+     *             if the string argument is not an IP address in one of the
+     *             ranges
+     * @see CompiledCidrSet
+     */
+    public StringCheck isInCidrRanges(final CompiledCidrSet ranges) {
+        final String match = arg == null ? null : ranges.findMatch(arg);
+        if(match != null)
+            return check(true, ARG_IN_CIDR_RANGES, ARG_NAME, match, arg);
+        else
+            return check(arg == null, ARG_IN_CIDR_RANGES, ARG_NAME, ranges,
+                    arg);
     }
     
     /**
      * Checks that the string argument matches the given regular expression,
-     * throwing an exception otherwise. For maximum performance for non-dynamic
-     * patterns, consider reusing a {@link Pattern} object by passing it to the
+     * throwing an exception otherwise. The compiled regular expressions are
+     * kept in a bounded cache (see {@link Config#getPatternCacheSize()}), so
+     * regular expressions that are used repeatedly are not compiled each
+     * time. Still, for maximum performance for non-dynamic patterns, consider
+     * reusing a {@link Pattern} object by passing it to the
      * {@link #matches(Pattern)} check.
      * <p>
+     * Note that for some regular expressions, like <code>(.*a){12}b</code>,
+     * matching can take a very long time. If the string argument comes from
+     * an untrusted source, consider using {@link #matchesSafely(String)}
+     * instead.
+     * <p>
      * The message type used for exceptions thrown by this method is
      * {@link MessageType#ARG_MATCHES}.
      * 
@@ -268,8 +442,9 @@ public final class StringCheck extends ObjectBaseCheck<String, StringCheck> {
      * @see #matches(Pattern)
      */
     public StringCheck matches(final String regex) {
-        return check(arg == null || arg.matches(regex), ARG_MATCHES, argName,
-                regex, arg);
+        return check(arg == null
+                || PatternCache.getCache().get(regex).matcher(arg).matches(),
+                ARG_MATCHES, ARG_NAME, regex, arg);
     }
     
     /**
@@ -297,7 +472,62 @@ public final class StringCheck extends ObjectBaseCheck<String, StringCheck> {
     @GwtIncompatible("java.util.regex.Pattern")
     public StringCheck matches(final Pattern regex) {
         return check(arg == null || regex.matcher(arg).matches(), ARG_MATCHES,
-                argName, regex, arg);
+                ARG_NAME, regex, arg);
+    }
+    
+    /**
+     * Checks that the string argument matches the given regular expression in
+     * time linear in the length of the argument, throwing an exception
+     * otherwise. In contrast to {@link #matches(String)}, this check is safe
+     * to use with arguments from untrusted sources, because there is no
+     * expression for which matching may take excessive time ("ReDoS").
+     * However, only the regular subset of the {@link Pattern} syntax is
+     * supported; see {@link SafePattern} for details. Like for
+     * {@link #matches(String)}, the compiled regular expressions are cached.
+     * <p>
+     * The message type used for exceptions thrown by this method is
+     * {@link MessageType#ARG_MATCHES}.
+     * 
+     * @param regex
+     *            The regular expression the string argument must match
+     * @return This check
+     * @throws IllegalArgumentException
+     *             if the string argument does not match the given regular
+     *             expression
+     * @throws java.util.regex.PatternSyntaxException
+     *             if the regular expression is invalid or uses constructs that
+     *             are not supported by {@link SafePattern}
+     * @see #matches(SafePattern)
+     */
+    @GwtIncompatible("ch.trick17.betterchecks.util.SafePattern")
+    public StringCheck matchesSafely(final String regex) {
+        return check(arg == null
+                || PatternCache.getSafeCache().get(regex).matches(arg),
+                ARG_MATCHES, ARG_NAME, regex, arg);
+    }
+    
+    /**
+     * Checks that the string argument matches the given linear-time pattern,
+     * throwing an exception otherwise. This check is equivalent to the
+     * {@link #matchesSafely(String)} check, except that it is more efficient
+     * if the same pattern object is used multiple times. {@link SafePattern}
+     * objects are thread-safe, so it is safe to pass the same pattern to
+     * multiple checks.
+     * <p>
+     * The message type used for exceptions thrown by this method is
+     * {@link MessageType#ARG_MATCHES}.
+     * 
+     * @param regex
+     *            The pattern the string argument must match
+     * @return This check
+     * @throws IllegalArgumentException
+     *             if the string argument does not match the given pattern
+     * @see #matchesSafely(String)
+     */
+    @GwtIncompatible("ch.trick17.betterchecks.util.SafePattern")
+    public StringCheck matches(final SafePattern regex) {
+        return check(arg == null || regex.matches(arg), ARG_MATCHES, ARG_NAME,
+                regex, arg);
     }
     
     /**
@@ -318,7 +548,7 @@ public final class StringCheck extends ObjectBaseCheck<String, StringCheck> {
      *             if the check argument is not equal to the given string
      */
     public StringCheck is(final String string) {
-        return check(arg == null || arg.equals(string), ARG_IS, argName,
+        return check(arg == null || arg.equals(string), ARG_IS, ARG_NAME,
                string, arg);
     }
     
@@ -328,7 +558,15 @@ public final class StringCheck extends ObjectBaseCheck<String, StringCheck> {
      * <code>http://</code>, for example <code>ftp://</code> or
      * <code>file://</code>. To specify further requirements regarding the
      * protocol, the host or the path, use the {@link #isUrlWhich()} conversion
-     * check. For more information about valid URLs, see the {@link URL} class.
+     * check.
+     * <p>
+     * A valid URL must have the syntax defined by RFC 3986 (see
+     * {@link UriSyntax}) and a protocol that is supported by the {@link URL}
+     * class. The syntax is validated without creating a <code>URL</code>
+     * object and, for the common protocols <code>http</code>,
+     * <code>https</code>, <code>ftp</code> and <code>file</code>, without
+     * looking up the protocol handler, which makes this check cheap for both
+     * valid and invalid URLs.
      * <p>
      * The message type used for exceptions thrown by this method is
      * {@link MessageType#ARG_URL}.
@@ -336,18 +574,40 @@ public final class StringCheck extends ObjectBaseCheck<String, StringCheck> {
      * @return This check
      * @throws IllegalArgumentException
      *             if the check argument is not a valid URL
+     * @see #isUrlWithProtocol(String...)
      */
     @GwtIncompatible("java.net.URL")
     public StringCheck isUrl() {
-        URL url = null;
-        Exception cause = null;
-        try {
-            url = new URL(arg);
-        } catch(final Exception e) {
-            cause = e;
-        }
-        return checkWithCause(arg == null || url != null, ARG_URL, cause,
-                argName, arg);
+        final boolean valid = arg != null && isValidUrl(arg);
+        return checkWithCause(arg == null || valid, ARG_URL, urlCause(valid),
+                ARG_NAME, arg);
+    }
+    
+    /**
+     * Checks that the string argument is is a valid URL (as defined by
+     * {@link #isUrl()}) with one of the given protocols, throwing an exception
+     * otherwise. The protocols are compared ignoring case. For example:
+     * <p>
+     * <code>Check.that(string).isUrlWithProtocol("http", "https");</code>
+     * <p>
+     * The message type used for exceptions thrown by this method is
+     * {@link MessageType#ARG_URL_PROTOCOL}.
+     * 
+     * @param protocols
+     *            The allowed protocols, without the colon
+     * @return This check
+     * @throws IllegalArgumentException
+     *             if the check argument is not a valid URL or has another
+     *             protocol
+     */
+    @GwtIncompatible("java.net.URL")
+    public StringCheck isUrlWithProtocol(final String... protocols) {
+        boolean valid = false;
+        if(arg != null && isValidUrl(arg))
+            for(final String protocol : protocols)
+                valid |= UriSyntax.hasScheme(arg, protocol);
+        return checkWithCause(arg == null || valid, ARG_URL_PROTOCOL,
+                urlCause(valid), ARG_NAME, protocols, arg);
     }
     
     /**
@@ -357,6 +617,9 @@ public final class StringCheck extends ObjectBaseCheck<String, StringCheck> {
      * <p>
      * <code>Check.that(string).isUrlWhich().hasProtocol("http");</code>
      * <p>
+     * The {@link URL} object can be obtained from the returned check using
+     * {@link UrlCheck#value()}, so there is no need to create it again.
+     * <p>
      * Just like a normal check method, this method first asserts the
      * non-nullness of the argument, throwing an exception in case of a failure.
      * Otherwise, the returned check has the same argument name as this check
@@ -374,15 +637,11 @@ public final class StringCheck extends ObjectBaseCheck<String, StringCheck> {
     @GwtIncompatible("java.net.URL")
     public UrlCheck isUrlWhich() {
         checkConversion();
-        URL url = null;
-        Exception cause = null;
-        try {
-            url = new URL(arg);
-        } catch(final Exception e) {
-            cause = e;
-        }
-        checkWithCause(arg == null || url != null, ARG_URL, cause, argName, arg);
-        final UrlCheck urlCheck = Check.that(url).named(argName);
+        final boolean valid = arg != null && isValidUrl(arg);
+        checkWithCause(arg == null || valid, ARG_URL, urlCause(valid), ARG_NAME,
+                arg);
+        final UrlCheck urlCheck = derive(Check.that(valid ? toUrl(arg)
+                : null));
         if(nullAllowed)
             urlCheck.isNullOr();
         return urlCheck;
@@ -405,16 +664,9 @@ public final class StringCheck extends ObjectBaseCheck<String, StringCheck> {
      *             if the check argument is not a valid <code>int</code>
      */
     public StringCheck isInt() {
-        checkNull();
-        Integer number = null;
-        Exception cause = null;
-        try {
-            number = new Integer(arg);
-        } catch(final Exception e) {
-            cause = e;
-        }
-        return checkWithCause(arg == null || number != null, ARG_INT, cause,
-                argName, arg);
+        final boolean valid = arg != null && NumberSyntax.isInt(arg);
+        return checkWithCause(arg == null || valid, ARG_INT,
+                numberCause(valid), ARG_NAME, arg);
     }
     
     /**
@@ -425,6 +677,11 @@ public final class StringCheck extends ObjectBaseCheck<String, StringCheck> {
      * <p>
      * <code>Check.that(string).isIntWhich().isPositive();</code>
      * <p>
+     * The parsed number can be obtained from the returned check using
+     * {@link IntCheck#value()}, so there is no need to parse the string again:
+     * <p>
+     * <code>int port = Check.that(string).isIntWhich().isPositive().value();</code>
+     * <p>
      * Just like a normal check method, this method first asserts the
      * non-nullness of the argument, throwing an exception in case of a failure.
      * Otherwise, the returned check has the same argument name as this check
@@ -445,25 +702,201 @@ public final class StringCheck extends ObjectBaseCheck<String, StringCheck> {
     public IntCheck isIntWhich() {
         checkConversion();
         checkNull();
-        Integer number = null;
-        Exception cause = null;
-        try {
-            number = new Integer(arg);
-        } catch(final Exception e) {
-            cause = e;
-        }
-        checkWithCause(arg == null || number != null, ARG_INT, cause, argName,
-                arg);
-        if(number == null)
-            return Check.that(-1).named(argName).disable();
+        final boolean valid = arg != null && NumberSyntax.isInt(arg);
+        checkWithCause(arg == null || valid, ARG_INT, numberCause(valid),
+                ARG_NAME, arg);
+        if(!valid)
+            return derive(Check.that(-1)).disable();
         else
-            return Check.that((int) number).named(argName);
+            return derive(Check.that(Integer.parseInt(arg)));
+    }
+    
+    /**
+     * Checks that the string argument is a valid <code>long</code>,
+     * throwing an exception otherwise. Note that numbers outside of the
+     * <code>long</code> range (given by {@link Long#MIN_VALUE} and
+     * {@link Long#MAX_VALUE}) are invalid. See {@link Long#parseLong(String)}
+     * for a description of valid integer representations. To specify further
+     * requirements for the <code>long</code> that the string argument should
+     * represent, use the {@link #isLongWhich()} conversion check.
+     * <p>
+     * The message type used for exceptions thrown by this method is
+     * {@link MessageType#ARG_LONG}.
+     * 
+     * @return This check
+     * @throws IllegalArgumentException
+     *             if the check argument is not a valid <code>long</code>
+     */
+    public StringCheck isLong() {
+        final boolean valid = arg != null && NumberSyntax.isLong(arg);
+        return checkWithCause(arg == null || valid, ARG_LONG,
+                numberCause(valid), ARG_NAME, arg);
+    }
+    
+    /**
+     * First checks that the string argument is a valid <code>long</code> and
+     * then "converts" this check into a {@link LongCheck} and returns it. This
+     * can be used to create checks involving properties of the
+     * <code>long</code>. For example:
+     * <p>
+     * <code>Check.that(string).isLongWhich().isPositive();</code>
+     * <p>
+     * The returned check behaves like the one returned by
+     * {@link #isIntWhich()}. The message type used for exceptions thrown by
+     * <em>this</em> method (not the subsequent {@link LongCheck} checks) is
+     * {@link MessageType#ARG_LONG}.
+     * 
+     * @return A <code>long</code> check for asserting properties of the
+     *         <code>long</code> represented by the string argument
+     * @throws InvalidCheckException
+     *             If this check has just been inverted using {@link #not()}.
+     *             This is prohibited as it would allow unintuitive checks.
+     */
+    public LongCheck isLongWhich() {
+        checkConversion();
+        checkNull();
+        final boolean valid = arg != null && NumberSyntax.isLong(arg);
+        checkWithCause(arg == null || valid, ARG_LONG, numberCause(valid),
+                ARG_NAME, arg);
+        if(!valid)
+            return derive(Check.that(-1L)).disable();
+        else
+            return derive(Check.that(Long.parseLong(arg)));
+    }
+    
+    /**
+     * Checks that the string argument is a valid <code>double</code>,
+     * throwing an exception otherwise. See {@link Double#valueOf(String)} for
+     * a description of valid representations, which include
+     * <code>"NaN"</code> and <code>"Infinity"</code>. To exclude these, or to
+     * specify further requirements for the <code>double</code> that the string
+     * argument should represent, use the {@link #isDoubleWhich()} conversion
+     * check.
+     * <p>
+     * The message type used for exceptions thrown by this method is
+     * {@link MessageType#ARG_DOUBLE}.
+     * 
+     * @return This check
+     * @throws IllegalArgumentException
+     *             if the check argument is not a valid <code>double</code>
+     */
+    public StringCheck isDouble() {
+        final boolean valid = arg != null && NumberSyntax.isDouble(arg);
+        return checkWithCause(arg == null || valid, ARG_DOUBLE,
+                numberCause(valid), ARG_NAME, arg);
     }
     
-    // IMPROVE: isDouble, isDoubleWhich
+    /**
+     * First checks that the string argument is a valid <code>double</code>
+     * and then "converts" this check into a {@link DoubleCheck} and returns
+     * it. This can be used to create checks involving properties of the
+     * <code>double</code>. For example:
+     * <p>
+     * <code>Check.that(string).isDoubleWhich().isNumber().isPositive();</code>
+     * <p>
+     * The returned check behaves like the one returned by
+     * {@link #isIntWhich()}. The message type used for exceptions thrown by
+     * <em>this</em> method (not the subsequent {@link DoubleCheck} checks) is
+     * {@link MessageType#ARG_DOUBLE}.
+     * 
+     * @return A <code>double</code> check for asserting properties of the
+     *         <code>double</code> represented by the string argument
+     * @throws InvalidCheckException
+     *             If this check has just been inverted using {@link #not()}.
+     *             This is prohibited as it would allow unintuitive checks.
+     */
+    public DoubleCheck isDoubleWhich() {
+        checkConversion();
+        checkNull();
+        final boolean valid = arg != null && NumberSyntax.isDouble(arg);
+        checkWithCause(arg == null || valid, ARG_DOUBLE, numberCause(valid),
+                ARG_NAME, arg);
+        if(!valid)
+            return derive(Check.that(-1.0)).disable();
+        else
+            return derive(Check.that(Double.parseDouble(arg)));
+    }
     
     /* Implementation methods */
     
+    /**
+     * Returns a cheap cause for a failing number check, so that no exception
+     * needs to be thrown and caught when parsing. Inverted number checks only
+     * fail for valid numbers, so they never need a cause.
+     */
+    private NumberFormatException numberCause(final boolean valid) {
+        return valid || arg == null || inverted ? null : NumberSyntax
+                .numberFormatException(arg);
+    }
+    
+    @GwtIncompatible("java.net.URL")
+    private static boolean isValidUrl(final String string) {
+        if(!UriSyntax.isUri(string))
+            return false;
+        for(final String protocol : FAST_URL_PROTOCOLS)
+            if(UriSyntax.hasScheme(string, protocol))
+                return true;
+        /* Other protocols may or may not have a handler, and the handler may
+         * impose further restrictions (e.g., "jar" URLs need a "!/") */
+        if(!hasUrlHandler(string.substring(0, string.indexOf(':'))))
+            return false;
+        try {
+            new URL(string);
+            return true;
+        } catch(final MalformedURLException e) {
+            return false;
+        }
+    }
+    
+    @GwtIncompatible("java.net.URL")
+    private static boolean hasUrlHandler(final String protocol) {
+        final String key = protocol.toLowerCase(Locale.ROOT);
+        Boolean exists = URL_HANDLERS.get(key);
+        if(exists == null) {
+            try {
+                /* Only looks up the handler, without parsing anything */
+                new URL(key, "", "");
+                exists = true;
+            } catch(final MalformedURLException e) {
+                exists = false;
+            }
+            if(URL_HANDLERS.size() < MAX_URL_HANDLERS)
+                URL_HANDLERS.put(key, exists);
+        }
+        return exists;
+    }
+    
+    /**
+     * Returns the cause for a failing URL check, which explains why the
+     * argument is not a valid URL, or <code>null</code> if it is a valid URL
+     * (but, for example, has another protocol).
+     */
+    @GwtIncompatible("java.net.URL")
+    private MalformedURLException urlCause(final boolean valid) {
+        if(valid || arg == null || inverted)
+            return null;
+        final int error = UriSyntax.findError(arg);
+        if(error >= 0)
+            return new MalformedURLException(error == arg.length()
+                    ? "incomplete URL: " + arg
+                    : "illegal character at index " + error + ": " + arg);
+        try {
+            new URL(arg);
+            return null;
+        } catch(final MalformedURLException e) {
+            return e;
+        }
+    }
+    
+    @GwtIncompatible("java.net.URL")
+    private static URL toUrl(final String validUrl) {
+        try {
+            return new URL(validUrl);
+        } catch(final MalformedURLException e) {
+            throw new AssertionError(e);
+        }
+    }
+    
     private boolean testContainsAll(final CharSequence... sequences) {
         for(final CharSequence sequence : sequences) {
             if(!arg.contains(sequence))
@@ -0,0 +1,26 @@
+package ch.trick17.betterchecks.fluent;
+
+import ch.trick17.betterchecks.MessageType;
+import ch.trick17.betterchecks.util.GwtCompatible;
+
+/**
+ * The outcome of a chain of checks in test mode. It records the first failure
+ * (if any) with everything needed to format the message later on.
+ * 
+ * @author Michael Faes
+ * @see BaseCheck#inTestMode()
+ */
+@GwtCompatible
+final class TestOutcome {
+    
+    MessageType msgType;
+    boolean inverted;
+    Object[] msgArgs;
+    
+    void record(final MessageType type, final boolean invertedMsg,
+            final Object[] args) {
+        msgType = type;
+        inverted = invertedMsg;
+        msgArgs = args;
+    }
+}
@@ -0,0 +1,345 @@
+package ch.trick17.betterchecks.fluent;
+
+import static ch.trick17.betterchecks.MessageType.ARG_HAS_HOST_IN;
+import static ch.trick17.betterchecks.MessageType.ARG_HAS_HOST_IN_CIDR_RANGES;
+import static ch.trick17.betterchecks.MessageType.ARG_IP_ADDRESS_HOST;
+import static ch.trick17.betterchecks.MessageType.ARG_SCHEME;
+
+import java.net.URI;
+
+import ch.trick17.betterchecks.MessageType;
+import ch.trick17.betterchecks.util.CompiledCidrSet;
+import ch.trick17.betterchecks.util.HostSuffixSet;
+import ch.trick17.betterchecks.util.IpSyntax;
+
+/**
+ * The check class for {@link URI} arguments.
+ * <p>
+ * It provides a quick method to assert a certain scheme (
+ * {@link #hasScheme(String)}) and other than that provides property checks
+ * for all properties, including host, port, path, query, etc. These are the
+ * same as the ones of the {@link UrlCheck}, except that they are named after
+ * the methods of {@link URI} (e.g., {@link #hasSchemeWhich()} instead of
+ * {@link UrlCheck#hasProtocolWhich()}).
+ * <p>
+ * Unlike {@link java.net.URL}s, URIs are compared syntactically by
+ * {@link URI#equals(Object)}, so the inherited {@link #isEqualTo(Object)}
+ * check never accesses the network.
+ * 
+ * @author Michael Faes
+ */
+public final class UriCheck extends ObjectBaseCheck<URI, UriCheck> {
+    
+    /**
+     * For internal use only.
+     */
+    public UriCheck(URI arg) {
+        super(arg);
+    }
+    
+    /**
+     * Checks that the {@link URI} argument has the given scheme, throwing an
+     * exception otherwise. As schemes are case-insensitive, the case is
+     * ignored when comparing them.
+     * <p>
+     * The message type used for exceptions thrown by this method is
+     * {@link MessageType#ARG_SCHEME}.
+     * <p>
+     * To create more sophisticated checks using the URI scheme, use the
+     * {@link #hasSchemeWhich()} property check.
+     * 
+     * @param scheme
+     *            The scheme the URI should have
+     * @return This check
+     * @throws IllegalArgumentException
+     *             if the URI argument has a scheme different from the given
+     *             one
+     */
+    public UriCheck hasScheme(final String scheme) {
+        return check(arg == null || arg.getScheme() != null
+                && arg.getScheme().equalsIgnoreCase(scheme), ARG_SCHEME,
+                ARG_NAME, scheme, arg);
+    }
+    
+    /**
+     * Creates an {@link StringCheck} property check for the scheme of the
+     * {@link URI} argument. It can be used to create advanced checks using the
+     * scheme. For example:
+     * <p>
+     * <code>Check.that(uri).hasSchemeWhich().matches("https?");</code>
+     * <p>
+     * Just like a check method, this method first asserts the non-nullness of
+     * the argument, throwing an exception in case of a failure.
+     * <p>
+     * The returned check has the scheme of this check's URI set as the
+     * argument and an argument name that indicates this fact. If the URI
+     * reference is <code>null</code> and allowed to be so, the returned
+     * property check is completely disabled, meaning none of its check methods
+     * will throw an exception. An inversion called before this method is
+     * ignored and does <strong>not</strong> have any effect on the check
+     * methods called on the returned property check. Note that relative URIs
+     * have no scheme, so the argument of the property check is
+     * <code>null</code>.
+     * 
+     * @return A property check for the scheme of the URI argument
+     * @see URI#getScheme()
+     */
+    public StringCheck hasSchemeWhich() {
+        return objectPropertyCheck(StringCheck.class, arg == null ? null : arg
+                .getScheme(), "scheme");
+    }
+    
+    /**
+     * Creates an {@link StringCheck} property check for the host of the
+     * {@link URI} argument.
+     * <p>
+     * Just like a check method, this method first asserts the non-nullness of
+     * the argument, throwing an exception in case of a failure.
+     * <p>
+     * The returned check has the host of this check's URI set as the
+     * argument and an argument name that indicates this fact. If the URI
+     * reference is <code>null</code> and allowed to be so, the returned
+     * property check is completely disabled, meaning none of its check methods
+     * will throw an exception. An inversion called before this method is
+     * ignored and does <strong>not</strong> have any effect on the check
+     * methods called on the returned property check.
+     * 
+     * @return A property check for the host of the URI argument
+     * @see URI#getHost()
+     */
+    public StringCheck hasHostWhich() {
+        return objectPropertyCheck(StringCheck.class, arg == null ? null : arg
+                .getHost(), "host");
+    }
+    
+    /**
+     * Checks that the host of the {@link URI} argument is equal to or a
+     * subdomain of one of the given domains, throwing an exception otherwise.
+     * This check can be used for large allow and deny lists of domains, as
+     * the host is matched in time proportional to its number of labels, no
+     * matter how many domains there are. For example:
+     * <p>
+     * <code>Check.that(uri).not().hasHostIn(BLOCKED_DOMAINS);</code>
+     * <p>
+     * If the inverted form of this check fails, the exception message names
+     * the matching domain. The message type used for exceptions thrown by
+     * this method is {@link MessageType#ARG_HAS_HOST_IN}.
+     * 
+     * @param domains
+     *            The compiled domains
+     * @return This check
+     * @throws IllegalArgumentException
+     *             if the host of the URI argument is not in one of the domains
+     * @see HostSuffixSet
+     * @see StringCheck#isHostIn(HostSuffixSet)
+     */
+    public UriCheck hasHostIn(final HostSuffixSet domains) {
+        final String host = arg == null ? null : arg.getHost();
+        final String match = host == null ? null : domains.findMatch(host);
+        if(match != null)
+            return check(true, ARG_HAS_HOST_IN, ARG_NAME, match, arg);
+        else
+            return check(arg == null, ARG_HAS_HOST_IN, ARG_NAME, domains, arg);
+    }
+    
+    /**
+     * Checks that the host of the {@link URI} argument is an IP address,
+     * throwing an exception otherwise. IPv6 addresses must be enclosed in
+     * brackets, like in <code>http://[::1]/</code>, as required by the URI
+     * syntax. The host is never resolved.
+     * <p>
+     * The message type used for exceptions thrown by this method is
+     * {@link MessageType#ARG_IP_ADDRESS_HOST}.
+     * 
+     * @return This check
+     * @throws IllegalArgumentException
+     *             if the host of the URI argument is not an IP address
+     * @see StringCheck#isIpAddress()
+     */
+    public UriCheck hasIpAddressHost() {
+        final String host = arg == null ? null : arg.getHost();
+        return check(arg == null || host != null && IpSyntax.isIpHost(host),
+                ARG_IP_ADDRESS_HOST, ARG_NAME, arg);
+    }
+    
+    /**
+     * Checks that the host of the {@link URI} argument is an IP address in
+     * one of the given ranges, throwing an exception otherwise. This check
+     * can be used for large allow and deny lists of IP ranges, as the host is
+     * matched in time proportional to the number of bits of the address, no
+     * matter how many ranges there are. For example:
+     * <p>
+     * <code>Check.that(uri).not().hasHostInCidrRanges(INTERNAL_RANGES);</code>
+     * <p>
+     * Note that host names are never resolved, so a URI with a host name
+     * passes the inverted form of this check, even if the name refers to an
+     * address in one of the ranges. The same goes for numeric hosts that are
+     * not IP addresses in the usual notation, like <code>2130706433</code>,
+     * which many clients treat as <code>127.0.0.1</code>. For protection
+     * against requests to internal addresses, also check the address the name
+     * resolves to when connecting, or combine this check with
+     * {@link #hasIpAddressHost()} or {@link #hasHostIn(HostSuffixSet)}. If
+     * the inverted form of this check fails, the exception message names the
+     * matching range. The message type used for exceptions thrown by this
+     * method is {@link MessageType#ARG_HAS_HOST_IN_CIDR_RANGES}.
+     * 
+     * @param ranges
+     *            The compiled ranges
+     * @return This check
+     * @throws IllegalArgumentException
+     *             if the host of the URI argument is not an IP address in one
+     *             of the ranges
+     * @see CompiledCidrSet
+     * @see StringCheck#isInCidrRanges(CompiledCidrSet)
+     */
+    public UriCheck hasHostInCidrRanges(final CompiledCidrSet ranges) {
+        final String host = arg == null ? null : arg.getHost();
+        final String match = host == null ? null : ranges.findMatch(host);
+        if(match != null)
+            return check(true, ARG_HAS_HOST_IN_CIDR_RANGES, ARG_NAME, match,
+                    arg);
+        else
+            return check(arg == null, ARG_HAS_HOST_IN_CIDR_RANGES, ARG_NAME,
+                    ranges, arg);
+    }
+    
+    /**
+     * Creates an {@link IntCheck} property check for the port of the
+     * {@link URI} argument. It can be used to create checks using the port. For
+     * example:
+     * <p>
+     * <code>Check.that(uri).hasPortWhich().is(80);</code>
+     * <p>
+     * Just like a check method, this method first asserts the non-nullness of
+     * the argument, throwing an exception in case of a failure.
+     * <p>
+     * The returned check has the port of this check's URI set as the argument
+     * and an argument name that indicates this fact. If the URI reference is
+     * <code>null</code> and allowed to be so, the returned property check is
+     * completely disabled, meaning none of its check methods will throw an
+     * exception. An inversion called before this method is ignored and does
+     * <strong>not</strong> have any effect on the check methods called on the
+     * returned property check.
+     * 
+     * @return A property check for the port of the URI argument
+     * @see URI#getPort()
+     */
+    public IntCheck hasPortWhich() {
+        return intPropertyCheck(arg == null ? -1 : arg.getPort(), "port");
+    }
+    
+    /**
+     * Creates an {@link StringCheck} property check for the authority of the
+     * {@link URI} argument.
+     * <p>
+     * Just like a check method, this method first asserts the non-nullness of
+     * the argument, throwing an exception in case of a failure.
+     * <p>
+     * The returned check has the authority of this check's URI set as the
+     * argument and an argument name that indicates this fact. If the URI
+     * reference is <code>null</code> and allowed to be so, the returned
+     * property check is completely disabled, meaning none of its check methods
+     * will throw an exception. An inversion called before this method is
+     * ignored and does <strong>not</strong> have any effect on the check
+     * methods called on the returned property check.
+     * 
+     * @return A property check for the authority of the URI argument
+     * @see URI#getAuthority()
+     */
+    public StringCheck hasAuthorityWhich() {
+        return objectPropertyCheck(StringCheck.class, arg == null ? null : arg
+                .getAuthority(), "authority");
+    }
+    
+    /**
+     * Creates an {@link StringCheck} property check for the path of the
+     * {@link URI} argument.
+     * <p>
+     * Just like a check method, this method first asserts the non-nullness of
+     * the argument, throwing an exception in case of a failure.
+     * <p>
+     * The returned check has the path of this check's URI set as the
+     * argument and an argument name that indicates this fact. If the URI
+     * reference is <code>null</code> and allowed to be so, the returned
+     * property check is completely disabled, meaning none of its check methods
+     * will throw an exception. An inversion called before this method is
+     * ignored and does <strong>not</strong> have any effect on the check
+     * methods called on the returned property check.
+     * 
+     * @return A property check for the path of the URI argument
+     * @see URI#getPath()
+     */
+    public StringCheck hasPathWhich() {
+        return objectPropertyCheck(StringCheck.class, arg == null ? null : arg
+                .getPath(), "path");
+    }
+    
+    /**
+     * Creates an {@link StringCheck} property check for the query of the
+     * {@link URI} argument.
+     * <p>
+     * Just like a check method, this method first asserts the non-nullness of
+     * the argument, throwing an exception in case of a failure.
+     * <p>
+     * The returned check has the query of this check's URI set as the
+     * argument and an argument name that indicates this fact. If the URI
+     * reference is <code>null</code> and allowed to be so, the returned
+     * property check is completely disabled, meaning none of its check methods
+     * will throw an exception. An inversion called before this method is
+     * ignored and does <strong>not</strong> have any effect on the check
+     * methods called on the returned property check.
+     * 
+     * @return A property check for the query of the URI argument
+     * @see URI#getQuery()
+     */
+    public StringCheck hasQueryWhich() {
+        return objectPropertyCheck(StringCheck.class, arg == null ? null : arg
+                .getQuery(), "query");
+    }
+    
+    /**
+     * Creates an {@link StringCheck} property check for the user info of the
+     * {@link URI} argument.
+     * <p>
+     * Just like a check method, this method first asserts the non-nullness of
+     * the argument, throwing an exception in case of a failure.
+     * <p>
+     * The returned check has the user info of this check's URI set as the
+     * argument and an argument name that indicates this fact. If the URI
+     * reference is <code>null</code> and allowed to be so, the returned
+     * property check is completely disabled, meaning none of its check methods
+     * will throw an exception. An inversion called before this method is
+     * ignored and does <strong>not</strong> have any effect on the check
+     * methods called on the returned property check.
+     * 
+     * @return A property check for the user info of the URI argument
+     * @see URI#getUserInfo()
+     */
+    public StringCheck hasUserInfoWhich() {
+        return objectPropertyCheck(StringCheck.class, arg == null ? null : arg
+                .getUserInfo(), "user info");
+    }
+    
+    /**
+     * Creates an {@link StringCheck} property check for the fragment of the
+     * {@link URI} argument.
+     * <p>
+     * Just like a check method, this method first asserts the non-nullness of
+     * the argument, throwing an exception in case of a failure.
+     * <p>
+     * The returned check has the fragment of this check's URI set as the
+     * argument and an argument name that indicates this fact. If the URI
+     * reference is <code>null</code> and allowed to be so, the returned
+     * property check is completely disabled, meaning none of its check methods
+     * will throw an exception. An inversion called before this method is
+     * ignored and does <strong>not</strong> have any effect on the check
+     * methods called on the returned property check.
+     * 
+     * @return A property check for the fragment of the URI argument
+     * @see URI#getFragment()
+     */
+    public StringCheck hasFragmentWhich() {
+        return objectPropertyCheck(StringCheck.class, arg == null ? null : arg
+                .getFragment(), "fragment");
+    }
+}
@@ -1,10 +1,16 @@
 package ch.trick17.betterchecks.fluent;
 
+import static ch.trick17.betterchecks.MessageType.ARG_HAS_HOST_IN;
+import static ch.trick17.betterchecks.MessageType.ARG_HAS_HOST_IN_CIDR_RANGES;
+import static ch.trick17.betterchecks.MessageType.ARG_IP_ADDRESS_HOST;
 import static ch.trick17.betterchecks.MessageType.ARG_PROTOCOL;
 
 import java.net.URL;
 
 import ch.trick17.betterchecks.MessageType;
+import ch.trick17.betterchecks.util.CompiledCidrSet;
+import ch.trick17.betterchecks.util.HostSuffixSet;
+import ch.trick17.betterchecks.util.IpSyntax;
 
 /**
  * The check class for {@link URL} arguments.
@@ -12,6 +18,14 @@ import ch.trick17.betterchecks.MessageType;
  * It provides a quick method to assert a certain protocol (
  * {@link #hasProtocol(String)}) and other than that provides property checks
  * for all properties, including host, file, port, query, etc.
+ * <p>
+ * Note that the inherited {@link #isEqualTo(Object)} check does
+ * <strong>not</strong> use {@link URL#equals(Object)}, as that method resolves
+ * the host names of the URLs, which is a blocking network operation. Instead,
+ * URLs are compared syntactically: the same way as by <code>equals</code>,
+ * except that hosts are compared by name (ignoring case). Consider
+ * using {@link java.net.URI}s (and the {@link UriCheck}) altogether, if you
+ * do not need the networking capabilities of {@link URL}.
  * 
  * @author Michael Faes
  */
@@ -43,7 +57,7 @@ public final class UrlCheck extends ObjectBaseCheck<URL, UrlCheck> {
      */
     public UrlCheck hasProtocol(final String protocol) {
         return check(arg == null || arg.getProtocol().equals(protocol),
-                ARG_PROTOCOL, argName, protocol, arg);
+                ARG_PROTOCOL, ARG_NAME, protocol, arg);
     }
     
     /**
@@ -96,6 +110,97 @@ public final class UrlCheck extends ObjectBaseCheck<URL, UrlCheck> {
                 .getHost(), "host");
     }
     
+    /**
+     * Checks that the host of the {@link URL} argument is equal to or a
+     * subdomain of one of the given domains, throwing an exception otherwise.
+     * This check can be used for large allow and deny lists of domains, as
+     * the host is matched in time proportional to its number of labels, no
+     * matter how many domains there are. For example:
+     * <p>
+     * <code>Check.that(url).not().hasHostIn(BLOCKED_DOMAINS);</code>
+     * <p>
+     * If the inverted form of this check fails, the exception message names
+     * the matching domain. The message type used for exceptions thrown by
+     * this method is {@link MessageType#ARG_HAS_HOST_IN}.
+     * 
+     * @param domains
+     *            The compiled domains
+     * @return This check
+     * @throws IllegalArgumentException
+     *             if the host of the URL argument is not in one of the domains
+     * @see HostSuffixSet
+     * @see StringCheck#isHostIn(HostSuffixSet)
+     */
+    public UrlCheck hasHostIn(final HostSuffixSet domains) {
+        final String host = arg == null ? null : arg.getHost();
+        final String match = host == null ? null : domains.findMatch(host);
+        if(match != null)
+            return check(true, ARG_HAS_HOST_IN, ARG_NAME, match, arg);
+        else
+            return check(arg == null, ARG_HAS_HOST_IN, ARG_NAME, domains, arg);
+    }
+    
+    /**
+     * Checks that the host of the {@link URL} argument is an IP address,
+     * throwing an exception otherwise. IPv6 addresses must be enclosed in
+     * brackets, like in <code>http://[::1]/</code>, as required by the URI
+     * syntax. The host is never resolved.
+     * <p>
+     * The message type used for exceptions thrown by this method is
+     * {@link MessageType#ARG_IP_ADDRESS_HOST}.
+     * 
+     * @return This check
+     * @throws IllegalArgumentException
+     *             if the host of the URL argument is not an IP address
+     * @see StringCheck#isIpAddress()
+     */
+    public UrlCheck hasIpAddressHost() {
+        final String host = arg == null ? null : arg.getHost();
+        return check(arg == null || host != null && IpSyntax.isIpHost(host),
+                ARG_IP_ADDRESS_HOST, ARG_NAME, arg);
+    }
+    
+    /**
+     * Checks that the host of the {@link URL} argument is an IP address in
+     * one of the given ranges, throwing an exception otherwise. This check
+     * can be used for large allow and deny lists of IP ranges, as the host is
+     * matched in time proportional to the number of bits of the address, no
+     * matter how many ranges there are. For example:
+     * <p>
+     * <code>Check.that(url).not().hasHostInCidrRanges(INTERNAL_RANGES);</code>
+     * <p>
+     * Note that host names are never resolved, so a URL with a host name
+     * passes the inverted form of this check, even if the name refers to an
+     * address in one of the ranges. The same goes for numeric hosts that are
+     * not IP addresses in the usual notation, like <code>2130706433</code>,
+     * which many clients treat as <code>127.0.0.1</code>. For protection
+     * against requests to internal addresses, also check the address the name
+     * resolves to when connecting, or combine this check with
+     * {@link #hasIpAddressHost()} or {@link #hasHostIn(HostSuffixSet)}. If
+     * the inverted form of this check fails, the exception message names the
+     * matching range. The message type used for exceptions thrown by this
+     * method is {@link MessageType#ARG_HAS_HOST_IN_CIDR_RANGES}.
+     * 
+     * @param ranges
+     *            The compiled ranges
+     * @return This check
+     * @throws IllegalArgumentException
+     *             if the host of the URL argument is not an IP address in one
+     *             of the ranges
+     * @see CompiledCidrSet
+     * @see StringCheck#isInCidrRanges(CompiledCidrSet)
+     */
+    public UrlCheck hasHostInCidrRanges(final CompiledCidrSet ranges) {
+        final String host = arg == null ? null : arg.getHost();
+        final String match = host == null ? null : ranges.findMatch(host);
+        if(match != null)
+            return check(true, ARG_HAS_HOST_IN_CIDR_RANGES, ARG_NAME, match,
+                    arg);
+        else
+            return check(arg == null, ARG_HAS_HOST_IN_CIDR_RANGES, ARG_NAME,
+                    ranges, arg);
+    }
+    
     /**
      * Creates an {@link IntCheck} property check for the port of the
      * {@link URL} argument. It can be used to create checks using the port. For
@@ -258,4 +363,32 @@ public final class UrlCheck extends ObjectBaseCheck<URL, UrlCheck> {
         return objectPropertyCheck(StringCheck.class, arg == null ? null : arg
                 .getRef(), "reference (anchor)");
     }
+    
+    /**
+     * Compares the URL argument to the given object like
+     * {@link URL#equals(Object)} does, except that the hosts are compared by
+     * name (ignoring case) instead of by IP address. This means that no host
+     * names are resolved and two URLs for different hosts with the same
+     * address are not equal.
+     */
+    @Override
+    boolean argEquals(final Object object) {
+        if(!(object instanceof URL))
+            return false;
+        final URL other = (URL) object;
+        return equal(arg.getRef(), other.getRef())
+                && arg.getProtocol().equalsIgnoreCase(other.getProtocol())
+                && equal(arg.getFile(), other.getFile())
+                && port(arg) == port(other)
+                && (arg.getHost() == null ? other.getHost() == null : arg
+                        .getHost().equalsIgnoreCase(other.getHost()));
+    }
+    
+    private static int port(final URL url) {
+        return url.getPort() == -1 ? url.getDefaultPort() : url.getPort();
+    }
+    
+    private static boolean equal(final Object o1, final Object o2) {
+        return o1 == null ? o2 == null : o1.equals(o2);
+    }
 }
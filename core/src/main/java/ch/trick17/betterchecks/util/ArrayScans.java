@@ -0,0 +1,374 @@
+package ch.trick17.betterchecks.util;
+
+/**
+ * Scans primitive arrays for elements that violate a condition, returning the
+ * index of the first such element, or -1 if there is none. These methods are
+ * used by the element checks of the primitive array checks, like
+ * <code>IntArrayCheck.allElementsBetween(int, int)</code>.
+ * <p>
+ * All scans are plain counted loops, which the JIT compiler of the JVM is free
+ * to unroll and, where it is able to, vectorize. For the most common element
+ * types, <code>int</code> and <code>long</code>, the range scans go one step
+ * further: They first check whole blocks of elements with a branch-free
+ * reduction (which HotSpot's C2 compiler turns into SIMD instructions) and
+ * only look at the individual elements of a block that contains an element
+ * out of range. On large arrays, this is up to twice as fast as comparing
+ * each element individually. The other scans compare the elements one by one,
+ * returning as soon as they find one.
+ * 
+ * @author Michael Faes
+ */
+@GwtCompatible
+public final class ArrayScans {
+    
+    /* Number of elements checked at once by the branch-free reductions.
+     * Arrays shorter than that, as well as the rest of longer arrays, are
+     * scanned element by element. */
+    private static final int BLOCK = 256;
+    
+    private ArrayScans() {}
+    
+    /**
+     * Returns the index of the first element of the given array that is not
+     * between <code>min</code> and <code>max</code> (inclusive), or -1 if
+     * there is none.
+     * 
+     * @param array
+     *            The array to scan
+     * @param min
+     *            The minimum
+     * @param max
+     *            The maximum
+     * @return The index of the first element out of range, or -1
+     */
+    public static int firstNotBetween(final byte[] array, final long min,
+            final long max) {
+        for(int i = 0; i < array.length; i++)
+            if(array[i] < min || array[i] > max)
+                return i;
+        return -1;
+    }
+    
+    /**
+     * Returns the index of the first element of the given array that is not
+     * between <code>min</code> and <code>max</code> (inclusive), or -1 if
+     * there is none.
+     * 
+     * @param array
+     *            The array to scan
+     * @param min
+     *            The minimum
+     * @param max
+     *            The maximum
+     * @return The index of the first element out of range, or -1
+     */
+    public static int firstNotBetween(final short[] array, final long min,
+            final long max) {
+        for(int i = 0; i < array.length; i++)
+            if(array[i] < min || array[i] > max)
+                return i;
+        return -1;
+    }
+    
+    /**
+     * Returns the index of the first element of the given array that is not
+     * between <code>min</code> and <code>max</code> (inclusive), or -1 if
+     * there is none. The elements are compared as (unsigned) numbers.
+     * 
+     * @param array
+     *            The array to scan
+     * @param min
+     *            The minimum
+     * @param max
+     *            The maximum
+     * @return The index of the first element out of range, or -1
+     */
+    public static int firstNotBetween(final char[] array, final long min,
+            final long max) {
+        for(int i = 0; i < array.length; i++)
+            if(array[i] < min || array[i] > max)
+                return i;
+        return -1;
+    }
+    
+    /**
+     * Returns the index of the first element of the given array that is not
+     * between <code>min</code> and <code>max</code> (inclusive), or -1 if
+     * there is none.
+     * 
+     * @param array
+     *            The array to scan
+     * @param min
+     *            The minimum
+     * @param max
+     *            The maximum
+     * @return The index of the first element out of range, or -1
+     */
+    public static int firstNotBetween(final int[] array, final long min,
+            final long max) {
+        if(min > max || min > Integer.MAX_VALUE || max < Integer.MIN_VALUE)
+            return array.length == 0 ? -1 : 0;
+        final int lo = (int) Math.max(min, Integer.MIN_VALUE);
+        final int hi = (int) Math.min(max, Integer.MAX_VALUE);
+        
+        int start = 0;
+        while(start + BLOCK <= array.length
+                && allBetween(array, start, lo, hi - lo))
+            start += BLOCK;
+        for(int i = start; i < array.length; i++)
+            if(array[i] < lo || array[i] > hi)
+                return i;
+        return -1;
+    }
+    
+    /*
+     * An element x is in [lo, lo + span] if x - lo is (unsigned) less than or
+     * equal to span, i.e., if the unsigned subtraction span - (x - lo) does not
+     * borrow. The borrow is the sign bit of the expression below (see "Hacker's
+     * Delight", 2-12), which only consists of operations that C2 can vectorize.
+     */
+    private static boolean allBetween(final int[] array, final int start,
+            final int lo, final int span) {
+        int borrows = 0;
+        for(int i = start; i < start + BLOCK; i++) {
+            final int diff = array[i] - lo;
+            borrows |= (~span & diff) | (~(span ^ diff) & (span - diff));
+        }
+        return borrows >= 0;
+    }
+    
+    /**
+     * Returns the index of the first element of the given array that is not
+     * between <code>min</code> and <code>max</code> (inclusive), or -1 if
+     * there is none.
+     * 
+     * @param array
+     *            The array to scan
+     * @param min
+     *            The minimum
+     * @param max
+     *            The maximum
+     * @return The index of the first element out of range, or -1
+     */
+    public static int firstNotBetween(final long[] array, final long min,
+            final long max) {
+        if(min > max)
+            return array.length == 0 ? -1 : 0;
+        
+        int start = 0;
+        while(start + BLOCK <= array.length
+                && allBetween(array, start, min, max - min))
+            start += BLOCK;
+        for(int i = start; i < array.length; i++)
+            if(array[i] < min || array[i] > max)
+                return i;
+        return -1;
+    }
+    
+    /* Same as allBetween(int[], int, int, int) */
+    private static boolean allBetween(final long[] array, final int start,
+            final long lo, final long span) {
+        long borrows = 0;
+        for(int i = start; i < start + BLOCK; i++) {
+            final long diff = array[i] - lo;
+            borrows |= (~span & diff) | (~(span ^ diff) & (span - diff));
+        }
+        return borrows >= 0;
+    }
+    
+    /**
+     * Returns the index of the first element of the given array that is not
+     * between <code>min</code> and <code>max</code> (inclusive), or -1 if
+     * there is none. NaN elements are never between the bounds, just like any
+     * element if one of the bounds is NaN.
+     * 
+     * @param array
+     *            The array to scan
+     * @param min
+     *            The minimum
+     * @param max
+     *            The maximum
+     * @return The index of the first element out of range, or -1
+     */
+    public static int firstNotBetween(final float[] array, final double min,
+            final double max) {
+        for(int i = 0; i < array.length; i++)
+            if(!(array[i] >= min && array[i] <= max))
+                return i;
+        return -1;
+    }
+    
+    /**
+     * Returns the index of the first element of the given array that is not
+     * between <code>min</code> and <code>max</code> (inclusive), or -1 if
+     * there is none. NaN elements are never between the bounds, just like any
+     * element if one of the bounds is NaN.
+     * 
+     * @param array
+     *            The array to scan
+     * @param min
+     *            The minimum
+     * @param max
+     *            The maximum
+     * @return The index of the first element out of range, or -1
+     */
+    public static int firstNotBetween(final double[] array, final double min,
+            final double max) {
+        for(int i = 0; i < array.length; i++)
+            if(!(array[i] >= min && array[i] <= max))
+                return i;
+        return -1;
+    }
+    
+    /**
+     * Returns the index of the first element of the given array that is equal
+     * to the given value, or -1 if there is none.
+     * 
+     * @param array
+     *            The array to scan
+     * @param value
+     *            The value to search for
+     * @return The index of the first occurrence of the value, or -1
+     */
+    public static int indexOf(final boolean[] array, final boolean value) {
+        for(int i = 0; i < array.length; i++)
+            if(array[i] == value)
+                return i;
+        return -1;
+    }
+    
+    /**
+     * Returns the index of the first element of the given array that is equal
+     * to the given value, or -1 if there is none.
+     * 
+     * @param array
+     *            The array to scan
+     * @param value
+     *            The value to search for
+     * @return The index of the first occurrence of the value, or -1
+     */
+    public static int indexOf(final byte[] array, final long value) {
+        for(int i = 0; i < array.length; i++)
+            if(array[i] == value)
+                return i;
+        return -1;
+    }
+    
+    /**
+     * Returns the index of the first element of the given array that is equal
+     * to the given value, or -1 if there is none.
+     * 
+     * @param array
+     *            The array to scan
+     * @param value
+     *            The value to search for
+     * @return The index of the first occurrence of the value, or -1
+     */
+    public static int indexOf(final short[] array, final long value) {
+        for(int i = 0; i < array.length; i++)
+            if(array[i] == value)
+                return i;
+        return -1;
+    }
+    
+    /**
+     * Returns the index of the first element of the given array that is equal
+     * to the given value, or -1 if there is none.
+     * 
+     * @param array
+     *            The array to scan
+     * @param value
+     *            The value to search for
+     * @return The index of the first occurrence of the value, or -1
+     */
+    public static int indexOf(final char[] array, final long value) {
+        for(int i = 0; i < array.length; i++)
+            if(array[i] == value)
+                return i;
+        return -1;
+    }
+    
+    /**
+     * Returns the index of the first element of the given array that is equal
+     * to the given value, or -1 if there is none.
+     * 
+     * @param array
+     *            The array to scan
+     * @param value
+     *            The value to search for
+     * @return The index of the first occurrence of the value, or -1
+     */
+    public static int indexOf(final int[] array, final long value) {
+        for(int i = 0; i < array.length; i++)
+            if(array[i] == value)
+                return i;
+        return -1;
+    }
+    
+    /**
+     * Returns the index of the first element of the given array that is equal
+     * to the given value, or -1 if there is none.
+     * 
+     * @param array
+     *            The array to scan
+     * @param value
+     *            The value to search for
+     * @return The index of the first occurrence of the value, or -1
+     */
+    public static int indexOf(final long[] array, final long value) {
+        for(int i = 0; i < array.length; i++)
+            if(array[i] == value)
+                return i;
+        return -1;
+    }
+    
+    /**
+     * Returns the index of the first element of the given array that is equal
+     * to the given value, or -1 if there is none. The elements are compared
+     * using <code>==</code> (so <code>0.0</code> and <code>-0.0</code> are
+     * equal), except that a NaN value is equal to NaN elements.
+     * 
+     * @param array
+     *            The array to scan
+     * @param value
+     *            The value to search for
+     * @return The index of the first occurrence of the value, or -1
+     */
+    public static int indexOf(final float[] array, final double value) {
+        if(value != value) {
+            for(int i = 0; i < array.length; i++)
+                if(array[i] != array[i])
+                    return i;
+        } else {
+            for(int i = 0; i < array.length; i++)
+                if(array[i] == value)
+                    return i;
+        }
+        return -1;
+    }
+    
+    /**
+     * Returns the index of the first element of the given array that is equal
+     * to the given value, or -1 if there is none. The elements are compared
+     * using <code>==</code> (so <code>0.0</code> and <code>-0.0</code> are
+     * equal), except that a NaN value is equal to NaN elements.
+     * 
+     * @param array
+     *            The array to scan
+     * @param value
+     *            The value to search for
+     * @return The index of the first occurrence of the value, or -1
+     */
+    public static int indexOf(final double[] array, final double value) {
+        if(value != value) {
+            for(int i = 0; i < array.length; i++)
+                if(array[i] != array[i])
+                    return i;
+        } else {
+            for(int i = 0; i < array.length; i++)
+                if(array[i] == value)
+                    return i;
+        }
+        return -1;
+    }
+}
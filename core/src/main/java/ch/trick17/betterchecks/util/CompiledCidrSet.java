@@ -0,0 +1,349 @@
+package ch.trick17.betterchecks.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A precompiled, immutable set of IP address ranges in CIDR notation, like
+ * <code>10.0.0.0/8</code> or <code>fc00::/7</code>, that IP addresses can be
+ * matched against. CIDR sets are used with the
+ * <code>StringCheck.isInCidrRanges(CompiledCidrSet)</code> and
+ * <code>UrlCheck.hasHostInCidrRanges(CompiledCidrSet)</code> checks, which is
+ * useful for large allow or deny lists.
+ * <p>
+ * Note that only literal IP addresses are matched. A deny list of internal
+ * ranges alone does <em>not</em> prevent requests to internal hosts: Hosts
+ * like <code>localhost</code>, or numeric forms that are not IP addresses in
+ * the sense of {@link IpSyntax} (like <code>http://2130706433/</code>, which
+ * many clients treat as <code>127.0.0.1</code>), do not match any range and
+ * thus pass a <code>not().hasHostInCidrRanges(...)</code> check. To guard
+ * against this, resolve the host first and check the resolved address, or
+ * only accept hosts that are IP addresses.
+ * <p>
+ * The ranges are compiled into a compressed binary radix tree (a PATRICIA
+ * trie) over 128-bit addresses, so matching an address takes at most one
+ * step per bit, no matter how many ranges there are, and does not allocate
+ * any objects. IPv4 addresses and ranges are mapped into the IPv6 address
+ * space (<code>::ffff:0:0/96</code>), which means that an IPv4-mapped IPv6
+ * address like <code>::ffff:10.0.0.1</code> matches the range
+ * <code>10.0.0.0/8</code>, as it refers to the same host.
+ * <p>
+ * Addresses are parsed as defined by {@link IpSyntax}, without name
+ * resolution. Strings that are not IP addresses (like host names) do not
+ * match any range. To match the hosts of URLs, IPv6 addresses may also be
+ * enclosed in brackets, like <code>[::1]</code>.
+ * 
+ * @author Michael Faes
+ */
+@GwtCompatible
+public final class CompiledCidrSet {
+    
+    /**
+     * Compiles the given ranges. A range without a prefix length (like
+     * <code>10.0.0.1</code>) contains a single address. Bits of the address
+     * beyond the prefix length are ignored, so <code>10.1.2.3/8</code> is the
+     * same range as <code>10.0.0.0/8</code>. Duplicates are ignored.
+     * 
+     * @param ranges
+     *            The ranges
+     * @return The compiled ranges
+     * @throws IllegalArgumentException
+     *             if one of the ranges is not a valid IP address with an
+     *             optional prefix length
+     */
+    public static CompiledCidrSet compile(final CharSequence... ranges) {
+        return compile(Arrays.asList(ranges));
+    }
+    
+    /**
+     * Compiles the given ranges. A range without a prefix length (like
+     * <code>10.0.0.1</code>) contains a single address. Bits of the address
+     * beyond the prefix length are ignored, so <code>10.1.2.3/8</code> is the
+     * same range as <code>10.0.0.0/8</code>. Duplicates are ignored.
+     * 
+     * @param ranges
+     *            The ranges
+     * @return The compiled ranges
+     * @throws IllegalArgumentException
+     *             if one of the ranges is not a valid IP address with an
+     *             optional prefix length
+     */
+    public static CompiledCidrSet compile(
+            final Collection<? extends CharSequence> ranges) {
+        final Set<String> unique = new LinkedHashSet<String>();
+        for(final CharSequence range : ranges)
+            unique.add(range.toString());
+        return new CompiledCidrSet(unique.toArray(new String[unique.size()]));
+    }
+    
+    /* The prefix of IPv4-mapped IPv6 addresses (::ffff:0:0/96) */
+    private static final long IPV4_MAPPED = 0xFFFF00000000L;
+    
+    private final String[] ranges;
+    
+    /* The tree, in a flat array with four slots per node, so that a lookup
+     * touches one cache line per node: the prefix (the upper bits of the
+     * high and the low half), the prefix length and the range ending in the
+     * node (or -1), and the offsets of the two children for the next bit
+     * being 0 or 1 (or 0, as the root at offset 0 is nobody's child). */
+    private final long[] tree;
+    
+    private CompiledCidrSet(final String[] ranges) {
+        this.ranges = ranges;
+        
+        final Node root = new Node(0, 0, 0, -1);
+        int nodes = 1;
+        for(int id = 0; id < ranges.length; id++)
+            nodes += insert(root, ranges[id], id);
+        
+        tree = new long[4 * nodes];
+        flatten(root, 0, 4);
+    }
+    
+    /**
+     * Inserts the given range into the tree and returns the number of nodes
+     * that were added (0, 1 or 2).
+     */
+    private static int insert(final Node root, final String range,
+            final int id) {
+        final int slash = range.indexOf('/');
+        final int end = slash < 0 ? range.length() : slash;
+        final boolean ipv4 = IpSyntax.isIpv4(range, 0, end);
+        final int zeroGroups = ipv4 ? 0 : IpSyntax.ipv6ZeroGroups(range, 0,
+                end);
+        if(zeroGroups < 0)
+            throw invalidRange(range);
+        final int offset = ipv4 ? 96 : 0;
+        final int prefix = offset
+                + (slash < 0 ? 128 - offset : prefixLength(range, slash + 1));
+        if(prefix > 128)
+            throw invalidRange(range);
+        final long h = ipv4 ? 0 : mask(IpSyntax.ipv6Bits(range, 0, end,
+                zeroGroups, true), prefix);
+        final long l = mask(ipv4 ? IPV4_MAPPED | IpSyntax.ipv4Bits(range, 0,
+                end) : IpSyntax.ipv6Bits(range, 0, end, zeroGroups, false),
+                prefix - 64);
+        
+        Node node = root;
+        while(true) {
+            if(node.length == prefix) {
+                if(node.terminal < 0)
+                    node.terminal = id;
+                return 0;
+            }
+            final boolean bit = bit(h, l, node.length);
+            final Node child = bit ? node.one : node.zero;
+            if(child == null) {
+                node.setChild(bit, new Node(h, l, prefix, id));
+                return 1;
+            }
+            final int common = Math.min(Math.min(prefix, child.length),
+                    commonLength(h, l, child.high, child.low));
+            if(common == child.length) {
+                node = child;
+                continue;
+            }
+            
+            /* Split the edge to the child */
+            final Node split = new Node(mask(h, common), mask(l, common - 64),
+                    common, -1);
+            node.setChild(bit, split);
+            split.setChild(bit(child.high, child.low, common), child);
+            if(common == prefix) {
+                split.terminal = id;
+                return 1;
+            }
+            split.setChild(bit(h, l, common), new Node(h, l, prefix, id));
+            return 2;
+        }
+    }
+    
+    private static int prefixLength(final String range, final int start) {
+        final int digits = range.length() - start;
+        if(digits == 0 || digits > 3
+                || digits > 1 && range.charAt(start) == '0')
+            throw invalidRange(range);
+        int length = 0;
+        for(int i = start; i < range.length(); i++) {
+            final char c = range.charAt(i);
+            if(c < '0' || c > '9')
+                throw invalidRange(range);
+            length = 10 * length + c - '0';
+        }
+        return length;
+    }
+    
+    private static IllegalArgumentException invalidRange(final String range) {
+        return new IllegalArgumentException("invalid CIDR range: \"" + range
+                + "\"");
+    }
+    
+    /**
+     * Copies the subtree of the given node into the array, starting at the
+     * given offset, and returns the next free offset.
+     */
+    private int flatten(final Node node, final int offset, int next) {
+        tree[offset] = node.high;
+        tree[offset + 1] = node.low;
+        tree[offset + 2] = (long) node.length << 32 | node.terminal
+                & 0xFFFFFFFFL;
+        int zero = 0;
+        int one = 0;
+        if(node.zero != null) {
+            zero = next;
+            next = flatten(node.zero, next, next + 4);
+        }
+        if(node.one != null) {
+            one = next;
+            next = flatten(node.one, next, next + 4);
+        }
+        tree[offset + 3] = (long) zero << 32 | one;
+        return next;
+    }
+    
+    /**
+     * Indicates whether the given IP address is in one of the ranges in this
+     * set.
+     * 
+     * @param address
+     *            The IP address
+     * @return <code>true</code> if the address is in one of the ranges
+     */
+    public boolean matches(final CharSequence address) {
+        return findMatch(address) != null;
+    }
+    
+    /**
+     * Returns the range in this set that the given IP address is in. If there
+     * are several, the most specific one (the one with the longest prefix) is
+     * returned.
+     * 
+     * @param address
+     *            The IP address
+     * @return The matching range (as given), or <code>null</code> if there
+     *         is none or if the given string is not an IP address
+     */
+    public String findMatch(final CharSequence address) {
+        int start = 0;
+        int end = address.length();
+        if(end >= 2 && address.charAt(0) == '['
+                && address.charAt(end - 1) == ']') {
+            start++;
+            end--;
+        }
+        final long h;
+        final long l;
+        if(start == 0 && IpSyntax.isIpv4(address, start, end)) {
+            h = 0;
+            l = IPV4_MAPPED | IpSyntax.ipv4Bits(address, start, end);
+        }
+        else {
+            final int zeroGroups = IpSyntax.ipv6ZeroGroups(address, start, end);
+            if(zeroGroups < 0)
+                return null;
+            h = IpSyntax.ipv6Bits(address, start, end, zeroGroups, true);
+            l = IpSyntax.ipv6Bits(address, start, end, zeroGroups, false);
+        }
+        
+        int match = -1;
+        int node = 0;
+        do {
+            final long info = tree[node + 2];
+            final int len = (int) (info >>> 32);
+            if(mask(h, len) != tree[node]
+                    || mask(l, len - 64) != tree[node + 1])
+                break;
+            if((int) info >= 0)
+                match = (int) info;
+            if(len == 128)
+                break;
+            final long children = tree[node + 3];
+            node = bit(h, l, len) ? (int) children : (int) (children >>> 32);
+        } while(node != 0);
+        return match < 0 ? null : ranges[match];
+    }
+    
+    /**
+     * Returns the bit with the given index (0 being the most significant) of
+     * the address consisting of the given halves.
+     */
+    private static boolean bit(final long high, final long low,
+            final int index) {
+        return index < 64 ? (high << index) < 0 : (low << index - 64) < 0;
+    }
+    
+    /**
+     * Returns the given bits with all but the given number of upper bits set
+     * to zero. Lengths of 64 or more keep all bits, those of 0 or less none.
+     */
+    private static long mask(final long bits, final int length) {
+        if(length <= 0)
+            return 0;
+        return length >= 64 ? bits : bits & -1L << 64 - length;
+    }
+    
+    private static int commonLength(final long high1, final long low1,
+            final long high2, final long low2) {
+        if(high1 != high2)
+            return Long.numberOfLeadingZeros(high1 ^ high2);
+        return 64 + Long.numberOfLeadingZeros(low1 ^ low2);
+    }
+    
+    /**
+     * Returns the ranges in this set, as they were given, without duplicates.
+     * 
+     * @return An unmodifiable list of the ranges
+     */
+    public List<String> getRanges() {
+        return Collections.unmodifiableList(Arrays.asList(ranges));
+    }
+    
+    /**
+     * Returns the number of (unique) ranges in this set.
+     * 
+     * @return The number of ranges
+     */
+    public int size() {
+        return ranges.length;
+    }
+    
+    /**
+     * Returns a string representation of this set, which is used in exception
+     * messages. As CIDR sets may be very large, only the first few ranges are
+     * listed.
+     * 
+     * @return A string representation of this set
+     */
+    @Override
+    public String toString() {
+        return ValueRenderer.render(ranges, -1, 10);
+    }
+    
+    private static final class Node {
+        final long high;
+        final long low;
+        final int length;
+        int terminal;
+        Node zero;
+        Node one;
+        
+        Node(final long high, final long low, final int length,
+                final int terminal) {
+            this.high = high;
+            this.low = low;
+            this.length = length;
+            this.terminal = terminal;
+        }
+        
+        void setChild(final boolean bit, final Node child) {
+            if(bit)
+                one = child;
+            else
+                zero = child;
+        }
+    }
+}
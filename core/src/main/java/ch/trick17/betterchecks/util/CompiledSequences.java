@@ -0,0 +1,294 @@
+package ch.trick17.betterchecks.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * A precompiled set of character sequences that can be searched for in a text
+ * all at once. Compiled sequences are used with the
+ * <code>StringCheck.containsAny(CompiledSequences)</code> and
+ * <code>StringCheck.containsAll(CompiledSequences)</code> checks, which is
+ * useful for large sets of sequences, like lists of blocked words:
+ * <p>
+ * <code>private static final CompiledSequences BAD_WORDS =
+ * CompiledSequences.compile(loadBadWords());<br>
+ * ...<br>
+ * Check.that(message).not().containsAny(BAD_WORDS);</code>
+ * <p>
+ * The sequences are compiled into an Aho-Corasick automaton, so a text is
+ * scanned only once, no matter how many sequences there are. In contrast,
+ * <code>containsAny(CharSequence...)</code> scans the text once per sequence.
+ * Instances of this class are immutable and can be shared between threads.
+ * 
+ * @author Michael Faes
+ */
+@GwtCompatible
+public final class CompiledSequences {
+    
+    /**
+     * Compiles the given sequences. Duplicates are ignored.
+     * 
+     * @param sequences
+     *            The sequences to search for
+     * @return The compiled sequences
+     */
+    public static CompiledSequences compile(final CharSequence... sequences) {
+        return compile(Arrays.asList(sequences));
+    }
+    
+    /**
+     * Compiles the given sequences. Duplicates are ignored.
+     * 
+     * @param sequences
+     *            The sequences to search for
+     * @return The compiled sequences
+     */
+    public static CompiledSequences compile(
+            final Collection<? extends CharSequence> sequences) {
+        final Set<String> unique = new LinkedHashSet<String>();
+        for(final CharSequence sequence : sequences)
+            unique.add(sequence.toString());
+        return new CompiledSequences(unique.toArray(new String[unique.size()]));
+    }
+    
+    private final String[] sequences;
+    
+    /* Chars that appear in any sequence are mapped to classes 1 to n, all
+     * others to class 0, which leads back to the root from any state. */
+    private final char[] alphabet;
+    private final int[] asciiClasses = new int[128];
+    
+    /* The automaton: The root (state 0) has a transition for every class,
+     * all other states have sorted, sparse transitions (from firstEdge[s] to
+     * firstEdge[s + 1] - 1) and fall back to their failure state. */
+    private final int[] rootNext;
+    private final int[] firstEdge;
+    private final int[] edgeClasses;
+    private final int[] edgeTargets;
+    private final int[] fail;
+    /* The sequence ending in a state, or -1. */
+    private final int[] terminal;
+    /* The sequence ending in a state or in one of its suffix states, or -1.
+     * Used to detect any match in constant time. */
+    private final int[] anyMatch;
+    /* The next suffix state in which a sequence ends, or -1. Used to detect
+     * all matches. */
+    private final int[] dictLink;
+    
+    private CompiledSequences(final String[] sequences) {
+        this.sequences = sequences;
+        
+        final StringBuilder chars = new StringBuilder();
+        for(final String sequence : sequences)
+            chars.append(sequence);
+        final char[] allChars = chars.toString().toCharArray();
+        Arrays.sort(allChars);
+        int count = 0;
+        for(int i = 0; i < allChars.length; i++)
+            if(i == 0 || allChars[i] != allChars[i - 1])
+                allChars[count++] = allChars[i];
+        alphabet = Arrays.copyOf(allChars, count);
+        for(char c = 0; c < asciiClasses.length; c++)
+            asciiClasses[c] = classOfSlow(c);
+        
+        /* Build the trie */
+        final List<TreeMap<Integer, Integer>> trie =
+                new ArrayList<TreeMap<Integer, Integer>>();
+        final List<Integer> terminals = new ArrayList<Integer>();
+        trie.add(new TreeMap<Integer, Integer>());
+        terminals.add(-1);
+        for(int id = 0; id < sequences.length; id++) {
+            int state = 0;
+            for(int i = 0; i < sequences[id].length(); i++) {
+                final int cls = classOf(sequences[id].charAt(i));
+                Integer next = trie.get(state).get(cls);
+                if(next == null) {
+                    next = trie.size();
+                    trie.get(state).put(cls, next);
+                    trie.add(new TreeMap<Integer, Integer>());
+                    terminals.add(-1);
+                }
+                state = next;
+            }
+            terminals.set(state, id);
+        }
+        
+        final int states = trie.size();
+        rootNext = new int[alphabet.length + 1];
+        firstEdge = new int[states + 1];
+        edgeClasses = new int[states - 1];
+        edgeTargets = new int[states - 1];
+        fail = new int[states];
+        terminal = new int[states];
+        anyMatch = new int[states];
+        dictLink = new int[states];
+        
+        int edge = 0;
+        for(int s = 0; s < states; s++) {
+            firstEdge[s] = edge;
+            terminal[s] = terminals.get(s);
+            if(s == 0)
+                continue;
+            for(final Entry<Integer, Integer> e : trie.get(s).entrySet()) {
+                edgeClasses[edge] = e.getKey();
+                edgeTargets[edge] = e.getValue();
+                edge++;
+            }
+        }
+        firstEdge[states] = edge;
+        for(final Entry<Integer, Integer> e : trie.get(0).entrySet())
+            rootNext[e.getKey()] = e.getValue();
+        
+        /* Compute the failure and output links in breadth-first order */
+        anyMatch[0] = terminal[0];
+        dictLink[0] = -1;
+        final int[] queue = new int[states];
+        int head = 0;
+        int tail = 0;
+        for(final int child : trie.get(0).values()) {
+            fail[child] = 0;
+            queue[tail++] = child;
+        }
+        while(head < tail) {
+            final int s = queue[head++];
+            final int f = fail[s];
+            anyMatch[s] = terminal[s] >= 0 ? terminal[s] : anyMatch[f];
+            dictLink[s] = terminal[f] >= 0 && f != 0 ? f : dictLink[f];
+            for(int e = firstEdge[s]; e < firstEdge[s + 1]; e++) {
+                final int child = edgeTargets[e];
+                fail[child] = next(f, edgeClasses[e]);
+                queue[tail++] = child;
+            }
+        }
+    }
+    
+    /**
+     * Returns the first of these sequences that is found in the given text,
+     * i.e., the one whose occurrence ends first. If several sequences end at
+     * the same position, the longest one is returned.
+     * 
+     * @param text
+     *            The text to search
+     * @return The first sequence found, or <code>null</code> if the text
+     *         contains none of these sequences
+     */
+    public String findFirst(final CharSequence text) {
+        if(anyMatch[0] >= 0)
+            return sequences[anyMatch[0]];
+        
+        int state = 0;
+        final int length = text.length();
+        for(int i = 0; i < length; i++) {
+            state = next(state, classOf(text.charAt(i)));
+            final int match = anyMatch[state];
+            if(match >= 0)
+                return sequences[match];
+        }
+        return null;
+    }
+    
+    /**
+     * Returns the first of these sequences (in the order they were given) that
+     * is <em>not</em> found in the given text. The text is scanned only until
+     * all sequences have been found.
+     * 
+     * @param text
+     *            The text to search
+     * @return The first missing sequence, or <code>null</code> if the text
+     *         contains all of these sequences
+     */
+    public String findMissing(final CharSequence text) {
+        final boolean[] found = new boolean[sequences.length];
+        int missing = sequences.length;
+        if(terminal[0] >= 0) {
+            found[terminal[0]] = true;
+            missing--;
+        }
+        
+        int state = 0;
+        final int length = text.length();
+        for(int i = 0; i < length && missing > 0; i++) {
+            state = next(state, classOf(text.charAt(i)));
+            int s = terminal[state] >= 0 ? state : dictLink[state];
+            while(s > 0) {
+                if(!found[terminal[s]]) {
+                    found[terminal[s]] = true;
+                    missing--;
+                }
+                s = dictLink[s];
+            }
+        }
+        
+        for(int id = 0; missing > 0 && id < sequences.length; id++)
+            if(!found[id])
+                return sequences[id];
+        return null;
+    }
+    
+    /**
+     * Returns the (distinct) sequences, in the order they were given.
+     * 
+     * @return An unmodifiable list of the sequences
+     */
+    public List<String> getSequences() {
+        return Collections.unmodifiableList(Arrays.asList(sequences));
+    }
+    
+    /**
+     * Returns the number of (distinct) sequences.
+     * 
+     * @return The number of sequences
+     */
+    public int size() {
+        return sequences.length;
+    }
+    
+    /**
+     * Returns a string representation of this set, which is used in exception
+     * messages. As sets of sequences may be very large, only the first few
+     * sequences are listed.
+     * 
+     * @return A string representation of this set
+     */
+    @Override
+    public String toString() {
+        return ValueRenderer.render(sequences, -1, 10);
+    }
+    
+    private int next(int state, final int cls) {
+        if(cls == 0)
+            return 0;
+        while(state != 0) {
+            int low = firstEdge[state];
+            int high = firstEdge[state + 1] - 1;
+            while(low <= high) {
+                final int mid = (low + high) >>> 1;
+                final int midClass = edgeClasses[mid];
+                if(midClass < cls)
+                    low = mid + 1;
+                else if(midClass > cls)
+                    high = mid - 1;
+                else
+                    return edgeTargets[mid];
+            }
+            state = fail[state];
+        }
+        return rootNext[cls];
+    }
+    
+    private int classOf(final char c) {
+        return c < 128 ? asciiClasses[c] : classOfSlow(c);
+    }
+    
+    private int classOfSlow(final char c) {
+        final int index = Arrays.binarySearch(alphabet, c);
+        return index >= 0 ? index + 1 : 0;
+    }
+}
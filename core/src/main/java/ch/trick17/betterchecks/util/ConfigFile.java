@@ -0,0 +1,86 @@
+package ch.trick17.betterchecks.util;
+
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+
+import ch.trick17.betterchecks.Config;
+
+/**
+ * Reads properties from the config file of the library (see {@link Config}).
+ * Besides being used to load the {@link Config} itself, this class allows to
+ * read single settings without loading the complete config, which includes
+ * compiling all message formats. This is important for the few settings that
+ * are needed by <em>passing</em> checks, like
+ * {@link Config#isReuseChecksEnabled()}, since passing checks should never
+ * load the config.
+ * <p>
+ * For internal use only.
+ * 
+ * @author Michael Faes
+ */
+public final class ConfigFile {
+    
+    private ConfigFile() {}
+    
+    /**
+     * Returns the config file as a {@link ResourceBundle}.
+     * 
+     * @return The config file, or <code>null</code> if there is none
+     */
+    public static ResourceBundle load() {
+        try {
+            return ResourceBundle.getBundle(Config.CONFIG_BASE_NAME);
+        } catch(final MissingResourceException e) {
+            return null;
+        }
+    }
+    
+    /**
+     * Returns the boolean property with the given key.
+     * 
+     * @param bundle
+     *            The config file, may be <code>null</code>
+     * @param key
+     *            The key of the property
+     * @param defaultValue
+     *            The value to return if the property is not defined
+     * @return The value of the property, or the default value
+     */
+    public static boolean getBoolean(final ResourceBundle bundle,
+            final String key, final boolean defaultValue) {
+        if(bundle == null)
+            return defaultValue;
+        else
+            try {
+                return Boolean.parseBoolean(bundle.getString(key));
+            } catch(final MissingResourceException e) {
+                return defaultValue;
+            }
+    }
+    
+    /**
+     * Returns the integer property with the given key.
+     * 
+     * @param bundle
+     *            The config file, may be <code>null</code>
+     * @param key
+     *            The key of the property
+     * @param defaultValue
+     *            The value to return if the property is not defined or is not
+     *            a valid integer
+     * @return The value of the property, or the default value
+     */
+    public static int getInt(final ResourceBundle bundle, final String key,
+            final int defaultValue) {
+        if(bundle == null)
+            return defaultValue;
+        else
+            try {
+                return Integer.parseInt(bundle.getString(key).trim());
+            } catch(final MissingResourceException e) {
+                return defaultValue;
+            } catch(final NumberFormatException e) {
+                return defaultValue;
+            }
+    }
+}
@@ -12,6 +12,8 @@ public final class FormatPair {
     
     private final String positive;
     private final String negative;
+    @GwtIncompatible("MessageTemplate") private final MessageTemplate positiveTemplate;
+    @GwtIncompatible("MessageTemplate") private final MessageTemplate negativeTemplate;
     
     public FormatPair(final String rawFormat) {
         final String negativeRemoved = NEGATIVE_PATTERN.matcher(rawFormat)
@@ -20,9 +22,16 @@ public final class FormatPair {
         final String positiveRemoved = POSITIVE_PATTERN.matcher(rawFormat)
                 .replaceAll("");
         negative = NEGATIVE_PATTERN.matcher(positiveRemoved).replaceAll("$1");
+        positiveTemplate = MessageTemplate.compile(positive);
+        negativeTemplate = MessageTemplate.compile(negative);
     }
     
     public String getFormat(final boolean inverted) {
         return inverted ? negative : positive;
     }
+    
+    @GwtIncompatible("MessageTemplate")
+    public MessageTemplate getTemplate(final boolean inverted) {
+        return inverted ? negativeTemplate : positiveTemplate;
+    }
 }
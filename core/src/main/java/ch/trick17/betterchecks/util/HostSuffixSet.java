@@ -0,0 +1,268 @@
+package ch.trick17.betterchecks.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A precompiled, immutable set of domain names (host suffixes) that host names
+ * can be matched against. A host matches a domain if it is equal to it or if
+ * it is a subdomain of it, so <code>example.com</code> matches both
+ * <code>example.com</code> and <code>www.example.com</code>, but not
+ * <code>notexample.com</code>. Host suffix sets are used with the
+ * <code>StringCheck.isHostIn(HostSuffixSet)</code> and
+ * <code>UrlCheck.hasHostIn(HostSuffixSet)</code> checks, which is useful for
+ * large allow or deny lists:
+ * <p>
+ * <code>private static final HostSuffixSet BLOCKED =
+ * HostSuffixSet.compile(loadBlockedDomains());<br>
+ * ...<br>
+ * Check.that(webhookUrl).not().hasHostIn(BLOCKED);</code>
+ * <p>
+ * The domains are compiled into a trie of their labels, starting from the
+ * last one (e.g., <code>com</code>). Matching a host therefore takes one
+ * lookup per label of the host, no matter how many domains there are, and
+ * does not allocate any objects. Matching ignores case and a trailing dot of
+ * fully qualified host names (like <code>example.com.</code>).
+ * 
+ * @author Michael Faes
+ */
+@GwtCompatible
+public final class HostSuffixSet {
+    
+    /**
+     * Compiles the given domains. A leading dot (as in
+     * <code>.example.com</code>) is ignored, as are duplicates.
+     * 
+     * @param domains
+     *            The domains
+     * @return The compiled domains
+     * @throws IllegalArgumentException
+     *             if one of the domains is empty, contains an empty label or a
+     *             wildcard (<code>*</code>)
+     */
+    public static HostSuffixSet compile(final CharSequence... domains) {
+        return compile(Arrays.asList(domains));
+    }
+    
+    /**
+     * Compiles the given domains. A leading dot (as in
+     * <code>.example.com</code>) is ignored, as are duplicates.
+     * 
+     * @param domains
+     *            The domains
+     * @return The compiled domains
+     * @throws IllegalArgumentException
+     *             if one of the domains is empty, contains an empty label or a
+     *             wildcard (<code>*</code>)
+     */
+    public static HostSuffixSet compile(
+            final Collection<? extends CharSequence> domains) {
+        final Set<String> unique = new LinkedHashSet<String>();
+        for(final CharSequence domain : domains)
+            unique.add(normalize(domain));
+        return new HostSuffixSet(unique.toArray(new String[unique.size()]));
+    }
+    
+    private static String normalize(final CharSequence domain) {
+        int start = 0;
+        int end = domain.length();
+        if(start < end && domain.charAt(start) == '.')
+            start++;
+        if(end > start && domain.charAt(end - 1) == '.')
+            end--;
+        
+        final StringBuilder builder = new StringBuilder(end - start);
+        for(int i = start; i < end; i++) {
+            final char c = domain.charAt(i);
+            if(c == '*' || c == '.' && (i == start || i == end - 1
+                    || domain.charAt(i - 1) == '.'))
+                throw new IllegalArgumentException("invalid domain: \""
+                        + domain + "\"");
+            builder.append(toLowerCase(c));
+        }
+        if(builder.length() == 0)
+            throw new IllegalArgumentException("invalid domain: \"" + domain
+                    + "\"");
+        return builder.toString();
+    }
+    
+    private final String[] domains;
+    
+    /* The trie: Node 0 is the root. The domain ending in a node, or -1. */
+    private final int[] terminal;
+    /* The edges, in an open-addressing hash table keyed by the parent node
+     * and the label. An empty slot has child 0 (the root is nobody's child).
+     * Lookups hash the label directly from the host, without a substring. */
+    private final int[] edgeParents;
+    private final String[] edgeLabels;
+    private final int[] edgeChildren;
+    private final int mask;
+    
+    private HostSuffixSet(final String[] domains) {
+        this.domains = domains;
+        
+        /* Build the trie, using a map for the edges first */
+        final Map<String, Integer> edges = new HashMap<String, Integer>();
+        final List<Integer> terminals = new ArrayList<Integer>();
+        terminals.add(-1);
+        for(int id = 0; id < domains.length; id++) {
+            final String domain = domains[id];
+            int node = 0;
+            int end = domain.length();
+            while(end > 0) {
+                final int start = domain.lastIndexOf('.', end - 1) + 1;
+                /* Labels never contain dots, so this key is unique */
+                final String key = node + "." + domain.substring(start, end);
+                Integer child = edges.get(key);
+                if(child == null) {
+                    child = terminals.size();
+                    edges.put(key, child);
+                    terminals.add(-1);
+                }
+                node = child;
+                end = start - 1;
+            }
+            terminals.set(node, id);
+        }
+        
+        terminal = new int[terminals.size()];
+        for(int node = 0; node < terminal.length; node++)
+            terminal[node] = terminals.get(node);
+        
+        int capacity = 2;
+        while(capacity < 2 * edges.size())
+            capacity *= 2;
+        mask = capacity - 1;
+        edgeParents = new int[capacity];
+        edgeLabels = new String[capacity];
+        edgeChildren = new int[capacity];
+        for(final Map.Entry<String, Integer> edge : edges.entrySet()) {
+            final String key = edge.getKey();
+            final int dot = key.indexOf('.');
+            final int parent = Integer.parseInt(key.substring(0, dot));
+            final String label = key.substring(dot + 1);
+            int slot = hash(parent, label, 0, label.length()) & mask;
+            while(edgeChildren[slot] != 0)
+                slot = (slot + 1) & mask;
+            edgeParents[slot] = parent;
+            edgeLabels[slot] = label;
+            edgeChildren[slot] = edge.getValue();
+        }
+    }
+    
+    /**
+     * Indicates whether the given host is equal to or a subdomain of one of
+     * the domains in this set.
+     * 
+     * @param host
+     *            The host name
+     * @return <code>true</code> if the host matches one of the domains
+     */
+    public boolean matches(final CharSequence host) {
+        return findMatch(host) != null;
+    }
+    
+    /**
+     * Returns the domain in this set that the given host is equal to or a
+     * subdomain of. If there are several, the shortest one is returned.
+     * 
+     * @param host
+     *            The host name
+     * @return The (normalized) matching domain, or <code>null</code> if there
+     *         is none
+     */
+    public String findMatch(final CharSequence host) {
+        int end = host.length();
+        if(end > 0 && host.charAt(end - 1) == '.')
+            end--;
+        int node = 0;
+        while(end > 0) {
+            int start = end;
+            while(start > 0 && host.charAt(start - 1) != '.')
+                start--;
+            if(start == end)
+                return null;
+            node = child(node, host, start, end);
+            if(node == 0)
+                return null;
+            if(terminal[node] >= 0)
+                return domains[terminal[node]];
+            end = start - 1;
+        }
+        return null;
+    }
+    
+    private int child(final int parent, final CharSequence host,
+            final int start, final int end) {
+        int slot = hash(parent, host, start, end) & mask;
+        while(edgeChildren[slot] != 0) {
+            if(edgeParents[slot] == parent
+                    && labelEquals(edgeLabels[slot], host, start, end))
+                return edgeChildren[slot];
+            slot = (slot + 1) & mask;
+        }
+        return 0;
+    }
+    
+    private static int hash(final int parent, final CharSequence label,
+            final int start, final int end) {
+        int hash = parent * 0x9E3779B9;
+        for(int i = start; i < end; i++)
+            hash = 31 * hash + toLowerCase(label.charAt(i));
+        return hash ^ (hash >>> 16);
+    }
+    
+    private static boolean labelEquals(final String label,
+            final CharSequence host, final int start, final int end) {
+        if(label.length() != end - start)
+            return false;
+        for(int i = 0; i < label.length(); i++)
+            if(label.charAt(i) != toLowerCase(host.charAt(start + i)))
+                return false;
+        return true;
+    }
+    
+    private static char toLowerCase(final char c) {
+        if(c < 128)
+            return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+        return Character.toLowerCase(c);
+    }
+    
+    /**
+     * Returns the (normalized) domains in this set, in the order they were
+     * given, without duplicates.
+     * 
+     * @return An unmodifiable list of the domains
+     */
+    public List<String> getDomains() {
+        return Collections.unmodifiableList(Arrays.asList(domains));
+    }
+    
+    /**
+     * Returns the number of (unique) domains in this set.
+     * 
+     * @return The number of domains
+     */
+    public int size() {
+        return domains.length;
+    }
+    
+    /**
+     * Returns a string representation of this set, which is used in exception
+     * messages. As host suffix sets may be very large, only the first few
+     * domains are listed.
+     * 
+     * @return A string representation of this set
+     */
+    @Override
+    public String toString() {
+        return ValueRenderer.render(domains, -1, 10);
+    }
+}
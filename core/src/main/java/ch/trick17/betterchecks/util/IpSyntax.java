@@ -0,0 +1,219 @@
+package ch.trick17.betterchecks.util;
+
+/**
+ * Validates IPv4 and IPv6 addresses in their textual form, without
+ * allocating any objects and without ever doing name resolution (unlike
+ * {@link java.net.InetAddress}). The accepted syntax is the one of
+ * <a href="https://tools.ietf.org/html/rfc3986#section-3.2.2">RFC 3986</a>:
+ * IPv4 addresses are written in dotted-decimal form with exactly four
+ * decimal octets without leading zeros (so the ambiguous forms
+ * <code>0177.0.0.1</code>, <code>127.1</code> and <code>2130706433</code> are
+ * not valid) and IPv6 addresses consist of eight hexadecimal groups, where
+ * consecutive zero groups may be compressed to <code>::</code> and the last
+ * two groups may be written as an IPv4 address. Zone IDs (like
+ * <code>fe80::1%eth0</code>) and brackets are not part of an address.
+ * 
+ * @author Michael Faes
+ */
+@GwtCompatible
+public final class IpSyntax {
+    
+    private IpSyntax() {}
+    
+    /**
+     * Indicates whether the given string is a valid IPv4 or IPv6 address.
+     * 
+     * @param string
+     *            The string to validate
+     * @return <code>true</code> if the string is a valid IP address
+     */
+    public static boolean isIpAddress(final CharSequence string) {
+        return isIpv4(string) || isIpv6(string);
+    }
+    
+    /**
+     * Indicates whether the given string is a valid IPv4 address.
+     * 
+     * @param string
+     *            The string to validate
+     * @return <code>true</code> if the string is a valid IPv4 address
+     */
+    public static boolean isIpv4(final CharSequence string) {
+        return isIpv4(string, 0, string.length());
+    }
+    
+    /**
+     * Indicates whether the given string is a valid IPv6 address.
+     * 
+     * @param string
+     *            The string to validate
+     * @return <code>true</code> if the string is a valid IPv6 address
+     */
+    public static boolean isIpv6(final CharSequence string) {
+        return isIpv6(string, 0, string.length());
+    }
+    
+    /**
+     * Indicates whether the given host, as it appears in a URI, is an IP
+     * address, i.e., either an IPv4 address or an IPv6 address enclosed in
+     * brackets, like <code>[::1]</code>.
+     * 
+     * @param host
+     *            The host to validate
+     * @return <code>true</code> if the host is an IP address
+     */
+    public static boolean isIpHost(final CharSequence host) {
+        final int length = host.length();
+        if(length >= 2 && host.charAt(0) == '['
+                && host.charAt(length - 1) == ']')
+            return isIpv6(host, 1, length - 1);
+        return isIpv4(host, 0, length);
+    }
+    
+    static boolean isIpv4(final CharSequence string, final int start,
+            final int end) {
+        int i = start;
+        for(int octet = 0; octet < 4; octet++) {
+            if(octet > 0) {
+                if(i == end || string.charAt(i) != '.')
+                    return false;
+                i++;
+            }
+            final int octetStart = i;
+            int value = 0;
+            while(i < end && isDigit(string.charAt(i)) && i - octetStart < 3)
+                value = 10 * value + string.charAt(i++) - '0';
+            if(i == octetStart || value > 255
+                    || (i - octetStart > 1 && string.charAt(octetStart) == '0'))
+                return false;
+        }
+        return i == end;
+    }
+    
+    static boolean isIpv6(final CharSequence string, final int start,
+            final int end) {
+        return ipv6ZeroGroups(string, start, end) >= 0;
+    }
+    
+    /**
+     * Validates the given IPv6 address and returns the number of zero groups
+     * that "::" stands for (0 if the address is not compressed), or -1 if the
+     * address is not valid.
+     */
+    static int ipv6ZeroGroups(final CharSequence string, final int start,
+            final int end) {
+        int i = start;
+        int groups = 0;
+        boolean compressed = false;
+        if(end - start >= 2 && string.charAt(i) == ':') {
+            if(string.charAt(i + 1) != ':')
+                return -1;
+            compressed = true;
+            i += 2;
+        }
+        
+        while(i < end) {
+            final int groupStart = i;
+            while(i < end && isHexDigit(string.charAt(i)))
+                i++;
+            if(i < end && string.charAt(i) == '.') {
+                groups += 2;
+                if(!isIpv4(string, groupStart, end) || groups > 8
+                        || compressed && groups == 8)
+                    return -1;
+                break;
+            }
+            if(i == groupStart || i - groupStart > 4)
+                return -1;
+            groups++;
+            if(i == end)
+                break;
+            if(string.charAt(i) != ':' || ++i == end)
+                return -1;
+            if(string.charAt(i) == ':') {
+                if(compressed)
+                    return -1;
+                compressed = true;
+                i++;
+            }
+        }
+        if(compressed)
+            return groups <= 7 ? 8 - groups : -1;
+        return groups == 8 ? 0 : -1;
+    }
+    
+    /**
+     * Returns the bits of the given (valid) IPv4 address.
+     */
+    static long ipv4Bits(final CharSequence string, final int start,
+            final int end) {
+        long bits = 0;
+        int octet = 0;
+        for(int i = start; i < end; i++) {
+            final char c = string.charAt(i);
+            if(c == '.') {
+                bits = bits << 8 | octet;
+                octet = 0;
+            }
+            else
+                octet = 10 * octet + c - '0';
+        }
+        return bits << 8 | octet;
+    }
+    
+    /**
+     * Returns the upper (if <code>high</code> is <code>true</code>) or the
+     * lower 64 bits of the given (valid) IPv6 address, given the number of
+     * zero groups that "::" stands for, as returned by
+     * {@link #ipv6ZeroGroups(CharSequence, int, int)}.
+     */
+    static long ipv6Bits(final CharSequence string, final int start,
+            final int end, final int zeroGroups, final boolean high) {
+        final int first = high ? 0 : 4;
+        long bits = 0;
+        int group = 0;
+        int i = start;
+        if(string.charAt(i) == ':') {
+            group = zeroGroups;
+            i += 2;
+        }
+        while(i < end && group < first + 4) {
+            final int groupStart = i;
+            int value = 0;
+            char c;
+            while(i < end && isHexDigit(c = string.charAt(i))) {
+                value = value << 4 | (c <= '9' ? c - '0' : (c | 0x20) - 'a'
+                        + 10);
+                i++;
+            }
+            if(i < end && string.charAt(i) == '.') {
+                final long ipv4 = ipv4Bits(string, groupStart, end);
+                bits = putGroup(bits, group++ - first, (int) (ipv4 >>> 16));
+                return putGroup(bits, group - first, (int) ipv4 & 0xFFFF);
+            }
+            bits = putGroup(bits, group++ - first, value);
+            if(i == end)
+                break;
+            if(string.charAt(++i) == ':') {
+                group += zeroGroups;
+                i++;
+            }
+        }
+        return bits;
+    }
+    
+    private static long putGroup(final long bits, final int index,
+            final int value) {
+        if(index < 0 || index >= 4)
+            return bits;
+        return bits | (long) value << 16 * (3 - index);
+    }
+    
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+    
+    private static boolean isHexDigit(final char c) {
+        return isDigit(c) || c >= 'a' && c <= 'f' || c >= 'A' && c <= 'F';
+    }
+}
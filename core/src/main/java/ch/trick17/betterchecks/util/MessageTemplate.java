@@ -0,0 +1,247 @@
+package ch.trick17.betterchecks.util;
+
+import java.lang.reflect.Method;
+import java.math.BigInteger;
+import java.text.DecimalFormatSymbols;
+import java.util.ArrayList;
+import java.util.Formattable;
+import java.util.Formatter;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A precompiled exception message format. Formatting a message with a template
+ * produces exactly the same result as {@link String#format(String, Object...)}
+ * but does not parse the format string every time.
+ * <p>
+ * Only the subset of the {@link Formatter} syntax used by typical message
+ * formats is compiled: The <code>%s</code> and <code>%d</code> conversions
+ * without any flags, width or precision (but optionally with an explicit
+ * argument index, like in <code>%2$s</code>), and <code>%%</code>. Formats
+ * containing anything else, as well as arguments that would be treated
+ * specially by the {@link Formatter} (like {@link Formattable}s), are passed
+ * on to {@link String#format(String, Object...)}, so the result is always the
+ * same.
+ * 
+ * @author Michael Faes
+ */
+public final class MessageTemplate {
+    
+    private static final ThreadLocal<StringBuilder> BUFFER =
+            new ThreadLocal<StringBuilder>();
+    private static final int MAX_REUSED_CAPACITY = 8192;
+    
+    private static volatile LocaleDigits lastLocale = new LocaleDigits(
+            Locale.ROOT);
+    
+    /* Since Java 7, the Formatter uses the default locale for the FORMAT
+     * category, which can only be queried reflectively at this source level.
+     * Looked up once, so that finding the locale does not allocate anything. */
+    private static final Method getFormatLocale;
+    private static final Object[] formatCategory;
+    static {
+        Method method = null;
+        Object[] category = null;
+        try {
+            final Class<?> categoryClass = Class
+                    .forName("java.util.Locale$Category");
+            method = Locale.class.getMethod("getDefault", categoryClass);
+            category = new Object[]{categoryClass.getField("FORMAT").get(null)};
+        } catch(final Exception e) {
+            method = null; // Java 6: the Formatter uses the default locale
+        }
+        getFormatLocale = method;
+        formatCategory = category;
+    }
+    
+    private final String format;
+    /* Literal segments are Strings, placeholders are Placeholders. null if the
+     * format is not supported and String.format() needs to be used. */
+    private final Object[] segments;
+    private final boolean hasIntegers;
+    
+    /**
+     * Compiles the given format into a template.
+     * 
+     * @param format
+     *            A format string, as defined by the {@link Formatter} class
+     * @return The compiled template
+     */
+    public static MessageTemplate compile(final String format) {
+        return new MessageTemplate(format, parse(format));
+    }
+    
+    private MessageTemplate(final String format, final Object[] segments) {
+        this.format = format;
+        this.segments = segments;
+        boolean integers = false;
+        if(segments != null)
+            for(final Object segment : segments)
+                if(segment instanceof Placeholder
+                        && ((Placeholder) segment).integer)
+                    integers = true;
+        this.hasIntegers = integers;
+    }
+    
+    /**
+     * Returns the format string this template was compiled from.
+     * 
+     * @return The format string
+     */
+    public String getFormat() {
+        return format;
+    }
+    
+    /**
+     * Formats a message with the given arguments. The result is the same as
+     * the one of <code>String.format(getFormat(), args)</code>, including the
+     * exceptions thrown for illegal arguments.
+     * 
+     * @param args
+     *            The message arguments
+     * @return The formatted message
+     */
+    public String format(final Object... args) {
+        if(!canRender(args))
+            return String.format(format, args);
+        
+        StringBuilder buffer = BUFFER.get();
+        if(buffer == null) {
+            buffer = new StringBuilder();
+            BUFFER.set(buffer);
+        }
+        buffer.setLength(0);
+        for(final Object segment : segments) {
+            if(segment instanceof String)
+                buffer.append((String) segment);
+            else
+                buffer.append(args[((Placeholder) segment).index]);
+        }
+        final String result = buffer.toString();
+        if(buffer.capacity() > MAX_REUSED_CAPACITY)
+            BUFFER.remove();
+        return result;
+    }
+    
+    /* Implementation methods */
+    
+    private boolean canRender(final Object[] args) {
+        if(segments == null || args == null)
+            return false;
+        for(final Object segment : segments) {
+            if(segment instanceof Placeholder) {
+                final Placeholder placeholder = (Placeholder) segment;
+                if(placeholder.index >= args.length)
+                    return false;
+                final Object arg = args[placeholder.index];
+                if(placeholder.integer ? !isSimpleInteger(arg)
+                        : arg instanceof Formattable)
+                    return false;
+            }
+        }
+        return !hasIntegers || hasAsciiDigits();
+    }
+    
+    private static boolean isSimpleInteger(final Object arg) {
+        return arg == null || arg instanceof Integer || arg instanceof Long
+                || arg instanceof Short || arg instanceof Byte
+                || arg instanceof BigInteger;
+    }
+    
+    /* The Formatter localizes the digits of %d conversions. As long as the
+     * (format) locale uses the ASCII digits, toString() gives the same
+     * result. */
+    private static boolean hasAsciiDigits() {
+        final Locale locale = formatLocale();
+        LocaleDigits digits = lastLocale;
+        if(!digits.locale.equals(locale))
+            lastLocale = digits = new LocaleDigits(locale);
+        return digits.ascii;
+    }
+    
+    private static Locale formatLocale() {
+        if(getFormatLocale != null)
+            try {
+                return (Locale) getFormatLocale.invoke(null, formatCategory);
+            } catch(final Exception e) {
+                // fall through
+            }
+        return Locale.getDefault();
+    }
+    
+    private static Object[] parse(final String format) {
+        final List<Object> segments = new ArrayList<Object>();
+        final StringBuilder literal = new StringBuilder();
+        int ordinaryIndex = 0;
+        int i = 0;
+        while(i < format.length()) {
+            final char c = format.charAt(i);
+            if(c != '%') {
+                literal.append(c);
+                i++;
+                continue;
+            }
+            
+            /* Optional explicit index, e.g., "%2$s" */
+            int j = i + 1;
+            while(j < format.length() && isDigit(format.charAt(j)))
+                j++;
+            int explicitIndex = -1;
+            if(j > i + 1) {
+                if(j >= format.length() || format.charAt(j) != '$'
+                        || format.charAt(i + 1) == '0' || j - i - 1 > 9)
+                    return null; // width or weird index
+                explicitIndex = Integer.parseInt(format.substring(i + 1, j)) - 1;
+                j++;
+            }
+            if(j >= format.length())
+                return null;
+            
+            final char conversion = format.charAt(j);
+            if(conversion == '%' && explicitIndex < 0)
+                literal.append('%');
+            else if(conversion == 's' || conversion == 'd') {
+                if(literal.length() > 0) {
+                    segments.add(literal.toString());
+                    literal.setLength(0);
+                }
+                final int index = explicitIndex >= 0 ? explicitIndex
+                        : ordinaryIndex++;
+                segments.add(new Placeholder(index, conversion == 'd'));
+            }
+            else
+                return null;
+            i = j + 1;
+        }
+        if(literal.length() > 0)
+            segments.add(literal.toString());
+        return segments.toArray();
+    }
+    
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+    
+    private static final class LocaleDigits {
+        
+        final Locale locale;
+        final boolean ascii;
+        
+        LocaleDigits(final Locale locale) {
+            this.locale = locale;
+            this.ascii = DecimalFormatSymbols.getInstance(locale)
+                    .getZeroDigit() == '0';
+        }
+    }
+    
+    private static final class Placeholder {
+        
+        final int index;
+        final boolean integer;
+        
+        Placeholder(final int index, final boolean integer) {
+            this.index = index;
+            this.integer = integer;
+        }
+    }
+}
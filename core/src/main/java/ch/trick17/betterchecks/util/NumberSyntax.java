@@ -0,0 +1,225 @@
+package ch.trick17.betterchecks.util;
+
+/**
+ * Validates the syntax of numbers in strings without allocating any objects
+ * and without throwing exceptions. The methods accept exactly the strings
+ * accepted by {@link Integer#parseInt(String)},
+ * {@link Long#parseLong(String)} and {@link Double#parseDouble(String)},
+ * respectively. Validating a string this way is much cheaper than calling
+ * one of these methods and catching the {@link NumberFormatException}, in
+ * particular for invalid strings, where filling in the stack trace of the
+ * exception dominates the cost.
+ * <p>
+ * For the rare case where an exception is needed after all, for example as
+ * the cause of an {@link IllegalArgumentException}, the
+ * {@link #numberFormatException(String)} method creates one without a stack
+ * trace.
+ * 
+ * @author Michael Faes
+ */
+@GwtCompatible
+public final class NumberSyntax {
+    
+    private NumberSyntax() {}
+    
+    /**
+     * Indicates whether the given string is a valid <code>int</code>, as
+     * defined by {@link Integer#parseInt(String)}.
+     * 
+     * @param string
+     *            The string to validate
+     * @return <code>true</code> if the string is a valid <code>int</code>
+     */
+    public static boolean isInt(final CharSequence string) {
+        return isInteger(string, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+    
+    /**
+     * Indicates whether the given string is a valid <code>long</code>, as
+     * defined by {@link Long#parseLong(String)}.
+     * 
+     * @param string
+     *            The string to validate
+     * @return <code>true</code> if the string is a valid <code>long</code>
+     */
+    public static boolean isLong(final CharSequence string) {
+        return isInteger(string, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+    
+    private static boolean isInteger(final CharSequence string,
+            final long min, final long max) {
+        final int length = string.length();
+        if(length == 0)
+            return false;
+        
+        int i = 0;
+        boolean negative = false;
+        final char first = string.charAt(0);
+        if(first == '-' || first == '+') {
+            negative = first == '-';
+            if(length == 1)
+                return false;
+            i++;
+        }
+        
+        /* Accumulate negatively, as the negative range is larger */
+        final long limit = negative ? min : -max;
+        final long limitBeforeMultiply = limit / 10;
+        long result = 0;
+        for(; i < length; i++) {
+            final int digit = Character.digit(string.charAt(i), 10);
+            if(digit < 0 || result < limitBeforeMultiply)
+                return false;
+            result *= 10;
+            if(result < limit + digit)
+                return false;
+            result -= digit;
+        }
+        return true;
+    }
+    
+    /**
+     * Indicates whether the given string is a valid <code>double</code>, as
+     * defined by {@link Double#parseDouble(String)}. This includes
+     * <code>"NaN"</code>, <code>"Infinity"</code>, hexadecimal
+     * floating-point literals (except in GWT, where
+     * {@link Double#parseDouble(String)} does not accept them), optional type
+     * suffixes and leading and trailing whitespace. Note that values that are
+     * out of range are still valid, they are rounded to zero or infinity.
+     * 
+     * @param string
+     *            The string to validate
+     * @return <code>true</code> if the string is a valid <code>double</code>
+     */
+    public static boolean isDouble(final CharSequence string) {
+        int start = 0;
+        int end = string.length();
+        while(start < end && string.charAt(start) <= ' ')
+            start++;
+        while(end > start && string.charAt(end - 1) <= ' ')
+            end--;
+        if(start == end)
+            return false;
+        
+        int i = start;
+        final char first = string.charAt(i);
+        if(first == '-' || first == '+')
+            i++;
+        if(regionEquals(string, i, end, "NaN")
+                || regionEquals(string, i, end, "Infinity"))
+            return true;
+        
+        if(Platform.HEX_DOUBLES && i + 1 < end && string.charAt(i) == '0'
+                && (string.charAt(i + 1) == 'x' || string.charAt(i + 1) == 'X'))
+            return isHexDouble(string, i + 2, end);
+        
+        final int intStart = i;
+        i = skipDigits(string, i, end, false);
+        int digits = i - intStart;
+        if(i < end && string.charAt(i) == '.') {
+            final int fractionStart = ++i;
+            i = skipDigits(string, i, end, false);
+            digits += i - fractionStart;
+        }
+        if(digits == 0)
+            return false;
+        if(i < end && (string.charAt(i) == 'e' || string.charAt(i) == 'E')) {
+            i = skipExponent(string, i + 1, end);
+            if(i < 0)
+                return false;
+        }
+        return isEndWithSuffix(string, i, end);
+    }
+    
+    private static boolean isHexDouble(final CharSequence string, int i,
+            final int end) {
+        final int intStart = i;
+        i = skipDigits(string, i, end, true);
+        int digits = i - intStart;
+        if(i < end && string.charAt(i) == '.') {
+            final int fractionStart = ++i;
+            i = skipDigits(string, i, end, true);
+            digits += i - fractionStart;
+        }
+        /* The binary exponent is mandatory */
+        if(digits == 0 || i == end
+                || (string.charAt(i) != 'p' && string.charAt(i) != 'P'))
+            return false;
+        i = skipExponent(string, i + 1, end);
+        return i >= 0 && isEndWithSuffix(string, i, end);
+    }
+    
+    /**
+     * Skips the (optionally signed) exponent starting at the given index and
+     * returns the index after it, or -1 if there are no digits.
+     */
+    private static int skipExponent(final CharSequence string, int i,
+            final int end) {
+        if(i < end && (string.charAt(i) == '-' || string.charAt(i) == '+'))
+            i++;
+        final int digitsStart = i;
+        i = skipDigits(string, i, end, false);
+        return i == digitsStart ? -1 : i;
+    }
+    
+    private static int skipDigits(final CharSequence string, int i,
+            final int end, final boolean hex) {
+        while(i < end && isDigit(string.charAt(i), hex))
+            i++;
+        return i;
+    }
+    
+    private static boolean isDigit(final char c, final boolean hex) {
+        return c >= '0' && c <= '9' || hex
+                && (c >= 'a' && c <= 'f' || c >= 'A' && c <= 'F');
+    }
+    
+    private static boolean isEndWithSuffix(final CharSequence string,
+            final int i, final int end) {
+        if(i == end)
+            return true;
+        final char c = string.charAt(i);
+        return i + 1 == end
+                && (c == 'f' || c == 'F' || c == 'd' || c == 'D');
+    }
+    
+    private static boolean regionEquals(final CharSequence string,
+            final int start, final int end, final String expected) {
+        if(end - start != expected.length())
+            return false;
+        for(int i = 0; i < expected.length(); i++)
+            if(string.charAt(start + i) != expected.charAt(i))
+                return false;
+        return true;
+    }
+    
+    /**
+     * Creates a {@link NumberFormatException} for the given invalid string,
+     * with the same message as the ones thrown by the JDK parse methods, but
+     * without a stack trace, which makes it cheap to create.
+     * 
+     * @param string
+     *            The invalid string
+     * @return The exception
+     */
+    public static NumberFormatException numberFormatException(
+            final String string) {
+        return new StacklessNumberFormatException("For input string: \""
+                + string + "\"");
+    }
+    
+    private static final class StacklessNumberFormatException extends
+            NumberFormatException {
+        
+        private static final long serialVersionUID = -6126383817542045823L;
+        
+        StacklessNumberFormatException(final String message) {
+            super(message);
+        }
+        
+        @Override
+        public Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package ch.trick17.betterchecks.util;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.regex.Pattern;
+
+import ch.trick17.betterchecks.Config;
+
+/**
+ * A bounded cache of compiled regular expressions, used by the
+ * <code>StringCheck.matches(String)</code> and
+ * <code>StringCheck.matchesSafely(String)</code> checks so that regex literals
+ * passed inline are not compiled again for every check. There is one cache
+ * for {@link Pattern}s and one for {@link SafePattern}s; the maximum size of
+ * each is defined by {@link Config#getPatternCacheSize()}.
+ * <p>
+ * Looking up a cached pattern does not lock anything: The patterns are kept in
+ * a {@link ConcurrentHashMap} and each entry has a "recently used" flag, which
+ * is only written if it is not set already. If the cache is full, patterns are
+ * evicted in approximate least-recently-used order, using the CLOCK (or
+ * "second chance") algorithm: The eviction cycles through the entries,
+ * clearing the flags of recently used ones and evicting the first one whose
+ * flag is already clear. Only evictions are serialized.
+ * <p>
+ * The number of hits and misses can be queried using {@link #getHitCount()}
+ * and {@link #getMissCount()}, for example to find out whether the cache is
+ * large enough.
+ * 
+ * @param <P>
+ *            The type of the compiled patterns
+ * @author Michael Faes
+ */
+public final class PatternCache<P> {
+    
+    static final Compiler<Pattern> PATTERNS = new Compiler<Pattern>() {
+        public Pattern compile(final String regex) {
+            return Pattern.compile(regex);
+        }
+    };
+    
+    static final Compiler<SafePattern> SAFE_PATTERNS =
+            new Compiler<SafePattern>() {
+                public SafePattern compile(final String regex) {
+                    return SafePattern.compile(regex);
+                }
+            };
+    
+    /**
+     * Returns the cache of {@link Pattern}s used by the checks.
+     * 
+     * @return The pattern cache
+     */
+    public static PatternCache<Pattern> getCache() {
+        return CacheHolder.CACHE;
+    }
+    
+    /**
+     * Returns the cache of {@link SafePattern}s used by the checks.
+     * 
+     * @return The safe pattern cache
+     */
+    public static PatternCache<SafePattern> getSafeCache() {
+        return SafeCacheHolder.CACHE;
+    }
+    
+    /* The size is read directly from the config file, since a passing check
+     * should not load the complete config */
+    private static int configuredSize() {
+        return ConfigFile.getInt(ConfigFile.load(),
+                Config.PATTERN_CACHE_SIZE_KEY,
+                Config.DEFAULT_PATTERN_CACHE_SIZE);
+    }
+    
+    /* Each cache is held by its own class, so that it is only created when it
+     * is first used */
+    private static final class CacheHolder {
+        static final PatternCache<Pattern> CACHE = new PatternCache<Pattern>(
+                configuredSize(), PATTERNS);
+    }
+    
+    private static final class SafeCacheHolder {
+        static final PatternCache<SafePattern> CACHE =
+                new PatternCache<SafePattern>(configuredSize(), SAFE_PATTERNS);
+    }
+    
+    private final int maxSize;
+    private final Compiler<P> compiler;
+    private final ConcurrentMap<String, Entry<P>> entries =
+            new ConcurrentHashMap<String, Entry<P>>();
+    private final Counter hits = new Counter();
+    private final Counter misses = new Counter();
+    
+    /* The "clock hand" of the eviction, guarded by the lock */
+    private final Object evictionLock = new Object();
+    private Iterator<Entry<P>> hand;
+    
+    PatternCache(final int maxSize, final Compiler<P> compiler) {
+        this.maxSize = maxSize;
+        this.compiler = compiler;
+    }
+    
+    /**
+     * Returns the compiled pattern for the given regular expression, either
+     * from the cache or by compiling it (and caching it, if the cache is
+     * enabled).
+     * 
+     * @param regex
+     *            The regular expression
+     * @return The compiled pattern
+     * @throws java.util.regex.PatternSyntaxException
+     *             if the regular expression is invalid
+     */
+    public P get(final String regex) {
+        if(maxSize <= 0) {
+            misses.increment();
+            return compiler.compile(regex);
+        }
+        
+        final Entry<P> entry = entries.get(regex);
+        if(entry != null) {
+            if(!entry.used)
+                entry.used = true;
+            hits.increment();
+            return entry.pattern;
+        }
+        
+        misses.increment();
+        final Entry<P> newEntry = new Entry<P>(compiler.compile(regex));
+        if(entries.putIfAbsent(regex, newEntry) == null
+                && entries.size() > maxSize)
+            evict(newEntry);
+        return newEntry.pattern;
+    }
+    
+    private void evict(final Entry<P> newEntry) {
+        synchronized(evictionLock) {
+            while(entries.size() > maxSize) {
+                if(hand == null || !hand.hasNext())
+                    hand = entries.values().iterator();
+                final Entry<P> entry = hand.next();
+                if(entry.used)
+                    entry.used = false;
+                else if(entry != newEntry)
+                    hand.remove();
+            }
+        }
+    }
+    
+    /**
+     * Returns the maximum number of patterns in this cache. A value of 0 or
+     * less means that the cache is disabled.
+     * 
+     * @return The maximum size
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+    
+    /**
+     * Returns the number of patterns currently in this cache.
+     * 
+     * @return The current size
+     */
+    public int size() {
+        return entries.size();
+    }
+    
+    /**
+     * Returns the number of lookups that found the pattern in this cache.
+     * 
+     * @return The number of cache hits
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+    
+    /**
+     * Returns the number of lookups that had to compile the pattern, including
+     * all lookups if the cache is disabled.
+     * 
+     * @return The number of cache misses
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+    
+    /**
+     * Compiles regular expressions to a specific kind of pattern.
+     */
+    interface Compiler<P> {
+        P compile(String regex);
+    }
+    
+    private static final class Entry<P> {
+        
+        final P pattern;
+        /* Races are benign, the flag is only a hint for the eviction */
+        volatile boolean used;
+        
+        Entry(final P pattern) {
+            this.pattern = pattern;
+        }
+    }
+    
+    /**
+     * A counter that is striped over several cache lines, so that threads
+     * incrementing it concurrently do (mostly) not contend.
+     */
+    static final class Counter {
+        
+        private static final int STRIPES = 32; // Must be a power of two
+        private static final int PADDING = 8; // Longs per 64-byte cache line
+        
+        private final AtomicLongArray cells = new AtomicLongArray(STRIPES
+                * PADDING);
+        
+        void increment() {
+            final int stripe = (int) Thread.currentThread().getId()
+                    & (STRIPES - 1);
+            cells.incrementAndGet(stripe * PADDING);
+        }
+        
+        long sum() {
+            long sum = 0;
+            for(int i = 0; i < STRIPES; i++)
+                sum += cells.get(i * PADDING);
+            return sum;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package ch.trick17.betterchecks.util;
+
+/**
+ * Describes the differences between the JVM and GWT that affect the
+ * utilities in this package. This is the JVM variant; the GWT module
+ * contains a replacement for this class.
+ * 
+ * @author Michael Faes
+ */
+@GwtCompatible
+final class Platform {
+    
+    private Platform() {}
+    
+    /**
+     * Indicates whether {@link Double#parseDouble(String)} accepts
+     * hexadecimal floating-point literals, like <code>"0x1p3"</code>. The GWT
+     * implementation does not.
+     */
+    static final boolean HEX_DOUBLES = true;
+}
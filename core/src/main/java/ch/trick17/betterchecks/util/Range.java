@@ -0,0 +1,389 @@
+package ch.trick17.betterchecks.util;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+/**
+ * An immutable range of numbers, with closed, open or no bounds. Ranges are
+ * used with the <code>isIn(Range)</code> checks of the number check classes
+ * and are meant to be created once and reused, for example for constant
+ * bounds that are checked many times:
+ * <p>
+ * <code>private static final Range AMOUNTS = Range.closedOpen(BigDecimal.ZERO,
+ * MAX_AMOUNT);<br>
+ * ...<br>
+ * Check.that(amount).isIn(AMOUNTS);</code>
+ * <p>
+ * The bounds may be instances of any {@link Number} class and are compared
+ * exactly, like in the comparison checks of <code>NumberCheck</code>. Unlike
+ * these checks, ranges convert their bounds only once, when they are
+ * created: for <code>long</code> (and other integral) values, the range is
+ * reduced to the smallest and the largest contained <code>long</code>, for
+ * <code>double</code> (and <code>float</code>) values, the bounds are
+ * rounded to <code>double</code>s, remembering in which direction, and for
+ * all other numbers, they are converted to {@link BigDecimal}s. Checking
+ * whether a primitive number or an instance of one of the primitive wrapper
+ * classes is in a range therefore does not allocate any objects.
+ * <p>
+ * NaN is never in a range. Infinite values are in ranges that are unbounded
+ * in their direction or that have an infinite, closed bound.
+ * 
+ * @author Michael Faes
+ */
+@GwtCompatible
+public final class Range {
+    
+    private static final BigDecimal LONG_MIN = BigDecimal
+            .valueOf(Long.MIN_VALUE);
+    private static final BigDecimal LONG_MAX = BigDecimal
+            .valueOf(Long.MAX_VALUE);
+    
+    /**
+     * Creates a range that contains all numbers greater than or equal to
+     * <code>min</code> and less than or equal to <code>max</code>.
+     * 
+     * @param min
+     *            The lower bound
+     * @param max
+     *            The upper bound
+     * @return The range
+     * @throws IllegalArgumentException
+     *             if one of the bounds is <code>null</code> or NaN, or if
+     *             <code>min</code> is greater than <code>max</code>
+     */
+    public static Range closed(final Number min, final Number max) {
+        return new Range(checkBound(min), true, checkBound(max), true);
+    }
+    
+    /**
+     * Creates a range that contains all numbers strictly greater than
+     * <code>min</code> and strictly less than <code>max</code>.
+     * 
+     * @param min
+     *            The lower bound
+     * @param max
+     *            The upper bound
+     * @return The range
+     * @throws IllegalArgumentException
+     *             if one of the bounds is <code>null</code> or NaN, or if
+     *             <code>min</code> is greater than <code>max</code>
+     */
+    public static Range open(final Number min, final Number max) {
+        return new Range(checkBound(min), false, checkBound(max), false);
+    }
+    
+    /**
+     * Creates a range that contains all numbers greater than or equal to
+     * <code>min</code> and strictly less than <code>max</code>.
+     * 
+     * @param min
+     *            The lower bound
+     * @param max
+     *            The upper bound
+     * @return The range
+     * @throws IllegalArgumentException
+     *             if one of the bounds is <code>null</code> or NaN, or if
+     *             <code>min</code> is greater than <code>max</code>
+     */
+    public static Range closedOpen(final Number min, final Number max) {
+        return new Range(checkBound(min), true, checkBound(max), false);
+    }
+    
+    /**
+     * Creates a range that contains all numbers strictly greater than
+     * <code>min</code> and less than or equal to <code>max</code>.
+     * 
+     * @param min
+     *            The lower bound
+     * @param max
+     *            The upper bound
+     * @return The range
+     * @throws IllegalArgumentException
+     *             if one of the bounds is <code>null</code> or NaN, or if
+     *             <code>min</code> is greater than <code>max</code>
+     */
+    public static Range openClosed(final Number min, final Number max) {
+        return new Range(checkBound(min), false, checkBound(max), true);
+    }
+    
+    /**
+     * Creates a range that contains all numbers greater than or equal to
+     * <code>min</code>.
+     * 
+     * @param min
+     *            The lower bound
+     * @return The range
+     * @throws IllegalArgumentException
+     *             if the bound is <code>null</code> or NaN
+     */
+    public static Range atLeast(final Number min) {
+        return new Range(checkBound(min), true, null, false);
+    }
+    
+    /**
+     * Creates a range that contains all numbers strictly greater than
+     * <code>min</code>.
+     * 
+     * @param min
+     *            The lower bound
+     * @return The range
+     * @throws IllegalArgumentException
+     *             if the bound is <code>null</code> or NaN
+     */
+    public static Range greaterThan(final Number min) {
+        return new Range(checkBound(min), false, null, false);
+    }
+    
+    /**
+     * Creates a range that contains all numbers less than or equal to
+     * <code>max</code>.
+     * 
+     * @param max
+     *            The upper bound
+     * @return The range
+     * @throws IllegalArgumentException
+     *             if the bound is <code>null</code> or NaN
+     */
+    public static Range atMost(final Number max) {
+        return new Range(null, false, checkBound(max), true);
+    }
+    
+    /**
+     * Creates a range that contains all numbers strictly less than
+     * <code>max</code>.
+     * 
+     * @param max
+     *            The upper bound
+     * @return The range
+     * @throws IllegalArgumentException
+     *             if the bound is <code>null</code> or NaN
+     */
+    public static Range lessThan(final Number max) {
+        return new Range(null, false, checkBound(max), false);
+    }
+    
+    private static Number checkBound(final Number bound) {
+        if(bound == null || isFloatingPoint(bound)
+                && Double.isNaN(bound.doubleValue()))
+            throw new IllegalArgumentException("invalid range bound: "
+                    + bound);
+        return bound;
+    }
+    
+    /* The bounds as given, for toString(). null means unbounded */
+    private final Number min;
+    private final Number max;
+    private final boolean minClosed;
+    private final boolean maxClosed;
+    
+    /* The smallest and the largest long in the range (min > max if none) */
+    private final long longMin;
+    private final long longMax;
+    
+    /* The bounds rounded to doubles and the results of comparing them to the
+     * exact bounds. Unbounded ends are represented by infinities that are
+     * "inside" the exact (even more infinite) bounds. */
+    private final double doubleMin;
+    private final double doubleMax;
+    private final int doubleMinError;
+    private final int doubleMaxError;
+    
+    /* The bounds as BigDecimals, or null if unbounded or infinite, and
+     * whether an infinite bound at the "wrong" end excludes all of them */
+    private final BigDecimal decimalMin;
+    private final BigDecimal decimalMax;
+    private final boolean decimalsEmpty;
+    
+    private Range(final Number min, final boolean minClosed,
+            final Number max, final boolean maxClosed) {
+        this.min = min;
+        this.max = max;
+        this.minClosed = minClosed;
+        this.maxClosed = maxClosed;
+        
+        decimalMin = min == null || isInfinite(min) ? null : toBigDecimal(min);
+        decimalMax = max == null || isInfinite(max) ? null : toBigDecimal(max);
+        doubleMin = min == null ? Double.NEGATIVE_INFINITY : min.doubleValue();
+        doubleMax = max == null ? Double.POSITIVE_INFINITY : max.doubleValue();
+        if(doubleMin > doubleMax || decimalMin != null && decimalMax != null
+                && decimalMin.compareTo(decimalMax) > 0)
+            throw new IllegalArgumentException("invalid range: "
+                    + bounds(min, minClosed, max, maxClosed));
+        doubleMinError = min == null ? 1 : roundingError(doubleMin,
+                decimalMin);
+        doubleMaxError = max == null ? -1 : roundingError(doubleMax,
+                decimalMax);
+        decimalsEmpty = isInfinite(min) && doubleMin > 0
+                || isInfinite(max) && doubleMax < 0;
+        
+        final boolean noLongs = decimalsEmpty
+                || decimalMin != null
+                && decimalMin.compareTo(LONG_MAX) >= (minClosed ? 1 : 0)
+                || decimalMax != null
+                && decimalMax.compareTo(LONG_MIN) <= (maxClosed ? -1 : 0);
+        if(noLongs) {
+            longMin = Long.MAX_VALUE;
+            longMax = Long.MIN_VALUE;
+        }
+        else {
+            longMin = decimalMin == null ? Long.MIN_VALUE : toLong(decimalMin,
+                    RoundingMode.CEILING, minClosed ? 0 : 1);
+            longMax = decimalMax == null ? Long.MAX_VALUE : toLong(decimalMax,
+                    RoundingMode.FLOOR, maxClosed ? 0 : -1);
+        }
+    }
+    
+    private static boolean isFloatingPoint(final Number number) {
+        return number instanceof Double || number instanceof Float;
+    }
+    
+    private static boolean isInfinite(final Number bound) {
+        return bound != null && isFloatingPoint(bound)
+                && Double.isInfinite(bound.doubleValue());
+    }
+    
+    /**
+     * Compares the given double to the exact value it was rounded from. For
+     * infinite doubles, the exact value is either infinite as well (and
+     * <code>null</code>) or finite, but too large for a double.
+     */
+    private static int roundingError(final double rounded,
+            final BigDecimal exact) {
+        if(Double.isInfinite(rounded))
+            return exact == null ? 0 : (rounded > 0 ? 1 : -1);
+        return new BigDecimal(rounded).compareTo(exact);
+    }
+    
+    /**
+     * Rounds the given bound to a long in the given direction, adds the given
+     * offset (for open bounds) and clamps the result to the long range.
+     */
+    private static long toLong(final BigDecimal bound,
+            final RoundingMode mode, final int offset) {
+        BigDecimal rounded = bound.setScale(0, mode);
+        if(offset != 0 && rounded.compareTo(bound) == 0)
+            rounded = rounded.add(BigDecimal.valueOf(offset));
+        if(rounded.compareTo(LONG_MIN) < 0)
+            return Long.MIN_VALUE;
+        if(rounded.compareTo(LONG_MAX) > 0)
+            return Long.MAX_VALUE;
+        return rounded.longValue();
+    }
+    
+    private static BigDecimal toBigDecimal(final Number number) {
+        if(number instanceof BigDecimal)
+            return (BigDecimal) number;
+        if(number instanceof BigInteger)
+            return new BigDecimal((BigInteger) number);
+        if(number instanceof Byte || number instanceof Short
+                || number instanceof Integer || number instanceof Long)
+            return BigDecimal.valueOf(number.longValue());
+        if(isFloatingPoint(number))
+            return new BigDecimal(number.doubleValue());
+        
+        try {
+            return new BigDecimal(number.toString());
+        } catch(final NumberFormatException e) {
+            throw new RuntimeException("The given number (\"" + number
+                    + "\" of class " + number.getClass().getName()
+                    + ") does not have a parsable string representation", e);
+        }
+    }
+    
+    /**
+     * Indicates whether the given <code>long</code> is in this range.
+     * 
+     * @param number
+     *            The number
+     * @return <code>true</code> if the number is in this range
+     */
+    public boolean contains(final long number) {
+        return number >= longMin && number <= longMax;
+    }
+    
+    /**
+     * Indicates whether the given <code>double</code> is in this range. NaN
+     * is never in a range.
+     * 
+     * @param number
+     *            The number
+     * @return <code>true</code> if the number is in this range
+     */
+    public boolean contains(final double number) {
+        if(number != number)
+            return false;
+        /* If the number is equal to a rounded bound, the rounding error
+         * tells how it compares to the exact bound. Otherwise, the rounded
+         * bound is the closest double, so the comparison is the same. */
+        final int minComparison = number < doubleMin ? -1
+                : (number > doubleMin ? 1 : doubleMinError);
+        final int maxComparison = number < doubleMax ? -1
+                : (number > doubleMax ? 1 : doubleMaxError);
+        return (minComparison > 0 || minComparison == 0 && minClosed)
+                && (maxComparison < 0 || maxComparison == 0 && maxClosed);
+    }
+    
+    /**
+     * Indicates whether the given number is in this range. Instances of the
+     * primitive wrapper classes are handled like their primitive values,
+     * other numbers are converted to {@link BigDecimal}, as described in the
+     * documentation of <code>NumberCheck</code>.
+     * 
+     * @param number
+     *            The number
+     * @return <code>true</code> if the number is in this range
+     */
+    public boolean contains(final Number number) {
+        if(number instanceof Integer || number instanceof Long
+                || number instanceof Short || number instanceof Byte)
+            return contains(number.longValue());
+        if(isFloatingPoint(number))
+            return contains(number.doubleValue());
+        if(decimalsEmpty)
+            return false;
+        return contains(toBigDecimal(number));
+    }
+    
+    /**
+     * Indicates whether the given {@link BigDecimal} is in this range.
+     * 
+     * @param decimal
+     *            The number
+     * @return <code>true</code> if the number is in this range
+     */
+    public boolean contains(final BigDecimal decimal) {
+        if(decimalsEmpty)
+            return false;
+        if(decimalMin != null) {
+            final int comparison = decimal.compareTo(decimalMin);
+            if(comparison < 0 || comparison == 0 && !minClosed)
+                return false;
+        }
+        if(decimalMax != null) {
+            final int comparison = decimal.compareTo(decimalMax);
+            if(comparison > 0 || comparison == 0 && !maxClosed)
+                return false;
+        }
+        return true;
+    }
+    
+    /**
+     * Returns a string representation of this range in interval notation,
+     * like <code>[0, 100)</code> or <code>(-Infinity, 5]</code>, which is used
+     * in exception messages.
+     * 
+     * @return A string representation of this range
+     */
+    @Override
+    public String toString() {
+        return bounds(min, minClosed, max, maxClosed);
+    }
+    
+    private static String bounds(final Number min, final boolean minClosed,
+            final Number max, final boolean maxClosed) {
+        return (minClosed ? "[" : "(") + (min == null ? "-Infinity" : min)
+                + ", " + (max == null ? "Infinity" : max)
+                + (maxClosed ? "]" : ")");
+    }
+}
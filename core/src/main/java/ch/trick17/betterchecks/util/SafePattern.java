@@ -0,0 +1,943 @@
+package ch.trick17.betterchecks.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * A compiled regular expression that is matched in linear time, regardless of
+ * the input. This makes it safe to match strings from untrusted sources, for
+ * which the backtracking {@link Pattern} implementation can take exponential
+ * time ("ReDoS"). For example, matching <code>(.*a){12}b</code> against a
+ * string of 25 <code>a</code>s takes seconds with {@link Pattern}, but only
+ * microseconds with this class.
+ * <p>
+ * The price is that only the <em>regular</em> subset of the {@link Pattern}
+ * syntax is supported:
+ * <ul>
+ * <li>Literal characters and the escape sequences for them (like
+ * <code>\t</code>, <code>\x41</code>, <code>A</code> or <code>\.</code>),
+ * including quotations with <code>\Q...\E</code>
+ * <li>The dot and character classes, including ranges, negations and the
+ * predefined classes <code>\d \D \s \S \w \W \h \H \v \V</code> and
+ * <code>\p{<em>Name</em>}</code> for the POSIX classes (like
+ * <code>\p{Alpha}</code>)
+ * <li>Alternation (<code>|</code>), capturing, non-capturing and named groups
+ * (which are only used for grouping, though)
+ * <li>The greedy and reluctant quantifiers <code>? * + {n} {n,} {n,m}</code>
+ * <li><code>^</code> at the start and <code>$</code> at the end of the
+ * expression (where they are redundant, as the whole input is matched)
+ * </ul>
+ * Back references and lookarounds, which cannot be matched in linear time, are
+ * rejected with a {@link PatternSyntaxException} that explains the problem.
+ * The same goes for constructs that are not implemented (yet), like atomic
+ * groups, possessive quantifiers, boundary matchers, inline flags, other
+ * character properties, nested classes and class intersections. For all
+ * supported expressions, {@link #matches(CharSequence)} gives the same result
+ * as {@link Pattern#matches(String, CharSequence)}.
+ * <p>
+ * Internally, the expression is compiled to a nondeterministic finite
+ * automaton (NFA), which is converted to a deterministic one (DFA) lazily,
+ * while matching. The DFA states are cached, so matching typically costs a
+ * single table lookup per character. The number of cached states is bounded;
+ * if an expression needs more (which may happen for expressions like
+ * <code>(a|b)*a(a|b){20}</code>), the cache is cleared and rebuilt, which
+ * makes matching slower, but still linear. Instances of this class are
+ * immutable from the outside and may be used by multiple threads
+ * concurrently.
+ * 
+ * @author Michael Faes
+ */
+public final class SafePattern {
+    
+    /* NFA limit, to reject expressions like "(a{1000}){1000}" */
+    static final int MAX_NFA_STATES = 100000;
+    static final int DEFAULT_MAX_DFA_STATES = 4096;
+    
+    private static final int[] DOT = ranges(0, '\n' - 1, '\n' + 1, '\r' - 1,
+            '\r' + 1, 0x84, 0x86, 0x2027, 0x202A, Character.MAX_CODE_POINT);
+    
+    /**
+     * Compiles the given regular expression.
+     * 
+     * @param regex
+     *            The regular expression, using the subset of the
+     *            {@link Pattern} syntax described above
+     * @return The compiled pattern
+     * @throws PatternSyntaxException
+     *             if the expression is invalid or uses unsupported constructs
+     */
+    public static SafePattern compile(final String regex) {
+        return new SafePattern(regex, DEFAULT_MAX_DFA_STATES);
+    }
+    
+    private final String regex;
+    
+    /* The NFA. CHARS states consume a code point in their ranges and go to
+     * out1, SPLIT states go to out1 and out2 without consuming anything. */
+    private static final int CHARS = 0;
+    private static final int SPLIT = 1;
+    private static final int MATCH = 2;
+    private final int[] kinds;
+    private final int[] out1;
+    private final int[] out2;
+    private final int[][] chars;
+    private final int startState;
+    
+    /* The alphabet is partitioned into classes of code points that no state
+     * distinguishes. Class i contains the code points from bounds[i] up to
+     * (excluding) bounds[i + 1]. */
+    private final int[] bounds;
+    private final int[] asciiClasses = new int[128];
+    
+    /* The lazily built DFA. Transitions are read without locking, which is
+     * safe because all fields of DState are final. */
+    private final int maxDfaStates;
+    private final Object lock = new Object();
+    private Map<StateSet, DState> dfaStates; // Guarded by lock
+    private volatile DState start;
+    
+    SafePattern(final String regex, final int maxDfaStates) {
+        this.regex = regex;
+        this.maxDfaStates = maxDfaStates;
+        
+        final Node node = new Parser(regex).parse();
+        final Nfa nfa = new Nfa(regex);
+        final int match = nfa.add(MATCH, null, -1, -1);
+        startState = node.compile(nfa, match);
+        kinds = Arrays.copyOf(nfa.kinds, nfa.size);
+        out1 = Arrays.copyOf(nfa.out1, nfa.size);
+        out2 = Arrays.copyOf(nfa.out2, nfa.size);
+        chars = Arrays.copyOf(nfa.chars, nfa.size);
+        
+        bounds = partition(chars);
+        for(int c = 0; c < asciiClasses.length; c++)
+            asciiClasses[c] = classOfSlow(c);
+        
+        synchronized(lock) {
+            resetDfa();
+        }
+    }
+    
+    /**
+     * Returns the regular expression this pattern was compiled from.
+     * 
+     * @return The regular expression
+     */
+    public String pattern() {
+        return regex;
+    }
+    
+    /**
+     * Indicates whether the given input as a whole matches this pattern. This
+     * method runs in time linear in the length of the input.
+     * 
+     * @param input
+     *            The input to match
+     * @return <code>true</code> if the input matches
+     */
+    public boolean matches(final CharSequence input) {
+        DState state = start;
+        final int length = input.length();
+        for(int i = 0; i < length;) {
+            final int c = Character.codePointAt(input, i);
+            i += Character.charCount(c);
+            
+            final int cls = c < 128 ? asciiClasses[c] : classOfSlow(c);
+            DState next = state.next[cls];
+            if(next == null)
+                next = computeNext(state, cls);
+            if(next.dead)
+                return false;
+            state = next;
+        }
+        return state.accepting;
+    }
+    
+    /**
+     * Returns the {@linkplain #pattern() regular expression} of this pattern.
+     */
+    @Override
+    public String toString() {
+        return regex;
+    }
+    
+    /* DFA construction */
+    
+    private void resetDfa() {
+        dfaStates = new HashMap<StateSet, DState>();
+        start = dfaState(closure(new int[]{startState}));
+    }
+    
+    private DState computeNext(final DState state, final int cls) {
+        synchronized(lock) {
+            if(state.next[cls] != null)
+                return state.next[cls];
+            
+            if(dfaStates.size() >= maxDfaStates)
+                resetDfa();
+            
+            final int c = bounds[cls];
+            final int[] targets = new int[state.nfaStates.length];
+            int count = 0;
+            for(final int s : state.nfaStates)
+                if(kinds[s] == CHARS && contains(chars[s], c))
+                    targets[count++] = out1[s];
+            final int[] nfaStates = closure(Arrays.copyOf(targets, count));
+            final DState next = dfaState(nfaStates);
+            state.next[cls] = next;
+            return next;
+        }
+    }
+    
+    private DState dfaState(final int[] nfaStates) {
+        final StateSet key = new StateSet(nfaStates);
+        DState state = dfaStates.get(key);
+        if(state == null) {
+            boolean accepting = false;
+            for(final int s : nfaStates)
+                accepting |= kinds[s] == MATCH;
+            state = new DState(nfaStates, accepting, bounds.length);
+            dfaStates.put(key, state);
+        }
+        return state;
+    }
+    
+    /**
+     * Returns the sorted set of NFA states that are reachable from the given
+     * ones without consuming input, excluding SPLIT states, which are not
+     * needed in DFA states.
+     */
+    private int[] closure(final int[] states) {
+        final boolean[] visited = new boolean[kinds.length];
+        final int[] stack = new int[kinds.length];
+        int top = 0;
+        for(final int s : states)
+            if(!visited[s]) {
+                visited[s] = true;
+                stack[top++] = s;
+            }
+        
+        int count = 0;
+        while(top > 0) {
+            final int s = stack[--top];
+            if(kinds[s] == SPLIT) {
+                for(final int t : new int[]{out1[s], out2[s]})
+                    if(!visited[t]) {
+                        visited[t] = true;
+                        stack[top++] = t;
+                    }
+            } else
+                count++;
+        }
+        
+        final int[] result = new int[count];
+        int i = 0;
+        for(int s = 0; s < visited.length; s++)
+            if(visited[s] && kinds[s] != SPLIT)
+                result[i++] = s;
+        return result;
+    }
+    
+    private int classOfSlow(final int c) {
+        final int index = Arrays.binarySearch(bounds, c);
+        return index >= 0 ? index : -index - 2;
+    }
+    
+    private static int[] partition(final int[][] chars) {
+        final List<Integer> points = new ArrayList<Integer>();
+        points.add(0);
+        for(final int[] ranges : chars)
+            if(ranges != null)
+                for(int i = 0; i < ranges.length; i += 2) {
+                    points.add(ranges[i]);
+                    if(ranges[i + 1] < Character.MAX_CODE_POINT)
+                        points.add(ranges[i + 1] + 1);
+                }
+        
+        final int[] sorted = new int[points.size()];
+        for(int i = 0; i < sorted.length; i++)
+            sorted[i] = points.get(i);
+        Arrays.sort(sorted);
+        int count = 0;
+        for(int i = 0; i < sorted.length; i++)
+            if(i == 0 || sorted[i] != sorted[i - 1])
+                sorted[count++] = sorted[i];
+        return Arrays.copyOf(sorted, count);
+    }
+    
+    private static final class DState {
+        
+        final int[] nfaStates;
+        final boolean accepting;
+        final boolean dead;
+        final DState[] next;
+        
+        DState(final int[] nfaStates, final boolean accepting,
+                final int classes) {
+            this.nfaStates = nfaStates;
+            this.accepting = accepting;
+            this.dead = nfaStates.length == 0;
+            this.next = new DState[classes];
+        }
+    }
+    
+    private static final class StateSet {
+        
+        private final int[] states;
+        private final int hash;
+        
+        StateSet(final int[] states) {
+            this.states = states;
+            this.hash = Arrays.hashCode(states);
+        }
+        
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+        
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof StateSet
+                    && Arrays.equals(states, ((StateSet) obj).states);
+        }
+    }
+    
+    /* NFA construction */
+    
+    private static final class Nfa {
+        
+        private final String regex;
+        int size = 0;
+        int[] kinds = new int[16];
+        int[] out1 = new int[16];
+        int[] out2 = new int[16];
+        int[][] chars = new int[16][];
+        
+        Nfa(final String regex) {
+            this.regex = regex;
+        }
+        
+        int add(final int kind, final int[] ranges, final int next1,
+                final int next2) {
+            if(size == MAX_NFA_STATES)
+                throw new PatternSyntaxException("Expression is too large",
+                        regex, -1);
+            if(size == kinds.length) {
+                final int capacity = 2 * size;
+                kinds = Arrays.copyOf(kinds, capacity);
+                out1 = Arrays.copyOf(out1, capacity);
+                out2 = Arrays.copyOf(out2, capacity);
+                chars = Arrays.copyOf(chars, capacity);
+            }
+            kinds[size] = kind;
+            chars[size] = ranges;
+            out1[size] = next1;
+            out2[size] = next2;
+            return size++;
+        }
+    }
+    
+    /**
+     * A node of the syntax tree. Each node compiles itself to an NFA fragment
+     * that continues with the given state and returns the start state of the
+     * fragment.
+     */
+    private static abstract class Node {
+        abstract int compile(Nfa nfa, int next);
+    }
+    
+    private static final class Chars extends Node {
+        
+        private final int[] ranges;
+        
+        Chars(final int[] ranges) {
+            this.ranges = ranges;
+        }
+        
+        @Override
+        int compile(final Nfa nfa, final int next) {
+            return nfa.add(CHARS, ranges, next, -1);
+        }
+    }
+    
+    private static final class Concat extends Node {
+        
+        private final List<Node> nodes;
+        
+        Concat(final List<Node> nodes) {
+            this.nodes = nodes;
+        }
+        
+        @Override
+        int compile(final Nfa nfa, final int next) {
+            int start = next;
+            for(int i = nodes.size() - 1; i >= 0; i--)
+                start = nodes.get(i).compile(nfa, start);
+            return start;
+        }
+    }
+    
+    private static final class Alternation extends Node {
+        
+        private final List<Node> nodes;
+        
+        Alternation(final List<Node> nodes) {
+            this.nodes = nodes;
+        }
+        
+        @Override
+        int compile(final Nfa nfa, final int next) {
+            int start = nodes.get(nodes.size() - 1).compile(nfa, next);
+            for(int i = nodes.size() - 2; i >= 0; i--)
+                start = nfa.add(SPLIT, null, nodes.get(i).compile(nfa, next),
+                        start);
+            return start;
+        }
+    }
+    
+    private static final class Repetition extends Node {
+        
+        private final Node node;
+        private final int min;
+        private final int max; // -1 for unbounded
+        
+        Repetition(final Node node, final int min, final int max) {
+            this.node = node;
+            this.min = min;
+            this.max = max;
+        }
+        
+        @Override
+        int compile(final Nfa nfa, final int next) {
+            int start = next;
+            if(max < 0) {
+                final int loop = nfa.add(SPLIT, null, -1, next);
+                final int body = node.compile(nfa, loop);
+                nfa.out1[loop] = body; // Array may have been grown above
+                start = loop;
+            } else
+                for(int i = min; i < max; i++)
+                    start = nfa.add(SPLIT, null, node.compile(nfa, start),
+                            next);
+            for(int i = 0; i < min; i++)
+                start = node.compile(nfa, start);
+            return start;
+        }
+    }
+    
+    /* Parsing */
+    
+    private static final class Parser {
+        
+        private static final String MIDDLE_ANCHORS = "Anchors anywhere but "
+                + "at the start or end of the expression";
+        
+        private final String regex;
+        private int pos = 0;
+        
+        Parser(final String regex) {
+            this.regex = regex;
+        }
+        
+        Node parse() {
+            final Node node = parseAlternation();
+            if(pos < regex.length())
+                throw error("Unmatched closing ')'", pos);
+            return node;
+        }
+        
+        private Node parseAlternation() {
+            final List<Node> nodes = new ArrayList<Node>();
+            nodes.add(parseConcat());
+            while(peek() == '|') {
+                pos++;
+                nodes.add(parseConcat());
+            }
+            return nodes.size() == 1 ? nodes.get(0) : new Alternation(nodes);
+        }
+        
+        private Node parseConcat() {
+            final List<Node> nodes = new ArrayList<Node>();
+            while(pos < regex.length() && peek() != '|' && peek() != ')') {
+                final Node atom = parseAtom(nodes);
+                if(atom != null)
+                    nodes.add(parseQuantifiers(atom));
+            }
+            return nodes.size() == 1 ? nodes.get(0) : new Concat(nodes);
+        }
+        
+        private Node parseQuantifiers(final Node node) {
+            final char c = peek();
+            final Node result;
+            if(c == '*')
+                result = new Repetition(node, 0, -1);
+            else if(c == '+')
+                result = new Repetition(node, 1, -1);
+            else if(c == '?')
+                result = new Repetition(node, 0, 1);
+            else if(c == '{')
+                result = parseCurly(node);
+            else
+                return node;
+            pos++;
+            
+            if(peek() == '?')
+                pos++; // Reluctant, no difference for matching as a whole
+            else if(peek() == '+')
+                throw notImplemented("Possessive quantifiers", pos);
+            
+            /* Pattern silently ignores further {n,m} quantifiers */
+            while(peek() == '{') {
+                parseCurly(node);
+                pos++;
+            }
+            return result;
+        }
+        
+        private Node parseCurly(final Node node) {
+            final int curlyPos = pos;
+            pos++;
+            final int min = parseNumber(curlyPos);
+            int max = min;
+            if(peek() == ',') {
+                pos++;
+                max = peek() == '}' ? -1 : parseNumber(curlyPos);
+            }
+            if(peek() != '}')
+                throw error("Illegal repetition", curlyPos);
+            if(max >= 0 && max < min)
+                throw error("Illegal repetition range", curlyPos);
+            return new Repetition(node, min, max);
+        }
+        
+        private int parseNumber(final int curlyPos) {
+            final int start = pos;
+            while(pos < regex.length() && pos - start < 9
+                    && Character.isDigit(peek()) && peek() < 128)
+                pos++;
+            if(pos == start)
+                throw error("Illegal repetition", curlyPos);
+            return Integer.parseInt(regex.substring(start, pos));
+        }
+        
+        /**
+         * Parses an atom, or returns <code>null</code> for the anchors, which
+         * do not match anything in the supported positions. For quotations,
+         * all characters except the last are added to the given nodes
+         * directly, as a quantifier only applies to the last one.
+         */
+        private Node parseAtom(final List<Node> nodes) {
+            final int atomPos = pos;
+            final char c = peek();
+            switch(c) {
+            case '(':
+                pos++;
+                parseGroupType();
+                final Node group = parseAlternation();
+                if(peek() != ')')
+                    throw error("Unclosed group", regex.length());
+                pos++;
+                return group;
+            case '[':
+                pos++;
+                return new Chars(parseClass());
+            case '.':
+                pos++;
+                return new Chars(DOT);
+            case '^':
+                pos++;
+                if(atomPos != 0)
+                    throw notImplemented(MIDDLE_ANCHORS, atomPos);
+                return null;
+            case '$':
+                pos++;
+                if(pos != regex.length())
+                    throw notImplemented(MIDDLE_ANCHORS, atomPos);
+                return null;
+            case '\\':
+                pos++;
+                if(peek() == 'Q')
+                    return parseQuotation(nodes);
+                return new Chars(parseEscape(false));
+            case '*':
+            case '+':
+            case '?':
+                throw error("Dangling meta character '" + c + "'", atomPos);
+            case '{':
+                throw error("Illegal repetition", atomPos);
+            default:
+                final int codePoint = regex.codePointAt(pos);
+                pos += Character.charCount(codePoint);
+                return new Chars(ranges(codePoint, codePoint));
+            }
+        }
+        
+        private void parseGroupType() {
+            if(peek() != '?')
+                return;
+            final int groupPos = pos - 1;
+            pos++;
+            final char c = peek();
+            if(c == ':')
+                pos++;
+            else if(c == '=' || c == '!')
+                throw nonLinear("Lookaheads", groupPos);
+            else if(c == '>')
+                throw notImplemented("Atomic groups", groupPos);
+            else if(c == '<') {
+                pos++;
+                if(peek() == '=' || peek() == '!')
+                    throw nonLinear("Lookbehinds", groupPos);
+                final int nameStart = pos;
+                while(pos < regex.length()
+                        && Character.isLetterOrDigit(peek()) && peek() < 128)
+                    pos++;
+                if(pos == nameStart || Character.isDigit(regex.charAt(
+                        nameStart)) || peek() != '>')
+                    throw error("Named group has an invalid name", groupPos);
+                pos++;
+            } else
+                throw notImplemented("Inline flags", groupPos);
+        }
+        
+        private Node parseQuotation(final List<Node> nodes) {
+            pos++;
+            int end = regex.indexOf("\\E", pos);
+            if(end < 0)
+                end = regex.length();
+            Node last = null;
+            while(pos < end) {
+                if(last != null)
+                    nodes.add(last);
+                final int codePoint = regex.codePointAt(pos);
+                pos += Character.charCount(codePoint);
+                last = new Chars(single(codePoint));
+            }
+            pos = Math.min(end + 2, regex.length());
+            return last;
+        }
+        
+        private int[] parseClass() {
+            final boolean negated = peek() == '^';
+            if(negated)
+                pos++;
+            
+            int[] result = ranges();
+            boolean first = true;
+            while(true) {
+                if(pos >= regex.length())
+                    throw error("Unclosed character class", regex.length() - 1);
+                final char c = peek();
+                if(c == ']' && !first) {
+                    pos++;
+                    break;
+                }
+                if(c == '[')
+                    throw notImplemented("Nested character classes", pos);
+                if(c == '&' && regex.startsWith("&&", pos))
+                    throw notImplemented("Character class intersections",
+                            pos);
+                
+                int[] item = parseClassChar();
+                if(item.length == 2 && item[0] == item[1] && peek() == '-'
+                        && pos + 1 < regex.length()
+                        && regex.charAt(pos + 1) != ']') {
+                    final int rangePos = pos;
+                    pos++;
+                    if(peek() == '[')
+                        throw notImplemented("Nested character classes", pos);
+                    final int[] end = parseClassChar();
+                    if(end.length != 2 || end[0] != end[1] || end[0] < item[0])
+                        throw error("Illegal character range", rangePos);
+                    item = ranges(item[0], end[0]);
+                }
+                result = union(result, item);
+                first = false;
+            }
+            return negated ? negate(result) : result;
+        }
+        
+        private int[] parseClassChar() {
+            if(peek() == '\\') {
+                pos++;
+                return parseEscape(true);
+            }
+            final int codePoint = regex.codePointAt(pos);
+            pos += Character.charCount(codePoint);
+            return ranges(codePoint, codePoint);
+        }
+        
+        /**
+         * Parses the escape sequence after a backslash and returns the code
+         * points it matches.
+         */
+        private int[] parseEscape(final boolean inClass) {
+            final int escapePos = pos - 1;
+            if(pos >= regex.length())
+                throw error("Unexpected internal error", regex.length());
+            final char c = regex.charAt(pos++);
+            switch(c) {
+            case 't':
+                return single('\t');
+            case 'n':
+                return single('\n');
+            case 'r':
+                return single('\r');
+            case 'f':
+                return single('\f');
+            case 'a':
+                return single('\u0007');
+            case 'e':
+                return single('\u001B');
+            case '0':
+                return single(parseOctal(escapePos));
+            case 'x':
+                return single(parseHex(escapePos));
+            case 'u':
+                return single(parseHexDigits(4, escapePos));
+            case 'c':
+                if(pos >= regex.length())
+                    throw error("Illegal control escape sequence", escapePos);
+                return single(regex.charAt(pos++) ^ 64);
+            case 'd':
+                return DIGIT;
+            case 'D':
+                return negate(DIGIT);
+            case 's':
+                return SPACE;
+            case 'S':
+                return negate(SPACE);
+            case 'w':
+                return WORD;
+            case 'W':
+                return negate(WORD);
+            case 'h':
+                return HORIZONTAL_SPACE;
+            case 'H':
+                return negate(HORIZONTAL_SPACE);
+            case 'v':
+                return VERTICAL_SPACE;
+            case 'V':
+                return negate(VERTICAL_SPACE);
+            case 'p':
+                return parseProperty(escapePos);
+            case 'P':
+                return negate(parseProperty(escapePos));
+            case 'k':
+                throw nonLinear("Back references", escapePos);
+            case 'b':
+            case 'B':
+            case 'A':
+            case 'G':
+            case 'z':
+            case 'Z':
+                throw notImplemented("Boundary matchers", escapePos);
+            case 'R':
+            case 'X':
+                throw notImplemented("Linebreak and grapheme cluster matchers",
+                        escapePos);
+            case 'Q':
+                throw notImplemented("Quotations in character classes",
+                        escapePos);
+            default:
+                if(c >= '1' && c <= '9')
+                    throw nonLinear("Back references", escapePos);
+                if(c < 128 && Character.isLetterOrDigit(c))
+                    throw error("Illegal/unsupported escape sequence",
+                            escapePos);
+                pos--;
+                final int codePoint = regex.codePointAt(pos);
+                pos += Character.charCount(codePoint);
+                return single(codePoint);
+            }
+        }
+        
+        private int parseOctal(final int escapePos) {
+            int value = 0;
+            int digits = 0;
+            while(digits < 3 && pos < regex.length() && peek() >= '0'
+                    && peek() <= '7' && value * 8 + peek() - '0' <= 0377) {
+                value = value * 8 + regex.charAt(pos++) - '0';
+                digits++;
+            }
+            if(digits == 0)
+                throw error("Illegal octal escape sequence", escapePos);
+            return value;
+        }
+        
+        private int parseHex(final int escapePos) {
+            if(peek() != '{')
+                return parseHexDigits(2, escapePos);
+            pos++;
+            final int end = regex.indexOf('}', pos);
+            if(end < 0 || end == pos || end - pos > 8)
+                throw error("Illegal hexadecimal escape sequence", escapePos);
+            final int value = parseHexDigits(end - pos, escapePos);
+            pos++;
+            if(value > Character.MAX_CODE_POINT)
+                throw error("Hexadecimal codepoint is too big", escapePos);
+            return value;
+        }
+        
+        private int parseHexDigits(final int count, final int escapePos) {
+            int value = 0;
+            for(int i = 0; i < count; i++) {
+                final int digit = pos < regex.length() ? Character.digit(
+                        regex.charAt(pos), 16) : -1;
+                if(digit < 0)
+                    throw error("Illegal hexadecimal escape sequence",
+                            escapePos);
+                value = value * 16 + digit;
+                pos++;
+            }
+            return value;
+        }
+        
+        private int[] parseProperty(final int escapePos) {
+            String name;
+            if(peek() == '{') {
+                final int end = regex.indexOf('}', pos);
+                if(end < 0)
+                    throw error("Unclosed character family", escapePos);
+                name = regex.substring(pos + 1, end);
+                pos = end + 1;
+            } else if(pos < regex.length())
+                name = String.valueOf(regex.charAt(pos++));
+            else
+                throw error("Illegal character family", escapePos);
+            
+            final int[] ranges = POSIX_CLASSES.get(name);
+            if(ranges == null)
+                throw notImplemented("Character properties other than the "
+                        + "POSIX classes (like \\p{Alpha})", escapePos);
+            return ranges;
+        }
+        
+        private char peek() {
+            return pos < regex.length() ? regex.charAt(pos) : '\0';
+        }
+        
+        private PatternSyntaxException error(final String description,
+                final int index) {
+            return new PatternSyntaxException(description, regex, index);
+        }
+        
+        private PatternSyntaxException nonLinear(final String construct,
+                final int index) {
+            return error(construct + " are not supported, as they cannot "
+                    + "be matched in linear time", index);
+        }
+        
+        private PatternSyntaxException notImplemented(final String construct,
+                final int index) {
+            return error(construct + " are not (yet) implemented", index);
+        }
+    }
+    
+    /* Sets of code points, represented as sorted, disjoint and non-adjacent
+     * ranges [from0, to0, from1, to1, ...] (inclusive) */
+    
+    private static final int[] DIGIT = ranges('0', '9');
+    private static final int[] SPACE = ranges('\t', '\r', ' ', ' ');
+    private static final int[] WORD = ranges('0', '9', 'A', 'Z', '_', '_',
+            'a', 'z');
+    private static final int[] HORIZONTAL_SPACE = ranges('\t', '\t', ' ', ' ',
+            0xA0, 0xA0, 0x1680, 0x1680, 0x180E, 0x180E, 0x2000, 0x200A,
+            0x202F, 0x202F, 0x205F, 0x205F, 0x3000, 0x3000);
+    private static final int[] VERTICAL_SPACE = ranges('\n', '\r', 0x85, 0x85,
+            0x2028, 0x2029);
+    private static final Map<String, int[]> POSIX_CLASSES =
+            new HashMap<String, int[]>();
+    
+    static {
+        POSIX_CLASSES.put("Lower", ranges('a', 'z'));
+        POSIX_CLASSES.put("Upper", ranges('A', 'Z'));
+        POSIX_CLASSES.put("ASCII", ranges(0, 0x7F));
+        POSIX_CLASSES.put("Alpha", ranges('A', 'Z', 'a', 'z'));
+        POSIX_CLASSES.put("Digit", DIGIT);
+        POSIX_CLASSES.put("Alnum", ranges('0', '9', 'A', 'Z', 'a', 'z'));
+        POSIX_CLASSES.put("Punct", ranges(0x21, 0x2F, 0x3A, 0x40, 0x5B, 0x60,
+                0x7B, 0x7E));
+        POSIX_CLASSES.put("Graph", ranges(0x21, 0x7E));
+        POSIX_CLASSES.put("Print", ranges(0x20, 0x7E));
+        POSIX_CLASSES.put("Blank", ranges(' ', ' ', '\t', '\t'));
+        POSIX_CLASSES.put("Cntrl", ranges(0, 0x1F, 0x7F, 0x7F));
+        POSIX_CLASSES.put("XDigit", ranges('0', '9', 'A', 'F', 'a', 'f'));
+        POSIX_CLASSES.put("Space", SPACE);
+    }
+    
+    private static int[] single(final int codePoint) {
+        return ranges(codePoint, codePoint);
+    }
+    
+    /**
+     * Creates a set from the given ranges, which may be unsorted and
+     * overlapping.
+     */
+    static int[] ranges(final int... bounds) {
+        final int count = bounds.length / 2;
+        final long[] sorted = new long[count];
+        for(int i = 0; i < count; i++)
+            sorted[i] = (long) bounds[2 * i] << 32 | bounds[2 * i + 1];
+        Arrays.sort(sorted);
+        
+        final int[] result = new int[bounds.length];
+        int size = 0;
+        for(final long range : sorted) {
+            final int from = (int) (range >>> 32);
+            final int to = (int) range;
+            if(size > 0 && from <= result[size - 1] + 1)
+                result[size - 1] = Math.max(result[size - 1], to);
+            else {
+                result[size++] = from;
+                result[size++] = to;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+    
+    static int[] union(final int[] a, final int[] b) {
+        final int[] all = Arrays.copyOf(a, a.length + b.length);
+        System.arraycopy(b, 0, all, a.length, b.length);
+        return ranges(all);
+    }
+    
+    static int[] negate(final int[] set) {
+        final int[] result = new int[set.length + 2];
+        int size = 0;
+        int next = 0;
+        for(int i = 0; i < set.length; i += 2) {
+            if(set[i] > next) {
+                result[size++] = next;
+                result[size++] = set[i] - 1;
+            }
+            next = set[i + 1] + 1;
+        }
+        if(next <= Character.MAX_CODE_POINT) {
+            result[size++] = next;
+            result[size++] = Character.MAX_CODE_POINT;
+        }
+        return Arrays.copyOf(result, size);
+    }
+    
+    static boolean contains(final int[] set, final int codePoint) {
+        int low = 0;
+        int high = set.length / 2 - 1;
+        while(low <= high) {
+            final int mid = (low + high) >>> 1;
+            if(codePoint < set[2 * mid])
+                high = mid - 1;
+            else if(codePoint > set[2 * mid + 1])
+                low = mid + 1;
+            else
+                return true;
+        }
+        return false;
+    }
+}
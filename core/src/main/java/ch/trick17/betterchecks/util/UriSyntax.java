@@ -0,0 +1,222 @@
+package ch.trick17.betterchecks.util;
+
+/**
+ * Validates the syntax of URIs, as defined by
+ * <a href="https://tools.ietf.org/html/rfc3986">RFC 3986</a>, in a single pass
+ * and without allocating any objects. Only absolute URIs are accepted, i.e.,
+ * URIs that start with a scheme, like <code>http:</code>. Relative references
+ * like <code>../index.html</code> are not valid.
+ * <p>
+ * Note that this class only checks the generic syntax. Whether a URI makes
+ * sense for a given scheme (for example, whether an <code>http</code> URI has
+ * a host) is not checked. There are two deviations from RFC 3986, which are
+ * shared with {@link java.net.URL} and the WHATWG URL standard: Port numbers
+ * must not be greater than 65535 and the <code>IPvFuture</code> host syntax,
+ * which is not used by any version of IP, is not supported.
+ * 
+ * @author Michael Faes
+ */
+@GwtCompatible
+public final class UriSyntax {
+    
+    /* Character classes. The classes of the components are combinations */
+    private static final int UNRESERVED = 1;
+    private static final int SUB_DELIM = 2;
+    private static final int COLON = 4;
+    private static final int AT = 8;
+    private static final int SLASH = 16;
+    private static final int QUESTION_MARK = 32;
+    
+    private static final int REG_NAME = UNRESERVED | SUB_DELIM;
+    private static final int USER_INFO = REG_NAME | COLON;
+    private static final int PCHAR = USER_INFO | AT;
+    private static final int PATH = PCHAR | SLASH;
+    private static final int QUERY = PATH | QUESTION_MARK;
+    
+    private static final byte[] CLASSES = new byte[128];
+    static {
+        for(char c = 'a'; c <= 'z'; c++)
+            CLASSES[c] = UNRESERVED;
+        for(char c = 'A'; c <= 'Z'; c++)
+            CLASSES[c] = UNRESERVED;
+        for(char c = '0'; c <= '9'; c++)
+            CLASSES[c] = UNRESERVED;
+        for(final char c : "-._~".toCharArray())
+            CLASSES[c] = UNRESERVED;
+        for(final char c : "!$&'()*+,;=".toCharArray())
+            CLASSES[c] = SUB_DELIM;
+        CLASSES[':'] = COLON;
+        CLASSES['@'] = AT;
+        CLASSES['/'] = SLASH;
+        CLASSES['?'] = QUESTION_MARK;
+    }
+    
+    private UriSyntax() {}
+    
+    /**
+     * Indicates whether the given string is a valid absolute URI.
+     * 
+     * @param string
+     *            The string to validate
+     * @return <code>true</code> if the string is a valid URI
+     * @see #findError(CharSequence)
+     */
+    public static boolean isUri(final CharSequence string) {
+        return findError(string) < 0;
+    }
+    
+    /**
+     * Validates the given string and returns the index of the first character
+     * that violates the URI syntax. If the string ends prematurely (for
+     * example, if there is no colon after the scheme), the length of the
+     * string is returned.
+     * 
+     * @param string
+     *            The string to validate
+     * @return The index of the first error, or -1 if the string is a valid URI
+     */
+    public static int findError(final CharSequence string) {
+        final int length = string.length();
+        int i = schemeEnd(string);
+        if(i < 0)
+            return ~i;
+        i++;
+        
+        if(i + 1 < length && string.charAt(i) == '/'
+                && string.charAt(i + 1) == '/') {
+            i = authorityEnd(string, i + 2, length);
+            if(i < length && !isPathEnd(string.charAt(i))
+                    && string.charAt(i) != '/')
+                return i;
+        }
+        /* Without an authority, the path must not start with "//", which is
+         * guaranteed by the check above. Other than that, absolute and
+         * rootless paths consist of the same characters. */
+        i = scan(string, i, length, PATH);
+        if(i < length && string.charAt(i) == '?')
+            i = scan(string, i + 1, length, QUERY);
+        if(i < length && string.charAt(i) == '#')
+            i = scan(string, i + 1, length, QUERY);
+        return i == length ? -1 : i;
+    }
+    
+    /**
+     * Indicates whether the given URI has the given scheme, ignoring case. The
+     * URI is assumed to be valid.
+     * 
+     * @param uri
+     *            The URI
+     * @param scheme
+     *            The scheme, without the colon
+     * @return <code>true</code> if the URI has the given scheme
+     */
+    public static boolean hasScheme(final CharSequence uri,
+            final String scheme) {
+        final int length = scheme.length();
+        if(uri.length() <= length || uri.charAt(length) != ':')
+            return false;
+        for(int i = 0; i < length; i++)
+            if(Character.toLowerCase(uri.charAt(i)) != Character
+                    .toLowerCase(scheme.charAt(i)))
+                return false;
+        return true;
+    }
+    
+    /**
+     * Returns the index of the colon that terminates the scheme, or the
+     * complement (<code>~</code>) of the error index if there is no valid
+     * scheme.
+     */
+    private static int schemeEnd(final CharSequence string) {
+        final int length = string.length();
+        if(length == 0 || !isAlpha(string.charAt(0)))
+            return ~0;
+        int i = 1;
+        while(i < length && isSchemeChar(string.charAt(i)))
+            i++;
+        return i < length && string.charAt(i) == ':' ? i : ~i;
+    }
+    
+    /**
+     * Scans the authority starting at the given index and returns the index
+     * where it ends. This is either the end of the string or the start of the
+     * path, the query or the fragment, if the authority is valid.
+     */
+    private static int authorityEnd(final CharSequence string, final int start,
+            final int length) {
+        int end = start;
+        while(end < length && !isPathEnd(string.charAt(end))
+                && string.charAt(end) != '/')
+            end++;
+        
+        /* The user info is a superset of the host and the port, so only if it
+         * is terminated by an '@', the host starts later */
+        int i = scan(string, start, end, USER_INFO);
+        final int hostStart = i < end && string.charAt(i) == '@' ? i + 1
+                : start;
+        
+        if(hostStart < end && string.charAt(hostStart) == '[') {
+            int close = hostStart + 1;
+            while(close < end && string.charAt(close) != ']')
+                close++;
+            if(close == end || !IpSyntax.isIpv6(string, hostStart + 1, close))
+                return hostStart;
+            i = close + 1;
+        }
+        else
+            i = scan(string, hostStart, end, REG_NAME);
+        
+        if(i < end && string.charAt(i) == ':') {
+            int port = 0;
+            for(i++; i < end && isDigit(string.charAt(i)); i++) {
+                port = 10 * port + string.charAt(i) - '0';
+                if(port > 65535)
+                    return i;
+            }
+        }
+        return i;
+    }
+    
+    /**
+     * Returns the index of the first character at or after <code>i</code>
+     * that is neither of the given character class nor part of a valid
+     * percent-encoded octet.
+     */
+    private static int scan(final CharSequence string, int i, final int end,
+            final int charClass) {
+        while(i < end) {
+            final char c = string.charAt(i);
+            if(c == '%') {
+                if(i + 2 >= end || !isHexDigit(string.charAt(i + 1))
+                        || !isHexDigit(string.charAt(i + 2)))
+                    return i;
+                i += 3;
+            }
+            else if(c < 128 && (CLASSES[c] & charClass) != 0)
+                i++;
+            else
+                return i;
+        }
+        return i;
+    }
+    
+    private static boolean isPathEnd(final char c) {
+        return c == '?' || c == '#';
+    }
+    
+    private static boolean isSchemeChar(final char c) {
+        return isAlpha(c) || isDigit(c) || c == '+' || c == '-' || c == '.';
+    }
+    
+    private static boolean isAlpha(final char c) {
+        return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z';
+    }
+    
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+    
+    private static boolean isHexDigit(final char c) {
+        return isDigit(c) || c >= 'a' && c <= 'f' || c >= 'A' && c <= 'F';
+    }
+}
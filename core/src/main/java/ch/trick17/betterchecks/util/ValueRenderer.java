@@ -0,0 +1,303 @@
+package ch.trick17.betterchecks.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Renders message arguments in a bounded way. Collections, maps and arrays
+ * (object arrays and all kinds of primitive arrays) are streamed element by
+ * element into a buffer of limited length, without ever calling their
+ * {@link Object#toString()} method. The format is the same as the one of
+ * {@link java.util.AbstractCollection#toString()},
+ * {@link java.util.AbstractMap#toString()} and
+ * {@link Arrays#deepToString(Object[])}, respectively.
+ * <p>
+ * Two limits apply: The maximum number of elements rendered per collection,
+ * map or array and the maximum total length of the rendered value. If the
+ * former is exceeded, the omitted elements are indicated like this:
+ * <code>[1, 2, 3, (&hellip; 97 more)]</code>. If the latter is exceeded, the
+ * rendering is cut off and a suffix of the same form is appended, stating the
+ * number of top-level elements (or characters, for char sequences) that were
+ * not (completely) rendered. A negative limit means "unlimited".
+ * <p>
+ * Check methods pass such values to the exception methods as they are, so that
+ * they are rendered only if a check actually fails. This is important for large
+ * values, as rendering them is a lot more expensive than the check itself.
+ * 
+ * @author Michael Faes
+ */
+@GwtCompatible
+public final class ValueRenderer {
+    
+    private ValueRenderer() {}
+    
+    /**
+     * Returns the given message arguments with all values that need rendering
+     * replaced by their (bounded) string representation. These are all
+     * collections, maps and arrays, as well as char sequences that are longer
+     * than <code>maxValueLength</code>. All other arguments are left as they
+     * are, so they can still be used with format specifiers other than
+     * <code>%s</code>. If no argument needs rendering, the given array itself
+     * is returned, otherwise a copy.
+     * 
+     * @param args
+     *            The message arguments
+     * @param maxValueLength
+     *            The maximum length of a rendered value, or a negative number
+     *            for no limit
+     * @param maxElements
+     *            The maximum number of elements rendered per collection, map
+     *            or array, or a negative number for no limit
+     * @return The message arguments ready for formatting
+     */
+    public static Object[] renderAll(final Object[] args,
+            final int maxValueLength, final int maxElements) {
+        return renderAll(args, maxValueLength, maxElements, false);
+    }
+    
+    /**
+     * Like {@link #renderAll(Object[], int, int)}, but also replaces all
+     * mutable char sequences (all that are not {@link String}s) by their
+     * string representation, even if they are short. The result thus captures
+     * the current state of all collections, maps, arrays and char sequences
+     * among the arguments, which is useful if the message is formatted later
+     * on and the arguments might be modified in between.
+     * 
+     * @param args
+     *            The message arguments
+     * @param maxValueLength
+     *            The maximum length of a rendered value, or a negative number
+     *            for no limit
+     * @param maxElements
+     *            The maximum number of elements rendered per collection, map
+     *            or array, or a negative number for no limit
+     * @return The message arguments ready for (later) formatting
+     */
+    public static Object[] snapshotAll(final Object[] args,
+            final int maxValueLength, final int maxElements) {
+        return renderAll(args, maxValueLength, maxElements, true);
+    }
+    
+    /**
+     * Returns the bounded string representation of the given value.
+     * 
+     * @param value
+     *            The value to render, may be <code>null</code>
+     * @param maxValueLength
+     *            The maximum length of the rendered value (not counting the
+     *            suffix), or a negative number for no limit
+     * @param maxElements
+     *            The maximum number of elements rendered per collection, map
+     *            or array, or a negative number for no limit
+     * @return The string representation of the value
+     */
+    public static String render(final Object value, final int maxValueLength,
+            final int maxElements) {
+        final Output out = new Output(limit(maxValueLength), limit(maxElements));
+        final int omitted = out.value(value);
+        if(out.stopped)
+            out.buffer.append(' ').append(more(omitted));
+        return out.buffer.toString();
+    }
+    
+    /* Implementation methods */
+    
+    private static Object[] renderAll(final Object[] args,
+            final int maxValueLength, final int maxElements,
+            final boolean snapshot) {
+        Object[] result = args;
+        for(int i = 0; i < args.length; i++) {
+            if(needsRendering(args[i], maxValueLength)
+                    || (snapshot && args[i] instanceof CharSequence
+                            && !(args[i] instanceof String))) {
+                if(result == args) {
+                    result = new Object[args.length];
+                    System.arraycopy(args, 0, result, 0, args.length);
+                }
+                result[i] = render(args[i], maxValueLength, maxElements);
+            }
+        }
+        return result;
+    }
+    
+    private static boolean needsRendering(final Object value,
+            final int maxValueLength) {
+        if(value instanceof CharSequence)
+            return maxValueLength >= 0
+                    && ((CharSequence) value).length() > maxValueLength;
+        else
+            return value instanceof Collection || value instanceof Map
+                    || (value != null && value.getClass().isArray());
+    }
+    
+    private static int limit(final int max) {
+        return max < 0 ? Integer.MAX_VALUE : max;
+    }
+    
+    private static String more(final int omitted) {
+        return "(\u2026 " + omitted + " more)";
+    }
+    
+    private static final class Output {
+        
+        final StringBuilder buffer = new StringBuilder();
+        final int maxLength;
+        final int maxElements;
+        boolean stopped;
+        
+        Output(final int maxLength, final int maxElements) {
+            this.maxLength = maxLength;
+            this.maxElements = maxElements;
+        }
+        
+        /*
+         * Renders the given value and returns the number of its elements (or
+         * characters) that have not been rendered completely.
+         */
+        int value(final Object value) {
+            if(value instanceof CharSequence)
+                return text((CharSequence) value);
+            if(value instanceof Collection) {
+                final Collection<?> coll = (Collection<?>) value;
+                return elements(coll.iterator(), coll.size(), false, coll,
+                        "(this Collection)", '[', ']');
+            }
+            if(value instanceof Map) {
+                final Map<?, ?> map = (Map<?, ?>) value;
+                return elements(map.entrySet().iterator(), map.size(), true,
+                        map, "(this Map)", '{', '}');
+            }
+            if(value instanceof Object[]) {
+                final Object[] array = (Object[]) value;
+                return elements(Arrays.asList(array).iterator(), array.length,
+                        false, array, "[...]", '[', ']');
+            }
+            if(value != null && value.getClass().isArray())
+                return primitiveElements(value, primitiveLength(value));
+            return text(String.valueOf(value));
+        }
+        
+        private int text(final CharSequence text) {
+            if(stopped)
+                return text.length();
+            final int room = maxLength - buffer.length();
+            if(text.length() <= room) {
+                buffer.append(text);
+                return 0;
+            }
+            else {
+                buffer.append(text, 0, room);
+                stopped = true;
+                return text.length() - room;
+            }
+        }
+        
+        private int elements(final Iterator<?> elements, final int size,
+                final boolean entries, final Object self,
+                final String selfText, final char open, final char close) {
+            text(String.valueOf(open));
+            int shown = 0;
+            while(elements.hasNext() && !stopped) {
+                if(shown > 0)
+                    text(", ");
+                if(shown == maxElements) {
+                    text(more(size - shown));
+                    break;
+                }
+                final Object element = elements.next();
+                if(entries) {
+                    final Entry<?, ?> entry = (Entry<?, ?>) element;
+                    element(entry.getKey(), self, selfText);
+                    text("=");
+                    element(entry.getValue(), self, selfText);
+                }
+                else
+                    element(element, self, selfText);
+                if(!stopped)
+                    shown++;
+            }
+            /* Closing brackets are not subject to the length limit, so that a
+             * cut-off always happens inside of some element */
+            if(!stopped)
+                buffer.append(close);
+            return Math.max(size - shown, 0);
+        }
+        
+        private void element(final Object element, final Object self,
+                final String selfText) {
+            if(element == self)
+                text(selfText);
+            else
+                value(element);
+        }
+        
+        private int primitiveElements(final Object array, final int length) {
+            text("[");
+            int shown = 0;
+            while(shown < length && !stopped) {
+                if(shown > 0)
+                    text(", ");
+                if(shown == maxElements) {
+                    text(more(length - shown));
+                    break;
+                }
+                primitiveElement(array, shown);
+                if(!stopped)
+                    shown++;
+            }
+            if(!stopped)
+                buffer.append(']');
+            return length - shown;
+        }
+        
+        private void primitiveElement(final Object array, final int index) {
+            if(stopped)
+                return;
+            if(array instanceof boolean[])
+                buffer.append(((boolean[]) array)[index]);
+            else if(array instanceof byte[])
+                buffer.append(((byte[]) array)[index]);
+            else if(array instanceof char[])
+                buffer.append(((char[]) array)[index]);
+            else if(array instanceof double[])
+                buffer.append(((double[]) array)[index]);
+            else if(array instanceof float[])
+                buffer.append(((float[]) array)[index]);
+            else if(array instanceof int[])
+                buffer.append(((int[]) array)[index]);
+            else if(array instanceof long[])
+                buffer.append(((long[]) array)[index]);
+            else
+                // array instanceof short[]
+                buffer.append(((short[]) array)[index]);
+            
+            if(buffer.length() > maxLength) {
+                buffer.setLength(maxLength);
+                stopped = true;
+            }
+        }
+        
+        private static int primitiveLength(final Object array) {
+            if(array instanceof boolean[])
+                return ((boolean[]) array).length;
+            if(array instanceof byte[])
+                return ((byte[]) array).length;
+            if(array instanceof char[])
+                return ((char[]) array).length;
+            if(array instanceof double[])
+                return ((double[]) array).length;
+            if(array instanceof float[])
+                return ((float[]) array).length;
+            if(array instanceof int[])
+                return ((int[]) array).length;
+            if(array instanceof long[])
+                return ((long[]) array).length;
+            else
+                // array instanceof short[]
+                return ((short[]) array).length;
+        }
+    }
+}
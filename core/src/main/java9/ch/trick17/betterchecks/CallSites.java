@@ -0,0 +1,49 @@
+package ch.trick17.betterchecks;
+
+import static java.lang.StackWalker.Option.RETAIN_CLASS_REFERENCE;
+
+import java.lang.StackWalker.StackFrame;
+import java.util.Optional;
+
+/**
+ * Internal helper class that finds the call site of the library in the current
+ * stack, i.e., the topmost frame that does not belong to the library according
+ * to {@link StackTraces#isLibraryClass(String)}.
+ * <p>
+ * This is the Java 9 implementation, which is used instead of the Java 6 one
+ * (in <code>src/main/java</code>) on Java 9 and later. The stack is walked
+ * using a {@link StackWalker}, which stops at the first frame outside of the
+ * library and therefore never materializes the (possibly many) frames below
+ * it. Whether a class belongs to the library is cached per class.
+ * 
+ * @author Michael Faes
+ */
+final class CallSites {
+    
+    private CallSites() {}
+    
+    private static final StackWalker WALKER = StackWalker
+            .getInstance(RETAIN_CLASS_REFERENCE);
+    
+    private static final ClassValue<Boolean> LIBRARY_CLASSES =
+            new ClassValue<Boolean>() {
+                @Override
+                protected Boolean computeValue(final Class<?> type) {
+                    return StackTraces.isLibraryClass(type.getName());
+                }
+            };
+    
+    /**
+     * Returns the topmost frame of the current stack that does not belong to
+     * the Better Checks library.
+     * 
+     * @return The call site, or <code>null</code> if the whole stack belongs to
+     *         the library
+     */
+    static StackTraceElement find() {
+        final Optional<StackFrame> frame = WALKER.walk(frames -> frames
+                .dropWhile(f -> LIBRARY_CLASSES.get(f.getDeclaringClass()))
+                .findFirst());
+        return frame.map(StackFrame::toStackTraceElement).orElse(null);
+    }
+}
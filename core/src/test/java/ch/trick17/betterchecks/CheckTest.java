@@ -1,8 +1,16 @@
 package ch.trick17.betterchecks;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.Collections;
+import java.util.HashMap;
+
 import org.junit.Test;
 
 public class CheckTest {
@@ -39,4 +47,32 @@ public class CheckTest {
         assertEquals(IllegalStateException.class, thrown.getClass());
         assertEquals("this is not state of the art", thrown.getMessage());
     }
+    
+    @Test
+    public void testTest() throws MalformedURLException {
+        assertFalse(Check.test((Object) null).isNotNull().passes());
+        assertFalse(Check.test("").isNotEmpty().passes());
+        assertFalse(Check.test(new Object[0]).isNotEmpty().passes());
+        assertFalse(Check.test(new boolean[0]).isNotEmpty().passes());
+        assertFalse(Check.test(new byte[0]).isNotEmpty().passes());
+        assertFalse(Check.test(new char[0]).isNotEmpty().passes());
+        assertFalse(Check.test(new double[0]).isNotEmpty().passes());
+        assertFalse(Check.test(new float[0]).isNotEmpty().passes());
+        assertFalse(Check.test(new int[0]).isNotEmpty().passes());
+        assertFalse(Check.test(new long[0]).isNotEmpty().passes());
+        assertFalse(Check.test(new short[0]).isNotEmpty().passes());
+        assertFalse(Check.test(new int[]{0}).allPositive().passes());
+        assertFalse(Check.test(Collections.emptyList()).isNotEmpty().passes());
+        assertFalse(Check.test(new HashMap<String, String>()).isNotEmpty()
+                .passes());
+        assertFalse(Check.test((Number) 1.5f).isNegative().passes());
+        assertFalse(Check.test(BigDecimal.ONE).isNegative().passes());
+        assertFalse(Check.test(BigInteger.ONE).isNegative().passes());
+        assertFalse(Check.testComparable("b").isLessThan("a").passes());
+        assertFalse(Check.test(new URL("http://example.com")).hasProtocol(
+                "ftp").passes());
+        assertFalse(Check.test(1).isNegative().passes());
+        assertFalse(Check.test(1L).isNegative().passes());
+        assertFalse(Check.test(1.0).isNegative().passes());
+    }
 }
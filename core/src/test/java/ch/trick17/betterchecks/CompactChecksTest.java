@@ -1,7 +1,10 @@
 package ch.trick17.betterchecks;
 
 import static ch.trick17.betterchecks.CompactChecks.check;
+import static ch.trick17.betterchecks.CompactChecks.checkComparable;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.ArrayList;
@@ -63,6 +66,21 @@ public class CompactChecksTest {
         check(new AtomicInteger(0)).is(0);
     }
     
+    @Test
+    public void testCheckBigDecimal() {
+        check(new BigDecimal("0.10")).hasScaleAtMost(2);
+    }
+    
+    @Test
+    public void testCheckBigInteger() {
+        check(BigInteger.ONE).isPositive();
+    }
+    
+    @Test
+    public void testCheckComparable() {
+        checkComparable("b").isGreaterThan("a");
+    }
+    
     @Test
     public void testCheckURL() throws MalformedURLException {
         check(new URL("http://localhost")).hasProtocol("http");
@@ -25,6 +25,74 @@ public class ConfigTest extends CustomConfig {
         assertEquals(false, Config.getConfig().isCleanStackTracesEnabled());
     }
     
+    @Test
+    public void testGetStackTraceMode() {
+        assertEquals(StackTraceMode.CLEANED, Config.getConfig()
+                .getStackTraceMode());
+        
+        useEmptyConfig();
+        assertEquals(StackTraceMode.CLEANED, Config.getConfig()
+                .getStackTraceMode());
+        
+        useTestConfig();
+        assertEquals(StackTraceMode.FULL, Config.getConfig()
+                .getStackTraceMode());
+        
+        useConfig("stackTraces = none");
+        assertEquals(StackTraceMode.NONE, Config.getConfig()
+                .getStackTraceMode());
+        assertEquals(false, Config.getConfig().isCleanStackTracesEnabled());
+        
+        /* The more specific property wins */
+        useConfig("stackTraces = Cleaned\ncleanStackTraces = false");
+        assertEquals(StackTraceMode.CLEANED, Config.getConfig()
+                .getStackTraceMode());
+        assertEquals(true, Config.getConfig().isCleanStackTracesEnabled());
+        
+        useConfig("stackTraces = some");
+        assertEquals(StackTraceMode.CLEANED, Config.getConfig()
+                .getStackTraceMode());
+    }
+    
+    @Test
+    public void testGetStormThreshold() {
+        assertEquals(0, Config.getConfig().getStormThreshold());
+        assertEquals(1000, Config.getConfig().getStormCooldown());
+        
+        useEmptyConfig();
+        assertEquals(0, Config.getConfig().getStormThreshold());
+        assertEquals(1000, Config.getConfig().getStormCooldown());
+        
+        useConfig("stormThreshold = 10000\nstormCooldown = 5000");
+        assertEquals(10000, Config.getConfig().getStormThreshold());
+        assertEquals(5000, Config.getConfig().getStormCooldown());
+    }
+    
+    @Test
+    public void testIsReuseChecksEnabled() {
+        assertEquals(false, Config.getConfig().isReuseChecksEnabled());
+        assertEquals(false, Config.getConfig().isReuseGuardEnabled());
+        
+        useEmptyConfig();
+        assertEquals(false, Config.getConfig().isReuseChecksEnabled());
+        assertEquals(false, Config.getConfig().isReuseGuardEnabled());
+        
+        useConfig("reuseChecks = true\nreuseGuard = true");
+        assertEquals(true, Config.getConfig().isReuseChecksEnabled());
+        assertEquals(true, Config.getConfig().isReuseGuardEnabled());
+    }
+    
+    @Test
+    public void testGetPatternCacheSize() {
+        assertEquals(256, Config.getConfig().getPatternCacheSize());
+        
+        useEmptyConfig();
+        assertEquals(256, Config.getConfig().getPatternCacheSize());
+        
+        useConfig("patternCacheSize = 0");
+        assertEquals(0, Config.getConfig().getPatternCacheSize());
+    }
+    
     @Test
     public void testGetDefaultArgumentName() {
         assertEquals("the argument", Config.getConfig()
@@ -39,6 +107,28 @@ public class ConfigTest extends CustomConfig {
                 .getDefaultArgumentName());
     }
     
+    @Test
+    public void testGetMaxValueLength() {
+        assertEquals(1000, Config.getConfig().getMaxValueLength());
+        
+        useEmptyConfig();
+        assertEquals(1000, Config.getConfig().getMaxValueLength());
+        
+        useTestConfig();
+        assertEquals(50, Config.getConfig().getMaxValueLength());
+    }
+    
+    @Test
+    public void testGetMaxElements() {
+        assertEquals(100, Config.getConfig().getMaxElements());
+        
+        useEmptyConfig();
+        assertEquals(100, Config.getConfig().getMaxElements());
+        
+        useTestConfig();
+        assertEquals(-1, Config.getConfig().getMaxElements());
+    }
+    
     @Test
     public void testGetMessageFormat() {
         assertEquals("%s must be positive (value: %s)", Config.getConfig()
@@ -20,6 +20,8 @@ public class CustomConfig {
     
     private static final String TEST_CONFIG = "cleanStackTraces = false\n"
             + "defaultArgumentName = your argument\n"
+            + "maxValueLength = 50\n"
+            + "maxElements = -1\n"
             + "ARG_POSITIVE.format = %s should -(not )-be positive\n"
             + "ARG_NEGATIVE.format = %s should -(not )-be negative";
     protected static final File CONFIG_FILE;
@@ -36,30 +38,18 @@ public class CustomConfig {
     }
     
     public static void useEmptyConfig() {
-        try {
-            /* Write empty config file */
-            new FileWriter(CONFIG_FILE).close();
-            ResourceBundle.clearCache();
-            
-            /* Load it */
-            final Config testConfig = Config.loadConfig();
-            
-            /* Stub it into Config class */
-            spy(Config.class);
-            when(Config.getConfig()).thenReturn(testConfig);
-        } catch(final IOException e) {
-            throw new RuntimeException(e);
-        } finally {
-            /* Delete config file after loading for future runs */
-            CONFIG_FILE.delete();
-        }
+        useConfig("");
     }
     
     public static void useTestConfig() {
+        useConfig(TEST_CONFIG);
+    }
+    
+    public static void useConfig(final String config) {
         try {
-            /* Write test config file */
+            /* Write config file */
             final Writer writer = new FileWriter(CONFIG_FILE);
-            writer.append(TEST_CONFIG);
+            writer.append(config);
             writer.close();
             ResourceBundle.clearCache();
             
@@ -0,0 +1,58 @@
+package ch.trick17.betterchecks;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import ch.trick17.betterchecks.ExceptionStorms.FailureRate;
+
+public class ExceptionStormsTest {
+    
+    @Test
+    public void testRecordFailure() {
+        final long cooldown = MILLISECONDS.toNanos(100);
+        final FailureRate rate = new FailureRate("message", 0);
+        assertEquals("message", rate.message);
+        
+        assertFalse(rate.recordFailure(ms(0), 3, cooldown));
+        assertFalse(rate.recordFailure(ms(1), 3, cooldown));
+        assertFalse(rate.recordFailure(ms(2), 3, cooldown));
+        assertTrue(rate.recordFailure(ms(3), 3, cooldown));
+        assertTrue(rate.recordFailure(ms(50), 3, cooldown));
+        
+        /* Still above the threshold in this window, so the storm goes on */
+        assertTrue(rate.recordFailure(ms(500), 3, cooldown));
+        
+        /* New window, below the threshold and after the cooldown */
+        assertFalse(rate.recordFailure(ms(1200), 3, cooldown));
+        assertFalse(rate.recordFailure(ms(1201), 3, cooldown));
+        assertFalse(rate.recordFailure(ms(1202), 3, cooldown));
+        assertTrue(rate.recordFailure(ms(1203), 3, cooldown));
+    }
+    
+    @Test
+    public void testRecordFailureLongCooldown() {
+        final long cooldown = MILLISECONDS.toNanos(2000);
+        final FailureRate rate = new FailureRate("message", 0);
+        assertFalse(rate.recordFailure(ms(0), 1, cooldown));
+        assertTrue(rate.recordFailure(ms(1), 1, cooldown));
+        
+        /* New window, below the threshold but still within the cooldown */
+        assertTrue(rate.recordFailure(ms(1500), 1, cooldown));
+        assertFalse(rate.recordFailure(ms(2500), 1, cooldown));
+    }
+    
+    @Test
+    public void testStormMessageDisabled() {
+        for(int i = 0; i < 1000; i++)
+            assertEquals(null, ExceptionStorms
+                    .stormMessage(MessageType.ARG_EMPTY));
+    }
+    
+    private static long ms(final long millis) {
+        return MILLISECONDS.toNanos(millis);
+    }
+}
@@ -1,8 +1,11 @@
 package ch.trick17.betterchecks;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.Test;
 
@@ -67,6 +70,55 @@ public class ExceptionsTest extends CustomConfig {
         }
     }
     
+    @Test
+    public void testStackTraceModeNone() {
+        useConfig("stackTraces = none");
+        
+        final IllegalArgumentException argException = Exceptions
+                .illegalArgumentException("message");
+        assertEquals("message", argException.getMessage());
+        assertEquals(0, argException.getStackTrace().length);
+        
+        final IllegalStateException stateException = Exceptions
+                .illegalStateException("message");
+        assertEquals("message", stateException.getMessage());
+        assertEquals(0, stateException.getStackTrace().length);
+        
+        final IllegalArgumentException lazyException = Exceptions
+                .illegalArgumentException(MessageType.ARG_EMPTY, false,
+                        new Object[]{"arg"});
+        assertEquals("arg must not be empty", lazyException.getMessage());
+        assertEquals(0, lazyException.getStackTrace().length);
+    }
+    
+    @Test
+    public void testExceptionStorm() {
+        useConfig("stormThreshold = 3\nstormCooldown = 60000");
+        
+        for(int i = 0; i < 5; i++) {
+            final IllegalArgumentException exception = Exceptions
+                    .illegalArgumentException(MessageType.ARG_EMPTY, false,
+                            new Object[]{"arg"});
+            if(i < 3) {
+                assertEquals("arg must not be empty", exception.getMessage());
+                assertTrue(exception.getStackTrace().length > 0);
+            }
+            else {
+                assertTrue(exception.getMessage().startsWith(
+                        "ARG_EMPTY check failed too often at "
+                                + ExceptionsTest.class.getName()
+                                + ".testExceptionStorm("));
+                assertEquals(0, exception.getStackTrace().length);
+            }
+        }
+        
+        /* Other message types are tracked separately */
+        final IllegalArgumentException exception = Exceptions
+                .illegalArgumentException(MessageType.ARG_NULL, false,
+                        new Object[]{"arg"});
+        assertEquals("arg must not be null", exception.getMessage());
+    }
+    
     @Test
     public void testFormatMsg() {
         /* Not inverted */
@@ -92,4 +144,50 @@ public class ExceptionsTest extends CustomConfig {
                         new StringBuilder("the list"), 3, 4, Arrays.asList(
                                 "abc d", "hello")));
     }
+    
+    @Test
+    public void testFormatMsgArrays() {
+        assertEquals("arg must be null (value: [1, 2, 3])", Exceptions
+                .formatMsg(MessageType.ARG_NULL, true, "arg", new int[]{1, 2,
+                        3}));
+        assertEquals("arg must be null (value: [true])", Exceptions.formatMsg(
+                MessageType.ARG_NULL, true, "arg", new boolean[]{true}));
+        assertEquals("arg must be null (value: [a, null])", Exceptions
+                .formatMsg(MessageType.ARG_NULL, true, "arg", new Object[]{"a",
+                        null}));
+        assertEquals("arg must be null (value: [])", Exceptions.formatMsg(
+                MessageType.ARG_NULL, true, "arg", new String[0]));
+        assertEquals("arg must be null (value: null)", Exceptions.formatMsg(
+                MessageType.ARG_NULL, true, "arg", null));
+        
+        /* Arguments are rendered without modifying the given array */
+        final Object[] args = new Object[]{"arg", new double[]{1.5}};
+        assertEquals("arg must be null (value: [1.5])", Exceptions.formatMsg(
+                MessageType.ARG_NULL, true, args));
+        assertEquals(double[].class, args[1].getClass());
+    }
+    
+    @Test
+    public void testFormatMsgBounded() {
+        final List<Integer> list = new ArrayList<Integer>();
+        for(int i = 0; i < 1000000; i++)
+            list.add(i);
+        final String msg = Exceptions.formatMsg(MessageType.ARG_EMPTY, true,
+                "arg", list);
+        assertTrue(msg.endsWith(", 99, (\u2026 999900 more)])"));
+        
+        final String longString = new String(new char[5000]).replace('\0',
+                'x');
+        final String expected = "arg must be null (value: "
+                + longString.substring(0, 1000) + " (\u2026 4000 more))";
+        assertEquals(expected, Exceptions.formatMsg(MessageType.ARG_NULL,
+                true, "arg", longString));
+        
+        /* With the test config, only the length is limited */
+        useTestConfig();
+        final String limited = Exceptions.formatMsg(MessageType.ARG_EMPTY,
+                true, "arg", list);
+        assertEquals("arg must be empty (value: [0, 1, 2, 3, 4, 5, 6, 7, 8, 9, "
+                + "10, 11, 12, 13, 14, (\u2026 999985 more))", limited);
+    }
 }
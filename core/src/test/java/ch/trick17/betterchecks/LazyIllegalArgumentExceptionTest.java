@@ -0,0 +1,152 @@
+package ch.trick17.betterchecks;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class LazyIllegalArgumentExceptionTest {
+    
+    @Test
+    public void testFailedCheck() {
+        try {
+            Check.that(-1).named("number").not().isNegative();
+        } catch(final LazyIllegalArgumentException e) {
+            assertEquals(MessageType.ARG_NEGATIVE, e.getMessageType());
+            assertTrue(e.isInverted());
+            assertEquals(Exceptions.formatMsg(MessageType.ARG_NEGATIVE, true,
+                    "number", -1), e.getMessage());
+            assertTopElement(e.getStackTrace(), "testFailedCheck");
+            return;
+        }
+        throw new AssertionError();
+    }
+    
+    @Test
+    public void testLazyMessage() {
+        final CountingArg arg = new CountingArg();
+        final LazyIllegalArgumentException e = new LazyIllegalArgumentException(
+                MessageType.ARG_NULL, true, new Object[]{"arg", arg});
+        assertEquals(0, arg.count);
+        
+        final String msg = e.getMessage();
+        assertEquals("arg must be null (value: counting arg)", msg);
+        assertEquals(1, arg.count);
+        assertSame(msg, e.getMessage());
+        assertEquals(msg, e.getLocalizedMessage());
+        assertEquals(LazyIllegalArgumentException.class.getName() + ": "
+                + msg, e.toString());
+        assertEquals(1, arg.count);
+    }
+    
+    @Test
+    public void testMutatedArguments() {
+        final List<String> list = new ArrayList<String>();
+        list.add("a");
+        final StringBuilder name = new StringBuilder("list");
+        final LazyIllegalArgumentException e = new LazyIllegalArgumentException(
+                MessageType.ARG_EMPTY, true, new Object[]{name, list});
+        list.add("b");
+        name.append(" (modified)");
+        
+        assertEquals("list must be empty (value: [a])", e.getMessage());
+    }
+    
+    @Test
+    public void testLazyStackTraceCleaning() {
+        final IllegalArgumentException e = Exceptions.illegalArgumentException(
+                MessageType.ARG_NULL, false, new Object[]{"arg"});
+        assertTopElement(e.getStackTrace(), "testLazyStackTraceCleaning");
+        assertTopElement(e.getStackTrace(), "testLazyStackTraceCleaning");
+        
+        /* Explicitly set stack traces are not cleaned */
+        final StackTraceElement[] trace = {new StackTraceElement(
+                Check.class.getName(), "that", "Check.java", 42)};
+        e.setStackTrace(trace);
+        assertEquals(Check.class.getName(), e.getStackTrace()[0]
+                .getClassName());
+    }
+    
+    @Test
+    public void testPrintStackTrace() {
+        final IllegalArgumentException e = Exceptions.illegalArgumentException(
+                MessageType.ARG_NULL, false, new Object[]{"arg"});
+        final StringWriter writer = new StringWriter();
+        e.printStackTrace(new PrintWriter(writer));
+        final String printed = writer.toString();
+        assertTrue(printed.startsWith(e.toString()));
+        assertFalse(printed.contains(Exceptions.class.getName()));
+        assertTrue(printed.contains(LazyIllegalArgumentExceptionTest.class
+                .getName()
+                + ".testPrintStackTrace"));
+    }
+    
+    @Test
+    public void testCause() {
+        final Throwable cause = new RuntimeException();
+        final IllegalArgumentException withCause = Exceptions
+                .illegalArgumentException(MessageType.ARG_URL, false,
+                        new Object[]{"arg", "value"}, cause);
+        assertSame(cause, withCause.getCause());
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_URL, false, "arg",
+                "value"), withCause.getMessage());
+        
+        final IllegalArgumentException withoutCause = Exceptions
+                .illegalArgumentException(MessageType.ARG_URL, false,
+                        new Object[]{"arg", "value"});
+        assertNull(withoutCause.getCause());
+        withoutCause.initCause(cause);
+        assertSame(cause, withoutCause.getCause());
+    }
+    
+    @Test
+    public void testSerialization() throws IOException, ClassNotFoundException {
+        final IllegalArgumentException e = Exceptions.illegalArgumentException(
+                MessageType.ARG_EMPTY, true, new Object[]{"arg", "value"});
+        
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final ObjectOutputStream out = new ObjectOutputStream(bytes);
+        out.writeObject(e);
+        out.close();
+        final ObjectInputStream in = new ObjectInputStream(
+                new ByteArrayInputStream(bytes.toByteArray()));
+        final LazyIllegalArgumentException copy = (LazyIllegalArgumentException) in
+                .readObject();
+        
+        assertEquals(e.getMessage(), copy.getMessage());
+        assertEquals(MessageType.ARG_EMPTY, copy.getMessageType());
+        assertTrue(copy.isInverted());
+        assertTopElement(copy.getStackTrace(), "testSerialization");
+    }
+    
+    private static void assertTopElement(final StackTraceElement[] trace,
+            final String methodName) {
+        assertEquals(LazyIllegalArgumentExceptionTest.class.getName(),
+                trace[0].getClassName());
+        assertEquals(methodName, trace[0].getMethodName());
+    }
+    
+    private static class CountingArg {
+        
+        int count = 0;
+        
+        @Override
+        public String toString() {
+            count++;
+            return "counting arg";
+        }
+    }
+}
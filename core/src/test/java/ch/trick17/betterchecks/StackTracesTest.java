@@ -0,0 +1,95 @@
+package ch.trick17.betterchecks;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+
+import org.junit.Test;
+
+public class StackTracesTest {
+    
+    @Test
+    public void testClean() {
+        final StackTraceElement check = element(Check.class, "arguments");
+        final StackTraceElement exceptions = element(Exceptions.class,
+                "illegalArgumentException");
+        final StackTraceElement test = element(StackTracesTest.class,
+                "testClean");
+        final StackTraceElement other = element(String.class, "valueOf");
+        
+        StackTraceElement[] cleaned = StackTraces.clean(
+                new StackTraceElement[]{exceptions, check, test, other});
+        assertEquals(2, cleaned.length);
+        assertEquals(test, cleaned[0]);
+        assertEquals(other, cleaned[1]);
+        
+        /* Only frames on top are removed */
+        cleaned = StackTraces.clean(new StackTraceElement[]{other, check});
+        assertEquals(2, cleaned.length);
+        
+        cleaned = StackTraces.clean(new StackTraceElement[]{exceptions, check});
+        assertEquals(0, cleaned.length);
+        
+        cleaned = StackTraces.clean(new StackTraceElement[0]);
+        assertEquals(0, cleaned.length);
+    }
+    
+    @Test
+    public void testCallSite() {
+        StackTraceElement callSite = StackTraces.callSite();
+        assertEquals(StackTracesTest.class.getName(), callSite.getClassName());
+        assertEquals("testCallSite", callSite.getMethodName());
+        
+        /* The helper is part of the library (its name doesn't end with "Test") */
+        callSite = StackTracesTestHelper.callSite();
+        assertEquals(StackTracesTest.class.getName(), callSite.getClassName());
+        assertEquals("testCallSite", callSite.getMethodName());
+    }
+    
+    /* This test class is run a second time by the failsafe plugin, against the
+     * multi-release JAR (see the multi-release profile in the POM). That run
+     * sets the property below and must use the Java 9 version of CallSites. */
+    @Test
+    public void testMultiReleaseJar() throws IOException {
+        assumeTrue(Boolean.getBoolean("betterchecks.multiReleaseJar"));
+        final DataInputStream in = new DataInputStream(CallSites.class
+                .getResourceAsStream("CallSites.class"));
+        try {
+            in.skipBytes(6);
+            assertTrue(in.readUnsignedShort() >= 53); // Java 9 class file
+        } finally {
+            in.close();
+        }
+    }
+    
+    @Test
+    public void testIsLibraryClass() {
+        assertTrue(StackTraces.isLibraryClass(Check.class.getName()));
+        assertTrue(StackTraces.isLibraryClass(StackTracesTestHelper.class
+                .getName()));
+        assertTrue(StackTraces
+                .isLibraryClass("ch.trick17.betterchecks.fluent.StringCheck"));
+        assertFalse(StackTraces.isLibraryClass(StackTracesTest.class.getName()));
+        assertFalse(StackTraces
+                .isLibraryClass("ch.trick17.helper.ExceptionsTestHelper"));
+        assertFalse(StackTraces.isLibraryClass(String.class.getName()));
+    }
+    
+    private static StackTraceElement element(final Class<?> clazz,
+            final String method) {
+        return new StackTraceElement(clazz.getName(), method, clazz
+                .getSimpleName()
+                + ".java", 42);
+    }
+    
+    private static class StackTracesTestHelper {
+        
+        private static StackTraceElement callSite() {
+            return StackTraces.callSite();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package ch.trick17.betterchecks;
+
+import static org.openjdk.jmh.annotations.Mode.SingleShotTime;
+import static org.openjdk.jmh.annotations.Scope.Thread;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the time to the first check in a fresh JVM, including class
+ * loading. Every fork executes a single check, so the numbers show the startup
+ * cost an application pays for using the library. A passing check should not
+ * load the configuration; the difference to the first failing check shows
+ * what this saves.
+ */
+@BenchmarkMode(SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(20)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@State(Thread)
+public class StartupBenchmark {
+    
+    /* Non-final to prevent constant folding */
+    private String valid = "hello";
+    private String invalid = "";
+    
+    @Benchmark
+    public Object firstPassingCheck() {
+        return Check.that(valid).isNotEmpty();
+    }
+    
+    @Benchmark
+    public Object firstFailingCheck() {
+        try {
+            return Check.that(invalid).isNotEmpty();
+        } catch(final IllegalArgumentException e) {
+            return e;
+        }
+    }
+    
+    public static void main(final String[] args) throws RunnerException {
+        final Options options = new OptionsBuilder().include(
+                StartupBenchmark.class.getSimpleName()).build();
+        new Runner(options).run();
+    }
+}
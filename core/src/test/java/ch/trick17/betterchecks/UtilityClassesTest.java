@@ -8,6 +8,8 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 import org.junit.runners.Parameterized.Parameters;
 
+import ch.trick17.betterchecks.util.ConfigFile;
+
 import net.trajano.commons.testing.UtilityClassTestUtil;
 
 @RunWith(Parameterized.class)
@@ -17,7 +19,8 @@ public class UtilityClassesTest {
     public static List<?> parameters() {
         return Arrays.asList(new Object[]{Check.class},
                 new Object[]{CompactChecks.class},
-                new Object[]{Exceptions.class});
+                new Object[]{Exceptions.class},
+                new Object[]{ConfigFile.class});
     }
     
     public UtilityClassesTest(final Class<?> utilClass) {
@@ -0,0 +1,66 @@
+package ch.trick17.betterchecks.fluent;
+
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+import static org.openjdk.jmh.annotations.Scope.Thread;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import ch.trick17.betterchecks.Check;
+
+/**
+ * Measures passing length checks on arrays of different sizes. Since array
+ * arguments are only rendered if a check fails, the time per operation (and the
+ * <code>gc.alloc.rate.norm</code>, which should be 0 B/op) must be independent
+ * of the <code>size</code> parameter.
+ */
+@BenchmarkMode(AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@State(Thread)
+public class ArrayChecksBenchmark {
+    
+    @Param({"16", "1024", "65536", "10485760"})
+    private int size;
+    
+    private byte[] bytes;
+    private Object[] objects;
+    
+    @Setup
+    public void setup() {
+        bytes = new byte[size];
+        objects = new Object[size];
+    }
+    
+    @Benchmark
+    public ByteArrayCheck byteArrayCheck() {
+        return Check.that(bytes).isNotEmpty().hasLength(size).hasLengthBetween(
+                1, Integer.MAX_VALUE);
+    }
+    
+    @Benchmark
+    public ObjectArrayCheck objectArrayCheck() {
+        return Check.that(objects).isNotEmpty().hasLength(size)
+                .hasLengthBetween(1, Integer.MAX_VALUE);
+    }
+    
+    public static void main(final String[] args) throws RunnerException {
+        final Options options = new OptionsBuilder().include(
+                ArrayChecksBenchmark.class.getSimpleName()).addProfiler(
+                GCProfiler.class).warmupIterations(5).measurementIterations(10)
+                .build();
+        new Runner(options).run();
+    }
+}
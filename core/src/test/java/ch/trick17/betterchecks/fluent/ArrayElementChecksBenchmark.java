@@ -0,0 +1,111 @@
+package ch.trick17.betterchecks.fluent;
+
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+import static org.openjdk.jmh.annotations.Scope.Thread;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import ch.trick17.betterchecks.Check;
+
+/**
+ * Compares the passing element checks of {@link IntArrayCheck},
+ * {@link LongArrayCheck} and {@link DoubleArrayCheck} to the hand-written loops
+ * they replace, for arrays of different sizes. The checks scan the whole array,
+ * so the time per operation grows linearly with the <code>size</code>
+ * parameter; the question is by which factor.
+ */
+@BenchmarkMode(AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@State(Thread)
+public class ArrayElementChecksBenchmark {
+    
+    @Param({"16", "1024", "65536", "1048576", "10000000"})
+    private int size;
+    
+    private int[] ints;
+    private long[] longs;
+    private double[] doubles;
+    
+    @Setup
+    public void setup() {
+        final Random random = new Random(0);
+        ints = new int[size];
+        longs = new long[size];
+        doubles = new double[size];
+        for(int i = 0; i < size; i++) {
+            ints[i] = random.nextInt(1000);
+            longs[i] = random.nextInt(1000);
+            doubles[i] = random.nextDouble();
+        }
+    }
+    
+    @Benchmark
+    public int[] intLoop() {
+        for(int i = 0; i < ints.length; i++)
+            if(ints[i] < 0 || ints[i] > 1000)
+                throw new IllegalArgumentException();
+        return ints;
+    }
+    
+    @Benchmark
+    public IntArrayCheck intAllElementsBetween() {
+        return Check.that(ints).allElementsBetween(0, 1000);
+    }
+    
+    @Benchmark
+    public IntArrayCheck intNoElementIs() {
+        return Check.that(ints).noElementIs(-1);
+    }
+    
+    @Benchmark
+    public long[] longLoop() {
+        for(int i = 0; i < longs.length; i++)
+            if(longs[i] < 0 || longs[i] > 1000)
+                throw new IllegalArgumentException();
+        return longs;
+    }
+    
+    @Benchmark
+    public LongArrayCheck longAllElementsBetween() {
+        return Check.that(longs).allElementsBetween(0, 1000);
+    }
+    
+    @Benchmark
+    public double[] doubleLoop() {
+        for(int i = 0; i < doubles.length; i++)
+            if(!(doubles[i] >= 0 && doubles[i] <= 1))
+                throw new IllegalArgumentException();
+        return doubles;
+    }
+    
+    @Benchmark
+    public DoubleArrayCheck doubleAllElementsBetween() {
+        return Check.that(doubles).allElementsBetween(0, 1);
+    }
+    
+    @Benchmark
+    public DoubleArrayCheck doubleAllFinite() {
+        return Check.that(doubles).allFinite();
+    }
+    
+    public static void main(final String[] args) throws RunnerException {
+        final Options options = new OptionsBuilder().include(
+                ArrayElementChecksBenchmark.class.getSimpleName())
+                .warmupIterations(5).measurementIterations(10).build();
+        new Runner(options).run();
+    }
+}
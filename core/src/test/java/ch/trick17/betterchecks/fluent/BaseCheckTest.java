@@ -0,0 +1,119 @@
+package ch.trick17.betterchecks.fluent;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import ch.trick17.betterchecks.Check;
+import ch.trick17.betterchecks.Exceptions;
+import ch.trick17.betterchecks.InvalidCheckException;
+import ch.trick17.betterchecks.MessageType;
+
+public class BaseCheckTest {
+    
+    @Test
+    public void testTestModePasses() {
+        final StringCheck check = Check.test("hello").isNotEmpty().hasLength(5)
+                .not().contains("x");
+        assertTrue(check.passes());
+        assertNull(check.getFailure());
+        assertNull(check.getFailureMessage());
+        
+        /* Outside of test mode, a check that returns always passed */
+        assertTrue(Check.that("hello").isNotEmpty().passes());
+        assertNull(Check.that("hello").getFailure());
+    }
+    
+    @Test
+    public void testTestModeFailure() {
+        final StringCheck check = Check.test("hello").named("greeting")
+                .isNotEmpty().hasLength(3).hasLength(4).not().contains("h");
+        assertFalse(check.passes());
+        assertEquals(MessageType.ARG_LENGTH, check.getFailure());
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_LENGTH, false,
+                "greeting", 3, "hello"), check.getFailureMessage());
+        
+        final IntCheck intCheck = Check.test(5).not().isPositive();
+        assertFalse(intCheck.passes());
+        assertEquals(MessageType.ARG_POSITIVE, intCheck.getFailure());
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_POSITIVE, true,
+                Exceptions.defaultArgName(), 5), intCheck.getFailureMessage());
+    }
+    
+    @Test
+    public void testTestModeNull() {
+        final StringCheck check = Check.test((String) null).hasLength(3)
+                .matches("a+");
+        assertFalse(check.passes());
+        assertEquals(MessageType.ARG_NULL, check.getFailure());
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_NULL, false,
+                Exceptions.defaultArgName()), check.getFailureMessage());
+        
+        assertTrue(Check.test((String) null).isNullOr().hasLength(3).passes());
+        assertFalse(Check.test("").not().isNotNull().passes());
+        assertEquals(MessageType.ARG_NULL, Check.test("").not().isNotNull()
+                .getFailure());
+    }
+    
+    @Test
+    public void testTestModeDerivedChecks() {
+        assertTrue(Check.test("42").isIntWhich().isPositive().passes());
+        
+        IntCheck check = Check.test("-42").isIntWhich().isPositive();
+        assertFalse(check.passes());
+        assertEquals(MessageType.ARG_POSITIVE, check.getFailure());
+        
+        check = Check.test("forty-two").isIntWhich().isPositive();
+        assertFalse(check.passes());
+        assertEquals(MessageType.ARG_INT, check.getFailure());
+        
+        /* The outcome is shared with the original check */
+        final StringCheck stringCheck = Check.test("hello");
+        stringCheck.hasLengthWhich().isGreaterThan(10);
+        assertFalse(stringCheck.passes());
+        assertEquals(MessageType.ARG_GREATER, stringCheck.getFailure());
+        
+        check = Check.test(asList(1, 2)).hasSizeWhich().isLessThan(1);
+        assertEquals(MessageType.ARG_LESS, check.getFailure());
+        assertEquals(MessageType.ARG_URL, Check.test("no url").isUrlWhich()
+                .hasProtocol("http").getFailure());
+    }
+    
+    @Test(expected = InvalidCheckException.class)
+    public void testTestModeInvalidCheck() {
+        Check.test("42").not().isIntWhich();
+    }
+    
+    @Test
+    public void testArgName() {
+        final CustomCheck check = new CustomCheck();
+        assertEquals(Exceptions.defaultArgName(), check.argName());
+        check.named("custom");
+        assertEquals("custom", check.argName());
+        assertEquals("the length of custom", check.hasLengthWhich()
+                .argName());
+        
+        /* Only the placeholder is replaced, not any null message argument */
+        check.inTestMode().fail(MessageType.ARG_NULL, false,
+                new Object[]{null});
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_NULL, false,
+                (Object) null), check.getFailureMessage());
+        
+        final CustomCheck other = new CustomCheck().inTestMode();
+        other.fail(MessageType.ARG_NULL, false,
+                new Object[]{BaseCheck.ARG_NAME});
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_NULL, false,
+                Exceptions.defaultArgName()), other.getFailureMessage());
+    }
+    
+    private static class CustomCheck extends BaseCheck<CustomCheck> {
+        
+        IntCheck hasLengthWhich() {
+            return derive(new IntCheck(0), "length");
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package ch.trick17.betterchecks.fluent;
+
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+import static org.openjdk.jmh.annotations.Scope.Thread;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import ch.trick17.betterchecks.Check;
+
+/**
+ * Compares the checks of {@link BigDecimalCheck} to the same checks of
+ * {@link NumberCheck}, which BigDecimals used to be checked with.
+ */
+@BenchmarkMode(AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@State(Thread)
+public class BigDecimalCheckBenchmark {
+    
+    private static final BigDecimal MIN = new BigDecimal("0.01");
+    private static final BigDecimal MAX = new BigDecimal("10000.00");
+    
+    private BigDecimal amount = new BigDecimal("1234.56");
+    
+    @Benchmark
+    public Object numberCheck() {
+        return Check.that((Number) amount).isPositive().isBetween(MIN, MAX);
+    }
+    
+    @Benchmark
+    public Object bigDecimalCheck() {
+        return Check.that(amount).isPositive().isBetween(MIN, MAX);
+    }
+    
+    @Benchmark
+    public Object bigDecimalCheckWithScale() {
+        return Check.that(amount).isPositive().isBetween(MIN, MAX)
+                .hasScaleAtMost(2).hasPrecisionAtMost(10);
+    }
+    
+    public static void main(final String[] args) throws RunnerException {
+        final Options options = new OptionsBuilder().include(
+                BigDecimalCheckBenchmark.class.getSimpleName())
+                .warmupIterations(5).measurementIterations(10).build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,188 @@
+package ch.trick17.betterchecks.fluent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+
+import org.junit.Test;
+
+import ch.trick17.betterchecks.Check;
+import ch.trick17.betterchecks.Exceptions;
+import ch.trick17.betterchecks.MessageType;
+import ch.trick17.betterchecks.util.Range;
+
+public class BigDecimalCheckTest {
+    
+    private static BigDecimal d(final String value) {
+        return new BigDecimal(value);
+    }
+    
+    @Test
+    public void testIsPositive() {
+        Check.that(d("1")).isPositive();
+        Check.that(d("1E-1000")).isPositive();
+        Check.that(d("0")).not().isPositive();
+        Check.that(d("-0.00")).not().isPositive();
+        Check.that((BigDecimal) null).isNullOr().isPositive();
+        
+        Exception thrown = null;
+        try {
+            Check.that(d("-1.5")).isPositive();
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_POSITIVE, false,
+                Exceptions.defaultArgName(), d("-1.5")), thrown.getMessage());
+        
+        thrown = null;
+        try {
+            Check.that((BigDecimal) null).isPositive();
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_NULL, false,
+                Exceptions.defaultArgName()), thrown.getMessage());
+    }
+    
+    @Test
+    public void testIsNegative() {
+        Check.that(d("-1")).isNegative();
+        Check.that(d("-1E-1000")).isNegative();
+        Check.that(d("0")).not().isNegative();
+        Check.that(d("0.01")).not().isNegative();
+        
+        Exception thrown = null;
+        try {
+            Check.that(d("0")).isNegative();
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_NEGATIVE, false,
+                Exceptions.defaultArgName(), d("0")), thrown.getMessage());
+    }
+    
+    @Test
+    public void testComparisons() {
+        Check.that(d("2.0")).is(d("2.00"));
+        Check.that(d("2.0")).not().is(d("2.01"));
+        Check.that(d("0.11")).isGreaterThan(d("0.1"));
+        Check.that(d("0.1")).not().isGreaterThan(d("0.10"));
+        Check.that(d("-5")).isLessThan(d("-4.99"));
+        Check.that(d("1E+3")).not().isLessThan(d("999.999"));
+        Check.that(d("0.00")).isBetween(d("0"), d("100"));
+        Check.that(d("100.000")).isBetween(d("0"), d("100"));
+        Check.that(d("100.001")).not().isBetween(d("0"), d("100"));
+        
+        Exception thrown = null;
+        try {
+            Check.that(d("10")).isGreaterThan(d("10.0"));
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_GREATER, false,
+                Exceptions.defaultArgName(), d("10.0"), d("10")),
+                thrown.getMessage());
+        
+        thrown = null;
+        try {
+            Check.that(d("-0.5")).isBetween(d("0"), d("1"));
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_BETWEEN, false,
+                Exceptions.defaultArgName(), d("0"), d("1"), d("-0.5")),
+                thrown.getMessage());
+    }
+    
+    @Test
+    public void testNumberComparisons() {
+        Check.that(d("2.00")).is(2);
+        Check.that(d("0.1")).not().is(0.1);
+        Check.that(d("0.1")).isLessThan(0.1);
+        Check.that(d("9223372036854775808")).isGreaterThan(Long.MAX_VALUE);
+        Check.that(d("99.5")).isBetween(0, 100L);
+        Check.that(d("-1")).not().isBetween(0, 100);
+        Check.that(d("1E+300")).isLessThan(Double.POSITIVE_INFINITY);
+        
+        Exception thrown = null;
+        try {
+            Check.that(d("0")).isGreaterThan(0);
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_GREATER, false,
+                Exceptions.defaultArgName(), 0, d("0")), thrown.getMessage());
+    }
+    
+    @Test
+    public void testHasScaleAtMost() {
+        Check.that(d("12.34")).hasScaleAtMost(2);
+        Check.that(d("12.3")).hasScaleAtMost(2);
+        Check.that(d("12")).hasScaleAtMost(0);
+        Check.that(d("1.2E+3")).hasScaleAtMost(-2);
+        Check.that(d("12.340")).not().hasScaleAtMost(2);
+        Check.that(d("1E-1000")).not().hasScaleAtMost(999);
+        
+        Exception thrown = null;
+        try {
+            Check.that(d("0.001")).hasScaleAtMost(2);
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_SCALE_AT_MOST, false,
+                Exceptions.defaultArgName(), 2, d("0.001")),
+                thrown.getMessage());
+    }
+    
+    @Test
+    public void testHasPrecisionAtMost() {
+        Check.that(d("12.34")).hasPrecisionAtMost(4);
+        Check.that(d("0.001")).hasPrecisionAtMost(1);
+        Check.that(d("1E+100")).hasPrecisionAtMost(1);
+        Check.that(d("12.340")).not().hasPrecisionAtMost(4);
+        Check.that(d("123456789012345678901234567890")).hasPrecisionAtMost(30);
+        Check.that(d("123456789012345678901234567890")).not()
+                .hasPrecisionAtMost(29);
+        
+        Exception thrown = null;
+        try {
+            Check.that(d("-99999.99")).hasPrecisionAtMost(6);
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_PRECISION_AT_MOST,
+                false, Exceptions.defaultArgName(), 6, d("-99999.99")),
+                thrown.getMessage());
+    }
+    
+    @Test
+    public void testIsIn() {
+        final Range range = Range.closedOpen(0, 100);
+        Check.that(d("0.00")).isIn(range);
+        Check.that(d("99.999999999999999999")).isIn(range);
+        Check.that(d("100")).not().isIn(range);
+        Check.that(d("-1E-100")).not().isIn(range);
+        Check.that(d("0.1")).isIn(Range.atLeast(new BigDecimal("0.1")));
+        Check.that(d("0.1")).not().isIn(Range.atLeast(0.1));
+        
+        Exception thrown = null;
+        try {
+            Check.that(d("100.0")).isIn(range);
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_IN_RANGE, false,
+                Exceptions.defaultArgName(), range, d("100.0")),
+                thrown.getMessage());
+    }
+}
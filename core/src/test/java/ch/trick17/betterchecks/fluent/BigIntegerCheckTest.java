@@ -0,0 +1,111 @@
+package ch.trick17.betterchecks.fluent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigInteger;
+
+import org.junit.Test;
+
+import ch.trick17.betterchecks.Check;
+import ch.trick17.betterchecks.Exceptions;
+import ch.trick17.betterchecks.MessageType;
+import ch.trick17.betterchecks.util.Range;
+
+public class BigIntegerCheckTest {
+    
+    private static final BigInteger HUGE = BigInteger.ONE.shiftLeft(200);
+    
+    @Test
+    public void testIsPositive() {
+        Check.that(BigInteger.ONE).isPositive();
+        Check.that(HUGE).isPositive();
+        Check.that(BigInteger.ZERO).not().isPositive();
+        Check.that(HUGE.negate()).not().isPositive();
+        
+        Exception thrown = null;
+        try {
+            Check.that(BigInteger.ZERO).isPositive();
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_POSITIVE, false,
+                Exceptions.defaultArgName(), 0), thrown.getMessage());
+    }
+    
+    @Test
+    public void testIsNegative() {
+        Check.that(BigInteger.ONE.negate()).isNegative();
+        Check.that(HUGE.negate()).isNegative();
+        Check.that(BigInteger.ZERO).not().isNegative();
+        
+        Exception thrown = null;
+        try {
+            Check.that(HUGE).isNegative();
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_NEGATIVE, false,
+                Exceptions.defaultArgName(), HUGE), thrown.getMessage());
+    }
+    
+    @Test
+    public void testComparisons() {
+        Check.that(HUGE).is(BigInteger.ONE.shiftLeft(200));
+        Check.that(HUGE).isGreaterThan(HUGE.subtract(BigInteger.ONE));
+        Check.that(HUGE).not().isLessThan(HUGE);
+        Check.that(BigInteger.TEN).isBetween(BigInteger.ONE, HUGE);
+        Check.that(HUGE.add(BigInteger.ONE)).not().isBetween(BigInteger.ONE,
+                HUGE);
+        
+        Exception thrown = null;
+        try {
+            Check.that(BigInteger.ONE).isLessThan(BigInteger.ONE);
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_LESS, false,
+                Exceptions.defaultArgName(), 1, 1), thrown.getMessage());
+    }
+    
+    @Test
+    public void testNumberComparisons() {
+        Check.that(BigInteger.TEN).is(10.0);
+        Check.that(BigInteger.TEN).isBetween(0, 10L);
+        Check.that(BigInteger.TEN).isLessThan(10.5);
+        Check.that(HUGE).isGreaterThan(Long.MAX_VALUE);
+        Check.that(HUGE).isLessThan(Double.POSITIVE_INFINITY);
+        
+        Exception thrown = null;
+        try {
+            Check.that(HUGE).isBetween(0, Long.MAX_VALUE);
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_BETWEEN, false,
+                Exceptions.defaultArgName(), 0, Long.MAX_VALUE, HUGE),
+                thrown.getMessage());
+    }
+    
+    @Test
+    public void testIsIn() {
+        final Range range = Range.atMost(Long.MAX_VALUE);
+        Check.that(BigInteger.valueOf(Long.MAX_VALUE)).isIn(range);
+        Check.that(BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE))
+                .not().isIn(range);
+        
+        Exception thrown = null;
+        try {
+            Check.that(HUGE).isIn(range);
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_IN_RANGE, false,
+                Exceptions.defaultArgName(), range, HUGE), thrown.getMessage());
+    }
+}
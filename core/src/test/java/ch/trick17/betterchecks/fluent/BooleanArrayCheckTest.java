@@ -0,0 +1,31 @@
+package ch.trick17.betterchecks.fluent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import ch.trick17.betterchecks.Check;
+import ch.trick17.betterchecks.Exceptions;
+import ch.trick17.betterchecks.MessageType;
+
+public class BooleanArrayCheckTest {
+    
+    @Test
+    public void testNoElementIs() {
+        Check.that(new boolean[]{true, true}).noElementIs(false);
+        Check.that(new boolean[]{}).noElementIs(false);
+        Check.that(new boolean[]{true, false}).not().noElementIs(false);
+        
+        Exception thrown = null;
+        try {
+            Check.that(new boolean[]{true, false}).named("flags").noElementIs(
+                    false);
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_ALL_OTHER_THAN,
+                false, "flags", false, 1, false), thrown.getMessage());
+    }
+}
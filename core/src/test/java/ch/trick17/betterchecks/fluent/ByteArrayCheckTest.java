@@ -0,0 +1,44 @@
+package ch.trick17.betterchecks.fluent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import ch.trick17.betterchecks.Check;
+import ch.trick17.betterchecks.Exceptions;
+import ch.trick17.betterchecks.MessageType;
+
+public class ByteArrayCheckTest {
+    
+    @Test
+    public void testAllElementsBetween() {
+        Check.that(new byte[]{-128, 127}).allElementsBetween(-128, 127);
+        Check.that(new byte[]{-128, 127}).allElementsBetween(-1000, 1000);
+        Check.that(new byte[]{-1}).not().allElementsBetween(0, 255);
+        
+        Exception thrown = null;
+        try {
+            Check.that(new byte[]{0x7F, (byte) 0x80}).allElementsBetween(0,
+                    255);
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_ALL_BETWEEN, false,
+                Exceptions.defaultArgName(), 0, 255, 1, -128), thrown
+                .getMessage());
+    }
+    
+    @Test
+    public void testAllPositive() {
+        Check.that(new byte[]{1, 127}).allPositive();
+        Check.that(new byte[]{1, 0}).not().allPositive();
+    }
+    
+    @Test
+    public void testNoElementIs() {
+        Check.that(new byte[]{-1}).noElementIs(255);
+        Check.that(new byte[]{-1}).not().noElementIs(-1);
+    }
+}
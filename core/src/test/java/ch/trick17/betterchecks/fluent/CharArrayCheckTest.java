@@ -0,0 +1,49 @@
+package ch.trick17.betterchecks.fluent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import ch.trick17.betterchecks.Check;
+import ch.trick17.betterchecks.Exceptions;
+import ch.trick17.betterchecks.MessageType;
+
+public class CharArrayCheckTest {
+    
+    @Test
+    public void testAllElementsBetween() {
+        Check.that("0815".toCharArray()).allElementsBetween('0', '9');
+        Check.that("08a5".toCharArray()).not().allElementsBetween('0', '9');
+        Check.that(new char[]{'\uffff'}).allElementsBetween('\u0000',
+                '\uffff');
+        
+        Exception thrown = null;
+        try {
+            Check.that("12x4".toCharArray()).allElementsBetween('0', '9');
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_ALL_BETWEEN, false,
+                Exceptions.defaultArgName(), '0', '9', 2, 'x'), thrown
+                .getMessage());
+    }
+    
+    @Test
+    public void testNoElementIs() {
+        Check.that("abc".toCharArray()).noElementIs('\u0000');
+        Check.that("abc".toCharArray()).not().noElementIs('c');
+        
+        Exception thrown = null;
+        try {
+            Check.that("a b".toCharArray()).noElementIs(' ');
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_ALL_OTHER_THAN,
+                false, Exceptions.defaultArgName(), ' ', 1, ' '), thrown
+                .getMessage());
+    }
+}
@@ -0,0 +1,142 @@
+package ch.trick17.betterchecks.fluent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+import ch.trick17.betterchecks.Check;
+import ch.trick17.betterchecks.Exceptions;
+import ch.trick17.betterchecks.InvalidCheckException;
+import ch.trick17.betterchecks.MessageType;
+
+public class CheckPoolTest {
+    
+    @Test
+    public void testNoReuseByDefault() {
+        assertNotSame(Check.that("hello"), Check.that("hello"));
+        assertNotSame(Check.that(42), Check.that(42));
+    }
+    
+    @Test
+    public void testAcquire() {
+        final CheckPool.Pool<StringCheck> pool = new StringCheckPool();
+        final StringCheck check = pool.acquire(false);
+        assertSame(check, pool.acquire(false));
+        
+        /* Other threads get their own instances */
+        final StringCheck[] other = new StringCheck[1];
+        final Thread thread = new Thread() {
+            @Override
+            public void run() {
+                other[0] = pool.acquire(false);
+            }
+        };
+        thread.start();
+        join(thread);
+        assertNotSame(check, other[0]);
+    }
+    
+    @Test
+    public void testAcquireGuarded() {
+        final CheckPool.Pool<StringCheck> pool = new StringCheckPool();
+        final StringCheck first = pool.acquire(true).reset("hello");
+        first.named("greeting").isNotEmpty();
+        
+        final StringCheck second = pool.acquire(true).reset("hi");
+        assertNotSame(first, second);
+        second.isNotEmpty().hasLength(2);
+        
+        try {
+            first.hasLength(5);
+            fail();
+        } catch(final InvalidCheckException e) {}
+        try {
+            first.named("greeting");
+            fail();
+        } catch(final InvalidCheckException e) {}
+        try {
+            first.not();
+            fail();
+        } catch(final InvalidCheckException e) {}
+        try {
+            first.isNullOr();
+            fail();
+        } catch(final InvalidCheckException e) {}
+        try {
+            first.passes();
+            fail();
+        } catch(final InvalidCheckException e) {}
+        
+        final CheckPool.Pool<IntCheck> intPool =
+                new CheckPool.Pool<IntCheck>() {
+                    @Override
+                    protected IntCheck initialValue() {
+                        return new IntCheck(0);
+                    }
+                };
+        final IntCheck intCheck = intPool.acquire(true).reset(42);
+        intPool.acquire(true);
+        try {
+            intCheck.isPositive();
+            fail();
+        } catch(final InvalidCheckException e) {}
+    }
+    
+    @Test
+    public void testReset() {
+        final StringCheck check = Check.test("hi").named("greeting")
+                .isNullOr().not().isNotEmpty().not();
+        assertFalse(check.passes());
+        
+        check.reset("hello");
+        assertTrue(check.passes());
+        assertNull(check.argName);
+        check.hasLength(5);
+        try {
+            check.isNullOr().not().isNotEmpty();
+            fail();
+        } catch(final IllegalArgumentException e) {
+            assertEquals(Exceptions.formatMsg(MessageType.ARG_EMPTY, true,
+                    Exceptions.defaultArgName(), "hello"), e.getMessage());
+        }
+        
+        check.reset(null);
+        try {
+            check.hasLength(5);
+            fail();
+        } catch(final IllegalArgumentException e) {}
+        
+        final IntCheck intCheck = Check.that("abc").isNullOr()
+                .hasLengthWhich();
+        intCheck.reset(-1);
+        try {
+            intCheck.isPositive();
+            fail();
+        } catch(final IllegalArgumentException e) {}
+        
+        final IntArrayCheck arrayCheck = Check.that(new int[3]);
+        arrayCheck.reset(new int[0], 0);
+        arrayCheck.hasLength(0);
+    }
+    
+    private static void join(final Thread thread) {
+        try {
+            thread.join();
+        } catch(final InterruptedException e) {
+            throw new AssertionError(e);
+        }
+    }
+    
+    private static class StringCheckPool extends CheckPool.Pool<StringCheck> {
+        @Override
+        protected StringCheck initialValue() {
+            return new StringCheck(null);
+        }
+    }
+}
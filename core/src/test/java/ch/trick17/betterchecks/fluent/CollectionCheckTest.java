@@ -133,10 +133,10 @@ public class CollectionCheckTest {
         Check.that(Arrays.asList(1, 2, 3, 4, 5)).hasSizeWhich().is(5);
         assertEquals("the size of "
                 + Config.getConfig().getDefaultArgumentName(), Check.that(
-                Arrays.asList(1, 2, 3, 4, 5)).hasSizeWhich().argName);
+                Arrays.asList(1, 2, 3, 4, 5)).hasSizeWhich().argName());
         assertEquals("the size of the list",
                 Check.that(Arrays.asList(1, 2, 3, 4, 5)).named("the list")
-                        .hasSizeWhich().argName);
+                        .hasSizeWhich().argName());
         
         Check.that((Collection<?>) null).isNullOr().hasSizeWhich().is(100);
         
@@ -0,0 +1,115 @@
+package ch.trick17.betterchecks.fluent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import ch.trick17.betterchecks.Check;
+import ch.trick17.betterchecks.Exceptions;
+import ch.trick17.betterchecks.MessageType;
+
+public class ComparableCheckTest {
+    
+    private static final Date EPOCH = new Date(0);
+    private static final Date LATER = new Date(1000);
+    
+    @Test
+    public void testIs() {
+        Check.thatComparable(EPOCH).is(new Date(0));
+        Check.thatComparable(EPOCH).not().is(LATER);
+        Check.thatComparable(TimeUnit.SECONDS).is(TimeUnit.SECONDS);
+        
+        Exception thrown = null;
+        try {
+            Check.thatComparable(EPOCH).is(LATER);
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_IS, false,
+                Exceptions.defaultArgName(), LATER, EPOCH),
+                thrown.getMessage());
+    }
+    
+    @Test
+    public void testIsGreaterThan() {
+        Check.thatComparable(LATER).isGreaterThan(EPOCH);
+        Check.thatComparable(EPOCH).not().isGreaterThan(EPOCH);
+        Check.thatComparable("b").isGreaterThan("a");
+        Check.thatComparable(TimeUnit.DAYS).isGreaterThan(TimeUnit.HOURS);
+        Check.thatComparable((Date) null).isNullOr().isGreaterThan(EPOCH);
+        
+        Exception thrown = null;
+        try {
+            Check.thatComparable(EPOCH).isGreaterThan(LATER);
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_GREATER, false,
+                Exceptions.defaultArgName(), LATER, EPOCH),
+                thrown.getMessage());
+        
+        thrown = null;
+        try {
+            Check.thatComparable((Date) null).isGreaterThan(EPOCH);
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_NULL, false,
+                Exceptions.defaultArgName()), thrown.getMessage());
+    }
+    
+    @Test
+    public void testIsLessThan() {
+        Check.thatComparable(EPOCH).isLessThan(LATER);
+        Check.thatComparable(LATER).not().isLessThan(LATER);
+        Check.thatComparable('a').isLessThan('b');
+        
+        Exception thrown = null;
+        try {
+            Check.thatComparable(LATER).isLessThan(EPOCH);
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_LESS, false,
+                Exceptions.defaultArgName(), EPOCH, LATER),
+                thrown.getMessage());
+    }
+    
+    @Test
+    public void testIsBetween() {
+        Check.thatComparable(new Date(500)).isBetween(EPOCH, LATER);
+        Check.thatComparable(EPOCH).isBetween(EPOCH, LATER);
+        Check.thatComparable(LATER).isBetween(EPOCH, LATER);
+        Check.thatComparable(new Date(-1)).not().isBetween(EPOCH, LATER);
+        Check.thatComparable(TimeUnit.MINUTES).isBetween(TimeUnit.SECONDS,
+                TimeUnit.HOURS);
+        
+        final Date date = new Date(1001);
+        Exception thrown = null;
+        try {
+            Check.thatComparable(date).named("deadline")
+                    .isBetween(EPOCH, LATER);
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_BETWEEN, false,
+                "deadline", EPOCH, LATER, date), thrown.getMessage());
+    }
+    
+    @Test
+    public void testObjectChecks() {
+        Check.thatComparable(EPOCH).isNotNull().hasClass(Date.class)
+                .isEqualTo(new Date(0));
+        assertEquals(EPOCH, Check.thatComparable(EPOCH).isBetween(EPOCH,
+                LATER).value());
+    }
+}
@@ -0,0 +1,102 @@
+package ch.trick17.betterchecks.fluent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import ch.trick17.betterchecks.Check;
+import ch.trick17.betterchecks.Exceptions;
+import ch.trick17.betterchecks.MessageType;
+
+public class DoubleArrayCheckTest {
+    
+    private static final double NAN = Double.NaN;
+    private static final double INF = Double.POSITIVE_INFINITY;
+    
+    @Test
+    public void testAllElementsBetween() {
+        Check.that(new double[]{-1.0, 0.0, 1.0}).allElementsBetween(-1, 1);
+        Check.that(new double[]{-INF, INF}).allElementsBetween(-INF, INF);
+        Check.that(new double[]{NAN}).not().allElementsBetween(-INF, INF);
+        Check.that(new double[]{0.0}).not().allElementsBetween(NAN, 1);
+        Check.that(new double[]{}).allElementsBetween(NAN, NAN);
+        Check.that(new double[]{Math.nextUp(1.0)}).not().allElementsBetween(0,
+                1);
+        
+        Exception thrown = null;
+        try {
+            Check.that(new double[]{0.5, 1.5}).allElementsBetween(0, 1);
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_ALL_BETWEEN, false,
+                Exceptions.defaultArgName(), 0.0, 1.0, 1, 1.5), thrown
+                .getMessage());
+        
+        thrown = null;
+        try {
+            Check.that(new double[]{0.5}).not().allElementsBetween(0, 1);
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_ALL_BETWEEN, true,
+                Exceptions.defaultArgName(), 0.0, 1.0), thrown.getMessage());
+    }
+    
+    @Test
+    public void testAllFinite() {
+        Check.that(new double[]{0.0, -Double.MAX_VALUE, Double.MIN_VALUE})
+                .allFinite();
+        Check.that(new double[]{}).allFinite();
+        Check.that(new double[]{0.0, -INF}).not().allFinite();
+        
+        Exception thrown = null;
+        try {
+            Check.that(new double[]{1.0, NAN, INF}).allFinite();
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_ALL_FINITE, false,
+                Exceptions.defaultArgName(), 1, NAN), thrown.getMessage());
+    }
+    
+    @Test
+    public void testAllPositive() {
+        Check.that(new double[]{Double.MIN_VALUE, INF}).allPositive();
+        Check.that(new double[]{-0.0}).not().allPositive();
+        Check.that(new double[]{NAN}).not().allPositive();
+        
+        Exception thrown = null;
+        try {
+            Check.that(new double[]{1.0, 0.0}).allPositive();
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_ALL_POSITIVE, false,
+                Exceptions.defaultArgName(), 1, 0.0), thrown.getMessage());
+    }
+    
+    @Test
+    public void testNoElementIs() {
+        Check.that(new double[]{1.0, 2.0}).noElementIs(NAN);
+        Check.that(new double[]{1.0, 2.0}).noElementIs(1.5);
+        Check.that(new double[]{-0.0}).not().noElementIs(0.0);
+        Check.that(new double[]{INF}).not().noElementIs(INF);
+        
+        Exception thrown = null;
+        try {
+            Check.that(new double[]{1.0, NAN}).noElementIs(NAN);
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_ALL_OTHER_THAN,
+                false, Exceptions.defaultArgName(), NAN, 1, NAN), thrown
+                .getMessage());
+    }
+}
@@ -3,11 +3,14 @@ package ch.trick17.betterchecks.fluent;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.math.BigDecimal;
+
 import org.junit.Test;
 
 import ch.trick17.betterchecks.Check;
 import ch.trick17.betterchecks.Exceptions;
 import ch.trick17.betterchecks.MessageType;
+import ch.trick17.betterchecks.util.Range;
 
 public class DoubleCheckTest {
     
@@ -224,6 +227,31 @@ public class DoubleCheckTest {
                 .getMessage());
     }
     
+    @Test
+    public void testIsIn() {
+        Check.that(0.5).isIn(Range.closed(0, 1));
+        Check.that(0.0).isIn(Range.closedOpen(0, 1));
+        Check.that(-0.0).isIn(Range.closedOpen(0, 1));
+        Check.that(0.1).isIn(Range.closed(new BigDecimal("0.1"), 1));
+        Check.that(Double.POSITIVE_INFINITY).isIn(Range.atLeast(0));
+        
+        Check.that(1.0).not().isIn(Range.closedOpen(0, 1));
+        Check.that(Double.NaN).not().isIn(Range.atLeast(0));
+        /* 0.1 is slightly greater than the exact decimal value 0.1 */
+        Check.that(0.1).not().isIn(Range.atMost(new BigDecimal("0.1")));
+        
+        final Range range = Range.open(0, 1);
+        Exception thrown = null;
+        try {
+            Check.that(1.5).isIn(range);
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_IN_RANGE, false,
+                Exceptions.defaultArgName(), range, 1.5), thrown.getMessage());
+    }
+    
     @Test
     @SuppressWarnings("deprecation")
     public void testIsNotNaN() {
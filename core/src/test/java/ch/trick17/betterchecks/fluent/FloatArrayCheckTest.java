@@ -0,0 +1,64 @@
+package ch.trick17.betterchecks.fluent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import ch.trick17.betterchecks.Check;
+import ch.trick17.betterchecks.Exceptions;
+import ch.trick17.betterchecks.MessageType;
+
+public class FloatArrayCheckTest {
+    
+    @Test
+    public void testAllElementsBetween() {
+        Check.that(new float[]{0.0f, 0.5f, 1.0f}).allElementsBetween(0, 1);
+        /* The float closest to 0.7 is less than 0.7 */
+        Check.that(new float[]{0.7f}).not().allElementsBetween(0.7, 1);
+        Check.that(new float[]{0.7f}).allElementsBetween(0.7f, 1);
+        Check.that(new float[]{Float.NaN}).not().allElementsBetween(
+                Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+        
+        Exception thrown = null;
+        try {
+            Check.that(new float[]{-0.5f}).allElementsBetween(0, 1);
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_ALL_BETWEEN, false,
+                Exceptions.defaultArgName(), 0.0, 1.0, 0, -0.5f), thrown
+                .getMessage());
+    }
+    
+    @Test
+    public void testAllFinite() {
+        Check.that(new float[]{Float.MAX_VALUE, -Float.MAX_VALUE}).allFinite();
+        Check.that(new float[]{0, Float.NEGATIVE_INFINITY}).not().allFinite();
+        Check.that(new float[]{Float.NaN}).not().allFinite();
+    }
+    
+    @Test
+    public void testAllPositive() {
+        Check.that(new float[]{Float.MIN_VALUE}).allPositive();
+        Check.that(new float[]{Float.NaN}).not().allPositive();
+        
+        Exception thrown = null;
+        try {
+            Check.that(new float[]{1.0f, -0.0f}).allPositive();
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_ALL_POSITIVE, false,
+                Exceptions.defaultArgName(), 1, -0.0f), thrown.getMessage());
+    }
+    
+    @Test
+    public void testNoElementIs() {
+        Check.that(new float[]{0.1f}).noElementIs(0.1);
+        Check.that(new float[]{0.1f}).not().noElementIs(0.1f);
+        Check.that(new float[]{Float.NaN}).not().noElementIs(Double.NaN);
+    }
+}
@@ -0,0 +1,56 @@
+package ch.trick17.betterchecks.fluent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import ch.trick17.betterchecks.Check;
+import ch.trick17.betterchecks.Exceptions;
+import ch.trick17.betterchecks.MessageType;
+
+public class IntArrayCheckTest {
+    
+    @Test
+    public void testAllElementsBetween() {
+        Check.that(new int[]{0, 5, 10}).allElementsBetween(0, 10);
+        Check.that(new int[]{Integer.MIN_VALUE, Integer.MAX_VALUE})
+                .allElementsBetween(Integer.MIN_VALUE, Integer.MAX_VALUE);
+        Check.that(new int[]{Integer.MAX_VALUE}).not().allElementsBetween(
+                Integer.MIN_VALUE, Integer.MAX_VALUE - 1);
+        
+        final int[] large = new int[1000];
+        Check.that(large).allElementsBetween(0, 0);
+        large[700] = -1;
+        
+        Exception thrown = null;
+        try {
+            Check.that(large).named("values").allElementsBetween(0, 0);
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_ALL_BETWEEN, false,
+                "values", 0, 0, 700, -1), thrown.getMessage());
+    }
+    
+    @Test
+    public void testAllPositive() {
+        Check.that(new int[]{1, Integer.MAX_VALUE}).allPositive();
+        Check.that(new int[]{Integer.MIN_VALUE}).not().allPositive();
+    }
+    
+    @Test
+    public void testNoElementIs() {
+        Check.that(new int[]{1, 2, 3}).noElementIs(0);
+        Check.that(new int[]{Integer.MIN_VALUE}).not().noElementIs(
+                Integer.MIN_VALUE);
+    }
+    
+    @Test
+    public void testLengthChecks() {
+        Check.that(new int[]{1, 2}).hasLength(2).allPositive()
+                .hasLengthBetween(1, 2).isNotEmpty();
+        Check.that(new int[]{1, 2}).hasLengthWhich().is(2);
+    }
+}
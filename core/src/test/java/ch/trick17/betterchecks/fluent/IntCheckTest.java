@@ -3,6 +3,7 @@ package ch.trick17.betterchecks.fluent;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.math.BigDecimal;
 import java.util.Arrays;
 
 import org.junit.Test;
@@ -10,6 +11,7 @@ import org.junit.Test;
 import ch.trick17.betterchecks.Check;
 import ch.trick17.betterchecks.Exceptions;
 import ch.trick17.betterchecks.MessageType;
+import ch.trick17.betterchecks.util.Range;
 
 public class IntCheckTest {
     
@@ -207,6 +209,31 @@ public class IntCheckTest {
                 Exceptions.defaultArgName(), 1, 2, 0), thrown.getMessage());
     }
     
+    @Test
+    public void testIsIn() {
+        Check.that(1).isIn(Range.closed(0, 2));
+        Check.that(0).isIn(Range.closedOpen(0, 0.5));
+        Check.that(Integer.MAX_VALUE).isIn(Range.atLeast(0));
+        Check.that(Integer.MIN_VALUE).isIn(Range.lessThan(new BigDecimal(
+                "-2147483647.5")));
+        
+        Check.that(0).not().isIn(Range.open(0, 1));
+        Check.that(1).not().isIn(Range.closed(0.25, 0.75));
+        Check.that(Integer.MIN_VALUE).not().isIn(Range.greaterThan(
+                Integer.MIN_VALUE));
+        
+        final Range range = Range.closedOpen(0, 100);
+        Exception thrown = null;
+        try {
+            Check.that(100).isIn(range);
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_IN_RANGE, false,
+                Exceptions.defaultArgName(), range, 100), thrown.getMessage());
+    }
+    
     @Test
     public void testIsValidIndex() {
         Check.that(1).isValidIndex(2);
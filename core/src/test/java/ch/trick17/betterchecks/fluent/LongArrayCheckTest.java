@@ -0,0 +1,50 @@
+package ch.trick17.betterchecks.fluent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import ch.trick17.betterchecks.Check;
+import ch.trick17.betterchecks.Exceptions;
+import ch.trick17.betterchecks.MessageType;
+
+public class LongArrayCheckTest {
+    
+    @Test
+    public void testAllElementsBetween() {
+        Check.that(new long[]{0, 1L << 40}).allElementsBetween(0, 1L << 40);
+        Check.that(new long[]{Long.MIN_VALUE, Long.MAX_VALUE})
+                .allElementsBetween(Long.MIN_VALUE, Long.MAX_VALUE);
+        Check.that(new long[]{Long.MAX_VALUE}).not().allElementsBetween(
+                Long.MIN_VALUE, Long.MAX_VALUE - 1);
+        Check.that(new long[]{0}).not().allElementsBetween(1, 0);
+        
+        final long[] large = new long[600];
+        Check.that(large).allElementsBetween(0, 0);
+        large[599] = Long.MIN_VALUE;
+        
+        Exception thrown = null;
+        try {
+            Check.that(large).allElementsBetween(-1, Long.MAX_VALUE);
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_ALL_BETWEEN, false,
+                Exceptions.defaultArgName(), -1, Long.MAX_VALUE, 599,
+                Long.MIN_VALUE), thrown.getMessage());
+    }
+    
+    @Test
+    public void testAllPositive() {
+        Check.that(new long[]{1, Long.MAX_VALUE}).allPositive();
+        Check.that(new long[]{Long.MIN_VALUE}).not().allPositive();
+    }
+    
+    @Test
+    public void testNoElementIs() {
+        Check.that(new long[]{1L << 32}).noElementIs(0);
+        Check.that(new long[]{1L << 32}).not().noElementIs(1L << 32);
+    }
+}
@@ -8,6 +8,7 @@ import org.junit.Test;
 import ch.trick17.betterchecks.Check;
 import ch.trick17.betterchecks.Exceptions;
 import ch.trick17.betterchecks.MessageType;
+import ch.trick17.betterchecks.util.Range;
 
 public class LongCheckTest {
     
@@ -194,4 +195,29 @@ public class LongCheckTest {
         assertEquals(Exceptions.formatMsg(MessageType.ARG_BETWEEN, false,
                 Exceptions.defaultArgName(), 1, 2, 0), thrown.getMessage());
     }
+    
+    @Test
+    public void testIsIn() {
+        Check.that(1L).isIn(Range.closed(0, 2));
+        Check.that(Long.MAX_VALUE).isIn(Range.atLeast(0));
+        Check.that(Long.MAX_VALUE).isIn(Range.atMost(0x1p63));
+        Check.that(Long.MAX_VALUE - 1).isIn(Range.lessThan(Long.MAX_VALUE));
+        Check.that(Long.MAX_VALUE).isIn(Range.greaterThan(0x1p63 - 1024));
+        
+        Check.that(0L).not().isIn(Range.open(0, 1));
+        Check.that(Long.MAX_VALUE).not().isIn(Range.lessThan(Long.MAX_VALUE));
+        /* Even though (double) Long.MAX_VALUE is 2^63 */
+        Check.that(Long.MAX_VALUE).not().isIn(Range.atLeast(0x1p63));
+        
+        final Range range = Range.closedOpen(0, 100);
+        Exception thrown = null;
+        try {
+            Check.that(-1L).isIn(range);
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_IN_RANGE, false,
+                Exceptions.defaultArgName(), range, -1L), thrown.getMessage());
+    }
 }
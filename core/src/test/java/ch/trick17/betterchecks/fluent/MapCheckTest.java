@@ -130,9 +130,9 @@ public class MapCheckTest {
     public void testHasSizeWhich() {
         Check.that(asMap(1, 1, 2, 2, 3, 3)).hasSizeWhich().is(3);
         assertEquals("the size of " + Config.getConfig().getDefaultArgumentName(),
-                Check.that(asMap(1, 1, 2, 2, 3, 3)).hasSizeWhich().argName);
+                Check.that(asMap(1, 1, 2, 2, 3, 3)).hasSizeWhich().argName());
         assertEquals("the size of the map", Check.that(asMap(1, 1, 2, 2, 3, 3)).named(
-                "the map").hasSizeWhich().argName);
+                "the map").hasSizeWhich().argName());
         
         Check.that((Map<?, ?>) null).isNullOr().hasSizeWhich().is(100);
         
@@ -0,0 +1,68 @@
+package ch.trick17.betterchecks.fluent;
+
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+import static org.openjdk.jmh.annotations.Scope.Thread;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import ch.trick17.betterchecks.Check;
+
+/**
+ * Compares the <code>isInt()</code> check to the way it used to be
+ * implemented (parsing and catching the {@link NumberFormatException}), for a
+ * valid and an invalid string. The invalid string is checked with
+ * <code>not().isInt()</code>, so that the check passes and only the cost of
+ * the parsing is measured.
+ */
+@BenchmarkMode(AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@State(Thread)
+public class NumberCheckBenchmark {
+    
+    @Param({"12345", "12a45"})
+    private String string;
+    
+    @Benchmark
+    public boolean parseAndCatch() {
+        try {
+            return new Integer(string) != null;
+        } catch(final NumberFormatException e) {
+            return false;
+        }
+    }
+    
+    @Benchmark
+    public Object check() {
+        if(string.indexOf('a') < 0)
+            return Check.that(string).isInt();
+        else
+            return Check.that(string).not().isInt();
+    }
+    
+    @Benchmark
+    public Object checkDouble() {
+        if(string.indexOf('a') < 0)
+            return Check.that(string).isDouble();
+        else
+            return Check.that(string).not().isDouble();
+    }
+    
+    public static void main(final String[] args) throws RunnerException {
+        final Options options = new OptionsBuilder().include(
+                NumberCheckBenchmark.class.getSimpleName()).warmupIterations(5)
+                .measurementIterations(10).build();
+        new Runner(options).run();
+    }
+}
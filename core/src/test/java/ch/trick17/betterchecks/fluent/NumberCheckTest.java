@@ -1,10 +1,13 @@
 package ch.trick17.betterchecks.fluent;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.Random;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Test;
@@ -12,6 +15,7 @@ import org.junit.Test;
 import ch.trick17.betterchecks.Check;
 import ch.trick17.betterchecks.Exceptions;
 import ch.trick17.betterchecks.MessageType;
+import ch.trick17.betterchecks.util.Range;
 
 public class NumberCheckTest {
     
@@ -46,7 +50,8 @@ public class NumberCheckTest {
         for(int i = 0; i < Short.MAX_VALUE; i++)
             smallNumber.append('0');
         smallNumber.append('1');
-        Check.that(new BigDecimal(smallNumber.toString())).isPositive();
+        Check.that((Number) new BigDecimal(smallNumber.toString()))
+                .isPositive();
         
         Exception thrown = null;
         try {
@@ -70,7 +75,7 @@ public class NumberCheckTest {
         
         thrown = null;
         try {
-            Check.that(new BigDecimal(-1)).isPositive();
+            Check.that((Number) new BigDecimal(-1)).isPositive();
         } catch(final Exception e) {
             thrown = e;
         }
@@ -120,7 +125,8 @@ public class NumberCheckTest {
         for(int i = 0; i < Short.MAX_VALUE; i++)
             smallNumber.append('0');
         smallNumber.append('1');
-        Check.that(new BigDecimal(smallNumber.toString())).isNegative();
+        Check.that((Number) new BigDecimal(smallNumber.toString()))
+                .isNegative();
         
         Exception thrown = null;
         try {
@@ -144,7 +150,7 @@ public class NumberCheckTest {
         
         thrown = null;
         try {
-            Check.that(new BigDecimal(1)).isNegative();
+            Check.that((Number) new BigDecimal(1)).isNegative();
         } catch(final Exception e) {
             thrown = e;
         }
@@ -226,14 +232,15 @@ public class NumberCheckTest {
         final StringBuilder bigNumber = new StringBuilder();
         for(int i = 0; i < Short.MAX_VALUE; i++)
             bigNumber.append("9");
-        Check.that(new BigInteger(bigNumber.toString() + "9")).isGreaterThan(
-                new BigInteger(bigNumber.toString() + "8"));
+        Check.that((Number) new BigInteger(bigNumber.toString() + "9"))
+                .isGreaterThan(new BigInteger(bigNumber.toString() + "8"));
         
         final StringBuilder smallNumber = new StringBuilder("0.");
         for(int i = 0; i < Short.MAX_VALUE; i++)
             smallNumber.append('0');
         smallNumber.append('1');
-        Check.that(new BigDecimal(smallNumber.toString())).isGreaterThan(0);
+        Check.that((Number) new BigDecimal(smallNumber.toString()))
+                .isGreaterThan(0);
         
         Exception thrown = null;
         try {
@@ -311,7 +318,8 @@ public class NumberCheckTest {
         for(int i = 0; i < Short.MAX_VALUE; i++)
             smallNumber.append('0');
         smallNumber.append('1');
-        Check.that(new BigDecimal(smallNumber.toString())).isLessThan(0);
+        Check.that((Number) new BigDecimal(smallNumber.toString()))
+                .isLessThan(0);
         
         Exception thrown = null;
         try {
@@ -384,6 +392,136 @@ public class NumberCheckTest {
         
     }
     
+    @Test
+    public void testIsIn() {
+        final Range range = Range.closedOpen(0, 100);
+        Check.that((Number) 0).isIn(range);
+        Check.that((Number) 99.5f).isIn(range);
+        Check.that((Number) new BigDecimal("99.999")).isIn(range);
+        Check.that((Number) BigInteger.TEN).isIn(range);
+        Check.that((Number) new AtomicInteger(42)).isIn(range);
+        Check.that((Number) null).isNullOr().isIn(range);
+        
+        Check.that((Number) 100L).not().isIn(range);
+        Check.that((Number) (-0.5)).not().isIn(range);
+        Check.that((Number) Double.NaN).not().isIn(range);
+        Check.that((Number) BigInteger.ONE.shiftLeft(100)).not().isIn(range);
+        
+        Exception thrown = null;
+        try {
+            Check.that((Number) 100).isIn(range);
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_IN_RANGE, false,
+                Exceptions.defaultArgName(), range, 100), thrown.getMessage());
+    }
+    
+    @Test
+    public void testLongDoubleComparison() {
+        /* These are equal when the long is converted to a double */
+        Check.that((Number) Long.MAX_VALUE).isLessThan(0x1p63);
+        Check.that((Number) 0x1p63).isGreaterThan(Long.MAX_VALUE);
+        Check.that((Number) (Long.MAX_VALUE - 1)).not().is(
+                (double) Long.MAX_VALUE);
+        Check.that((Number) ((1L << 53) + 1)).isGreaterThan(0x1p53);
+        Check.that((Number) ((1L << 53) + 1)).not().is(0x1p53 + 1);
+        Check.that((Number) Long.MIN_VALUE).is(-0x1p63);
+        Check.that((Number) (Long.MIN_VALUE + 1)).isGreaterThan(-0x1p63);
+        
+        Check.that((Number) 1L).isLessThan(1.5);
+        Check.that((Number) (-1L)).isGreaterThan(-1.5);
+        Check.that((Number) 0).is(-0.0);
+        Check.that((Number) 0.0f).is(-0.0);
+        Check.that((Number) Long.MAX_VALUE).isLessThan(
+                Double.POSITIVE_INFINITY);
+        Check.that((Number) Long.MIN_VALUE).isGreaterThan(
+                Double.NEGATIVE_INFINITY);
+        Check.that((Number) Long.MAX_VALUE).isLessThan(Double.NaN);
+        Check.that((Number) Double.NaN).isGreaterThan(Long.MAX_VALUE);
+        Check.that((Number) (byte) 1).is((short) 1);
+        Check.that((Number) 0.1f).isGreaterThan(0.1);
+    }
+    
+    @Test
+    public void testTestModeNull() {
+        NumberCheck check = Check.test((Number) null).isPositive();
+        assertFalse(check.passes());
+        assertEquals(MessageType.ARG_NULL, check.getFailure());
+        
+        check = Check.test((Number) null).isNegative();
+        assertFalse(check.passes());
+        assertEquals(MessageType.ARG_NULL, check.getFailure());
+        
+        check = Check.test((Number) null).isNullOr().isPositive()
+                .isNegative();
+        assertTrue(check.passes());
+        assertNull(check.getFailure());
+    }
+    
+    @Test
+    public void testComparisonsLikeBigDecimal() {
+        final Random random = new Random(42);
+        for(int i = 0; i < 2000; i++) {
+            final Number x = randomNumber(random);
+            final Number y = random.nextBoolean() ? randomNumber(random)
+                    : nearbyNumber(x, random);
+            final int expected = toBigDecimal(x).compareTo(toBigDecimal(y));
+            assertEquals(x + " vs " + y, expected, compareWithChecks(x, y));
+        }
+    }
+    
+    private static Number randomNumber(final Random random) {
+        final long bits = random.nextLong() >> random.nextInt(64);
+        switch(random.nextInt(7)) {
+        case 0:
+            return (byte) bits;
+        case 1:
+            return (short) bits;
+        case 2:
+            return (int) bits;
+        case 3:
+            return bits;
+        case 4:
+            return (float) bits / (1 << random.nextInt(8));
+        case 5:
+            return (double) bits / (1 << random.nextInt(8));
+        default:
+            return BigInteger.valueOf(bits);
+        }
+    }
+    
+    private static Number nearbyNumber(final Number number,
+            final Random random) {
+        final long value = number.longValue() + random.nextInt(3) - 1;
+        switch(random.nextInt(3)) {
+        case 0:
+            return value;
+        case 1:
+            return (double) value;
+        default:
+            return Math.nextUp(number.doubleValue());
+        }
+    }
+    
+    private static BigDecimal toBigDecimal(final Number number) {
+        if(number instanceof BigInteger)
+            return new BigDecimal((BigInteger) number);
+        if(number instanceof Float || number instanceof Double)
+            return new BigDecimal(number.doubleValue());
+        return new BigDecimal(number.longValue());
+    }
+    
+    private static int compareWithChecks(final Number x, final Number y) {
+        if(Check.test(x).isLessThan(y).passes())
+            return -1;
+        if(Check.test(x).is(y).passes())
+            return 0;
+        Check.that(x).isGreaterThan(y);
+        return 1;
+    }
+    
     @SuppressWarnings("serial")
     private static class WeirdNumber extends Number {
         
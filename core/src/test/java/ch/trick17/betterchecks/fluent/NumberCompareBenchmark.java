@@ -0,0 +1,97 @@
+package ch.trick17.betterchecks.fluent;
+
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+import static org.openjdk.jmh.annotations.Scope.Thread;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import ch.trick17.betterchecks.Check;
+
+/**
+ * Compares the <code>isBetween()</code> check of {@link NumberCheck} to the
+ * way it used to be implemented (converting both operands to
+ * {@link BigDecimal}), for different pairs of operand types.
+ */
+@BenchmarkMode(AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@State(Thread)
+public class NumberCompareBenchmark {
+    
+    @Param({"Integer/Integer", "Long/Long", "Integer/Long", "Long/Double",
+            "Double/Integer", "Double/Double", "Float/Double",
+            "BigInteger/Long", "BigDecimal/Double"})
+    private String types;
+    
+    private Number arg;
+    private Number min;
+    private Number max;
+    
+    @Setup
+    public void setup() {
+        final String[] pair = types.split("/");
+        arg = number(pair[0], 42);
+        min = number(pair[1], 0);
+        max = number(pair[1], 100);
+    }
+    
+    private static Number number(final String type, final int value) {
+        if(type.equals("Integer"))
+            return value;
+        if(type.equals("Long"))
+            return (long) value;
+        if(type.equals("Float"))
+            return (float) value + 0.5f;
+        if(type.equals("Double"))
+            return value + 0.5;
+        if(type.equals("BigInteger"))
+            return BigInteger.valueOf(value);
+        return new BigDecimal(value + ".5");
+    }
+    
+    @Benchmark
+    public Object bigDecimal() {
+        final BigDecimal value = toBigDecimal(arg);
+        if(value.compareTo(toBigDecimal(min)) < 0
+                || value.compareTo(toBigDecimal(max)) > 0)
+            throw new IllegalArgumentException();
+        return arg;
+    }
+    
+    private static BigDecimal toBigDecimal(final Number number) {
+        if(number instanceof BigDecimal)
+            return (BigDecimal) number;
+        if(number instanceof BigInteger)
+            return new BigDecimal((BigInteger) number);
+        if(number instanceof Byte || number instanceof Short
+                || number instanceof Integer || number instanceof Long)
+            return new BigDecimal(number.longValue());
+        return new BigDecimal(number.doubleValue());
+    }
+    
+    @Benchmark
+    public Object check() {
+        return Check.that(arg).isBetween(min, max);
+    }
+    
+    public static void main(final String[] args) throws RunnerException {
+        final Options options = new OptionsBuilder().include(
+                NumberCompareBenchmark.class.getSimpleName())
+                .warmupIterations(5).measurementIterations(10).build();
+        new Runner(options).run();
+    }
+}
@@ -129,10 +129,10 @@ public class ObjectArrayCheckTest {
         Check.that(new Object[]{0, 1, 2, 3, 4}).hasLengthWhich().is(5);
         assertEquals("the length of "
                 + Config.getConfig().getDefaultArgumentName(), Check.that(
-                new Object[]{0, 1, 2, 3, 4}).hasLengthWhich().argName);
+                new Object[]{0, 1, 2, 3, 4}).hasLengthWhich().argName());
         assertEquals("the length of the array", Check.that(
                 new Object[]{0, 1, 2, 3, 4}).named("the array")
-                .hasLengthWhich().argName);
+                .hasLengthWhich().argName());
         
         Check.that((Object[]) null).isNullOr().hasLengthWhich().is(100);
         
@@ -1,6 +1,8 @@
 package ch.trick17.betterchecks.fluent;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.io.Serializable;
@@ -184,6 +186,16 @@ public class ObjectCheckTest {
         Check.that((Object) null).isNullOr().not().isNotNull();
     }
     
+    @Test
+    public void testValue() {
+        final Object object = new Object();
+        assertSame(object, Check.that(object).isNotNull().value());
+        assertNull(Check.that((Object) null).isNullOr().isNotNull().value());
+        assertEquals(42, Check.that(42).isPositive().value());
+        assertEquals(42L, Check.that(42L).not().isNegative().value());
+        assertEquals(0.5, Check.that(0.5).isNumber().value(), 0);
+    }
+    
     @Test
     public void testNot() {
         final Object object = new Object();
@@ -0,0 +1,118 @@
+package ch.trick17.betterchecks.fluent;
+
+import static org.openjdk.jmh.annotations.Mode.Throughput;
+import static org.openjdk.jmh.annotations.Scope.Thread;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import ch.trick17.betterchecks.Check;
+
+/**
+ * Measures chains of passing checks for every check class. Run with the GC
+ * profiler (which the {@link #main(String[])} method does): The
+ * <code>gc.alloc.rate.norm</code> of every benchmark should be 0 B/op, i.e.,
+ * passing checks must neither allocate message argument arrays nor box
+ * primitive values.
+ */
+@BenchmarkMode(Throughput)
+@Fork(1)
+@State(Thread)
+public class PassingChecksBenchmark {
+    
+    /* Non-final and initialized in setup() to prevent constant folding */
+    private Object object;
+    private String string;
+    private Collection<String> collection;
+    private Map<String, String> map;
+    private URL url;
+    private int intArg;
+    private long longArg;
+    private double doubleArg;
+    
+    @Setup
+    public void setup() throws MalformedURLException {
+        object = new Object();
+        string = "hello, world";
+        collection = Arrays.asList("hello", "world");
+        map = Collections.singletonMap("hello", "world");
+        url = new URL("http://example.com/");
+        intArg = 1000;
+        longArg = 1000000000000L;
+        doubleArg = 1000.5;
+    }
+    
+    @Benchmark
+    public ObjectCheck objectCheck() {
+        return Check.that(object).isNotNull().isSameAs(object).isEqualTo(
+                object).hasClass(Object.class);
+    }
+    
+    @Benchmark
+    public StringCheck stringCheck() {
+        return Check.that(string).isNotEmpty().hasLength(12).hasLengthBetween(
+                1, 1000).startsWith("hello").endsWith("world").contains(", ")
+                .not().contains("bye");
+    }
+    
+    @Benchmark
+    public CollectionCheck collectionCheck() {
+        return Check.that(collection).isNotEmpty().hasSize(2).hasSizeBetween(
+                1, 1000).containsNoNull();
+    }
+    
+    @Benchmark
+    public MapCheck mapCheck() {
+        return Check.that(map).isNotEmpty().hasSize(1).hasSizeBetween(1, 1000)
+                .containsNoNull();
+    }
+    
+    @Benchmark
+    public UrlCheck urlCheck() {
+        return Check.that(url).isNotNull().hasProtocol("http");
+    }
+    
+    @Benchmark
+    public IntCheck intCheck() {
+        return Check.that(intArg).isPositive().not().isNegative().is(1000)
+                .isGreaterThan(999).isLessThan(1001).isBetween(0, 1000000)
+                .isValidIndex(1000000);
+    }
+    
+    @Benchmark
+    public LongCheck longCheck() {
+        return Check.that(longArg).isPositive().not().isNegative().is(
+                1000000000000L).isGreaterThan(999).isLessThan(Long.MAX_VALUE)
+                .isBetween(0, Long.MAX_VALUE);
+    }
+    
+    @Benchmark
+    public DoubleCheck doubleCheck() {
+        return Check.that(doubleArg).isPositive().not().isNegative().is(
+                1000.5).isGreaterThan(999).isLessThan(1001).isBetween(0,
+                1000000).isNumber().isFinite().isNotInfinite();
+    }
+    
+    public static void main(final String[] args) throws RunnerException {
+        final Options options = new OptionsBuilder().include(
+                PassingChecksBenchmark.class.getSimpleName()).addProfiler(
+                GCProfiler.class).warmupIterations(5).measurementIterations(10)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -10,7 +10,7 @@ import ch.trick17.betterchecks.Config;
 import ch.trick17.betterchecks.Exceptions;
 import ch.trick17.betterchecks.MessageType;
 
-public class PrimitiveArrayCheckTest {
+public class PrimitiveArrayBaseCheckTest {
     
     @Test
     public void testAllTypes() {
@@ -151,10 +151,10 @@ public class PrimitiveArrayCheckTest {
         Check.that(new int[]{0, 1, 2, 3, 4}).hasLengthWhich().is(5);
         assertEquals("the length of "
                 + Config.getConfig().getDefaultArgumentName(), Check.that(
-                new int[]{0, 1, 2, 3, 4}).hasLengthWhich().argName);
+                new int[]{0, 1, 2, 3, 4}).hasLengthWhich().argName());
         assertEquals("the length of the array",
                 Check.that(new int[]{0, 1, 2, 3, 4}).named("the array")
-                        .hasLengthWhich().argName);
+                        .hasLengthWhich().argName());
         
         Check.that((int[]) null).isNullOr().hasLengthWhich().is(100);
         
@@ -168,4 +168,107 @@ public class PrimitiveArrayCheckTest {
         assertEquals(Exceptions.formatMsg(MessageType.ARG_NULL, false,
                 Exceptions.defaultArgName()), thrown.getMessage());
     }
+    
+    @Test
+    public void testAllElementsBetween() {
+        Check.that(new int[]{}).allElementsBetween(1, 0);
+        Check.that(new int[]{0}).not().allElementsBetween(1, 0);
+        Check.that((int[]) null).isNullOr().allElementsBetween(0, 1);
+        
+        Exception thrown = null;
+        try {
+            Check.that(new int[]{0, 5, 11, 12}).allElementsBetween(0, 10);
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_ALL_BETWEEN, false,
+                Exceptions.defaultArgName(), 0, 10, 2, 11), thrown
+                .getMessage());
+        
+        thrown = null;
+        try {
+            Check.that(new int[]{5}).not().allElementsBetween(0, 10);
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_ALL_BETWEEN, true,
+                Exceptions.defaultArgName(), 0, 10), thrown.getMessage());
+        
+        thrown = null;
+        try {
+            Check.that((int[]) null).allElementsBetween(0, 1);
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_NULL, false,
+                Exceptions.defaultArgName()), thrown.getMessage());
+    }
+    
+    @Test
+    public void testAllPositive() {
+        Check.that(new int[]{}).allPositive();
+        Check.that(new int[]{1, 0}).not().allPositive();
+        
+        Exception thrown = null;
+        try {
+            Check.that(new int[]{3, 2, 1, 0, -1}).named("counts")
+                    .allPositive();
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_ALL_POSITIVE, false,
+                "counts", 3, 0), thrown.getMessage());
+        
+        thrown = null;
+        try {
+            Check.that(new short[]{1, -1}).allPositive();
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_ALL_POSITIVE, false,
+                Exceptions.defaultArgName(), 1, -1), thrown.getMessage());
+    }
+    
+    @Test
+    public void testNoElementIs() {
+        Check.that(new int[]{}).noElementIs(0);
+        Check.that(new int[]{1, 2, 3}).not().noElementIs(2);
+        
+        Exception thrown = null;
+        try {
+            Check.that(new int[]{1, 2, 3, 2}).noElementIs(2);
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_ALL_OTHER_THAN,
+                false, Exceptions.defaultArgName(), 2, 1, 2), thrown
+                .getMessage());
+        
+        thrown = null;
+        try {
+            Check.that(new int[]{1}).not().noElementIs(2);
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_ALL_OTHER_THAN,
+                true, Exceptions.defaultArgName(), 2), thrown.getMessage());
+        
+        thrown = null;
+        try {
+            Check.that(new long[]{0, -1}).noElementIs(-1);
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_ALL_OTHER_THAN,
+                false, Exceptions.defaultArgName(), -1, 1, -1), thrown
+                .getMessage());
+    }
 }
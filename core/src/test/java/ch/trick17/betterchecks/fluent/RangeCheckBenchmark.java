@@ -0,0 +1,73 @@
+package ch.trick17.betterchecks.fluent;
+
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+import static org.openjdk.jmh.annotations.Scope.Thread;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import ch.trick17.betterchecks.Check;
+import ch.trick17.betterchecks.util.Range;
+
+/**
+ * Compares the <code>isIn(Range)</code> check of {@link NumberCheck} to the
+ * <code>isBetween()</code> check with the same (constant) bounds, for
+ * different argument types. The bounds are given as {@link BigDecimal}s, as
+ * they have no exact representation as a <code>double</code>.
+ */
+@BenchmarkMode(AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@State(Thread)
+public class RangeCheckBenchmark {
+    
+    private static final BigDecimal MIN = new BigDecimal("0.1");
+    private static final BigDecimal MAX = new BigDecimal("99.9");
+    private static final Range RANGE = Range.closed(MIN, MAX);
+    
+    @Param({"Integer", "Long", "Double", "BigDecimal"})
+    private String type;
+    
+    private Number arg;
+    
+    @Setup
+    public void setup() {
+        if(type.equals("Integer"))
+            arg = 42;
+        else if(type.equals("Long"))
+            arg = 42L;
+        else if(type.equals("Double"))
+            arg = 42.5;
+        else
+            arg = new BigDecimal("42.5");
+    }
+    
+    @Benchmark
+    public Object isBetween() {
+        return Check.that(arg).isBetween(MIN, MAX);
+    }
+    
+    @Benchmark
+    public Object isIn() {
+        return Check.that(arg).isIn(RANGE);
+    }
+    
+    public static void main(final String[] args) throws RunnerException {
+        final Options options = new OptionsBuilder().include(
+                RangeCheckBenchmark.class.getSimpleName())
+                .warmupIterations(5).measurementIterations(10).build();
+        new Runner(options).run();
+    }
+}
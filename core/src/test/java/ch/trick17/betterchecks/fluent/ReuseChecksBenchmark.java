@@ -8,22 +8,35 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 
+/**
+ * Compares different ways of obtaining check objects: Creating new ones and
+ * reusing thread-local ones, first with a simple class and then with the real
+ * check classes and the {@link CheckPool}. The <code>virtualThread...</code>
+ * benchmarks perform a batch of checks in a new virtual thread each, which is
+ * the worst case for thread-local reuse. They require Java 21 or later.
+ */
 @BenchmarkMode(Throughput)
 @Fork(1)
 @State(Thread)
 public class ReuseChecksBenchmark {
     
+    private static final int BATCH_SIZE = 100;
+    
     /**
      * Simple class for benchmarking, so that the benchmark is independent of the "production" code.
      */
@@ -40,12 +53,43 @@ public class ReuseChecksBenchmark {
     private final Map<Class<?>, ThreadLocal<?>> checks = new HashMap<Class<?>, ThreadLocal<?>>();
     private ThreadLocal<SomeCheck> check;
     
+    private final CheckPool.Pool<StringCheck> stringChecks = new CheckPool.Pool<StringCheck>() {
+        @Override
+        protected StringCheck initialValue() {
+            return new StringCheck(null);
+        }
+    };
+    private final CheckPool.Pool<IntCheck> intChecks = new CheckPool.Pool<IntCheck>() {
+        @Override
+        protected IntCheck initialValue() {
+            return new IntCheck(0);
+        }
+    };
+    private ExecutorService virtualThreads;
+    
+    /* Non-final to prevent constant folding */
+    private String string = "hello";
+    private int number = 42;
+    
     @Setup
-    public void setup() {
+    public void setup() throws Exception {
         checks.clear();
         checks.put(SomeCheck.class, new SimpleThreadLocal<SomeCheck>(SomeCheck.class));
         
         check = new SimpleThreadLocal<SomeCheck>(SomeCheck.class);
+        
+        try {
+            virtualThreads = (ExecutorService) Executors.class.getMethod(
+                    "newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch(final NoSuchMethodException e) {
+            virtualThreads = null; // Before Java 21
+        }
+    }
+    
+    @TearDown
+    public void tearDown() {
+        if(virtualThreads != null)
+            virtualThreads.shutdown();
     }
     
     @Benchmark
@@ -69,6 +113,54 @@ public class ReuseChecksBenchmark {
         return result;
     }
     
+    @Benchmark
+    public Object realCreateNew() {
+        new StringCheck(string).isNotEmpty();
+        return new IntCheck(number).isPositive();
+    }
+    
+    @Benchmark
+    public Object realFromPool() {
+        stringChecks.acquire(false).reset(string).isNotEmpty();
+        return intChecks.acquire(false).reset(number).isPositive();
+    }
+    
+    @Benchmark
+    public Object realFromGuardedPool() {
+        stringChecks.acquire(true).reset(string).isNotEmpty();
+        return intChecks.acquire(true).reset(number).isPositive();
+    }
+    
+    @Benchmark
+    public Object virtualThreadCreateNew() throws Exception {
+        return inVirtualThread(new Callable<Object>() {
+            public Object call() {
+                Object result = null;
+                for(int i = 0; i < BATCH_SIZE; i++)
+                    result = realCreateNew();
+                return result;
+            }
+        });
+    }
+    
+    @Benchmark
+    public Object virtualThreadFromPool() throws Exception {
+        return inVirtualThread(new Callable<Object>() {
+            public Object call() {
+                Object result = null;
+                for(int i = 0; i < BATCH_SIZE; i++)
+                    result = realFromPool();
+                return result;
+            }
+        });
+    }
+    
+    private Object inVirtualThread(final Callable<Object> task) throws Exception {
+        if(virtualThreads == null)
+            throw new UnsupportedOperationException("Virtual threads require Java 21");
+        return virtualThreads.submit(task).get();
+    }
+    
     public static void main(String[] args) throws RunnerException {
         Options options = new OptionsBuilder().include(ReuseChecksBenchmark.class.getSimpleName())
                 .warmupIterations(5).measurementIterations(20).build();
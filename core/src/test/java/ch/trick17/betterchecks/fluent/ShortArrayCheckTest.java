@@ -0,0 +1,28 @@
+package ch.trick17.betterchecks.fluent;
+
+import org.junit.Test;
+
+import ch.trick17.betterchecks.Check;
+
+public class ShortArrayCheckTest {
+    
+    @Test
+    public void testAllElementsBetween() {
+        Check.that(new short[]{-300, 300}).allElementsBetween(-300, 300);
+        Check.that(new short[]{Short.MIN_VALUE}).not().allElementsBetween(
+                Short.MIN_VALUE + 1, Short.MAX_VALUE);
+        Check.that(new short[]{}).allElementsBetween(1, 0);
+    }
+    
+    @Test
+    public void testAllPositive() {
+        Check.that(new short[]{1, Short.MAX_VALUE}).allPositive();
+        Check.that(new short[]{-1}).not().allPositive();
+    }
+    
+    @Test
+    public void testNoElementIs() {
+        Check.that(new short[]{1, 2}).noElementIs(-1);
+        Check.that(new short[]{1, -1}).not().noElementIs(-1);
+    }
+}
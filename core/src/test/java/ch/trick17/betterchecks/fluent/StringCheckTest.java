@@ -1,10 +1,13 @@
 package ch.trick17.betterchecks.fluent;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.net.MalformedURLException;
+import java.net.URL;
 import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 import org.junit.Test;
 
@@ -13,6 +16,10 @@ import ch.trick17.betterchecks.Config;
 import ch.trick17.betterchecks.Exceptions;
 import ch.trick17.betterchecks.InvalidCheckException;
 import ch.trick17.betterchecks.MessageType;
+import ch.trick17.betterchecks.util.CompiledCidrSet;
+import ch.trick17.betterchecks.util.CompiledSequences;
+import ch.trick17.betterchecks.util.HostSuffixSet;
+import ch.trick17.betterchecks.util.SafePattern;
 
 public class StringCheckTest {
     
@@ -168,9 +175,9 @@ public class StringCheckTest {
         Check.that("hello").hasLengthWhich().is(5);
         assertEquals("the length of "
                 + Config.getConfig().getDefaultArgumentName(), Check.that(
-                "hello").hasLengthWhich().argName);
+                "hello").hasLengthWhich().argName());
         assertEquals("the length of string", Check.that("hello")
-                .named("string").hasLengthWhich().argName);
+                .named("string").hasLengthWhich().argName());
         
         Check.that("hello").isNullOr().hasLengthWhich().is(5);
         Check.that((String) null).isNullOr().hasLengthWhich().is(100);
@@ -328,6 +335,80 @@ public class StringCheckTest {
                 Exceptions.defaultArgName()), thrown.getMessage());
     }
     
+    @Test
+    public void testContainsAnyCompiled() {
+        final CompiledSequences words = CompiledSequences.compile("darn",
+                "heck", "drat");
+        Check.that("oh heck").containsAny(words);
+        Check.that("hello").not().containsAny(words);
+        Check.that((String) null).isNullOr().containsAny(words);
+        
+        Exception thrown = null;
+        try {
+            Check.that("hello").containsAny(words);
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_CONTAINS_ANY, false,
+                Exceptions.defaultArgName(), "[darn, heck, drat]", "hello"),
+                thrown.getMessage());
+        
+        /* The inverted message names the sequence that was found */
+        thrown = null;
+        try {
+            Check.that("well, drat").not().containsAny(words);
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_CONTAINS, true,
+                Exceptions.defaultArgName(), "drat", "well, drat"), thrown
+                .getMessage());
+        
+        thrown = null;
+        try {
+            Check.that((String) null).containsAny(words);
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_NULL, false,
+                Exceptions.defaultArgName()), thrown.getMessage());
+    }
+    
+    @Test
+    public void testContainsAllCompiled() {
+        final CompiledSequences parts = CompiledSequences.compile("he", "ll",
+                "o");
+        Check.that("hello").containsAll(parts);
+        Check.that("help").not().containsAll(parts);
+        Check.that("hello").containsAll(CompiledSequences.compile());
+        
+        /* The message names the first missing sequence */
+        Exception thrown = null;
+        try {
+            Check.that("hell").containsAll(parts);
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_CONTAINS, false,
+                Exceptions.defaultArgName(), "o", "hell"), thrown
+                .getMessage());
+        
+        thrown = null;
+        try {
+            Check.that("hello").not().containsAll(parts);
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_CONTAINS_ALL, true,
+                Exceptions.defaultArgName(), "[he, ll, o]", "hello"), thrown
+                .getMessage());
+    }
+    
     @Test
     public void testMatches() {
         Check.that("hello").matches("hello");
@@ -382,6 +463,43 @@ public class StringCheckTest {
                 Exceptions.defaultArgName()), thrown.getMessage());
     }
     
+    @Test
+    public void testMatchesSafely() {
+        Check.that("hello").matchesSafely("hello");
+        Check.that("hello").matchesSafely("h.*");
+        Check.that("hello").matches(SafePattern.compile("h(e|a)l+o"));
+        
+        Exception thrown = null;
+        try {
+            Check.that("hello").matchesSafely("hi");
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_MATCHES, false,
+                Exceptions.defaultArgName(), "hi", "hello"), thrown
+                .getMessage());
+        
+        thrown = null;
+        try {
+            Check.that("hello").matches(SafePattern.compile("hi"));
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_MATCHES, false,
+                Exceptions.defaultArgName(), "hi", "hello"), thrown
+                .getMessage());
+        
+        thrown = null;
+        try {
+            Check.that("hello").matchesSafely("(h)\\1");
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof PatternSyntaxException);
+    }
+    
     @Test
     public void testIs() {
         Check.that("hello").is("hello");
@@ -415,7 +533,13 @@ public class StringCheckTest {
         Check.that("file://file").isUrl();
         Check.that("ftp://me:pw@example.com:8080/some%20path/?and-a-query=1")
                 .isUrl();
+        Check.that("http://[::1]:8080/").isUrl();
+        Check.that("jar:file:/lib.jar!/index.html").isUrl();
         Check.that("hello world!").not().isUrl();
+        Check.that("http://exa mple.com").not().isUrl();
+        Check.that("http://example.com/%zz").not().isUrl();
+        Check.that("http://example.com:65536").not().isUrl();
+        Check.that("nonexistingprotocol://example.com").not().isUrl();
         Check.that("https://example").isNullOr().isUrl();
         
         Exception thrown = null;
@@ -464,14 +588,144 @@ public class StringCheckTest {
                 Exceptions.defaultArgName()), thrown.getMessage());
     }
     
+    @Test
+    public void testIsUrlWithProtocol() {
+        Check.that("https://example").isUrlWithProtocol("http", "https");
+        Check.that("HTTP://example").isUrlWithProtocol("http");
+        Check.that("jar:file:/lib.jar!/index.html").isUrlWithProtocol("jar");
+        Check.that("ftp://example").not().isUrlWithProtocol("http", "https");
+        Check.that("http://exa mple").not().isUrlWithProtocol("http");
+        Check.that("http://example").not().isUrlWithProtocol();
+        Check.that((String) null).isNullOr().isUrlWithProtocol("http");
+        
+        final String[] protocols = {"http", "https"};
+        Exception thrown = null;
+        try {
+            Check.that("ftp://example").isUrlWithProtocol(protocols);
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_URL_PROTOCOL, false,
+                Exceptions.defaultArgName(), protocols, "ftp://example"),
+                thrown.getMessage());
+        assertNull(thrown.getCause());
+        
+        thrown = null;
+        try {
+            Check.that("https://exa mple").isUrlWithProtocol(protocols);
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertTrue(thrown.getCause() instanceof MalformedURLException);
+        
+        thrown = null;
+        try {
+            Check.that("https://example").not().isUrlWithProtocol(protocols);
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_URL_PROTOCOL, true,
+                Exceptions.defaultArgName(), protocols, "https://example"),
+                thrown.getMessage());
+    }
+    
+    @Test
+    public void testIsHostIn() {
+        final HostSuffixSet domains = HostSuffixSet.compile("example.com",
+                "example.org");
+        Check.that("example.com").isHostIn(domains);
+        Check.that("www.Example.org").isHostIn(domains);
+        Check.that("notexample.com").not().isHostIn(domains);
+        Check.that((String) null).isNullOr().isHostIn(domains);
+        
+        Exception thrown = null;
+        try {
+            Check.that("example.net").isHostIn(domains);
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_HOST_IN, false,
+                Exceptions.defaultArgName(), domains, "example.net"), thrown
+                .getMessage());
+        
+        thrown = null;
+        try {
+            Check.that("www.example.org").not().isHostIn(domains);
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_HOST_IN, true,
+                Exceptions.defaultArgName(), "example.org", "www.example.org"),
+                thrown.getMessage());
+    }
+    
+    @Test
+    public void testIsIpAddress() {
+        Check.that("192.168.0.1").isIpAddress();
+        Check.that("2001:db8::1").isIpAddress();
+        Check.that("::ffff:10.0.0.1").isIpAddress();
+        Check.that("localhost").not().isIpAddress();
+        Check.that("0177.0.0.1").not().isIpAddress();
+        Check.that("[::1]").not().isIpAddress();
+        Check.that((String) null).isNullOr().isIpAddress();
+        
+        Exception thrown = null;
+        try {
+            Check.that("256.0.0.1").isIpAddress();
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_IP_ADDRESS, false,
+                Exceptions.defaultArgName(), "256.0.0.1"), thrown.getMessage());
+    }
+    
+    @Test
+    public void testIsInCidrRanges() {
+        final CompiledCidrSet ranges = CompiledCidrSet.compile("10.0.0.0/8",
+                "fc00::/7");
+        Check.that("10.1.2.3").isInCidrRanges(ranges);
+        Check.that("fd00::1").isInCidrRanges(ranges);
+        Check.that("11.0.0.1").not().isInCidrRanges(ranges);
+        Check.that("example.com").not().isInCidrRanges(ranges);
+        Check.that((String) null).isNullOr().isInCidrRanges(ranges);
+        
+        Exception thrown = null;
+        try {
+            Check.that("8.8.8.8").isInCidrRanges(ranges);
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_IN_CIDR_RANGES,
+                false, Exceptions.defaultArgName(), ranges, "8.8.8.8"), thrown
+                .getMessage());
+        
+        thrown = null;
+        try {
+            Check.that("::ffff:10.0.0.1").not().isInCidrRanges(ranges);
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_IN_CIDR_RANGES, true,
+                Exceptions.defaultArgName(), "10.0.0.0/8", "::ffff:10.0.0.1"),
+                thrown.getMessage());
+    }
+    
     @Test
     public void testIsUrlWhich() {
         Check.that("https://example").isUrlWhich().hasProtocol("https")
                 .hasHostWhich().is("example");
         assertEquals(Config.getConfig().getDefaultArgumentName(), Check.that(
-                "https://example").isUrlWhich().argName);
+                "https://example").isUrlWhich().argName());
         assertEquals("url", Check.that("https://example").named("url")
-                .isUrlWhich().argName);
+                .isUrlWhich().argName());
         Check.that("https://example").isNullOr().isUrlWhich().hasProtocol(
                 "https");
         
@@ -590,9 +844,9 @@ public class StringCheckTest {
     public void testIsIntWhich() {
         Check.that("42").isIntWhich().is(42);
         assertEquals(Config.getConfig().getDefaultArgumentName(), Check.that(
-                "42").isIntWhich().argName);
+                "42").isIntWhich().argName());
         assertEquals("number",
-                Check.that("42").named("number").isIntWhich().argName);
+                Check.that("42").named("number").isIntWhich().argName());
         Check.that("42").isNullOr().isIntWhich().is(42);
         
         Exception thrown = null;
@@ -637,4 +891,144 @@ public class StringCheckTest {
         }
         assertTrue(thrown instanceof InvalidCheckException);
     }
+    
+    @Test
+    public void testIsLong() {
+        Check.that("42").isLong();
+        Check.that("-1").isLong();
+        Check.that(String.valueOf(Long.MAX_VALUE)).isLong();
+        Check.that(String.valueOf(Long.MIN_VALUE)).isLong();
+        Check.that("").not().isLong();
+        Check.that((String) null).isNullOr().isLong();
+        
+        Exception thrown = null;
+        try {
+            Check.that(Long.MAX_VALUE + "0").isLong();
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_LONG, false,
+                Exceptions.defaultArgName(), Long.MAX_VALUE + "0"), thrown
+                .getMessage());
+        assertTrue(thrown.getCause() instanceof NumberFormatException);
+        assertEquals(0, thrown.getCause().getStackTrace().length);
+        
+        thrown = null;
+        try {
+            Check.that("0").not().isLong();
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_LONG, true,
+                Exceptions.defaultArgName(), "0"), thrown.getMessage());
+        assertNull(thrown.getCause());
+    }
+    
+    @Test
+    public void testIsLongWhich() {
+        Check.that("10000000000").isLongWhich().is(10000000000L);
+        assertEquals("number", Check.that("42").named("number")
+                .isLongWhich().argName());
+        Check.that((String) null).isNullOr().isLongWhich().is(0);
+        
+        Exception thrown = null;
+        try {
+            Check.that("1.5").isLongWhich();
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_LONG, false,
+                Exceptions.defaultArgName(), "1.5"), thrown.getMessage());
+        
+        thrown = null;
+        try {
+            Check.that("hello").not().isLongWhich();
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof InvalidCheckException);
+    }
+    
+    @Test
+    public void testIsDouble() {
+        Check.that("42").isDouble();
+        Check.that("-1.5e10").isDouble();
+        Check.that(".5").isDouble();
+        Check.that(" 2d ").isDouble();
+        Check.that("NaN").isDouble();
+        Check.that("-Infinity").isDouble();
+        Check.that("0x1.8p1").isDouble();
+        Check.that("").not().isDouble();
+        Check.that("1e").not().isDouble();
+        Check.that((String) null).isNullOr().isDouble();
+        
+        Exception thrown = null;
+        try {
+            Check.that("1,5").isDouble();
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_DOUBLE, false,
+                Exceptions.defaultArgName(), "1,5"), thrown.getMessage());
+        assertTrue(thrown.getCause() instanceof NumberFormatException);
+        
+        thrown = null;
+        try {
+            Check.that("1.5").not().isDouble();
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_DOUBLE, true,
+                Exceptions.defaultArgName(), "1.5"), thrown.getMessage());
+    }
+    
+    @Test
+    public void testIsDoubleWhich() {
+        Check.that("1.5").isDoubleWhich().is(1.5);
+        Check.that("1e400").isDoubleWhich().not().isFinite();
+        assertEquals("number", Check.that("42").named("number")
+                .isDoubleWhich().argName());
+        Check.that((String) null).isNullOr().isDoubleWhich().is(0);
+        
+        Exception thrown = null;
+        try {
+            Check.that("one").isDoubleWhich();
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_DOUBLE, false,
+                Exceptions.defaultArgName(), "one"), thrown.getMessage());
+        
+        thrown = null;
+        try {
+            Check.that("hello").not().isDoubleWhich();
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof InvalidCheckException);
+    }
+    
+    @Test
+    public void testConversionValues() throws MalformedURLException {
+        assertEquals(8080, Check.that("8080").isIntWhich().isBetween(1, 65535)
+                .value());
+        assertEquals(Long.MIN_VALUE, Check.that(String.valueOf(Long.MIN_VALUE))
+                .isLongWhich().value());
+        assertEquals(0.25, Check.that("0.25").isDoubleWhich().isFinite()
+                .value(), 0);
+        assertEquals(new URL("https://example"), Check.that("https://example")
+                .isUrlWhich().hasProtocol("https").value());
+        assertEquals("hello", Check.that("hello").isNotEmpty().value());
+        assertNull(Check.that((String) null).isNullOr().isUrlWhich().value());
+        
+        final IntCheck check = Check.test("invalid").isIntWhich();
+        assertEquals(MessageType.ARG_INT, check.getFailure());
+        assertNull(Check.test("invalid").isUrlWhich().value());
+    }
 }
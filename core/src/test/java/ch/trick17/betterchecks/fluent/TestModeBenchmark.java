@@ -0,0 +1,60 @@
+package ch.trick17.betterchecks.fluent;
+
+import static org.openjdk.jmh.annotations.Mode.Throughput;
+import static org.openjdk.jmh.annotations.Scope.Thread;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import ch.trick17.betterchecks.Check;
+
+/**
+ * Compares failing checks in test mode with passing checks and with failing
+ * checks whose exception is caught. A failing check in test mode should cost
+ * about the same as a passing one.
+ */
+@BenchmarkMode(Throughput)
+@Fork(1)
+@State(Thread)
+public class TestModeBenchmark {
+    
+    /* Non-final to prevent constant folding */
+    private String valid = "hello";
+    private String invalid = "";
+    
+    @Benchmark
+    public boolean passing() {
+        return Check.test(valid).isNotEmpty().hasLengthBetween(1, 20).passes();
+    }
+    
+    @Benchmark
+    public boolean failing() {
+        return Check.test(invalid).isNotEmpty().hasLengthBetween(1, 20)
+                .passes();
+    }
+    
+    @Benchmark
+    public boolean failingWithException() {
+        try {
+            Check.that(invalid).isNotEmpty().hasLengthBetween(1, 20);
+            return true;
+        } catch(final IllegalArgumentException e) {
+            return false;
+        }
+    }
+    
+    public static void main(final String[] args) throws RunnerException {
+        final Options options = new OptionsBuilder().include(
+                TestModeBenchmark.class.getSimpleName()).addProfiler(
+                GCProfiler.class).warmupIterations(5).measurementIterations(10)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,152 @@
+package ch.trick17.betterchecks.fluent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.net.URI;
+
+import org.junit.Test;
+
+import ch.trick17.betterchecks.Check;
+import ch.trick17.betterchecks.Exceptions;
+import ch.trick17.betterchecks.MessageType;
+import ch.trick17.betterchecks.util.CompiledCidrSet;
+import ch.trick17.betterchecks.util.HostSuffixSet;
+
+public class UriCheckTest {
+    
+    @Test
+    public void testHasScheme() {
+        Check.that(URI.create("http://example.com")).hasScheme("http");
+        Check.that(URI.create("HTTP://example.com")).hasScheme("http");
+        Check.that(URI.create("urn:isbn:0451450523")).hasScheme("urn");
+        Check.that(URI.create("relative/path")).not().hasScheme("http");
+        
+        Exception thrown = null;
+        try {
+            Check.that(URI.create("http://example.com")).hasScheme("ftp");
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_SCHEME, false,
+                Exceptions.defaultArgName(), "ftp", "http://example.com"),
+                thrown.getMessage());
+        
+        thrown = null;
+        try {
+            Check.that((URI) null).hasScheme("http");
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_NULL, false,
+                Exceptions.defaultArgName()), thrown.getMessage());
+    }
+    
+    @Test
+    public void testIsEqualTo() {
+        Check.that(URI.create("http://example.com/a")).isEqualTo(
+                URI.create("http://EXAMPLE.com/a"));
+        Check.that(URI.create("http://example.com/a")).not().isEqualTo(
+                URI.create("http://example.com/b"));
+    }
+    
+    @Test
+    public void testHasHostIn() {
+        final HostSuffixSet domains = HostSuffixSet.compile("example.com");
+        Check.that(URI.create("http://www.example.com/")).hasHostIn(domains);
+        Check.that(URI.create("http://notexample.com/")).not().hasHostIn(
+                domains);
+        Check.that(URI.create("file:/etc/hosts")).not().hasHostIn(domains);
+        Check.that((URI) null).isNullOr().hasHostIn(domains);
+        
+        Exception thrown = null;
+        try {
+            Check.that(URI.create("http://www.example.com/")).not().hasHostIn(
+                    domains);
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_HAS_HOST_IN, true,
+                Exceptions.defaultArgName(), "example.com",
+                "http://www.example.com/"), thrown.getMessage());
+    }
+    
+    @Test
+    public void testHasIpAddressHost() {
+        Check.that(URI.create("http://192.168.0.1/")).hasIpAddressHost();
+        Check.that(URI.create("http://[::1]:8080/")).hasIpAddressHost();
+        Check.that(URI.create("http://example.com/")).not().hasIpAddressHost();
+        Check.that(URI.create("file:/etc/hosts")).not().hasIpAddressHost();
+        Check.that((URI) null).isNullOr().hasIpAddressHost();
+        
+        Exception thrown = null;
+        try {
+            Check.that(URI.create("http://example.com/")).hasIpAddressHost();
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_IP_ADDRESS_HOST,
+                false, Exceptions.defaultArgName(), "http://example.com/"),
+                thrown.getMessage());
+    }
+    
+    @Test
+    public void testHasHostInCidrRanges() {
+        final CompiledCidrSet ranges = CompiledCidrSet.compile("127.0.0.0/8",
+                "::1");
+        Check.that(URI.create("http://127.0.0.1:8080/")).hasHostInCidrRanges(
+                ranges);
+        Check.that(URI.create("http://[::1]:8080/")).hasHostInCidrRanges(
+                ranges);
+        Check.that(URI.create("http://example.com/")).not().hasHostInCidrRanges(
+                ranges);
+        Check.that(URI.create("file:/etc/hosts")).not().hasHostInCidrRanges(
+                ranges);
+        Check.that((URI) null).isNullOr().hasHostInCidrRanges(ranges);
+        
+        Exception thrown = null;
+        try {
+            Check.that(URI.create("http://[::1]:8080/")).not()
+                .hasHostInCidrRanges(ranges);
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(
+                MessageType.ARG_HAS_HOST_IN_CIDR_RANGES, true, Exceptions
+                        .defaultArgName(), "::1", "http://[::1]:8080/"), thrown
+                .getMessage());
+    }
+    
+    @Test
+    public void testHasEverythingWhich() {
+        final URI uri = URI.create(
+                "http://rolve@example.com:8080/the-path/?the-query#the-anchor");
+        Check.that(uri).hasSchemeWhich().is("http");
+        Check.that(uri).hasHostWhich().is("example.com");
+        Check.that(uri).hasPortWhich().is(8080);
+        Check.that(uri).hasAuthorityWhich().is("rolve@example.com:8080");
+        Check.that(uri).hasPathWhich().is("/the-path/");
+        Check.that(uri).hasQueryWhich().is("the-query");
+        Check.that(uri).hasUserInfoWhich().is("rolve");
+        Check.that(uri).hasFragmentWhich().is("the-anchor");
+    }
+    
+    @Test
+    public void testNullHasEverythingWhich() {
+        final URI uri = null;
+        Check.that(uri).isNullOr().hasSchemeWhich().is("http");
+        Check.that(uri).isNullOr().hasHostWhich().is("example.com");
+        Check.that(uri).isNullOr().hasPortWhich().is(8080);
+        Check.that(uri).isNullOr().hasAuthorityWhich().is(
+                "rolve@example.com:8080");
+        Check.that(uri).isNullOr().hasPathWhich().is("/the-path/");
+        Check.that(uri).isNullOr().hasQueryWhich().is("the-query");
+        Check.that(uri).isNullOr().hasUserInfoWhich().is("rolve");
+        Check.that(uri).isNullOr().hasFragmentWhich().is("the-anchor");
+    }
+}
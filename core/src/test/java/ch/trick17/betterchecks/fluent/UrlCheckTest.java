@@ -3,17 +3,40 @@ package ch.trick17.betterchecks.fluent;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.net.InetAddress;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.net.URLConnection;
+import java.net.URLStreamHandler;
 
 import org.junit.Test;
 
 import ch.trick17.betterchecks.Check;
 import ch.trick17.betterchecks.Exceptions;
 import ch.trick17.betterchecks.MessageType;
+import ch.trick17.betterchecks.util.CompiledCidrSet;
+import ch.trick17.betterchecks.util.HostSuffixSet;
 
 public class UrlCheckTest {
     
+    /* A handler that fails if a host name is ever resolved */
+    private static final URLStreamHandler NO_RESOLVER = new URLStreamHandler() {
+        @Override
+        protected URLConnection openConnection(final URL url) {
+            throw new AssertionError("connection opened: " + url);
+        }
+        
+        @Override
+        protected synchronized InetAddress getHostAddress(final URL url) {
+            throw new AssertionError("host name resolved: " + url.getHost());
+        }
+        
+        @Override
+        protected int getDefaultPort() {
+            return 80;
+        }
+    };
+    
     @Test
     public void testHasProtocol() throws MalformedURLException {
         Check.that(new URL("http://example.com")).hasProtocol("http");
@@ -41,6 +64,112 @@ public class UrlCheckTest {
                 Exceptions.defaultArgName()), thrown.getMessage());
     }
     
+    @Test
+    public void testIsEqualToDoesNotResolve() throws MalformedURLException {
+        boolean resolved = false;
+        try {
+            url("http://example.com").equals(url("http://example.com"));
+        } catch(final AssertionError e) {
+            resolved = true;
+        }
+        assertTrue("URL.equals() did not use the resolver", resolved);
+        
+        Check.that(url("http://example.com/a?b#c")).isEqualTo(
+                url("http://example.com/a?b#c"));
+        Check.that(url("http://example.com/")).isEqualTo(
+                url("HTTP://EXAMPLE.COM/"));
+        Check.that(url("http://example.com/")).isEqualTo(
+                url("http://example.com:80/"));
+        Check.that(url("http://example.com/")).not().isEqualTo(
+                url("http://example.org/"));
+        Check.that(url("http://example.com/")).not().isEqualTo(
+                url("http://example.com:8080/"));
+        Check.that(url("http://example.com/a")).not().isEqualTo(
+                url("http://example.com/b"));
+        Check.that(url("http://example.com/#a")).not().isEqualTo(
+                url("http://example.com/#b"));
+        Check.that(url("http://example.com/")).not().isEqualTo(
+                "http://example.com/");
+        
+        Exception thrown = null;
+        try {
+            Check.that(url("http://example.com/")).isEqualTo(
+                    url("http://example.org/"));
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_EQUAL_TO, false,
+                Exceptions.defaultArgName(), "http://example.org/",
+                "http://example.com/"), thrown.getMessage());
+    }
+    
+    @Test
+    public void testHasHostIn() throws MalformedURLException {
+        final HostSuffixSet domains = HostSuffixSet.compile("example.com");
+        Check.that(url("http://www.example.com/")).hasHostIn(domains);
+        Check.that(url("http://notexample.com/")).not().hasHostIn(domains);
+        Check.that(url("file:/etc/hosts")).not().hasHostIn(domains);
+        Check.that((URL) null).isNullOr().hasHostIn(domains);
+        
+        Exception thrown = null;
+        try {
+            Check.that(url("http://www.example.com/")).not().hasHostIn(
+                    domains);
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_HAS_HOST_IN, true,
+                Exceptions.defaultArgName(), "example.com",
+                "http://www.example.com/"), thrown.getMessage());
+    }
+    
+    @Test
+    public void testHasIpAddressHost() throws MalformedURLException {
+        Check.that(url("http://192.168.0.1/")).hasIpAddressHost();
+        Check.that(url("http://[::1]:8080/")).hasIpAddressHost();
+        Check.that(url("http://example.com/")).not().hasIpAddressHost();
+        Check.that(url("file:/etc/hosts")).not().hasIpAddressHost();
+        Check.that((URL) null).isNullOr().hasIpAddressHost();
+        
+        Exception thrown = null;
+        try {
+            Check.that(url("http://example.com/")).hasIpAddressHost();
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(MessageType.ARG_IP_ADDRESS_HOST,
+                false, Exceptions.defaultArgName(), "http://example.com/"),
+                thrown.getMessage());
+    }
+    
+    @Test
+    public void testHasHostInCidrRanges() throws MalformedURLException {
+        final CompiledCidrSet ranges = CompiledCidrSet.compile("127.0.0.0/8",
+                "::1");
+        Check.that(url("http://127.0.0.1:8080/")).hasHostInCidrRanges(ranges);
+        Check.that(url("http://[::1]:8080/")).hasHostInCidrRanges(ranges);
+        Check.that(url("http://example.com/")).not().hasHostInCidrRanges(
+                ranges);
+        Check.that(url("file:/etc/hosts")).not().hasHostInCidrRanges(ranges);
+        Check.that((URL) null).isNullOr().hasHostInCidrRanges(ranges);
+        
+        Exception thrown = null;
+        try {
+            Check.that(url("http://[::1]:8080/")).not().hasHostInCidrRanges(
+                    ranges);
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+        assertEquals(Exceptions.formatMsg(
+                MessageType.ARG_HAS_HOST_IN_CIDR_RANGES, true, Exceptions
+                        .defaultArgName(), "::1", "http://[::1]:8080/"), thrown
+                .getMessage());
+    }
+    
     @Test
     public void testHasEverythingWhich() throws MalformedURLException {
         final URL url = new URL(
@@ -70,4 +199,8 @@ public class UrlCheckTest {
         Check.that(url).isNullOr().hasUserInfoWhich().is("rolve");
         Check.that(url).isNullOr().hasRefWhich().is("the-anchor");
     }
+    
+    private static URL url(final String spec) throws MalformedURLException {
+        return new URL(null, spec, NO_RESOLVER);
+    }
 }
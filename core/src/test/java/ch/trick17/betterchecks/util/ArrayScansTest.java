@@ -0,0 +1,143 @@
+package ch.trick17.betterchecks.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class ArrayScansTest {
+    
+    @Test
+    public void testFirstNotBetweenSmall() {
+        assertEquals(-1, ArrayScans.firstNotBetween(new int[]{}, 0, 0));
+        assertEquals(-1, ArrayScans.firstNotBetween(new int[]{0, 5, 10}, 0,
+                10));
+        assertEquals(1, ArrayScans.firstNotBetween(new int[]{0, 11, -1}, 0,
+                10));
+        assertEquals(2, ArrayScans.firstNotBetween(new long[]{1, 2, 3}, 1, 2));
+        assertEquals(0, ArrayScans.firstNotBetween(new byte[]{-1}, 0, 10));
+        assertEquals(-1, ArrayScans.firstNotBetween(new short[]{-300, 300},
+                -300, 300));
+        assertEquals(1, ArrayScans.firstNotBetween(new char[]{'a', 'z'}, 'a',
+                'y'));
+        assertEquals(-1, ArrayScans.firstNotBetween(new float[]{0.5f}, 0, 1));
+        assertEquals(1, ArrayScans.firstNotBetween(new double[]{0.5, 1.5}, 0,
+                1));
+    }
+    
+    @Test
+    public void testFirstNotBetweenExtremeBounds() {
+        final int[] ints = {Integer.MIN_VALUE, 0, Integer.MAX_VALUE};
+        assertEquals(-1, ArrayScans.firstNotBetween(ints, Integer.MIN_VALUE,
+                Integer.MAX_VALUE));
+        assertEquals(-1, ArrayScans.firstNotBetween(ints, Long.MIN_VALUE,
+                Long.MAX_VALUE));
+        assertEquals(2, ArrayScans.firstNotBetween(ints, Integer.MIN_VALUE,
+                Integer.MAX_VALUE - 1));
+        assertEquals(0, ArrayScans.firstNotBetween(ints, Integer.MIN_VALUE + 1,
+                Integer.MAX_VALUE));
+        assertEquals(0, ArrayScans.firstNotBetween(ints, Integer.MAX_VALUE + 1L,
+                Long.MAX_VALUE));
+        assertEquals(0, ArrayScans.firstNotBetween(ints, 1, 0));
+        assertEquals(-1, ArrayScans.firstNotBetween(new int[]{}, 1, 0));
+        
+        final long[] longs = {Long.MIN_VALUE, 0, Long.MAX_VALUE};
+        assertEquals(-1, ArrayScans.firstNotBetween(longs, Long.MIN_VALUE,
+                Long.MAX_VALUE));
+        assertEquals(2, ArrayScans.firstNotBetween(longs, Long.MIN_VALUE,
+                Long.MAX_VALUE - 1));
+        assertEquals(0, ArrayScans.firstNotBetween(longs, 1, 0));
+    }
+    
+    @Test
+    public void testFirstNotBetweenNaN() {
+        final double nan = Double.NaN;
+        assertEquals(1, ArrayScans.firstNotBetween(new double[]{0, nan}, 0, 1));
+        assertEquals(0, ArrayScans.firstNotBetween(new double[]{0}, nan, 1));
+        assertEquals(0, ArrayScans.firstNotBetween(new float[]{0}, 0, nan));
+        assertEquals(2, ArrayScans.firstNotBetween(new float[]{0, 1, Float.NaN},
+                Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY));
+    }
+    
+    @Test
+    public void testFirstNotBetweenBlocks() {
+        /* Arrays that span several blocks, with a single offending element at
+         * each position around the block boundaries */
+        for(final int length : new int[]{255, 256, 257, 511, 512, 513, 1000}) {
+            final int[] ints = new int[length];
+            final long[] longs = new long[length];
+            Arrays.fill(ints, 7);
+            Arrays.fill(longs, 7);
+            assertEquals(-1, ArrayScans.firstNotBetween(ints, 7, 7));
+            assertEquals(-1, ArrayScans.firstNotBetween(longs, 7, 7));
+            for(int i = 0; i < length; i++) {
+                ints[i] = i % 2 == 0 ? 6 : 8;
+                longs[i] = i % 2 == 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+                assertEquals(i, ArrayScans.firstNotBetween(ints, 7, 7));
+                assertEquals(i, ArrayScans.firstNotBetween(longs, 0, 10));
+                ints[i] = 7;
+                longs[i] = 7;
+            }
+        }
+    }
+    
+    @Test
+    public void testFirstNotBetweenRandom() {
+        final Random random = new Random(42);
+        for(int r = 0; r < 200; r++) {
+            final int[] ints = new int[random.nextInt(2000)];
+            final long[] longs = new long[ints.length];
+            for(int i = 0; i < ints.length; i++) {
+                ints[i] = random.nextInt();
+                longs[i] = random.nextLong();
+            }
+            final long min = random.nextBoolean() ? random.nextInt()
+                    : Integer.MIN_VALUE;
+            final long max = min + (long) (random.nextDouble() * (1L << 32));
+            assertEquals(naiveFirstNotBetween(ints, min, max), ArrayScans
+                    .firstNotBetween(ints, min, max));
+            
+            final long longMin = random.nextLong() >> 1;
+            final long longMax = longMin + (random.nextLong() >>> 1);
+            assertEquals(naiveFirstNotBetween(longs, longMin, longMax),
+                    ArrayScans.firstNotBetween(longs, longMin, longMax));
+        }
+    }
+    
+    private static int naiveFirstNotBetween(final int[] array, final long min,
+            final long max) {
+        for(int i = 0; i < array.length; i++)
+            if(array[i] < min || array[i] > max)
+                return i;
+        return -1;
+    }
+    
+    private static int naiveFirstNotBetween(final long[] array,
+            final long min, final long max) {
+        for(int i = 0; i < array.length; i++)
+            if(array[i] < min || array[i] > max)
+                return i;
+        return -1;
+    }
+    
+    @Test
+    public void testIndexOf() {
+        assertEquals(-1, ArrayScans.indexOf(new int[]{}, 0));
+        assertEquals(1, ArrayScans.indexOf(new boolean[]{true, false}, false));
+        assertEquals(1, ArrayScans.indexOf(new int[]{1, 2, 2}, 2));
+        assertEquals(-1, ArrayScans.indexOf(new int[]{1}, 1L << 32 | 1));
+        assertEquals(0, ArrayScans.indexOf(new long[]{1L << 32}, 1L << 32));
+        assertEquals(-1, ArrayScans.indexOf(new byte[]{-1}, 255));
+        assertEquals(0, ArrayScans.indexOf(new char[]{0xFFFF}, 0xFFFF));
+        assertEquals(1, ArrayScans.indexOf(new short[]{1, -1}, -1));
+        assertEquals(1, ArrayScans.indexOf(new double[]{1, -0.0}, 0.0));
+        assertEquals(-1, ArrayScans.indexOf(new double[]{1, 2}, Double.NaN));
+        assertEquals(1, ArrayScans.indexOf(new double[]{1, Double.NaN},
+                Double.NaN));
+        assertEquals(0, ArrayScans.indexOf(new float[]{Float.NaN}, Double.NaN));
+        assertEquals(0, ArrayScans.indexOf(new float[]{0.5f}, 0.5));
+        assertEquals(-1, ArrayScans.indexOf(new float[]{0.1f}, 0.1));
+    }
+}
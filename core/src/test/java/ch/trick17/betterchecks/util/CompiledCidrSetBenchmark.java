@@ -0,0 +1,108 @@
+package ch.trick17.betterchecks.util;
+
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+import static org.openjdk.jmh.annotations.Scope.Thread;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import ch.trick17.betterchecks.Check;
+
+/**
+ * Compares checking an IP address against a deny list of CIDR ranges by
+ * parsing it with {@link InetAddress} and looping over the (pre-parsed)
+ * ranges to the <code>not().isInCidrRanges()</code> check with a
+ * {@link CompiledCidrSet}, for an address that is not in any of the ranges
+ * (the common case).
+ */
+@BenchmarkMode(AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@State(Thread)
+public class CompiledCidrSetBenchmark {
+    
+    @Param({"100", "50000"})
+    private int ranges;
+    
+    @Param({"203.0.113.7", "2001:db8:85a3::8a2e:370:7334"})
+    private String address;
+    
+    private byte[][] networks;
+    private int[] prefixes;
+    private CompiledCidrSet compiled;
+    
+    @Setup
+    public void setup() throws UnknownHostException {
+        final Random random = new Random(42);
+        final String[] list = new String[ranges];
+        networks = new byte[ranges][];
+        prefixes = new int[ranges];
+        for(int i = 0; i < ranges; i++) {
+            if(random.nextBoolean()) {
+                prefixes[i] = 8 + random.nextInt(25);
+                list[i] = (random.nextInt(100) + 1) + "." + random.nextInt(256)
+                        + "." + random.nextInt(256) + "." + random.nextInt(256)
+                        + "/" + prefixes[i];
+            }
+            else {
+                prefixes[i] = 16 + random.nextInt(113);
+                list[i] = "2a0" + random.nextInt(10) + ":"
+                        + Integer.toHexString(random.nextInt(1 << 16)) + ":"
+                        + Integer.toHexString(random.nextInt(1 << 16)) + "::/"
+                        + prefixes[i];
+            }
+            networks[i] = InetAddress.getByName(list[i].substring(0, list[i]
+                    .indexOf('/'))).getAddress();
+        }
+        compiled = CompiledCidrSet.compile(list);
+    }
+    
+    @Benchmark
+    public Object linearScan() throws UnknownHostException {
+        /* Parsing a literal address does not cause a lookup */
+        final byte[] bytes = InetAddress.getByName(address).getAddress();
+        for(int i = 0; i < networks.length; i++)
+            if(contains(networks[i], prefixes[i], bytes))
+                throw new IllegalArgumentException(address);
+        return address;
+    }
+    
+    private static boolean contains(final byte[] network, final int prefix,
+            final byte[] address) {
+        if(network.length != address.length)
+            return false;
+        final int bytes = prefix / 8;
+        for(int i = 0; i < bytes; i++)
+            if(network[i] != address[i])
+                return false;
+        final int bits = prefix % 8;
+        return bits == 0 || ((network[bytes] ^ address[bytes]) & 0xFF
+                & 0xFF00 >> bits) == 0;
+    }
+    
+    @Benchmark
+    public Object compiled() {
+        return Check.that(address).not().isInCidrRanges(compiled);
+    }
+    
+    public static void main(final String[] args) throws RunnerException {
+        final Options options = new OptionsBuilder().include(
+                CompiledCidrSetBenchmark.class.getSimpleName())
+                .warmupIterations(5).measurementIterations(10).build();
+        new Runner(options).run();
+    }
+}
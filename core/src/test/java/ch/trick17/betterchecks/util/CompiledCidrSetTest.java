@@ -0,0 +1,204 @@
+package ch.trick17.betterchecks.util;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class CompiledCidrSetTest {
+    
+    private static final CompiledCidrSet INTERNAL = CompiledCidrSet.compile(
+            "127.0.0.0/8", "10.0.0.0/8", "172.16.0.0/12", "192.168.0.0/16",
+            "169.254.0.0/16", "::1", "fc00::/7", "fe80::/10");
+    
+    @Test
+    public void testMatches() {
+        assertTrue(INTERNAL.matches("127.0.0.1"));
+        assertTrue(INTERNAL.matches("10.255.0.1"));
+        assertTrue(INTERNAL.matches("172.16.0.0"));
+        assertTrue(INTERNAL.matches("172.31.255.255"));
+        assertTrue(INTERNAL.matches("169.254.169.254"));
+        assertTrue(INTERNAL.matches("::1"));
+        assertTrue(INTERNAL.matches("0:0:0:0:0:0:0:1"));
+        assertTrue(INTERNAL.matches("fd12:3456::1"));
+        assertTrue(INTERNAL.matches("FE80::ABCD"));
+        assertTrue(INTERNAL.matches(new StringBuilder("192.168.1.1")));
+        
+        assertFalse(INTERNAL.matches("172.32.0.0"));
+        assertFalse(INTERNAL.matches("11.0.0.1"));
+        assertFalse(INTERNAL.matches("8.8.8.8"));
+        assertFalse(INTERNAL.matches("::2"));
+        assertFalse(INTERNAL.matches("2001:db8::1"));
+        assertFalse(INTERNAL.matches("fec0::1"));
+        assertFalse(CompiledCidrSet.compile().matches("127.0.0.1"));
+    }
+    
+    @Test
+    public void testNoAddress() {
+        assertFalse(INTERNAL.matches(""));
+        assertFalse(INTERNAL.matches("localhost"));
+        assertFalse(INTERNAL.matches("10.0.0.1/8"));
+        assertFalse(INTERNAL.matches("0177.0.0.1"));
+        assertFalse(INTERNAL.matches("127.1"));
+        assertFalse(INTERNAL.matches("fe80::1%eth0"));
+        assertFalse(INTERNAL.matches("[10.0.0.1]"));
+        assertFalse(INTERNAL.matches("[::1"));
+    }
+    
+    @Test
+    public void testBrackets() {
+        assertTrue(INTERNAL.matches("[::1]"));
+        assertTrue(INTERNAL.matches("[fe80::1]"));
+        assertFalse(INTERNAL.matches("[2001:db8::1]"));
+    }
+    
+    @Test
+    public void testIpv4Mapped() {
+        assertTrue(INTERNAL.matches("::ffff:127.0.0.1"));
+        assertTrue(INTERNAL.matches("::ffff:a00:1"));
+        assertTrue(INTERNAL.matches("[::FFFF:192.168.0.1]"));
+        assertFalse(INTERNAL.matches("::127.0.0.1"));
+        assertFalse(INTERNAL.matches("64:ff9b::10.0.0.1"));
+        
+        final CompiledCidrSet mapped = CompiledCidrSet.compile(
+                "::ffff:0:0/96");
+        assertTrue(mapped.matches("1.2.3.4"));
+        assertTrue(mapped.matches("::ffff:1.2.3.4"));
+        assertFalse(mapped.matches("::1"));
+        assertTrue(CompiledCidrSet.compile("0.0.0.0/0").matches("8.8.8.8"));
+        assertFalse(CompiledCidrSet.compile("0.0.0.0/0").matches("::1"));
+        assertTrue(CompiledCidrSet.compile("::/0").matches("8.8.8.8"));
+    }
+    
+    @Test
+    public void testFindMatch() {
+        final CompiledCidrSet ranges = CompiledCidrSet.compile("10.0.0.0/8",
+                "10.1.0.0/16", "10.1.2.3", "10.1.0.0/24", "2001:db8::/32",
+                "2001:DB8:1::/48");
+        assertEquals("10.0.0.0/8", ranges.findMatch("10.2.0.0"));
+        assertEquals("10.1.0.0/16", ranges.findMatch("10.1.2.4"));
+        assertEquals("10.1.2.3", ranges.findMatch("10.1.2.3"));
+        assertEquals("10.1.0.0/24", ranges.findMatch("10.1.0.77"));
+        assertEquals("2001:db8::/32", ranges.findMatch("2001:db8:2::1"));
+        assertEquals("2001:DB8:1::/48", ranges.findMatch("2001:db8:1::1"));
+        assertNull(ranges.findMatch("11.0.0.0"));
+        assertNull(ranges.findMatch("2001:db9::"));
+    }
+    
+    @Test
+    public void testHostBits() {
+        final CompiledCidrSet ranges = CompiledCidrSet.compile("10.1.2.3/8",
+                "10.0.0.0/8", "2001:db8::1/32");
+        assertEquals("10.1.2.3/8", ranges.findMatch("10.200.0.0"));
+        assertEquals("2001:db8::1/32", ranges.findMatch("2001:db8:ffff::"));
+    }
+    
+    @Test
+    public void testGetRanges() {
+        final CompiledCidrSet ranges = CompiledCidrSet.compile(asList(
+                "10.0.0.0/8", "::1", "10.0.0.0/8", "fc00::/7"));
+        assertEquals(asList("10.0.0.0/8", "::1", "fc00::/7"), ranges
+                .getRanges());
+        assertEquals(3, ranges.size());
+        assertEquals("[10.0.0.0/8, ::1, fc00::/7]", ranges.toString());
+        
+        final List<String> many = new ArrayList<String>();
+        for(int i = 0; i < 12; i++)
+            many.add("10." + i + ".0.0/16");
+        assertEquals("[10.0.0.0/16, 10.1.0.0/16, 10.2.0.0/16, 10.3.0.0/16, "
+                + "10.4.0.0/16, 10.5.0.0/16, 10.6.0.0/16, 10.7.0.0/16, "
+                + "10.8.0.0/16, 10.9.0.0/16, (\u2026 2 more)]", CompiledCidrSet
+                .compile(many).toString());
+    }
+    
+    @Test
+    public void testInvalidRanges() {
+        for(final String invalid : asList("", "/8", "10.0.0.0/", "10.0.0/8",
+                "10.0.0.0/33", "10.0.0.0/08", "10.0.0.0/-1", "10.0.0.0/8/8",
+                "10.0.0.0/1a", "::/129", "::/1000", "[::1]/128", "localhost",
+                "10.0.0.0 /8", "10.0.0.0/ 8")) {
+            Exception thrown = null;
+            try {
+                CompiledCidrSet.compile(invalid);
+            } catch(final Exception e) {
+                thrown = e;
+            }
+            assertTrue(invalid, thrown instanceof IllegalArgumentException);
+        }
+    }
+    
+    @Test
+    public void testLikeLinearScan() throws Exception {
+        final Random random = new Random(42);
+        final List<String> ranges = new ArrayList<String>();
+        for(int i = 0; i < 2000; i++) {
+            final String address = randomAddress(random);
+            final int max = address.contains(":") ? 128 : 32;
+            final int prefix = max - random.nextInt(Math.min(max, 20) + 1);
+            ranges.add(address + "/" + prefix);
+        }
+        final CompiledCidrSet compiled = CompiledCidrSet.compile(ranges);
+        
+        for(int i = 0; i < 20000; i++) {
+            final String address = randomAddress(random);
+            String expected = null;
+            int longest = -1;
+            for(final String range : ranges) {
+                final int prefix = prefixLength(range);
+                if(prefix > longest && contains(range, address)) {
+                    expected = range;
+                    longest = prefix;
+                }
+            }
+            assertEquals(address, expected, compiled.findMatch(address));
+        }
+    }
+    
+    /**
+     * Returns addresses from a few small blocks, so that many of them fall
+     * into the ranges and the ranges overlap.
+     */
+    private static String randomAddress(final Random random) {
+        final int host = random.nextInt(1 << 12);
+        switch(random.nextInt(3)) {
+        case 0:
+            return "10.0." + (host >> 8) + "." + (host & 0xFF);
+        case 1:
+            return "192.168." + (host >> 8) + "." + (host & 0xFF);
+        default:
+            return "2001:db8::" + Integer.toHexString(host) + ":0";
+        }
+    }
+    
+    private static int prefixLength(final String range) {
+        final String[] parts = range.split("/");
+        final int prefix = Integer.parseInt(parts[1]);
+        return parts[0].contains(":") ? prefix : prefix + 96;
+    }
+    
+    private static boolean contains(final String range, final String address)
+            throws Exception {
+        final String[] parts = range.split("/");
+        final BigInteger network = toBigInteger(parts[0]);
+        final int shift = (parts[0].contains(":") ? 128 : 32)
+                - Integer.parseInt(parts[1]);
+        final boolean sameKind = parts[0].contains(":") == address
+                .contains(":");
+        return sameKind && network.shiftRight(shift).equals(
+                toBigInteger(address).shiftRight(shift));
+    }
+    
+    private static BigInteger toBigInteger(final String address)
+            throws Exception {
+        return new BigInteger(1, InetAddress.getByName(address).getAddress());
+    }
+}
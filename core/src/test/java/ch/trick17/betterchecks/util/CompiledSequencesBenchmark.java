@@ -0,0 +1,79 @@
+package ch.trick17.betterchecks.util;
+
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+import static org.openjdk.jmh.annotations.Scope.Thread;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import ch.trick17.betterchecks.Check;
+
+/**
+ * Compares the <code>not().containsAny()</code> check with plain sequences to
+ * the one with {@link CompiledSequences}, for a typical message that contains
+ * none of the sequences (the common case for a list of blocked words).
+ */
+@BenchmarkMode(AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@State(Thread)
+public class CompiledSequencesBenchmark {
+    
+    @Param({"10", "100", "2000"})
+    private int words;
+    
+    private String message;
+    private String[] sequences;
+    private CompiledSequences compiled;
+    
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+        sequences = new String[words];
+        for(int i = 0; i < words; i++)
+            sequences[i] = randomWord(random, 4 + random.nextInt(6)) + "q";
+        
+        final StringBuilder builder = new StringBuilder();
+        while(builder.length() < 200)
+            builder.append(randomWord(random, 1 + random.nextInt(8))).append(
+                    ' ');
+        message = builder.toString();
+        compiled = CompiledSequences.compile(sequences);
+    }
+    
+    @Benchmark
+    public Object plain() {
+        return Check.that(message).not().containsAny(sequences);
+    }
+    
+    @Benchmark
+    public Object compiled() {
+        return Check.that(message).not().containsAny(compiled);
+    }
+    
+    private static String randomWord(final Random random, final int length) {
+        final StringBuilder builder = new StringBuilder();
+        for(int i = 0; i < length; i++)
+            builder.append((char) ('a' + random.nextInt(16)));
+        return builder.toString();
+    }
+    
+    public static void main(final String[] args) throws RunnerException {
+        final Options options = new OptionsBuilder().include(
+                CompiledSequencesBenchmark.class.getSimpleName())
+                .warmupIterations(5).measurementIterations(10).build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,102 @@
+package ch.trick17.betterchecks.util;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class CompiledSequencesTest {
+    
+    @Test
+    public void testFindFirst() {
+        final CompiledSequences sequences = CompiledSequences.compile("he",
+                "she", "his", "hers");
+        assertEquals("she", sequences.findFirst("ushers"));
+        assertEquals("his", sequences.findFirst("this"));
+        assertEquals("he", sequences.findFirst("the end"));
+        assertNull(sequences.findFirst("hi"));
+        assertNull(sequences.findFirst(""));
+        
+        assertEquals("\u00E9t\u00E9", CompiledSequences.compile(
+                "\u00E9t\u00E9").findFirst("un \u00E9t\u00E9 chaud"));
+        assertEquals("", CompiledSequences.compile("x", "").findFirst(""));
+        assertNull(CompiledSequences.compile().findFirst("abc"));
+    }
+    
+    @Test
+    public void testFindMissing() {
+        final CompiledSequences sequences = CompiledSequences.compile("he",
+                "she", "his", "hers");
+        assertNull(sequences.findMissing("she and his hershey"));
+        assertEquals("his", sequences.findMissing("ushers"));
+        assertEquals("he", sequences.findMissing(""));
+        assertNull(CompiledSequences.compile().findMissing(""));
+        assertNull(CompiledSequences.compile("").findMissing(""));
+    }
+    
+    @Test
+    public void testGetSequences() {
+        final CompiledSequences sequences = CompiledSequences.compile(asList(
+                "b", "a", new StringBuilder("b"), "c"));
+        assertEquals(asList("b", "a", "c"), sequences.getSequences());
+        assertEquals(3, sequences.size());
+        assertEquals("[b, a, c]", sequences.toString());
+        
+        final List<String> many = new ArrayList<String>();
+        for(int i = 0; i < 12; i++)
+            many.add("s" + i);
+        assertEquals("[s0, s1, s2, s3, s4, s5, s6, s7, s8, s9, "
+                + "(\u2026 2 more)]", CompiledSequences.compile(many).toString());
+    }
+    
+    @Test
+    public void testLikeContains() {
+        final Random random = new Random(42);
+        for(int round = 0; round < 200; round++) {
+            final List<String> words = new ArrayList<String>();
+            for(int i = random.nextInt(20); i >= 0; i--)
+                words.add(randomString(random, 1 + random.nextInt(4)));
+            final CompiledSequences sequences = CompiledSequences
+                    .compile(words);
+            
+            for(int t = 0; t < 20; t++) {
+                final String text = randomString(random, random.nextInt(30));
+                String expectedMissing = null;
+                boolean expectedAny = false;
+                for(final String word : words) {
+                    if(text.contains(word))
+                        expectedAny = true;
+                    else if(expectedMissing == null)
+                        expectedMissing = word;
+                }
+                
+                final String first = sequences.findFirst(text);
+                assertEquals(expectedAny, first != null);
+                if(first != null)
+                    assertEquals(text.indexOf(first) + first.length(),
+                            firstEnd(text, words));
+                assertEquals(expectedMissing, sequences.findMissing(text));
+            }
+        }
+    }
+    
+    private static int firstEnd(final String text, final List<String> words) {
+        for(int end = 0; end <= text.length(); end++)
+            for(final String word : words)
+                if(text.startsWith(word, end - word.length()))
+                    return end;
+        return -1;
+    }
+    
+    private static String randomString(final Random random, final int length) {
+        final StringBuilder builder = new StringBuilder();
+        for(int i = 0; i < length; i++)
+            builder.append("abc\u00E4".charAt(random.nextInt(4)));
+        return builder.toString();
+    }
+}
@@ -0,0 +1,35 @@
+package ch.trick17.betterchecks.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ListResourceBundle;
+import java.util.ResourceBundle;
+
+import org.junit.Test;
+
+public class ConfigFileTest {
+    
+    private static final ResourceBundle BUNDLE = new ListResourceBundle() {
+        @Override
+        protected Object[][] getContents() {
+            return new Object[][]{{"flag", "true"}, {"number", " 42 "},
+                    {"garbage", "forty-two"}};
+        }
+    };
+    
+    @Test
+    public void testGetBoolean() {
+        assertEquals(true, ConfigFile.getBoolean(BUNDLE, "flag", false));
+        assertEquals(false, ConfigFile.getBoolean(BUNDLE, "garbage", true));
+        assertEquals(true, ConfigFile.getBoolean(BUNDLE, "missing", true));
+        assertEquals(true, ConfigFile.getBoolean(null, "flag", true));
+    }
+    
+    @Test
+    public void testGetInt() {
+        assertEquals(42, ConfigFile.getInt(BUNDLE, "number", 0));
+        assertEquals(7, ConfigFile.getInt(BUNDLE, "garbage", 7));
+        assertEquals(7, ConfigFile.getInt(BUNDLE, "missing", 7));
+        assertEquals(7, ConfigFile.getInt(null, "number", 7));
+    }
+}
@@ -0,0 +1,81 @@
+package ch.trick17.betterchecks.util;
+
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+import static org.openjdk.jmh.annotations.Scope.Thread;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import ch.trick17.betterchecks.Check;
+
+/**
+ * Compares checking a host against a deny list using a loop of
+ * <code>endsWith</code> calls to the <code>not().isHostIn()</code> check with
+ * a {@link HostSuffixSet}, for a host that is not in any of the domains (the
+ * common case).
+ */
+@BenchmarkMode(AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@State(Thread)
+public class HostSuffixSetBenchmark {
+    
+    private static final String[] TLDS = {"com", "org", "net", "ch", "de"};
+    
+    @Param({"100", "50000"})
+    private int domains;
+    
+    private String host;
+    private String[] list;
+    private HostSuffixSet compiled;
+    
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+        list = new String[domains];
+        for(int i = 0; i < domains; i++)
+            list[i] = randomLabel(random) + "." + TLDS[random.nextInt(
+                    TLDS.length)];
+        compiled = HostSuffixSet.compile(list);
+        host = "hooks.eu-west." + randomLabel(random) + ".com";
+    }
+    
+    @Benchmark
+    public Object endsWithLoop() {
+        for(final String domain : list)
+            if(host.equals(domain) || host.endsWith("." + domain))
+                throw new IllegalArgumentException(host);
+        return host;
+    }
+    
+    @Benchmark
+    public Object compiled() {
+        return Check.that(host).not().isHostIn(compiled);
+    }
+    
+    private static String randomLabel(final Random random) {
+        final StringBuilder builder = new StringBuilder();
+        for(int i = 5 + random.nextInt(8); i > 0; i--)
+            builder.append((char) ('a' + random.nextInt(26)));
+        return builder.toString();
+    }
+    
+    public static void main(final String[] args) throws RunnerException {
+        final Options options = new OptionsBuilder().include(
+                HostSuffixSetBenchmark.class.getSimpleName())
+                .warmupIterations(5).measurementIterations(10).build();
+        new Runner(options).run();
+    }
+}
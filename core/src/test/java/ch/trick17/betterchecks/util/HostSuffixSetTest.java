@@ -0,0 +1,124 @@
+package ch.trick17.betterchecks.util;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class HostSuffixSetTest {
+    
+    @Test
+    public void testMatches() {
+        final HostSuffixSet domains = HostSuffixSet.compile("example.com",
+                "co.uk", "internal");
+        assertTrue(domains.matches("example.com"));
+        assertTrue(domains.matches("www.example.com"));
+        assertTrue(domains.matches("a.b.c.example.com"));
+        assertTrue(domains.matches("bbc.co.uk"));
+        assertTrue(domains.matches("db.internal"));
+        assertTrue(domains.matches("internal"));
+        
+        assertFalse(domains.matches("notexample.com"));
+        assertFalse(domains.matches("example.com.evil.org"));
+        assertFalse(domains.matches("com"));
+        assertFalse(domains.matches("uk"));
+        assertFalse(domains.matches("example.org"));
+        assertFalse(domains.matches(""));
+        assertFalse(domains.matches("."));
+        assertFalse(domains.matches("www..example"));
+        assertFalse(HostSuffixSet.compile().matches("example.com"));
+    }
+    
+    @Test
+    public void testCaseAndDots() {
+        final HostSuffixSet domains = HostSuffixSet.compile("Example.COM",
+                ".intranet.", "\u00DCber.ch");
+        assertTrue(domains.matches("example.com"));
+        assertTrue(domains.matches("WWW.EXAMPLE.COM"));
+        assertTrue(domains.matches("www.example.com."));
+        assertTrue(domains.matches("wiki.intranet"));
+        assertTrue(domains.matches("intranet"));
+        assertTrue(domains.matches("www.\u00FCber.ch"));
+        assertTrue(domains.matches(new StringBuilder("Mail.Example.Com")));
+        assertFalse(domains.matches("www.example.com.."));
+    }
+    
+    @Test
+    public void testFindMatch() {
+        final HostSuffixSet domains = HostSuffixSet.compile("example.com",
+                "www.example.com", "Example.ORG");
+        assertEquals("example.com", domains.findMatch("www.example.com"));
+        assertEquals("example.com", domains.findMatch("a.www.example.com"));
+        assertEquals("example.org", domains.findMatch("www.example.org"));
+        assertNull(domains.findMatch("example.net"));
+        assertEquals("www.example.com", HostSuffixSet.compile(
+                "www.example.com").findMatch("a.www.example.com"));
+    }
+    
+    @Test
+    public void testGetDomains() {
+        final HostSuffixSet domains = HostSuffixSet.compile(asList("b.com",
+                "a.com", ".B.com", "c.com"));
+        assertEquals(asList("b.com", "a.com", "c.com"), domains.getDomains());
+        assertEquals(3, domains.size());
+        assertEquals("[b.com, a.com, c.com]", domains.toString());
+        
+        final List<String> many = new ArrayList<String>();
+        for(int i = 0; i < 12; i++)
+            many.add("d" + i + ".com");
+        assertEquals("[d0.com, d1.com, d2.com, d3.com, d4.com, d5.com, "
+                + "d6.com, d7.com, d8.com, d9.com, (\u2026 2 more)]",
+                HostSuffixSet.compile(many).toString());
+    }
+    
+    @Test
+    public void testInvalidDomains() {
+        for(final String invalid : asList("", ".", "..", "a..b", "..a", "a..",
+                "*.example.com", "ex*ample.com")) {
+            Exception thrown = null;
+            try {
+                HostSuffixSet.compile(invalid);
+            } catch(final Exception e) {
+                thrown = e;
+            }
+            assertTrue(invalid, thrown instanceof IllegalArgumentException);
+        }
+    }
+    
+    @Test
+    public void testLikeEndsWith() {
+        final Random random = new Random(42);
+        final List<String> domains = new ArrayList<String>();
+        for(int i = 0; i < 2000; i++)
+            domains.add(randomHost(random));
+        final HostSuffixSet compiled = HostSuffixSet.compile(domains);
+        
+        for(int i = 0; i < 20000; i++) {
+            final String host = randomHost(random);
+            boolean expected = false;
+            for(final String domain : domains)
+                expected |= host.equals(domain)
+                        || host.endsWith("." + domain);
+            assertEquals(host, expected, compiled.matches(host));
+        }
+    }
+    
+    private static String randomHost(final Random random) {
+        final StringBuilder builder = new StringBuilder();
+        for(int labels = 1 + random.nextInt(4); labels > 0; labels--) {
+            builder.append("abc".charAt(random.nextInt(3)));
+            if(random.nextBoolean())
+                builder.append("ab".charAt(random.nextInt(2)));
+            if(labels > 1)
+                builder.append('.');
+        }
+        return builder.toString();
+    }
+}
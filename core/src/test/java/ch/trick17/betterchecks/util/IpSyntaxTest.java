@@ -0,0 +1,142 @@
+package ch.trick17.betterchecks.util;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.net.InetAddress;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class IpSyntaxTest {
+    
+    @Test
+    public void testIpv4() {
+        for(final String valid : asList("0.0.0.0", "127.0.0.1", "10.20.30.40",
+                "255.255.255.255", "192.168.0.1"))
+            assertTrue(valid, IpSyntax.isIpv4(valid));
+        for(final String invalid : asList("", "1.2.3", "1.2.3.4.5", "127.1",
+                "2130706433", "0177.0.0.1", "01.2.3.4", "256.0.0.1",
+                "1.2.3.4.", ".1.2.3.4", "1..2.3", "1.2.3.-4", "1.2.3.4 ",
+                "0x7f.0.0.1", "1234.0.0.1", "::1"))
+            assertFalse(invalid, IpSyntax.isIpv4(invalid));
+    }
+    
+    @Test
+    public void testIpv6() {
+        for(final String valid : asList("::", "::1", "1::", "1::2",
+                "2001:db8::ff00:42:8329", "2001:DB8:0:0:0:FF00:42:8329",
+                "1:2:3:4:5:6:7:8", "1:2:3:4:5:6::", "::2:3:4:5:6:7:8",
+                "::ffff:10.0.0.1", "64:ff9b::192.0.2.33",
+                "1:2:3:4:5:6:1.2.3.4", "fe80::1"))
+            assertTrue(valid, IpSyntax.isIpv6(valid));
+        for(final String invalid : asList("", ":", ":::", "1:2:3:4:5:6:7",
+                "1:2:3:4:5:6:7:8:9", "1::2::3", ":1::", "1::2:", "12345::",
+                "g::", "::1.2.3", "1:2:3:4:5:6:7:1.2.3.4", "::1.2.3.4:5",
+                "fe80::1%eth0", "[::1]", "::0177.0.0.1", "127.0.0.1"))
+            assertFalse(invalid, IpSyntax.isIpv6(invalid));
+    }
+    
+    @Test
+    public void testIsIpAddress() {
+        assertTrue(IpSyntax.isIpAddress("192.168.1.1"));
+        assertTrue(IpSyntax.isIpAddress("::1"));
+        assertTrue(IpSyntax.isIpAddress(new StringBuilder("10.0.0.1")));
+        assertFalse(IpSyntax.isIpAddress("localhost"));
+        assertFalse(IpSyntax.isIpAddress("[::1]"));
+        assertFalse(IpSyntax.isIpAddress(""));
+    }
+    
+    @Test
+    public void testZeroGroups() {
+        assertEquals(0, IpSyntax.ipv6ZeroGroups("1:2:3:4:5:6:7:8", 0, 15));
+        assertEquals(8, IpSyntax.ipv6ZeroGroups("::", 0, 2));
+        assertEquals(7, IpSyntax.ipv6ZeroGroups("::1", 0, 3));
+        assertEquals(5, IpSyntax.ipv6ZeroGroups("::ffff:1.2.3.4", 0, 14));
+        assertEquals(-1, IpSyntax.ipv6ZeroGroups("1::2::3", 0, 7));
+    }
+    
+    @Test
+    public void testIpv6BitsLikeJdk() throws Exception {
+        final Random random = new Random(42);
+        for(int i = 0; i < 20000; i++) {
+            final int[] groups = new int[8];
+            for(int g = 0; g < 8; g++)
+                groups[g] = random.nextInt(4) == 0 ? 0
+                        : random.nextInt(1 << 4 * (1 + random.nextInt(4)));
+            final String address = format(groups, random);
+            assertTrue(address, IpSyntax.isIpv6(address));
+            
+            /* The JDK turns IPv4-mapped addresses into IPv4 addresses */
+            final byte[] bytes = InetAddress.getByName(address).getAddress();
+            final byte[] expected = new byte[16];
+            System.arraycopy(bytes, 0, expected, 16 - bytes.length,
+                    bytes.length);
+            if(bytes.length == 4)
+                expected[10] = expected[11] = (byte) 0xFF;
+            final int end = address.length();
+            final int zeroGroups = IpSyntax.ipv6ZeroGroups(address, 0, end);
+            assertEquals(address, toLong(expected, 0), IpSyntax.ipv6Bits(
+                    address, 0, end, zeroGroups, true));
+            assertEquals(address, toLong(expected, 8), IpSyntax.ipv6Bits(
+                    address, 0, end, zeroGroups, false));
+        }
+    }
+    
+    @Test
+    public void testIpv4Bits() {
+        assertEquals(0xC0A80102L, IpSyntax.ipv4Bits("192.168.1.2", 0, 11));
+        assertEquals(0xFFFFFFFFL, IpSyntax.ipv4Bits("255.255.255.255", 0, 15));
+    }
+    
+    /**
+     * Formats the groups with a random choice of letter case, compression and
+     * embedded IPv4 address.
+     */
+    private static String format(final int[] groups, final Random random) {
+        final boolean ipv4 = random.nextInt(4) == 0;
+        final int count = ipv4 ? 6 : 8;
+        int zeroStart = -1;
+        int zeroEnd = -1;
+        if(random.nextBoolean()) {
+            zeroStart = random.nextInt(count);
+            zeroEnd = zeroStart + 1 + random.nextInt(count - zeroStart);
+            if(zeroEnd - zeroStart == 8)
+                zeroEnd--;
+            for(int g = zeroStart; g < zeroEnd; g++)
+                groups[g] = 0;
+        }
+        
+        final StringBuilder builder = new StringBuilder();
+        for(int g = 0; g < count; g++) {
+            if(g == zeroStart) {
+                builder.append("::");
+                g = zeroEnd - 1;
+                continue;
+            }
+            if(builder.length() > 0
+                    && builder.charAt(builder.length() - 1) != ':')
+                builder.append(':');
+            final String hex = Integer.toHexString(groups[g]);
+            builder.append(random.nextBoolean() ? hex : hex.toUpperCase());
+        }
+        if(ipv4) {
+            if(builder.length() > 0
+                    && builder.charAt(builder.length() - 1) != ':')
+                builder.append(':');
+            builder.append(groups[6] >> 8).append('.').append(groups[6] & 0xFF)
+                    .append('.').append(groups[7] >> 8).append('.').append(
+                            groups[7] & 0xFF);
+        }
+        return builder.toString();
+    }
+    
+    private static long toLong(final byte[] bytes, final int offset) {
+        long bits = 0;
+        for(int i = offset; i < offset + 8; i++)
+            bits = bits << 8 | bytes[i] & 0xFF;
+        return bits;
+    }
+}
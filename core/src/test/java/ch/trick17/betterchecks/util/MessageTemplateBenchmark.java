@@ -0,0 +1,77 @@
+package ch.trick17.betterchecks.util;
+
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+import static org.openjdk.jmh.annotations.Scope.Thread;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import ch.trick17.betterchecks.Check;
+import ch.trick17.betterchecks.MessageType;
+
+/**
+ * Compares the formatting of exception messages using
+ * {@link String#format(String, Object...)} with precompiled
+ * {@link MessageTemplate}s, both in isolation and as part of a failing check.
+ */
+@BenchmarkMode(AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@State(Thread)
+public class MessageTemplateBenchmark {
+    
+    @Param({"ARG_NULL", "ARG_LENGTH_BETWEEN", "ARG_BETWEEN"})
+    private MessageType type;
+    
+    private String format;
+    private MessageTemplate template;
+    private Object[] args;
+    private int value;
+    
+    @Setup
+    public void setup() {
+        final FormatPair pair = new FormatPair(type.getDefaultFormat());
+        format = pair.getFormat(true);
+        template = pair.getTemplate(true);
+        args = new Object[]{"the argument", 3, 42, "hello, world"};
+        value = -1;
+    }
+    
+    @Benchmark
+    public String stringFormat() {
+        return String.format(format, args);
+    }
+    
+    @Benchmark
+    public String template() {
+        return template.format(args);
+    }
+    
+    @Benchmark
+    public String failingCheck() {
+        try {
+            Check.that(value).isPositive();
+            throw new AssertionError();
+        } catch(final IllegalArgumentException e) {
+            return e.getMessage();
+        }
+    }
+    
+    public static void main(final String[] args) throws RunnerException {
+        final Options options = new OptionsBuilder().include(
+                MessageTemplateBenchmark.class.getSimpleName())
+                .warmupIterations(5).measurementIterations(10).build();
+        new Runner(options).run();
+    }
+}
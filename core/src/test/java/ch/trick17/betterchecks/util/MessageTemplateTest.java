@@ -0,0 +1,122 @@
+package ch.trick17.betterchecks.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Formattable;
+import java.util.Formatter;
+import java.util.IllegalFormatException;
+import java.util.Locale;
+
+import org.junit.Test;
+
+import ch.trick17.betterchecks.MessageType;
+
+public class MessageTemplateTest {
+    
+    private static final Object[][] ARGS = {
+            {"the argument", "hello", "world", "!"},
+            {new StringBuilder("arg"), 42, 1337L, null},
+            {"arg", (short) -3, (byte) 7, BigInteger.TEN.negate()},
+            {null, null, null, null},
+            {"arg", Integer.MIN_VALUE, Long.MAX_VALUE, Arrays.asList(1, 2)}};
+    
+    @Test
+    public void testMessageTypes() {
+        for(final MessageType type : MessageType.values()) {
+            final FormatPair pair = new FormatPair(type.getDefaultFormat());
+            for(final boolean inverted : new boolean[]{false, true}) {
+                final String format = pair.getFormat(inverted);
+                final MessageTemplate template = pair.getTemplate(inverted);
+                assertEquals(format, template.getFormat());
+                for(final Object[] args : ARGS)
+                    assertSameResult(format, template, args);
+            }
+        }
+    }
+    
+    @Test
+    public void testSyntax() {
+        final String[] formats = {"", "no placeholders", "%s", "%s%s%s",
+                "100%% %s", "%%s %s", "%2$s %1$s %s %s", "%3$d, %1$s", "%d%%",
+                "%s %n %s", "%5s", "%-5s|", "%S", "%x", "%.2s", "%<s %s",
+                "%,d", "%b", "%c", "end %", "%0$s", "%1$%"};
+        for(final String format : formats)
+            for(final Object[] args : ARGS)
+                assertSameResult(format, MessageTemplate.compile(format), args);
+    }
+    
+    @Test
+    public void testIllegalArguments() {
+        /* Too few arguments and non-integer arguments for %d */
+        assertSameResult("%s %s", MessageTemplate.compile("%s %s"),
+                new Object[]{"a"});
+        assertSameResult("%d", MessageTemplate.compile("%d"),
+                new Object[]{"a"});
+        assertSameResult("%d", MessageTemplate.compile("%d"),
+                new Object[]{1.5});
+        assertSameResult("%3$s", MessageTemplate.compile("%3$s"),
+                new Object[]{1, 2});
+    }
+    
+    @Test
+    public void testFormattable() {
+        final Formattable formattable = new Formattable() {
+            public void formatTo(final Formatter formatter, final int flags,
+                    final int width, final int precision) {
+                formatter.format("formatted");
+            }
+            
+            @Override
+            public String toString() {
+                return "toString";
+            }
+        };
+        assertSameResult("%s!", MessageTemplate.compile("%s!"),
+                new Object[]{formattable});
+    }
+    
+    @Test
+    public void testLocalizedDigits() {
+        final Locale defaultLocale = Locale.getDefault();
+        try {
+            Locale.setDefault(new Locale("th", "TH", "TH"));
+            assertSameResult("%s %d", MessageTemplate.compile("%s %d"),
+                    new Object[]{"arg", 123});
+            Locale.setDefault(Locale.GERMANY);
+            assertSameResult("%s %d", MessageTemplate.compile("%s %d"),
+                    new Object[]{"arg", 1234567});
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+    
+    @Test
+    public void testLargeMessages() {
+        final char[] chars = new char[100000];
+        Arrays.fill(chars, 'x');
+        final String large = new String(chars);
+        final MessageTemplate template = MessageTemplate.compile("%s: %s");
+        assertEquals("a: " + large, template.format("a", large));
+        assertEquals("b: c", template.format("b", "c"));
+    }
+    
+    private static void assertSameResult(final String format,
+            final MessageTemplate template, final Object[] args) {
+        String expected;
+        try {
+            expected = String.format(format, args);
+        } catch(final IllegalFormatException e) {
+            try {
+                template.format(args);
+                fail("Expected " + e.getClass().getName() + " for " + format);
+            } catch(final IllegalFormatException e2) {
+                assertEquals(e.getClass(), e2.getClass());
+            }
+            return;
+        }
+        assertEquals(expected, template.format(args));
+    }
+}
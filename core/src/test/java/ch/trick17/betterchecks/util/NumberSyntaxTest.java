@@ -0,0 +1,88 @@
+package ch.trick17.betterchecks.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class NumberSyntaxTest {
+    
+    private static final List<String> SPECIAL = Arrays.asList("", "+", "-",
+            "0", "-0", "+42", "007", "2147483647", "2147483648", "-2147483648",
+            "-2147483649", "9223372036854775807", "9223372036854775808",
+            "-9223372036854775808", "-9223372036854775809",
+            "99999999999999999999", "\u0661\u0662", "1 ", " 1", "1.", ".",
+            ".5", "1e", "1e+", "1e-5", "1E5", "1.5f", "1.5dd", "1e5d", "NaN",
+            "+NaN", "-Infinity", " Infinity\t", "NaNd", "Infinityf", "nan",
+            "0x1p3", "0X1.8P-2d", "0x.8p1", "0x.p1", "0x1", "0xp1", "0x1p",
+            "0xg1p1", "1e999999999999999999", "\u0661.5");
+    
+    @Test
+    public void testSpecialCases() {
+        for(final String string : SPECIAL)
+            assertLikeJdk(string);
+    }
+    
+    @Test
+    public void testRandom() {
+        final Random random = new Random(42);
+        final String chars = "0123456789+-.eEpPxXaAfFdDNI \t";
+        final List<String> strings = new ArrayList<String>();
+        for(int i = 0; i < 20000; i++) {
+            final StringBuilder builder = new StringBuilder();
+            for(int j = random.nextInt(8); j > 0; j--)
+                builder.append(chars.charAt(random.nextInt(chars.length())));
+            strings.add(builder.toString());
+            strings.add(Long.toString(random.nextLong() >> random.nextInt(64)));
+            strings.add(Long.toString(random.nextLong()) + random.nextInt(10));
+        }
+        for(final String string : strings)
+            assertLikeJdk(string);
+    }
+    
+    @Test
+    public void testNumberFormatException() {
+        final NumberFormatException e = NumberSyntax
+                .numberFormatException("abc");
+        assertEquals("For input string: \"abc\"", e.getMessage());
+        assertEquals(0, e.getStackTrace().length);
+    }
+    
+    private static void assertLikeJdk(final String string) {
+        assertEquals(string, parsesAsInt(string), NumberSyntax.isInt(string));
+        assertEquals(string, parsesAsLong(string), NumberSyntax.isLong(string));
+        assertEquals(string, parsesAsDouble(string), NumberSyntax
+                .isDouble(string));
+    }
+    
+    private static boolean parsesAsInt(final String string) {
+        try {
+            Integer.parseInt(string);
+            return true;
+        } catch(final NumberFormatException e) {
+            return false;
+        }
+    }
+    
+    private static boolean parsesAsLong(final String string) {
+        try {
+            Long.parseLong(string);
+            return true;
+        } catch(final NumberFormatException e) {
+            return false;
+        }
+    }
+    
+    private static boolean parsesAsDouble(final String string) {
+        try {
+            Double.parseDouble(string);
+            return true;
+        } catch(final NumberFormatException e) {
+            return false;
+        }
+    }
+}
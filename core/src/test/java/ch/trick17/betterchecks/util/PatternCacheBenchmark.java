@@ -0,0 +1,68 @@
+package ch.trick17.betterchecks.util;
+
+import static org.openjdk.jmh.annotations.Mode.Throughput;
+import static org.openjdk.jmh.annotations.Scope.Benchmark;
+
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import ch.trick17.betterchecks.Check;
+
+/**
+ * Compares <code>matches(String)</code> checks with the pattern cache to
+ * compiling the pattern every time (as <code>String.matches()</code> does) and
+ * to <code>matches(Pattern)</code> checks with a static pattern. The
+ * benchmarks are run with 1 and with 16 threads, the latter to show the
+ * behavior under contention. The state is shared, so all threads use the same
+ * cache entry.
+ */
+@BenchmarkMode(Throughput)
+@Fork(1)
+@State(Benchmark)
+public class PatternCacheBenchmark {
+    
+    private static final String REGEX = "[a-z]+@[a-z]+\\.[a-z]{2,}";
+    private static final Pattern PATTERN = Pattern.compile(REGEX);
+    
+    /* Non-final to prevent constant folding */
+    private String email = "someone@example.com";
+    private String regex = REGEX;
+    
+    @Benchmark
+    public boolean uncached() {
+        return email.matches(regex);
+    }
+    
+    @Benchmark
+    public Object cached() {
+        return Check.that(email).matches(regex);
+    }
+    
+    @Benchmark
+    public Object staticPattern() {
+        return Check.that(email).matches(PATTERN);
+    }
+    
+    @Benchmark
+    public Pattern cacheLookup() {
+        return PatternCache.getCache().get(regex);
+    }
+    
+    public static void main(final String[] args) throws RunnerException {
+        for(final int threads : new int[]{1, 16}) {
+            final Options options = new OptionsBuilder().include(
+                    PatternCacheBenchmark.class.getSimpleName()).threads(
+                    threads).warmupIterations(5).measurementIterations(10)
+                    .build();
+            new Runner(options).run();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package ch.trick17.betterchecks.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.junit.Test;
+
+public class PatternCacheTest {
+    
+    @Test
+    public void testGet() {
+        final PatternCache<Pattern> cache = cache(10);
+        final Pattern pattern = cache.get("a+b");
+        assertEquals("a+b", pattern.pattern());
+        assertSame(pattern, cache.get("a+b"));
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        
+        cache.get("c*");
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+    
+    @Test(expected = PatternSyntaxException.class)
+    public void testGetInvalid() {
+        cache(10).get("a)");
+    }
+    
+    @Test
+    public void testDisabled() {
+        final PatternCache<Pattern> cache = cache(0);
+        assertNotSame(cache.get("a+b"), cache.get("a+b"));
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+    
+    @Test
+    public void testEviction() {
+        final PatternCache<Pattern> cache = cache(4);
+        for(int i = 0; i < 4; i++)
+            cache.get("a{" + i + "}");
+        final Pattern recent = cache.get("a{0}");
+        
+        cache.get("b");
+        assertEquals(4, cache.size());
+        assertSame(recent, cache.get("a{0}"));
+        final Pattern newest = cache.get("b");
+        assertEquals(3, cache.getHitCount());
+        
+        for(int i = 0; i < 100; i++) {
+            cache.get("c{" + i + "}");
+            assertEquals(4, cache.size());
+        }
+        assertNotSame(newest, cache.get("b"));
+    }
+    
+    @Test
+    public void testConcurrent() throws InterruptedException {
+        final PatternCache<Pattern> cache = cache(8);
+        final List<Thread> threads = new ArrayList<Thread>();
+        for(int t = 0; t < 8; t++)
+            threads.add(new Thread() {
+                @Override
+                public void run() {
+                    for(int i = 0; i < 1000; i++)
+                        cache.get("x{" + i % 16 + "}");
+                }
+            });
+        for(final Thread thread : threads)
+            thread.start();
+        for(final Thread thread : threads)
+            thread.join();
+        
+        assertTrue(cache.size() <= 8);
+        assertEquals(8000, cache.getHitCount() + cache.getMissCount());
+    }
+    
+    @Test
+    public void testSafePatterns() {
+        final PatternCache<SafePattern> cache = new PatternCache<SafePattern>(
+                10, PatternCache.SAFE_PATTERNS);
+        final SafePattern pattern = cache.get("a+b");
+        assertEquals("a+b", pattern.pattern());
+        assertSame(pattern, cache.get("a+b"));
+        assertEquals(1, cache.getHitCount());
+    }
+    
+    @Test
+    public void testCounter() {
+        final PatternCache.Counter counter = new PatternCache.Counter();
+        assertEquals(0, counter.sum());
+        for(int i = 0; i < 42; i++)
+            counter.increment();
+        assertEquals(42, counter.sum());
+    }
+    
+    private static PatternCache<Pattern> cache(final int maxSize) {
+        return new PatternCache<Pattern>(maxSize, PatternCache.PATTERNS);
+    }
+}
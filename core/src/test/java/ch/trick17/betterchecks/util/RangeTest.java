@@ -0,0 +1,214 @@
+package ch.trick17.betterchecks.util;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class RangeTest {
+    
+    @Test
+    public void testClosedAndOpen() {
+        final Range closed = Range.closed(0, 10);
+        assertTrue(closed.contains(0));
+        assertTrue(closed.contains(10L));
+        assertTrue(closed.contains(5.5));
+        assertTrue(closed.contains(-0.0));
+        assertFalse(closed.contains(-1));
+        assertFalse(closed.contains(10.000001));
+        
+        final Range open = Range.open(0, 10);
+        assertFalse(open.contains(0));
+        assertFalse(open.contains(10));
+        assertFalse(open.contains(0.0));
+        assertTrue(open.contains(Double.MIN_VALUE));
+        assertTrue(open.contains(1));
+        
+        assertTrue(Range.closedOpen(0, 10).contains(0));
+        assertFalse(Range.closedOpen(0, 10).contains(10));
+        assertFalse(Range.openClosed(0, 10).contains(0));
+        assertTrue(Range.openClosed(0, 10).contains(10));
+        assertTrue(Range.closed(1, 1).contains(1.0f));
+        assertFalse(Range.open(1, 1).contains(1));
+    }
+    
+    @Test
+    public void testUnbounded() {
+        assertTrue(Range.atLeast(0).contains(Long.MAX_VALUE));
+        assertTrue(Range.atLeast(0).contains(Double.POSITIVE_INFINITY));
+        assertTrue(Range.atLeast(0).contains(new BigDecimal("1e400")));
+        assertFalse(Range.atLeast(0).contains(-1));
+        assertFalse(Range.greaterThan(0).contains(0));
+        assertTrue(Range.atMost(0).contains(Long.MIN_VALUE));
+        assertTrue(Range.atMost(0).contains(Double.NEGATIVE_INFINITY));
+        assertTrue(Range.lessThan(0).contains(-1));
+        assertFalse(Range.lessThan(0).contains(0));
+        assertFalse(Range.atLeast(0).contains(Double.NaN));
+    }
+    
+    @Test
+    public void testInfiniteBounds() {
+        final double inf = Double.POSITIVE_INFINITY;
+        assertTrue(Range.closed(-inf, 0).contains(-inf));
+        assertFalse(Range.open(-inf, 0).contains(-inf));
+        assertTrue(Range.open(-inf, 0).contains(Long.MIN_VALUE));
+        assertTrue(Range.open(-inf, 0).contains(new BigDecimal("-1e400")));
+        assertTrue(Range.closed(inf, inf).contains(inf));
+        assertFalse(Range.closed(inf, inf).contains(Double.MAX_VALUE));
+        assertFalse(Range.closed(inf, inf).contains(Long.MAX_VALUE));
+        assertFalse(Range.closed(inf, inf).contains(new BigDecimal("1e400")));
+        assertFalse(Range.atMost(-inf).contains(Long.MIN_VALUE));
+        assertTrue(Range.atMost(-inf).contains(-inf));
+    }
+    
+    @Test
+    public void testExactBounds() {
+        /* The double closest to 0.1 is slightly greater than 0.1 */
+        assertTrue(Range.open(new BigDecimal("0.1"), 1).contains(0.1));
+        assertFalse(Range.atMost(new BigDecimal("0.1")).contains(0.1));
+        assertTrue(Range.atMost(0.1).contains(0.1));
+        assertTrue(Range.atMost(0.1).contains(new BigDecimal(0.1)));
+        assertFalse(Range.atMost(0.1).contains(new BigDecimal("0.11")));
+        assertTrue(Range.atMost(0.1).contains(new BigDecimal("0.1")));
+        
+        /* 2^63 is the double closest to Long.MAX_VALUE */
+        assertTrue(Range.lessThan(0x1p63).contains(Long.MAX_VALUE));
+        assertFalse(Range.lessThan(Long.MAX_VALUE).contains(0x1p63));
+        assertFalse(Range.greaterThan(Long.MAX_VALUE).contains(
+                Long.MAX_VALUE));
+        assertTrue(Range.greaterThan(Long.MAX_VALUE).contains(0x1p63));
+        assertFalse(Range.lessThan(Long.MIN_VALUE).contains(Long.MIN_VALUE));
+        assertTrue(Range.atMost(new BigDecimal("1e400")).contains(
+                Double.MAX_VALUE));
+        assertFalse(Range.atMost(new BigDecimal("1e400")).contains(
+                Double.POSITIVE_INFINITY));
+        
+        assertFalse(Range.closed(0.5, 0.75).contains(0));
+        assertFalse(Range.closed(0.5, 0.75).contains(1));
+        assertTrue(Range.closed(0.5, 2.5).contains(1));
+        assertTrue(Range.closed(0.5, 2.5).contains(2));
+        assertFalse(Range.closed(0.5, 2.5).contains(3));
+        assertTrue(Range.closed(new BigInteger("-99999999999999999999"),
+                new BigInteger("99999999999999999999")).contains(
+                Long.MIN_VALUE));
+    }
+    
+    @Test
+    public void testOtherNumbers() {
+        final Range range = Range.closedOpen(BigDecimal.ZERO, new BigDecimal(
+                "1000.00"));
+        assertTrue(range.contains(new BigDecimal("999.99")));
+        assertTrue(range.contains(BigInteger.ZERO));
+        assertTrue(range.contains(new AtomicInteger(5)));
+        assertFalse(range.contains(new BigDecimal("1000")));
+        assertFalse(range.contains(new BigDecimal("-0.01")));
+    }
+    
+    @Test
+    public void testLikeBigDecimal() {
+        final Random random = new Random(42);
+        for(int i = 0; i < 20000; i++) {
+            Number min = randomNumber(random);
+            Number max = randomNumber(random);
+            if(toBigDecimal(min).compareTo(toBigDecimal(max)) > 0) {
+                final Number tmp = min;
+                min = max;
+                max = tmp;
+            }
+            final boolean minClosed = random.nextBoolean();
+            final boolean maxClosed = random.nextBoolean();
+            final Range range = minClosed ? (maxClosed ? Range.closed(min,
+                    max) : Range.closedOpen(min, max)) : (maxClosed ? Range
+                    .openClosed(min, max) : Range.open(min, max));
+            
+            for(int j = 0; j < 5; j++) {
+                final Number number = j < 2 ? (j == 0 ? min : max)
+                        : randomNumber(random);
+                final BigDecimal value = toBigDecimal(number);
+                final int minComparison = value.compareTo(toBigDecimal(min));
+                final int maxComparison = value.compareTo(toBigDecimal(max));
+                final boolean expected = (minComparison > 0 || minClosed
+                        && minComparison == 0)
+                        && (maxComparison < 0 || maxClosed
+                                && maxComparison == 0);
+                assertEquals(range + " " + number, expected, range
+                        .contains(number));
+            }
+        }
+    }
+    
+    /**
+     * Returns numbers of different types that are close to each other, so
+     * that they are often equal and in the same ranges.
+     */
+    private static Number randomNumber(final Random random) {
+        final long bits = random.nextBoolean() ? random.nextInt(7) - 3
+                : random.nextLong() >> random.nextInt(64);
+        switch(random.nextInt(6)) {
+        case 0:
+            return (int) bits;
+        case 1:
+            return bits;
+        case 2:
+            return (double) bits / 2;
+        case 3:
+            return (float) bits;
+        case 4:
+            return BigInteger.valueOf(bits).add(BigInteger.valueOf(random
+                    .nextInt(3) - 1));
+        default:
+            return BigDecimal.valueOf(bits).add(new BigDecimal("0.5"));
+        }
+    }
+    
+    private static BigDecimal toBigDecimal(final Number number) {
+        if(number instanceof BigDecimal)
+            return (BigDecimal) number;
+        if(number instanceof BigInteger)
+            return new BigDecimal((BigInteger) number);
+        if(number instanceof Float || number instanceof Double)
+            return new BigDecimal(number.doubleValue());
+        return new BigDecimal(number.longValue());
+    }
+    
+    @Test
+    public void testInvalidRanges() {
+        for(final Number[] bounds : asList(new Number[]{null, 1},
+                new Number[]{1, null}, new Number[]{Double.NaN, 1},
+                new Number[]{0, Float.NaN}, new Number[]{2, 1},
+                new Number[]{new BigDecimal("1.01"), 1.0}, new Number[]{
+                        Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY})) {
+            Exception thrown = null;
+            try {
+                Range.closed(bounds[0], bounds[1]);
+            } catch(final Exception e) {
+                thrown = e;
+            }
+            assertTrue(thrown instanceof IllegalArgumentException);
+        }
+        Exception thrown = null;
+        try {
+            Range.atLeast(null);
+        } catch(final Exception e) {
+            thrown = e;
+        }
+        assertTrue(thrown instanceof IllegalArgumentException);
+    }
+    
+    @Test
+    public void testToString() {
+        assertEquals("[0, 100)", Range.closedOpen(0, 100).toString());
+        assertEquals("(0.5, 1]", Range.openClosed(0.5, 1).toString());
+        assertEquals("(-Infinity, 5]", Range.atMost(5).toString());
+        assertEquals("(5, Infinity)", Range.greaterThan(5).toString());
+        assertEquals("[0.00, 1000.00]", Range.closed(new BigDecimal("0.00"),
+                new BigDecimal("1000.00")).toString());
+    }
+}
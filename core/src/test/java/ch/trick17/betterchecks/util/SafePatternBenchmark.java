@@ -0,0 +1,86 @@
+package ch.trick17.betterchecks.util;
+
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+import static org.openjdk.jmh.annotations.Scope.Thread;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares {@link Pattern} to {@link SafePattern}, once with a benign
+ * expression and input and once with the "evil" expression
+ * <code>(.*a){12}b</code> and a string of <code>a</code>s of increasing
+ * length. The time of the latter explodes with {@link Pattern} (from
+ * microseconds to seconds), but grows only linearly with {@link SafePattern}.
+ * (The classic <code>(a+)+b</code> is not used, as newer JDKs optimize it.)
+ */
+@BenchmarkMode(AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@State(Thread)
+public class SafePatternBenchmark {
+    
+    private static final String EMAIL_REGEX = "[a-z]+@[a-z]+\\.[a-z]{2,}";
+    private static final Pattern EMAIL_PATTERN = Pattern.compile(EMAIL_REGEX);
+    private static final SafePattern SAFE_EMAIL_PATTERN = SafePattern
+            .compile(EMAIL_REGEX);
+    
+    private static final String EVIL_REGEX = "(.*a){12}b";
+    private static final Pattern EVIL_PATTERN = Pattern.compile(EVIL_REGEX);
+    private static final SafePattern SAFE_EVIL_PATTERN = SafePattern
+            .compile(EVIL_REGEX);
+    
+    @Param({"10", "20", "25"})
+    private int length;
+    
+    /* Non-final to prevent constant folding */
+    private String email = "someone@example.com";
+    private String evil;
+    
+    @Setup
+    public void setup() {
+        final StringBuilder builder = new StringBuilder();
+        for(int i = 0; i < length; i++)
+            builder.append('a');
+        evil = builder.toString();
+    }
+    
+    @Benchmark
+    public boolean benignPattern() {
+        return EMAIL_PATTERN.matcher(email).matches();
+    }
+    
+    @Benchmark
+    public boolean benignSafePattern() {
+        return SAFE_EMAIL_PATTERN.matches(email);
+    }
+    
+    @Benchmark
+    public boolean evilPattern() {
+        return EVIL_PATTERN.matcher(evil).matches();
+    }
+    
+    @Benchmark
+    public boolean evilSafePattern() {
+        return SAFE_EVIL_PATTERN.matches(evil);
+    }
+    
+    public static void main(final String[] args) throws RunnerException {
+        final Options options = new OptionsBuilder().include(
+                SafePatternBenchmark.class.getSimpleName()).warmupIterations(5)
+                .measurementIterations(10).build();
+        new Runner(options).run();
+    }
+}
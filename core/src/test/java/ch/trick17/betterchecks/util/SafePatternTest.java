@@ -0,0 +1,159 @@
+package ch.trick17.betterchecks.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.junit.Test;
+
+public class SafePatternTest {
+    
+    private static final String[] REGEXES = {"", "abc", "a*b", "a+b?",
+            "(a|b)*c", "a|", "(|a)b", "[^a-c]+", "[]a]+", "[^]a]", "[a-]x",
+            "[\\w.-]+@[\\w-]+(\\.[\\w-]+)+", "\\d{2,4}", "x{2}", "x{2,}",
+            "x{0}", "x{1,2}{3}", "(?:ab|cd)?e", "(?<name>x)+", "(?<n1>x)",
+            "^a.c$", ".", "..", "\\Q.*\\E+", "\\p{Alpha}+\\P{Digit}",
+            "\\p{XDigit}{2}", "[\\s\\S]", "\\h\\v\\H\\V",
+            "\\u0041\\x42\\0103\\x{44}", "\\cA", "\\.\\-\\\\", "(a*)*", "(a+)+b",
+            "a*?b+?", "[a-z&]", "\\t\\n"};
+    
+    private static final String[] INPUTS = {"", "a", "b", "c", "ab", "aab",
+            "abc", "aabbc", "abab", "xx", "xxx", "xxxxxx", "]]a", "]", "-x",
+            ".*", ".*.*", "Ab5", "Abc", "abe", "e", "cde", "x", "12", "123",
+            "12345", "john.doe@example.com", "a@b", "\n", "\r", "\u0085",
+            " ", "\uD83D\uDE00", "\uD83D", "ABCD", "\u0001", " \t",
+            "\t\n", "    ", ".-\\", "aaaab", "&", "0F",
+            "\uD83D\uDE00\uD83D\uDE00"};
+    
+    @Test
+    public void testMatchesLikePattern() {
+        for(final String regex : REGEXES) {
+            final Pattern pattern = Pattern.compile(regex);
+            final SafePattern safePattern = SafePattern.compile(regex);
+            for(final String input : INPUTS)
+                assertEquals(regex + " / " + input, pattern.matcher(input)
+                        .matches(), safePattern.matches(input));
+        }
+    }
+    
+    @Test
+    public void testPattern() {
+        final SafePattern pattern = SafePattern.compile("a+b");
+        assertEquals("a+b", pattern.pattern());
+        assertEquals("a+b", pattern.toString());
+    }
+    
+    @Test
+    public void testSupplementaryCharacters() {
+        final SafePattern pattern = SafePattern.compile("[^a]");
+        assertTrue(pattern.matches("\uD83D\uDE00"));
+        assertFalse(pattern.matches("\uD83D\uDE00\uD83D\uDE00"));
+        assertTrue(SafePattern.compile("\\x{1F600}+").matches(
+                "\uD83D\uDE00\uD83D\uDE00"));
+        assertTrue(SafePattern.compile("[\\x{1F600}-\\x{1F64F}]").matches(
+                "\uD83D\uDE4F"));
+    }
+    
+    @Test
+    public void testNonLinear() {
+        assertNonLinear("(a)\\1");
+        assertNonLinear("(?<a>x)\\k<a>");
+        assertNonLinear("(?=a)a");
+        assertNonLinear("(?<!a)b");
+    }
+    
+    @Test
+    public void testNotImplemented() {
+        assertNotImplemented("(?>a)");
+        assertNotImplemented("a*+");
+        assertNotImplemented("(?i)a");
+        assertNotImplemented("\\bx");
+        assertNotImplemented("a\\z");
+        assertNotImplemented("a^");
+        assertNotImplemented("a$b");
+        assertNotImplemented("[a[b]]");
+        assertNotImplemented("[a-z&&[^b]]");
+        assertNotImplemented("[\\Qab\\E]");
+        assertNotImplemented("\\p{L}");
+        assertNotImplemented("\\R");
+    }
+    
+    @Test
+    public void testInvalid() {
+        for(final String regex : new String[]{"a**", "a|*", "{", "a{", "a{x}",
+                "a{,3}", "a{3,2}", "\\E", "(a", "a)", "[a", "[]", "[z-a]",
+                "\\x4", "\\u12", "\\", "(?<1a>x)"}) {
+            try {
+                Pattern.compile(regex);
+                fail(regex);
+            } catch(final PatternSyntaxException e) {}
+            try {
+                SafePattern.compile(regex);
+                fail(regex);
+            } catch(final PatternSyntaxException e) {
+                assertFalse(e.getDescription().contains("not supported"));
+                assertFalse(e.getDescription().contains("implemented"));
+            }
+        }
+    }
+    
+    @Test
+    public void testTooLarge() {
+        try {
+            SafePattern.compile("(a{1000}){1000}");
+            fail();
+        } catch(final PatternSyntaxException e) {
+            assertEquals("Expression is too large", e.getDescription());
+        }
+    }
+    
+    @Test(timeout = 5000)
+    public void testLinearTime() {
+        final StringBuilder input = new StringBuilder();
+        for(int i = 0; i < 100000; i++)
+            input.append('a');
+        assertFalse(SafePattern.compile("(a+)+b").matches(input));
+        assertFalse(SafePattern.compile("(.*a){12}b").matches(input));
+        assertFalse(SafePattern.compile("(a|aa)*c").matches(input));
+        assertTrue(SafePattern.compile("(a|a)*").matches(input));
+    }
+    
+    @Test
+    public void testDfaCacheFlush() {
+        /* Needs about 2^10 DFA states, so the cache is flushed repeatedly */
+        final String regex = "(a|b)*a(a|b){10}";
+        final SafePattern pattern = new SafePattern(regex, 16);
+        final Pattern reference = Pattern.compile(regex);
+        final StringBuilder input = new StringBuilder();
+        /* Longer inputs may overflow the stack of the reference Pattern */
+        for(int i = 0; i < 500; i++) {
+            input.append(i * 7 % 3 == 0 ? 'a' : 'b');
+            assertEquals(reference.matcher(input).matches(), pattern
+                    .matches(input));
+        }
+    }
+    
+    private static void assertNonLinear(final String regex) {
+        try {
+            SafePattern.compile(regex);
+            fail(regex);
+        } catch(final PatternSyntaxException e) {
+            assertTrue(e.getDescription(), e.getDescription().contains(
+                    "cannot be matched in linear time"));
+        }
+    }
+    
+    private static void assertNotImplemented(final String regex) {
+        try {
+            SafePattern.compile(regex);
+            fail(regex);
+        } catch(final PatternSyntaxException e) {
+            assertTrue(e.getDescription(), e.getDescription().contains(
+                    "not (yet) implemented"));
+        }
+    }
+}
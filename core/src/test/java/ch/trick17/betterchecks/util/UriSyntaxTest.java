@@ -0,0 +1,103 @@
+package ch.trick17.betterchecks.util;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class UriSyntaxTest {
+    
+    private static final List<String> VALID = asList("http://", "http:",
+            "a:", "https://example.com", "HTTP://EXAMPLE.COM/",
+            "ftp://me:pw@example.com:8080/some%20path/?and-a-query=1",
+            "file:///C:/Program%20Files/", "mailto:someone@example.com",
+            "urn:isbn:0451450523", "news:comp.lang.java", "a+b-c.d:x",
+            "http://example.com/a/b;c=d?e=f&g=h#i/j?k",
+            "http://!$&'()*+,;=@!$&'()*+,;=:0/!$&'()*+,;=:@",
+            "http://-._~:-._~@-._~/-._~", "http://@host", "http://host:/",
+            "http://host:65535", "http://192.168.0.1:80",
+            "http://[::1]/", "http://[::]", "http://[1:2:3:4:5:6:7:8]",
+            "http://[1::8]", "http://[1:2:3:4:5:6:7::]",
+            "http://[::2:3:4:5:6:7:8]", "http://[::ffff:192.168.0.1]",
+            "http://[1:2:3:4:5:6:1.2.3.4]", "http://[fe80::1:2]:8080/",
+            "http:relative/path", "http:/absolute/path", "x:?", "x:#",
+            "x:%aF%00");
+    
+    private static final List<String> INVALID = asList("", ":", "1http://",
+            "-a:", "http", "http//example.com", "no url",
+            "http://exa mple.com", "http://example.com/a b",
+            "http://example.com/\u00E4", "http://example.com/%",
+            "http://example.com/%4", "http://example.com/%zz",
+            "http://example.com/#a#b", "http://example.com/{}",
+            "http://example.com/|", "http://example.com/\\",
+            "http://a@b@c", "http://host:port", "http://host:65536",
+            "http://host:1:2", "http://host:99999999999",
+            "http://[::1", "http://[::1/path]", "http://[]",
+            "http://[:]", "http://[:::]", "http://[1::2::3]",
+            "http://[1:2:3:4:5:6:7:8:9]", "http://[1:2:3:4:5:6:7]",
+            "http://[12345::]", "http://[1:]", "http://[:1]",
+            "http://[g::]", "http://[1:2:3:4:5:6:7:1.2.3.4]",
+            "http://[::1.2.3]", "http://[::1.2.3.256]",
+            "http://[::01.2.3.4]", "http://[v1.x]", "http://[::1]x",
+            "http://[::1]:x", "http://host[::1]", "http://example.com]");
+    
+    @Test
+    public void testIsUri() {
+        for(final String uri : VALID)
+            assertTrue(uri, UriSyntax.isUri(uri));
+        for(final String uri : INVALID)
+            assertFalse(uri, UriSyntax.isUri(uri));
+    }
+    
+    @Test
+    public void testFindError() {
+        assertEquals(-1, UriSyntax.findError("http://example.com"));
+        assertEquals(0, UriSyntax.findError(""));
+        assertEquals(0, UriSyntax.findError("1http://"));
+        assertEquals(4, UriSyntax.findError("http"));
+        assertEquals(2, UriSyntax.findError("no url"));
+        assertEquals(10, UriSyntax.findError("http://exa mple.com"));
+        assertEquals(19, UriSyntax.findError("http://example.com/%zz"));
+        assertEquals(7, UriSyntax.findError("http://[::1"));
+        assertEquals(16, UriSyntax.findError("http://host:65536"));
+    }
+    
+    @Test
+    public void testHasScheme() {
+        assertTrue(UriSyntax.hasScheme("http://example.com", "http"));
+        assertTrue(UriSyntax.hasScheme("HTTP://example.com", "http"));
+        assertTrue(UriSyntax.hasScheme("http://example.com", "HTTP"));
+        assertFalse(UriSyntax.hasScheme("https://example.com", "http"));
+        assertFalse(UriSyntax.hasScheme("http://example.com", "https"));
+        assertFalse(UriSyntax.hasScheme("http", "http"));
+    }
+    
+    @Test
+    public void testAcceptedByUrl() {
+        final Random random = new Random(42);
+        final String[] schemes = {"http", "https", "ftp", "file"};
+        final String chars = "az09:/@?#[]%.!$-_~ {}|\"<>\u00E4F";
+        for(int i = 0; i < 100000; i++) {
+            final StringBuilder builder = new StringBuilder(schemes[random
+                    .nextInt(schemes.length)]).append(':');
+            if(random.nextBoolean())
+                builder.append("//");
+            for(int j = random.nextInt(12); j > 0; j--)
+                builder.append(chars.charAt(random.nextInt(chars.length())));
+            final String uri = builder.toString();
+            if(UriSyntax.isUri(uri))
+                try {
+                    new URL(uri);
+                } catch(final MalformedURLException e) {
+                    throw new AssertionError(uri);
+                }
+        }
+    }
+}
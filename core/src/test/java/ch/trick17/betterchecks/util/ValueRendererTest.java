@@ -0,0 +1,135 @@
+package ch.trick17.betterchecks.util;
+
+import static ch.trick17.betterchecks.util.ValueRenderer.render;
+import static ch.trick17.betterchecks.util.ValueRenderer.renderAll;
+import static ch.trick17.betterchecks.util.ValueRenderer.snapshotAll;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class ValueRendererTest {
+    
+    @Test
+    public void testRenderUnlimited() {
+        final List<Object> list = new ArrayList<Object>(Arrays.asList("a", 1,
+                null));
+        assertEquals(list.toString(), render(list, -1, -1));
+        
+        final Map<Object, Object> map = new LinkedHashMap<Object, Object>();
+        map.put("a", 1);
+        map.put(null, Arrays.asList(2, 3));
+        assertEquals(map.toString(), render(map, -1, -1));
+        
+        assertEquals(Arrays.toString(new int[]{1, 2, 3}), render(new int[]{1,
+                2, 3}, -1, -1));
+        assertEquals(Arrays.toString(new double[]{1.5, -0.0}), render(
+                new double[]{1.5, -0.0}, -1, -1));
+        assertEquals(Arrays.toString(new char[]{'x', 'y'}), render(new char[]{
+                'x', 'y'}, -1, -1));
+        assertEquals(Arrays.toString(new boolean[0]), render(new boolean[0],
+                -1, -1));
+        assertEquals(Arrays.deepToString(new Object[]{"a", new int[]{1}}),
+                render(new Object[]{"a", new int[]{1}}, -1, -1));
+        assertEquals("null", render(null, -1, -1));
+        assertEquals("hello", render("hello", -1, -1));
+    }
+    
+    @Test
+    public void testRenderSelfReference() {
+        final List<Object> list = new ArrayList<Object>();
+        list.add(list);
+        assertEquals(list.toString(), render(list, -1, -1));
+        
+        final Map<Object, Object> map = new LinkedHashMap<Object, Object>();
+        map.put(map, map);
+        assertEquals(map.toString(), render(map, -1, -1));
+        
+        final Object[] array = new Object[1];
+        array[0] = array;
+        assertEquals(Arrays.deepToString(array), render(array, -1, -1));
+    }
+    
+    @Test
+    public void testRenderMaxElements() {
+        assertEquals("[0, 1, 2, (\u2026 7 more)]", render(range(10), -1, 3));
+        assertEquals("[0, 1, 2]", render(range(3), -1, 3));
+        assertEquals("[(\u2026 3 more)]", render(range(3), -1, 0));
+        assertEquals("[1, 2, (\u2026 1 more)]", render(new long[]{1, 2, 3},
+                -1, 2));
+        assertEquals("[[0, (\u2026 2 more)], (\u2026 1 more)]", render(Arrays
+                .asList(range(3), range(3)), -1, 1));
+        
+        final Map<Object, Object> map = new LinkedHashMap<Object, Object>();
+        map.put("a", 1);
+        map.put("b", 2);
+        assertEquals("{a=1, (\u2026 1 more)}", render(map, -1, 1));
+    }
+    
+    @Test
+    public void testRenderMaxValueLength() {
+        assertEquals("hello", render("hello", 5, -1));
+        assertEquals("hel (\u2026 2 more)", render("hello", 3, -1));
+        assertEquals("[0, 1, 2, 3]", render(range(4), 11, -1));
+        assertEquals("[0, 1, 2,  (\u2026 2 more)", render(range(5), 10, -1));
+        assertEquals("[10, 11, 1 (\u2026 2 more)", render(new int[]{10, 11,
+                12, 13}, 10, -1));
+        assertEquals("[abc, d (\u2026 1 more)", render(Arrays.asList("abc",
+                "def"), 7, -1));
+        assertEquals(" (\u2026 1 more)", render(Collections.singleton("a"), 0,
+                -1));
+        
+        /* Large values are rendered without creating the full string */
+        final List<Integer> large = range(1000000);
+        final String rendered = render(large, 20, 5);
+        assertEquals("[0, 1, 2, 3, 4, (\u2026 999995 more)]".substring(0, 20)
+                + " (\u2026 999995 more)", rendered);
+    }
+    
+    @Test
+    public void testRenderAll() {
+        final Object[] args = new Object[]{"arg", 42, Arrays.asList(1, 2)};
+        final Object[] rendered = renderAll(args, 1000, 100);
+        assertEquals("arg", rendered[0]);
+        assertEquals(42, rendered[1]);
+        assertEquals("[1, 2]", rendered[2]);
+        assertEquals(Arrays.asList(1, 2), args[2]);
+        
+        final Object[] noRendering = new Object[]{"arg", 42};
+        assertSame(noRendering, renderAll(noRendering, 1000, 100));
+        
+        /* Short char sequences are left as they are, long ones are cut off */
+        final StringBuilder name = new StringBuilder("the list");
+        assertSame(name, renderAll(new Object[]{name}, 8, 100)[0]);
+        assertEquals("the (\u2026 5 more)", renderAll(new Object[]{name}, 3,
+                100)[0]);
+    }
+    
+    @Test
+    public void testSnapshotAll() {
+        final StringBuilder name = new StringBuilder("the list");
+        final Object[] args = new Object[]{name, 42, Arrays.asList(1, 2)};
+        final Object[] snapshot = snapshotAll(args, 1000, 100);
+        assertEquals("the list", snapshot[0]);
+        assertEquals(42, snapshot[1]);
+        assertEquals("[1, 2]", snapshot[2]);
+        assertSame(name, args[0]);
+        
+        final Object[] noRendering = new Object[]{"arg", 42};
+        assertSame(noRendering, snapshotAll(noRendering, 1000, 100));
+    }
+    
+    private static List<Integer> range(final int size) {
+        final List<Integer> list = new ArrayList<Integer>(size);
+        for(int i = 0; i < size; i++)
+            list.add(i);
+        return list;
+    }
+}
@@ -0,0 +1,123 @@
+package ch.trick17.helper;
+
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+import static org.openjdk.jmh.annotations.Scope.Thread;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import ch.trick17.betterchecks.Check;
+
+/**
+ * Measures the cost of failing checks (including the stack trace cleaning)
+ * depending on the depth of the stack they are called from. The benchmark is
+ * located outside of the library package so that the frames of the recursion
+ * are not removed when the stack trace is cleaned. Run it once with Java 6-8
+ * and once with Java 9+ to compare the two implementations in the
+ * multi-release JAR.
+ */
+@BenchmarkMode(AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@State(Thread)
+public class StackDepthBenchmark {
+    
+    @Param({"10", "100", "500"})
+    private int depth;
+    
+    /* Non-final to prevent constant folding */
+    private String arg = "";
+    
+    /**
+     * The baseline: A plain JDK exception whose stack trace is materialized.
+     */
+    @Benchmark
+    public Object plainException() {
+        return new Recursion() {
+            @Override
+            Object atBottom() {
+                return new IllegalArgumentException("arg").getStackTrace();
+            }
+        }.descend(depth);
+    }
+    
+    /**
+     * A failing simple check, whose stack trace is cleaned eagerly.
+     */
+    @Benchmark
+    public Object simpleCheck() {
+        return new Recursion() {
+            @Override
+            Object atBottom() {
+                try {
+                    Check.args(arg.length() > 0, "arg must not be empty");
+                    return null;
+                } catch(final IllegalArgumentException e) {
+                    return e;
+                }
+            }
+        }.descend(depth);
+    }
+    
+    /**
+     * A failing fluent check whose exception is only caught.
+     */
+    @Benchmark
+    public Object fluentCheck() {
+        return new Recursion() {
+            @Override
+            Object atBottom() {
+                try {
+                    Check.that(arg).isNotEmpty();
+                    return null;
+                } catch(final IllegalArgumentException e) {
+                    return e;
+                }
+            }
+        }.descend(depth);
+    }
+    
+    /**
+     * A failing fluent check whose (cleaned) stack trace is accessed.
+     */
+    @Benchmark
+    public Object fluentCheckStackTrace() {
+        return new Recursion() {
+            @Override
+            Object atBottom() {
+                try {
+                    Check.that(arg).isNotEmpty();
+                    return null;
+                } catch(final IllegalArgumentException e) {
+                    return e.getStackTrace();
+                }
+            }
+        }.descend(depth);
+    }
+    
+    private static abstract class Recursion {
+        
+        Object descend(final int remaining) {
+            return remaining == 0 ? atBottom() : descend(remaining - 1);
+        }
+        
+        abstract Object atBottom();
+    }
+    
+    public static void main(final String[] args) throws RunnerException {
+        final Options options = new OptionsBuilder().include(
+                StackDepthBenchmark.class.getSimpleName()).warmupIterations(5)
+                .measurementIterations(10).build();
+        new Runner(options).run();
+    }
+}